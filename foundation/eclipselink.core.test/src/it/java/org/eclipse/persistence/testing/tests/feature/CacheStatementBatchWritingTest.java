@@ -16,9 +16,9 @@
 
 import java.lang.reflect.Method;
 import java.sql.*;
-import java.util.Map;
 
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.internal.databaseaccess.StatementCache;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.sessions.*;
 import org.eclipse.persistence.testing.framework.*;
@@ -71,13 +71,14 @@ public void test() {
 
         //get statement
         PreparedStatement statement = null;
-        Map statementCache = null;
+        StatementCache statementCache = null;
         String sql = getSession().getDescriptor(Address.class).getQueryManager().getInsertQuery().getSQLString();
         try {
             Method method = uow.getParent().getAccessor().getClass().getDeclaredMethod("getStatementCache");
             method.setAccessible(true);
-            statementCache = (Map)method.invoke(uow.getParent().getAccessor(), new Object[] { });
-            statement =  (PreparedStatement)statementCache.get(sql);
+            statementCache = (StatementCache)method.invoke(uow.getParent().getAccessor(), new Object[] { });
+            statement =  (PreparedStatement)statementCache.checkOut(sql);
+            statementCache.checkIn(sql, statement, Integer.MAX_VALUE);
         } catch (Exception ex) {
             throw new TestErrorException("Failed to run test. Check java.policy file \"SupressAccessChecks\" perission required :" +
                                          ex.toString());
@@ -103,7 +104,7 @@ public void test() {
             return; // if the exception is thrown then TopLink is caching correctly
         } finally {
             //removed the closed connection
-            statementCache.remove(sql);
+            statementCache.checkOut(sql);
         }
         throw new TestErrorException("Statements were not cached correctly");
     }
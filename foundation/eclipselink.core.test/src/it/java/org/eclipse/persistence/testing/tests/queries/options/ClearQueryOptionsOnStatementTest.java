@@ -142,20 +142,21 @@ public void testResultSetFetchSizeReset(Session session) {
         org.eclipse.persistence.internal.sessions.DatabaseSessionImpl impl =
             (org.eclipse.persistence.internal.sessions.DatabaseSessionImpl) session;
         DatabaseAccessor accessor = (DatabaseAccessor) impl.getAccessor();
-        Map statementCache = null;
+        StatementCache statementCache = null;
         try {
             Method method = PrivilegedAccessHelper.getDeclaredMethod(DatabaseAccessor.class,
                 "getStatementCache", new Class<?>[]{});
             method.setAccessible(true);
-            statementCache = (Map) method.invoke(accessor, new Object[] {});
+            statementCache = (StatementCache) method.invoke(accessor, new Object[] {});
         } catch (Exception nsme) {
             throwError("Could not invoke DatabaseAccessor>>getStatementCache()", nsme);
         }
 
         // now cache the statement's previous fetch size
         int previousFetchSize = 0;
-        Statement statement = (Statement) statementCache.get(sql);
+        Statement statement = statementCache.checkOut(sql);
         if (statement != null) {
+            statementCache.checkIn(sql, statement, Integer.MAX_VALUE);
             try {
                 previousFetchSize = statement.getFetchSize();
             } catch (SQLException sqle) {
@@ -173,8 +174,9 @@ public void testResultSetFetchSizeReset(Session session) {
 
         // now check the statement
         int postQueryFetchSize = 0;
-        statement = (Statement) statementCache.get(sql);
+        statement = statementCache.checkOut(sql);
         if (statement != null) {
+            statementCache.checkIn(sql, statement, Integer.MAX_VALUE);
             try {
                 postQueryFetchSize = statement.getFetchSize();
             } catch (SQLException sqle) {
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedDriver;
+import org.junit.After;
+
+/**
+ * Base class of the tests of sessions connected through the {@link EmulatedDriver}.
+ * The queries of the sessions read the rows put on the emulated connection for their SQL.
+ * The sessions logged in by a test are logged out after the test.
+ */
+public abstract class EmulatedDriverBase {
+
+    private final List<DatabaseSession> sessions = new ArrayList<>();
+
+    @After
+    public void logoutSessions() {
+        try {
+            for (DatabaseSession session : sessions) {
+                if (session.isConnected()) {
+                    session.logout();
+                }
+            }
+        } finally {
+            sessions.clear();
+        }
+    }
+
+    /**
+     * Return a login connecting through the emulated driver.
+     */
+    protected static DatabaseLogin buildLogin() {
+        return buildLogin(new DatabasePlatform());
+    }
+
+    /**
+     * Return a login connecting through the emulated driver, with the platform.
+     */
+    protected static DatabaseLogin buildLogin(DatabasePlatform platform) {
+        DatabaseLogin login = new DatabaseLogin(platform);
+        login.useDirectDriverConnect();
+        login.setDriverClass(EmulatedDriver.class);
+        login.setConnectionString("jdbc:emulateddriver");
+        return login;
+    }
+
+    /**
+     * Return a descriptor of the class stored in the table, with a direct mapping of each attribute
+     * to the column of its upper case name. The first attribute is the primary key.
+     */
+    protected static RelationalDescriptor buildDescriptor(Class<?> javaClass, String table, String... attributeNames) {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(javaClass);
+        descriptor.addTableName(table);
+        descriptor.addPrimaryKeyFieldName(table + "." + attributeNames[0].toUpperCase(Locale.ROOT));
+        for (String attributeName : attributeNames) {
+            descriptor.addDirectMapping(attributeName, table + "." + attributeName.toUpperCase(Locale.ROOT));
+        }
+        return descriptor;
+    }
+
+    /**
+     * Log in a database session of the project, without logging.
+     */
+    protected DatabaseSession login(Project project) {
+        DatabaseSession session = project.createDatabaseSession();
+        session.dontLogMessages();
+        return login(session);
+    }
+
+    /**
+     * Log in the session, it is logged out after the test.
+     */
+    protected <T extends DatabaseSession> T login(T session) {
+        sessions.add(session);
+        session.login();
+        return session;
+    }
+
+    /**
+     * Return the emulated connection of the session's accessor.
+     */
+    protected static EmulatedConnection getConnection(DatabaseSession session) {
+        return (EmulatedConnection) ((DatabaseSessionImpl) session).getAccessor().getConnection();
+    }
+
+    /**
+     * Return a row of the fields of the descriptor, with the values in the order of its mappings.
+     */
+    protected static ArrayRecord buildRow(ClassDescriptor descriptor, Object... values) {
+        Vector<DatabaseField> fields = descriptor.getAllFields();
+        return new ArrayRecord(fields, fields.toArray(new DatabaseField[0]), values);
+    }
+
+    /**
+     * Put the rows read by the query on the emulated connection of the session.
+     */
+    protected static void putRows(DatabaseSession session, DatabaseQuery query, List<? extends AbstractRecord> rows) {
+        putRows(session, query, new DatabaseRecord(), rows);
+    }
+
+    /**
+     * Put the rows read by the query executed with the arguments on the emulated connection of the session.
+     */
+    protected static void putRows(DatabaseSession session, DatabaseQuery query, AbstractRecord arguments, List<? extends AbstractRecord> rows) {
+        query.prepareCall(session, arguments);
+        getConnection(session).putRows(query.getSQLString(), new Vector<>(rows));
+    }
+}
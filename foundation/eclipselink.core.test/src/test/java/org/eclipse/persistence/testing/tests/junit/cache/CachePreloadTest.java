@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.cache;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.CachePreloader;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the preload of the cache at login by the {@link CachePreloader}.
+ */
+public class CachePreloadTest extends EmulatedDriverBase {
+
+    private static final int NO_OF_ROWS = 100;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    /**
+     * Put the rows read by the preload, once the connections and descriptors are initialized,
+     * and record the preload events.
+     */
+    private static final class PreloadListener extends SessionEventAdapter {
+        private EmulatedConnection connection;
+        private final List<SessionEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void postConnect(SessionEvent event) {
+            connection = (EmulatedConnection) ((Accessor) event.getResult()).getConnection();
+        }
+
+        @Override
+        public void postLogin(SessionEvent event) {
+            DatabaseSessionImpl session = (DatabaseSessionImpl) event.getSession();
+            ClassDescriptor descriptor = session.getDescriptor(Item.class);
+            CachePreloader preloader = new CachePreloader(session);
+            Vector<DatabaseRecord> rows = new Vector<>(NO_OF_ROWS);
+            for (int index = 0; index < NO_OF_ROWS; index++) {
+                rows.add(buildRow(descriptor, BigDecimal.valueOf(index), "Item " + index));
+            }
+            Vector<DatabaseRecord> countRows = new Vector<>(1);
+            DatabaseRecord countRow = new DatabaseRecord();
+            countRow.put("COUNT", (long) NO_OF_ROWS);
+            countRows.add(countRow);
+            connection.putRows(getSQLString(session, preloader.buildCountQuery(descriptor)), countRows);
+            connection.putRows(getSQLString(session, preloader.buildPageQuery(descriptor, 0, false)), rows);
+        }
+
+        @Override
+        public void postPreloadDescriptor(SessionEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void postPreloadCache(SessionEvent event) {
+            events.add(event);
+        }
+
+        private String getSQLString(DatabaseSessionImpl session, DatabaseQuery query) {
+            query.prepareCall(session, new DatabaseRecord());
+            return query.getSQLString();
+        }
+    }
+
+    private DatabaseSession session;
+
+    @Test
+    public void testPreloadDatabaseSession() {
+        Project project = buildProject(true);
+        session = project.createDatabaseSession();
+        PreloadListener listener = loginWithListener(null);
+        // A database session preloads on the login thread.
+        CachePreloader preloader = ((DatabaseSessionImpl) session).getCachePreloader();
+        assertNotNull(preloader);
+        assertTrue(preloader.isComplete());
+        assertEquals(NO_OF_ROWS, preloader.getNumberOfObjects());
+        verifyCache();
+        verifyEvents(listener);
+    }
+
+    @Test
+    public void testPreloadServerSessionWait() {
+        Project project = buildProject(true);
+        session = project.createServerSession();
+        session.setProperty(PersistenceUnitProperties.CACHE_PRELOAD_PAGE_SIZE, "30");
+        session.setProperty(PersistenceUnitProperties.CACHE_PRELOAD_THREADS, "2");
+        PreloadListener listener = loginWithListener("true");
+        assertTrue(((DatabaseSessionImpl) session).getCachePreloader().isComplete());
+        verifyCache();
+        verifyEvents(listener);
+    }
+
+    @Test
+    public void testPreloadServerSessionBackground() {
+        Project project = buildProject(true);
+        session = project.createServerSession();
+        session.setProperty(PersistenceUnitProperties.CACHE_PRELOAD_PAGE_SIZE, "30");
+        PreloadListener listener = loginWithListener(null);
+        ((DatabaseSessionImpl) session).getCachePreloader().waitForCompletion();
+        verifyCache();
+        verifyEvents(listener);
+    }
+
+    @Test
+    public void testNoPreload() {
+        Project project = buildProject(false);
+        session = project.createDatabaseSession();
+        PreloadListener listener = loginWithListener(null);
+        assertNull(((DatabaseSessionImpl) session).getCachePreloader());
+        assertNull(session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ZERO, Item.class));
+        assertTrue(listener.events.isEmpty());
+    }
+
+    private PreloadListener loginWithListener(String wait) {
+        if (wait != null) {
+            session.setProperty(PersistenceUnitProperties.CACHE_PRELOAD_WAIT, wait);
+        }
+        PreloadListener listener = new PreloadListener();
+        session.getEventManager().addListener(listener);
+        session.dontLogMessages();
+        login(session);
+        return listener;
+    }
+
+    private void verifyCache() {
+        for (int index = 0; index < NO_OF_ROWS; index++) {
+            Item item = (Item) session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(index), Item.class);
+            assertNotNull(item);
+            assertEquals("Item " + index, item.name);
+        }
+    }
+
+    private void verifyEvents(PreloadListener listener) {
+        assertEquals(2, listener.events.size());
+        SessionEvent descriptorEvent = listener.events.get(0);
+        assertEquals(SessionEvent.PostPreloadDescriptor, descriptorEvent.getEventCode());
+        assertSame(session.getDescriptor(Item.class), descriptorEvent.getProperty("descriptor"));
+        // The emulated driver ignores the max rows, so the pages may read more objects than counted.
+        assertTrue((Long) descriptorEvent.getResult() >= NO_OF_ROWS);
+        SessionEvent cacheEvent = listener.events.get(1);
+        assertEquals(SessionEvent.PostPreloadCache, cacheEvent.getEventCode());
+        assertEquals(descriptorEvent.getResult(), cacheEvent.getResult());
+    }
+
+    private Project buildProject(boolean preload) {
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id", "name");
+        descriptor.useFullIdentityMap();
+        descriptor.getCachePolicy().setShouldPreload(preload);
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        return project;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.identitymaps.QueryResultsDependencies;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that changes only invalidate the query results they affect, when tracked by {@link QueryResultsDependencies}.
+ */
+public class QueryResultsDependenciesTest extends EmulatedDriverBase {
+
+    private static final String QUERY = "findByGroup";
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+        public String grp;
+        public Item parent;
+    }
+
+    private DatabaseSession session;
+    private int resultSize;
+
+    @Test
+    public void testChangeNotInResult() {
+        login(true);
+        update(2, "Item 2 changed", "B");
+        assertCached(true);
+    }
+
+    @Test
+    public void testChangeInResult() {
+        login(true);
+        update(0, "Item 0 changed", "A");
+        assertCached(false);
+    }
+
+    @Test
+    public void testChangeConformingToResult() {
+        login(true);
+        update(2, "Item 2", "A");
+        assertCached(false);
+    }
+
+    @Test
+    public void testNewObject() {
+        login(true);
+        insert(3, "B");
+        assertCached(true);
+        insert(4, "A");
+        assertCached(false);
+    }
+
+    @Test
+    public void testDelete() {
+        login(true);
+        delete(2);
+        assertCached(true);
+        delete(0);
+        assertCached(false);
+    }
+
+    @Test
+    public void testChangeOfRelatedObject() {
+        // Item 3 is the parent of the items of the result, it does not conform itself.
+        login(true, true);
+        update(3, "Item 3", "B");
+        assertCached(false);
+    }
+
+    @Test
+    public void testDependenciesNotTracked() {
+        login(false);
+        update(2, "Item 2 changed", "B");
+        assertCached(false);
+    }
+
+    @Test
+    public void testPage() {
+        // Item 0 is on the previous page, deleting it shifts the page.
+        login(true, false, 1);
+        delete(0);
+        assertCached(false);
+    }
+
+    @Test
+    public void testCanTrackDependencies() {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        query.setDescriptor(new RelationalDescriptor());
+        assertTrue(QueryResultsDependencies.canTrackDependencies(query));
+        query.setMaxRows(10);
+        assertTrue(QueryResultsDependencies.canTrackDependencies(query));
+        query.setFirstResult(10);
+        assertFalse(QueryResultsDependencies.canTrackDependencies(query));
+    }
+
+    private void assertCached(boolean isCached) {
+        ReadQuery query = (ReadQuery) session.getDescriptor(Item.class).getQueryManager().getQuery(QUERY);
+        Object result = ((DatabaseSessionImpl) session).getIdentityMapAccessorInstance().getQueryResult(query, List.of("A"), true);
+        if (isCached) {
+            assertNotNull(result);
+            assertEquals(resultSize, ((List<?>) result).size());
+        } else {
+            assertNull(result);
+        }
+    }
+
+    private void update(int id, String name, String grp) {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        Item item = (Item) uow.readObject(session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(id), Item.class));
+        item.name = name;
+        item.grp = grp;
+        uow.commit();
+    }
+
+    private void insert(int id, String grp) {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        Item item = new Item();
+        item.id = BigDecimal.valueOf(id);
+        item.name = "Item " + id;
+        item.grp = grp;
+        uow.registerNewObject(item);
+        uow.commit();
+    }
+
+    private void delete(int id) {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        uow.deleteObject(uow.readObject(session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(id), Item.class)));
+        uow.commit();
+    }
+
+    /**
+     * Login, read all the items into the cache, and cache the results of the query for group A.
+     */
+    private void login(boolean isDependencyTracked) {
+        login(isDependencyTracked, false);
+    }
+
+    /**
+     * Login, read all the items into the cache, and cache the results of the query for group A,
+     * or for the parent's group A.
+     */
+    private void login(boolean isDependencyTracked, boolean isByParent) {
+        login(isDependencyTracked, isByParent, 0);
+    }
+
+    /**
+     * Login, read all the items into the cache, and cache the results of the query for group A,
+     * or for the parent's group A, from the first result.
+     */
+    private void login(boolean isDependencyTracked, boolean isByParent, int firstResult) {
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id", "name", "grp");
+        descriptor.useFullIdentityMap();
+        OneToOneMapping parentMapping = new OneToOneMapping();
+        parentMapping.setAttributeName("parent");
+        parentMapping.setReferenceClass(Item.class);
+        parentMapping.addForeignKeyFieldName("ITEM.PARENT_ID", "ITEM.ID");
+        parentMapping.dontUseIndirection();
+        descriptor.addMapping(parentMapping);
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        if (isByParent) {
+            query.setSelectionCriteria(builder.get("parent").get("grp").equal(builder.getParameter("GRP")));
+        } else {
+            query.setSelectionCriteria(builder.get("grp").equal(builder.getParameter("GRP")));
+        }
+        query.addArgument("GRP");
+        query.setFirstResult(firstResult);
+        query.cacheQueryResults();
+        query.getQueryResultsCachePolicy().setIsDependencyTracked(isDependencyTracked);
+        descriptor.getQueryManager().addQuery(QUERY, query);
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        session = login(project);
+
+        List<ArrayRecord> allRows = new ArrayList<>();
+        String[] groups = {"A", "A", "B"};
+        for (int index = 0; index < groups.length; index++) {
+            BigDecimal parentId = (isByParent && index < 2) ? BigDecimal.valueOf(3) : null;
+            allRows.add(buildRow(descriptor, BigDecimal.valueOf(index), "Item " + index, groups[index], parentId));
+        }
+        if (isByParent) {
+            // The parent item is read first, so the other items find it in the cache.
+            allRows.add(0, buildRow(descriptor, BigDecimal.valueOf(3), "Item 3", "A", null));
+        }
+        ReadAllQuery readAll = new ReadAllQuery(Item.class);
+        putRows(session, readAll, allRows);
+        assertEquals(allRows.size(), ((List<?>) session.executeQuery(readAll)).size());
+
+        DatabaseRecord row = new DatabaseRecord();
+        row.put("GRP", "A");
+        ReadAllQuery findByGroup = (ReadAllQuery) descriptor.getQueryManager().getQuery(QUERY).clone();
+        int first = isByParent ? 1 : 0;
+        putRows(session, findByGroup, row, allRows.subList(first, first + 2));
+        resultSize = 2 - firstResult;
+        assertEquals(resultSize, ((List<?>) session.executeQuery(QUERY, Item.class, "A")).size());
+        assertCached(true);
+    }
+}
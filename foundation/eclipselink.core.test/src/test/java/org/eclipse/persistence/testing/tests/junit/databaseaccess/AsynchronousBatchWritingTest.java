@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the execution of the batched statements in the background, with asynchronous batch writing.
+ */
+public class AsynchronousBatchWritingTest extends EmulatedDriverBase {
+
+    private static final int ROWS = 10;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    public static final class Order {
+        public BigDecimal id;
+        public String name;
+    }
+
+    /**
+     * Record the thread executing each batch, once executed.
+     */
+    private final class BatchPlatform extends DatabasePlatform {
+        private boolean shouldFail;
+
+        @Override
+        public int executeBatch(Statement statement, boolean isStatementPrepared) throws SQLException {
+            if (Thread.currentThread() != testThread) {
+                // Give the commit time to build the next batch.
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                if (shouldFail) {
+                    throw new SQLException("Batch failure");
+                }
+            }
+            batchThreads.add(Thread.currentThread());
+            // The emulated driver does not return the row counts.
+            return 0;
+        }
+    }
+
+    private final Thread testThread = Thread.currentThread();
+    private final List<Thread> batchThreads = new CopyOnWriteArrayList<>();
+    private DatabaseSession session;
+
+    @Test
+    public void testBatchExecutedInBackground() {
+        login(true, false);
+        insert();
+        // The first batch is executed in the background when the statements of the next class are batched,
+        // the last batch by the commit, once the first batch completed.
+        assertEquals(2, batchThreads.size());
+        assertNotSame(testThread, batchThreads.get(0));
+        assertSame(testThread, batchThreads.get(1));
+    }
+
+    @Test
+    public void testSynchronousByDefault() {
+        login(false, false);
+        insert();
+        assertEquals(2, batchThreads.size());
+        assertSame(testThread, batchThreads.get(0));
+        assertSame(testThread, batchThreads.get(1));
+    }
+
+    @Test
+    public void testBatchFailureThrownByCommit() {
+        login(true, true);
+        try {
+            insert();
+            fail("The batch failure should be thrown by the commit");
+        } catch (DatabaseException expected) {
+            // The next batch is not executed once the background batch failed.
+            assertEquals(0, batchThreads.size());
+        }
+        assertFalse(((AbstractSession) session).getAccessor().isInTransaction());
+    }
+
+    private void insert() {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        for (int index = 0; index < ROWS; index++) {
+            Item item = new Item();
+            item.id = BigDecimal.valueOf(index);
+            item.name = "Item " + index;
+            uow.registerNewObject(item);
+            Order order = new Order();
+            order.id = BigDecimal.valueOf(index);
+            order.name = "Order " + index;
+            uow.registerNewObject(order);
+        }
+        uow.commit();
+    }
+
+    private void login(boolean asynchronous, boolean shouldFail) {
+        BatchPlatform platform = new BatchPlatform();
+        platform.shouldFail = shouldFail;
+        platform.setUsesAsynchronousBatchWriting(asynchronous);
+        DatabaseLogin login = buildLogin(platform);
+        login.useBatchWriting();
+        login.useJDBCBatchWriting();
+        Project project = new Project(login);
+        project.addDescriptor(buildDescriptor(Item.class, "ITEM", "id", "name"));
+        project.addDescriptor(buildDescriptor(Order.class, "ORDERS", "id", "name"));
+        session = login(project);
+    }
+}
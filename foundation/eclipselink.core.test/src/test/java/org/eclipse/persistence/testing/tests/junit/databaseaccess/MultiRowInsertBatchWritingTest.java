@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.math.BigDecimal;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.internal.databaseaccess.MultiRowInsertBatchWritingMechanism;
+import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.platform.database.H2Platform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the rewrite of batched inserts into multi-row inserts by the {@link MultiRowInsertBatchWritingMechanism}.
+ */
+public class MultiRowInsertBatchWritingTest extends EmulatedDriverBase {
+
+    private static final String INSERT = "INSERT INTO ITEM (ID, NAME) VALUES ";
+    private static final String ROW = "(?, ?)";
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    /**
+     * Record the SQL statements executed.
+     */
+    private static final class SQLLog extends AbstractSessionLog {
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void log(SessionLogEntry entry) {
+            if (SessionLog.SQL.equals(entry.getNameSpace()) && entry.getMessage().startsWith("INSERT")) {
+                statements.add(entry.getMessage());
+            }
+        }
+    }
+
+    private DatabaseSession session;
+    private SQLLog log;
+
+    @Test
+    public void testBuildSQL() {
+        assertEquals(INSERT + ROW, MultiRowInsertBatchWritingMechanism.buildMultiRowInsertSQL(INSERT, ROW, 1));
+        assertEquals(INSERT + ROW + ", " + ROW + ", " + ROW, MultiRowInsertBatchWritingMechanism.buildMultiRowInsertSQL(INSERT, ROW, 3));
+    }
+
+    @Test
+    public void testInsertsRewritten() {
+        MultiRowInsertBatchWritingMechanism mechanism = new MultiRowInsertBatchWritingMechanism();
+        mechanism.setRowsPerStatement(40);
+        login(new H2Platform(), mechanism);
+        insert(250);
+        // The batch is executed every 100 rows, by statements of up to 40 rows.
+        int[] expectedRows = {40, 40, 20, 40, 40, 20, 40, 10};
+        assertEquals(expectedRows.length, log.statements.size());
+        for (int index = 0; index < expectedRows.length; index++) {
+            assertTrue(log.statements.get(index).startsWith(MultiRowInsertBatchWritingMechanism.buildMultiRowInsertSQL(INSERT, ROW, expectedRows[index]) + "\tbind => ["));
+        }
+    }
+
+    @Test
+    public void testRowsLimitedByParameters() {
+        MultiRowInsertBatchWritingMechanism mechanism = new MultiRowInsertBatchWritingMechanism();
+        mechanism.setMaxParameters(50);
+        login(new H2Platform(), mechanism);
+        insert(60);
+        assertEquals(3, log.statements.size());
+        assertTrue(log.statements.get(0).startsWith(MultiRowInsertBatchWritingMechanism.buildMultiRowInsertSQL(INSERT, ROW, 25) + "\t"));
+        assertTrue(log.statements.get(2).startsWith(MultiRowInsertBatchWritingMechanism.buildMultiRowInsertSQL(INSERT, ROW, 10) + "\t"));
+    }
+
+    @Test
+    public void testPlatformWithoutMultiRowInsert() {
+        DatabasePlatform platform = new DatabasePlatform() {
+            @Override
+            public int executeBatch(Statement statement, boolean isStatementPrepared) {
+                // The emulated driver does not return the row counts.
+                return 0;
+            }
+        };
+        login(platform, new MultiRowInsertBatchWritingMechanism());
+        insert(10);
+        // The inserts are executed as a JDBC batch, the SQL is logged once for the batch.
+        assertEquals(1, log.statements.size());
+        assertEquals(INSERT + ROW, log.statements.get(0));
+    }
+
+    private void insert(int rows) {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        for (int index = 0; index < rows; index++) {
+            Item item = new Item();
+            item.id = BigDecimal.valueOf(index);
+            item.name = "Item " + index;
+            uow.registerNewObject(item);
+        }
+        uow.commit();
+    }
+
+    private void login(DatabasePlatform platform, MultiRowInsertBatchWritingMechanism mechanism) {
+        DatabaseLogin login = buildLogin(platform);
+        login.useBatchWriting();
+        login.useJDBCBatchWriting();
+        login.getPlatform().setBatchWritingMechanism(mechanism);
+        Project project = new Project(login);
+        project.addDescriptor(buildDescriptor(Item.class, "ITEM", "id", "name"));
+        session = project.createDatabaseSession();
+        log = new SQLLog();
+        log.setLevel(SessionLog.FINE);
+        session.setSessionLog(log);
+        login(session);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.databaseaccess;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+import org.eclipse.persistence.internal.databaseaccess.StatementCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the least recently used eviction and statistics of the {@link StatementCache}.
+ */
+public class StatementCacheTest {
+
+    private static Statement newStatement() {
+        return (Statement) Proxy.newProxyInstance(StatementCacheTest.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    } else if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    return null;
+                });
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        StatementCache cache = new StatementCache();
+        Statement statement = newStatement();
+        assertNull(cache.checkOut("SELECT 1"));
+        assertTrue(cache.checkIn("SELECT 1", statement, 10).isEmpty());
+        assertEquals(1, cache.size());
+        assertSame(statement, cache.checkOut("SELECT 1"));
+        assertNull(cache.checkOut("SELECT 1"));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getEvictions());
+        assertTrue(cache.isEmpty());
+    }
+
+    @Test
+    public void testMultipleStatementsPerSQL() {
+        StatementCache cache = new StatementCache();
+        Statement first = newStatement();
+        Statement second = newStatement();
+        cache.checkIn("SELECT 1", first, 10);
+        cache.checkIn("SELECT 1", second, 10);
+        assertEquals(2, cache.size());
+        // The most recently released statement is reused first.
+        assertSame(second, cache.checkOut("SELECT 1"));
+        assertSame(first, cache.checkOut("SELECT 1"));
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        StatementCache cache = new StatementCache();
+        Statement statement1 = newStatement();
+        Statement statement2 = newStatement();
+        Statement statement3 = newStatement();
+        cache.checkIn("SELECT 1", statement1, 2);
+        cache.checkIn("SELECT 2", statement2, 2);
+        // Use SELECT 1 so that SELECT 2 is the least recently used.
+        cache.checkIn("SELECT 1", cache.checkOut("SELECT 1"), 2);
+        List<Statement> evicted = cache.checkIn("SELECT 3", statement3, 2);
+        assertEquals(1, evicted.size());
+        assertSame(statement2, evicted.get(0));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.checkOut("SELECT 2"));
+        assertSame(statement1, cache.checkOut("SELECT 1"));
+        assertSame(statement3, cache.checkOut("SELECT 3"));
+    }
+
+    @Test
+    public void testShrink() {
+        StatementCache cache = new StatementCache();
+        for (int i = 0; i < 5; i++) {
+            cache.checkIn("SELECT " + i, newStatement(), 5);
+        }
+        Statement statement = newStatement();
+        // The cache size was reduced, evict down to the new size.
+        List<Statement> evicted = cache.checkIn("SELECT 5", statement, 2);
+        assertEquals(4, evicted.size());
+        assertEquals(2, cache.size());
+        assertSame(statement, cache.checkOut("SELECT 5"));
+        // A zero size cache does not keep the statement.
+        evicted = cache.checkIn("SELECT 6", statement, 0);
+        assertEquals(1, evicted.size());
+        assertSame(statement, evicted.get(0));
+        assertEquals(1, cache.clear().size());
+        assertTrue(cache.isEmpty());
+        assertEquals(5, cache.getEvictions());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.failover;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.emulateddriver.EmulatedConnection;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the {@link ConcurrentConnectionPool} acquire/release, wait timeout
+ * and removal of broken connections from the pool.
+ */
+public class ConcurrentConnectionPoolFailoverTest extends FailoverBase<ServerSession> {
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        ConnectionPool pool = new ConcurrentConnectionPool(ServerSession.DEFAULT_POOL, p.getDatasourceLogin(), 1, 8, 8, session);
+        session.addConnectionPool(pool);
+        session.setReadConnectionPool(pool);
+        return session;
+    }
+
+    @Test
+    public void concurrentAcquireReleaseTest() throws Exception {
+        final ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int task = 0; task < 32; task++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        Accessor accessor = pool.acquireConnection();
+                        Assert.assertTrue("Pool grew past its maximum", pool.getTotalNumberOfConnections() <= pool.getMaxNumberOfConnections());
+                        pool.releaseConnection(accessor);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals("All connections should have been released", pool.getTotalNumberOfConnections(), pool.getConnectionsAvailable().size());
+    }
+
+    @Test
+    public void waitTimeoutTest() {
+        ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        pool.setWaitTimeout(100);
+        List<Accessor> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < pool.getMaxNumberOfConnections(); ++i) {
+                connections.add(pool.acquireConnection());
+            }
+            try {
+                pool.acquireConnection();
+                Assert.fail("Should have timed out as all connections are in use.");
+            } catch (ConcurrencyException expected) {
+                Assert.assertEquals(ConcurrencyException.WAIT_TIMEOUT_ON_CONNECTION_POOL, expected.getErrorCode());
+            }
+        } finally {
+            for (Accessor accessor : connections) {
+                pool.releaseConnection(accessor);
+            }
+        }
+        pool.releaseConnection(pool.acquireConnection());
+    }
+
+    @Test
+    public void shutDownReleasesWaitingThreadsTest() throws Exception {
+        final ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        pool.setWaitTimeout(0);
+        for (int i = 0; i < pool.getMaxNumberOfConnections(); ++i) {
+            pool.acquireConnection();
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Accessor> waiting = executor.submit(pool::acquireConnection);
+            Thread.sleep(100);
+            Assert.assertFalse("All connections are in use", waiting.isDone());
+            pool.shutDown();
+            pool.startUp();
+            // The waiting thread is released and acquires a connection from the restarted pool.
+            Accessor accessor = waiting.get(10, TimeUnit.SECONDS);
+            Assert.assertNotNull(accessor);
+            pool.releaseConnection(accessor);
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(pool.getTotalNumberOfConnections(), pool.getConnectionsAvailable().size());
+    }
+
+    @Test
+    public void connectionPoolFailureTest() {
+        ConnectionPool pool = getEmulatedSession().getDefaultConnectionPool();
+        List<Accessor> connections = new ArrayList<>();
+        // prime connection pool.
+        for (int i = 0; i < 8; ++i) {
+            connections.add(pool.acquireConnection());
+        }
+        for (Accessor accessor : connections) {
+            pool.releaseConnection(accessor);
+        }
+        for (Accessor accessor : pool.getConnectionsAvailable()) {
+            ((EmulatedConnection) accessor.getConnection()).causeCommError();
+        }
+
+        for (int i = 0; i < 4; ++i) {
+            try {
+                getEmulatedSession().acquireClientSession().readObject(Address.class);
+            } catch (DatabaseException ex) {
+                if (i != 0) {
+                    Assert.fail("Should have reconnected and not thrown exception.");
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link ConcurrencyManager} lock states when a {@link java.util.concurrent.locks.ReentrantLock}
+ * is used instead of the monitor of the manager.
+ */
+public class ConcurrencyManagerReentrantLockTest {
+
+    private static final int NO_OF_THREADS = 32;
+    private static final int NO_OF_ITERATIONS = 500;
+
+    private boolean useReentrantLock;
+
+    @Before
+    public void setup() {
+        useReentrantLock = ConcurrencyUtil.SINGLETON.isUseReentrantLock();
+        //This kind of setup is for test purpose only. Standard way is via persistence.xml properties or system properties.
+        ConcurrencyUtil.SINGLETON.setUseReentrantLock(true);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtil.SINGLETON.setUseReentrantLock(useReentrantLock);
+    }
+
+    @Test
+    public void testInstanceLockEnabled() {
+        assertTrue(new CacheKey(1).usesInstanceLock());
+        ConcurrencyUtil.SINGLETON.setUseReentrantLock(false);
+        assertFalse(new CacheKey(1).usesInstanceLock());
+    }
+
+    @Test
+    public void testDeserializedInstanceLock() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(bytes)) {
+            stream.writeObject(new CacheKey(1));
+        }
+        CacheKey cacheKey;
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            cacheKey = (CacheKey) stream.readObject();
+        }
+        assertTrue(cacheKey.usesInstanceLock());
+        cacheKey.acquire();
+        assertTrue(cacheKey.isAcquired());
+        cacheKey.release();
+        assertFalse(cacheKey.isAcquired());
+    }
+
+    @Test
+    public void testDeadLockDetection() throws Exception {
+        ConcurrencyUtil util = ConcurrencyUtil.SINGLETON;
+        long acquireWaitTime = util.getAcquireWaitTime();
+        long maxAllowedSleepTime = util.getMaxAllowedSleepTime();
+        long tinyDumpFrequency = util.getMaxAllowedFrequencyToProduceTinyDumpLogMessage();
+        long massiveDumpFrequency = util.getMaxAllowedFrequencyToProduceMassiveDumpLogMessage();
+        boolean allowInterruptedException = util.isAllowInterruptedExceptionFired();
+        boolean allowConcurrencyException = util.isAllowConcurrencyExceptionToBeFiredUp();
+        util.setAcquireWaitTime(10);
+        util.setMaxAllowedSleepTime(200);
+        util.setMaxAllowedFrequencyToProduceTinyDumpLogMessage(1);
+        util.setMaxAllowedFrequencyToProduceMassiveDumpLogMessage(Long.MAX_VALUE / 2);
+        util.setAllowInterruptedExceptionFired(true);
+        util.setAllowConcurrencyExceptionToBeFiredUp(true);
+        try {
+            // Each thread holds one cache key and waits for the other's, the detection breaks the dead lock.
+            final CacheKey[] cacheKeys = new CacheKey[] {new CacheKey(1), new CacheKey(2)};
+            final CyclicBarrier barrier = new CyclicBarrier(2);
+            final AtomicInteger detected = new AtomicInteger();
+            ExecutorService executorService = Executors.newFixedThreadPool(2);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    final CacheKey owned = cacheKeys[i];
+                    final CacheKey wanted = cacheKeys[1 - i];
+                    results.add(executorService.submit(() -> {
+                        owned.acquire();
+                        try {
+                            barrier.await(10, TimeUnit.SECONDS);
+                            wanted.acquire();
+                            wanted.release();
+                        } catch (ConcurrencyException exception) {
+                            assertEquals(ConcurrencyException.WAIT_WAS_INTERRUPTED, exception.getErrorCode());
+                            detected.incrementAndGet();
+                        } finally {
+                            owned.release();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                executorService.shutdownNow();
+            }
+            assertTrue(detected.get() > 0);
+            assertFalse(cacheKeys[0].isAcquired());
+            assertFalse(cacheKeys[1].isAcquired());
+        } finally {
+            util.setAcquireWaitTime(acquireWaitTime);
+            util.setMaxAllowedSleepTime(maxAllowedSleepTime);
+            util.setMaxAllowedFrequencyToProduceTinyDumpLogMessage(tinyDumpFrequency);
+            util.setMaxAllowedFrequencyToProduceMassiveDumpLogMessage(massiveDumpFrequency);
+            util.setAllowInterruptedExceptionFired(allowInterruptedException);
+            util.setAllowConcurrencyExceptionToBeFiredUp(allowConcurrencyException);
+        }
+    }
+
+    @Test
+    public void testExclusiveWriteLock() throws Exception {
+        final CacheKey cacheKey = new CacheKey(1);
+        final int[] counter = new int[1];
+        runConcurrently(() -> {
+            for (int i = 0; i < NO_OF_ITERATIONS; i++) {
+                cacheKey.acquire();
+                try {
+                    // Nested acquire by the active thread only increments the depth.
+                    cacheKey.acquire();
+                    counter[0]++;
+                    cacheKey.release();
+                } finally {
+                    cacheKey.release();
+                }
+            }
+        });
+        assertEquals(NO_OF_THREADS * NO_OF_ITERATIONS, counter[0]);
+        assertFalse(cacheKey.isAcquired());
+        assertEquals(0, cacheKey.getDepth());
+    }
+
+    @Test
+    public void testReadersAndWriters() throws Exception {
+        final CacheKey cacheKey = new CacheKey(1);
+        final int[] counter = new int[1];
+        runConcurrently(() -> {
+            for (int i = 0; i < NO_OF_ITERATIONS; i++) {
+                if (i % 4 == 0) {
+                    cacheKey.acquire();
+                    try {
+                        counter[0]++;
+                    } finally {
+                        cacheKey.release();
+                    }
+                } else {
+                    cacheKey.acquireReadLock();
+                    try {
+                        assertTrue(cacheKey.getActiveThread() == null || cacheKey.getActiveThread() == Thread.currentThread());
+                    } finally {
+                        cacheKey.releaseReadLock();
+                    }
+                }
+            }
+        });
+        assertEquals(NO_OF_THREADS * NO_OF_ITERATIONS / 4, counter[0]);
+        assertEquals(0, cacheKey.getNumberOfReaders());
+        assertFalse(cacheKey.isAcquired());
+    }
+
+    @Test
+    public void testDeferredLock() throws Exception {
+        final CacheKey cacheKey = new CacheKey(1);
+        runConcurrently(() -> {
+            for (int i = 0; i < NO_OF_ITERATIONS; i++) {
+                cacheKey.acquireDeferredLock();
+                cacheKey.releaseDeferredLock();
+            }
+        });
+        assertFalse(cacheKey.isAcquired());
+    }
+
+    @Test
+    public void testWaitForObject() throws Exception {
+        final CacheKey cacheKey = new CacheKey(1);
+        final Object object = new Object();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> builder = executorService.submit(() -> {
+                cacheKey.acquire();
+                acquired.countDown();
+                try {
+                    Thread.sleep(50);
+                    cacheKey.setObject(object);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    cacheKey.release();
+                }
+            });
+            assertTrue(acquired.await(10, TimeUnit.SECONDS));
+            assertSame(object, cacheKey.waitForObject());
+            builder.get(10, TimeUnit.SECONDS);
+            cacheKey.waitForRelease(0);
+            assertFalse(cacheKey.isAcquired());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(NO_OF_THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < NO_OF_THREADS; i++) {
+                results.add(executorService.submit(task));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
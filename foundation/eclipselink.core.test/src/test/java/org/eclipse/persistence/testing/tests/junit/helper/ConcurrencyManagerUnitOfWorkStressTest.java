@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.failover.Address;
+import org.eclipse.persistence.testing.tests.junit.failover.FailoverBase;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Stress the cache key locks in {@link java.util.concurrent.locks.ReentrantLock} mode with concurrent
+ * unit of work commits updating the same objects.
+ * The virtual thread test requires Java 21, it is skipped on older runtimes.
+ */
+public class ConcurrencyManagerUnitOfWorkStressTest extends FailoverBase<ServerSession> {
+
+    private static final int NO_OF_PLATFORM_THREADS = 64;
+    private static final int NO_OF_VIRTUAL_THREADS = 5000;
+
+    private boolean useReentrantLock;
+
+    @Override
+    protected ServerSession createSession(Project p) {
+        ServerSession session = (ServerSession) p.createServerSession();
+        ConnectionPool pool = new ConcurrentConnectionPool(ServerSession.DEFAULT_POOL, p.getDatasourceLogin(), 1, 8, 8, session);
+        session.addConnectionPool(pool);
+        session.setReadConnectionPool(pool);
+        return session;
+    }
+
+    @Before
+    public void setup() {
+        useReentrantLock = ConcurrencyUtil.SINGLETON.isUseReentrantLock();
+        //This kind of setup is for test purpose only. Standard way is via persistence.xml properties or system properties.
+        ConcurrencyUtil.SINGLETON.setUseReentrantLock(true);
+    }
+
+    @After
+    public void tearDown() {
+        ConcurrencyUtil.SINGLETON.setUseReentrantLock(useReentrantLock);
+    }
+
+    @Test
+    public void testCommitsOnPlatformThreads() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(NO_OF_PLATFORM_THREADS);
+        commitConcurrently(executorService, NO_OF_PLATFORM_THREADS * 10);
+    }
+
+    @Test
+    public void testCommitsOnVirtualThreads() throws Exception {
+        ExecutorService executorService = newVirtualThreadPerTaskExecutor();
+        Assume.assumeTrue("Virtual threads require Java 21", executorService != null);
+        commitConcurrently(executorService, NO_OF_VIRTUAL_THREADS);
+    }
+
+    private void commitConcurrently(ExecutorService executorService, int noOfCommits) throws Exception {
+        final ServerSession session = getEmulatedSession();
+        try {
+            List<Future<?>> results = new ArrayList<>(noOfCommits);
+            for (int i = 0; i < noOfCommits; i++) {
+                final int index = i;
+                results.add(executorService.submit(() -> {
+                    ClientSession clientSession = session.acquireClientSession();
+                    try {
+                        UnitOfWork uow = clientSession.acquireUnitOfWork();
+                        List<?> addresses = uow.readAllObjects(Address.class);
+                        Address address = (Address) addresses.get(index % addresses.size());
+                        address.street = "Street " + index;
+                        uow.commit();
+                    } finally {
+                        clientSession.release();
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        for (Object address : session.readAllObjects(Address.class)) {
+            CacheKey cacheKey = ((AbstractSession) session).getIdentityMapAccessorInstance().getCacheKeyForObject(address);
+            assertTrue(cacheKey.usesInstanceLock());
+            assertFalse(cacheKey.isAcquired());
+            assertTrue(cacheKey.getNumberOfReaders() == 0);
+        }
+    }
+
+    /**
+     * Return the virtual thread executor of Java 21, or null on older runtimes.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            return null;
+        }
+    }
+}
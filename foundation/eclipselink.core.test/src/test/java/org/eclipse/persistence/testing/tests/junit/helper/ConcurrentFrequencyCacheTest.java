@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.helper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.persistence.internal.helper.ConcurrentFrequencyCache;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the admission, eviction and statistics of the {@link ConcurrentFrequencyCache}.
+ */
+public class ConcurrentFrequencyCacheTest {
+
+    private static final int SIZE = 10;
+
+    @Test
+    public void testProjectUsesFrequencyCache() {
+        Project project = new Project();
+        assertTrue(project.getJPQLParseCache() instanceof ConcurrentFrequencyCache);
+        project.setJPQLParseCacheMaxSize(50);
+        assertTrue(project.getJPQLParseCache() instanceof ConcurrentFrequencyCache);
+        assertEquals(50, project.getJPQLParseCacheMaxSize());
+    }
+
+    @Test
+    public void testHotKeysSurviveScan() {
+        ConcurrentFrequencyCache cache = new ConcurrentFrequencyCache(SIZE);
+        for (int round = 0; round < 5; round++) {
+            for (int index = 0; index < SIZE; index++) {
+                access(cache, "hot" + index);
+            }
+        }
+        // A scan of keys used once must not evict the hot keys.
+        for (int index = 0; index < 100; index++) {
+            access(cache, "cold" + index);
+        }
+        for (int index = 0; index < SIZE; index++) {
+            assertNotNull("hot" + index, cache.get("hot" + index));
+        }
+        assertEquals(SIZE, cache.getCache().size());
+        assertEquals(0, cache.getEvictions());
+    }
+
+    @Test
+    public void testFrequentKeyAdmitted() {
+        ConcurrentFrequencyCache cache = new ConcurrentFrequencyCache(SIZE);
+        for (int index = 0; index < SIZE; index++) {
+            access(cache, "once" + index);
+        }
+        access(cache, "new");
+        assertNull(cache.getCache().get("new"));
+        // Used again, the new key is more frequent than the least recently used key.
+        access(cache, "new");
+        assertNotNull(cache.getCache().get("new"));
+        assertNull(cache.getCache().get("once0"));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(SIZE, cache.getCache().size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        ConcurrentFrequencyCache cache = new ConcurrentFrequencyCache(SIZE);
+        for (int index = 0; index < SIZE; index++) {
+            access(cache, "key" + index);
+            access(cache, "key" + index);
+        }
+        // The hits of a recent key do not change the order, the hit of the oldest key makes it recent.
+        access(cache, "key" + (SIZE - 1));
+        access(cache, "key0");
+        for (int index = 0; index < 3; index++) {
+            access(cache, "new");
+        }
+        assertNotNull(cache.getCache().get("new"));
+        assertNotNull(cache.getCache().get("key0"));
+        assertNull(cache.getCache().get("key1"));
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    public void testStatistics() {
+        ConcurrentFrequencyCache cache = new ConcurrentFrequencyCache(SIZE);
+        access(cache, "a");
+        access(cache, "a");
+        access(cache, "a");
+        access(cache, "b");
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0.5, cache.getHitRate(), 0.0001);
+        List<Object> top = cache.getTopEntries(1);
+        assertEquals(1, top.size());
+        assertEquals("a", top.get(0));
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        ConcurrentFrequencyCache cache = new ConcurrentFrequencyCache(SIZE);
+        access(cache, "Select e from Employee e");
+        access(cache, "Select e from Employee e");
+        access(cache, "Select p from Project p where p.name = 'café'");
+        Path file = Files.createTempFile("jpql", ".snapshot");
+        try {
+            cache.writeSnapshot(file);
+            List<String> keys = ConcurrentFrequencyCache.readSnapshot(file);
+            assertEquals(2, keys.size());
+            assertEquals("Select e from Employee e", keys.get(0));
+            assertEquals("Select p from Project p where p.name = 'café'", keys.get(1));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+        assertTrue(ConcurrentFrequencyCache.readSnapshot(file).isEmpty());
+    }
+
+    /**
+     * Get the key, and put it on a miss, as the JPQL parse cache is used.
+     */
+    private void access(ConcurrentFrequencyCache cache, String key) {
+        if (cache.get(key) == null) {
+            cache.put(key, key.toUpperCase());
+        }
+    }
+}
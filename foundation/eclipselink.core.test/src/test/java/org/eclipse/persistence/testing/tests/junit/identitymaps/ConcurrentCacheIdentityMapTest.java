@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.config.CacheType;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
+import org.eclipse.persistence.internal.sessions.PropertiesHandler;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the approximate least recently used eviction of the {@link ConcurrentCacheIdentityMap}.
+ */
+public class ConcurrentCacheIdentityMapTest {
+
+    private static final int NO_OF_THREADS = 16;
+    private static final int NO_OF_ITERATIONS = 2000;
+
+    /**
+     * Expose the linked list size for testing.
+     */
+    private static class TestConcurrentCacheIdentityMap extends ConcurrentCacheIdentityMap {
+        TestConcurrentCacheIdentityMap(int size) {
+            super(size, null, null, false);
+        }
+
+        int linkedSize() {
+            return getLinkedSize();
+        }
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        TestConcurrentCacheIdentityMap map = new TestConcurrentCacheIdentityMap(3);
+        map.put(1, "1", null, 0);
+        map.put(2, "2", null, 0);
+        map.put(3, "3", null, 0);
+        // Read 1 so that 2 is the least recently used, the read is applied on the next put.
+        assertNotNull(map.get(1));
+        map.put(4, "4", null, 0);
+        assertEquals(3, map.getSize());
+        assertEquals(3, map.linkedSize());
+        assertNull(map.get(2));
+        assertNotNull(map.get(1));
+        assertNotNull(map.get(3));
+        assertNotNull(map.get(4));
+    }
+
+    @Test
+    public void testRemove() {
+        TestConcurrentCacheIdentityMap map = new TestConcurrentCacheIdentityMap(10);
+        map.put(1, "1", null, 0);
+        map.put(2, "2", null, 0);
+        assertEquals("1", map.remove(1, null));
+        assertNull(map.get(1));
+        assertEquals(1, map.getSize());
+        assertEquals(1, map.linkedSize());
+        assertNull(map.remove(1, null));
+    }
+
+    @Test
+    public void testUpdateMaxSize() {
+        TestConcurrentCacheIdentityMap map = new TestConcurrentCacheIdentityMap(10);
+        for (int i = 0; i < 10; i++) {
+            map.put(i, String.valueOf(i), null, 0);
+        }
+        map.updateMaxSize(4);
+        assertEquals(4, map.getSize());
+        assertEquals(4, map.linkedSize());
+        // The most recently put keys are kept.
+        for (int i = 6; i < 10; i++) {
+            assertNotNull(map.get(i));
+        }
+    }
+
+    @Test
+    public void testClone() {
+        TestConcurrentCacheIdentityMap map = new TestConcurrentCacheIdentityMap(2);
+        map.put(1, "1", null, 0);
+        map.put(2, "2", null, 0);
+        ConcurrentCacheIdentityMap clone = (ConcurrentCacheIdentityMap) map.clone();
+        clone.put(3, "3", null, 0);
+        assertEquals(2, clone.getSize());
+        assertEquals(2, map.getSize());
+        assertTrue(map.containsKey(1));
+        assertFalse(clone.containsKey(1));
+    }
+
+    @Test
+    public void testConcurrentReadsAndWrites() throws Exception {
+        final int maxSize = 100;
+        final TestConcurrentCacheIdentityMap map = new TestConcurrentCacheIdentityMap(maxSize);
+        ExecutorService executorService = Executors.newFixedThreadPool(NO_OF_THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < NO_OF_THREADS; thread++) {
+                results.add(executorService.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < NO_OF_ITERATIONS; i++) {
+                        Integer key = random.nextInt(maxSize * 4);
+                        int operation = random.nextInt(10);
+                        if (operation == 0) {
+                            map.remove(key, null);
+                        } else if (operation < 4) {
+                            map.put(key, key.toString(), null, 0);
+                        } else {
+                            Object object = map.get(key);
+                            assertTrue(object == null || object.equals(key.toString()));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertTrue("Map grew past its maximum size: " + map.getSize(), map.getSize() <= maxSize);
+        assertEquals(map.getSize(), map.linkedSize());
+    }
+
+    @Test
+    public void testCacheTypeProperty() {
+        String type = PropertiesHandler.getPrefixedPropertyValue(PersistenceUnitProperties.CACHE_TYPE_, "Employee",
+                Collections.singletonMap(PersistenceUnitProperties.CACHE_TYPE_ + "Employee", CacheType.ConcurrentCache));
+        assertEquals(ConcurrentCacheIdentityMap.class.getName(), type);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.persistence.config.CacheType;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.OffHeapRowStore;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.PropertiesHandler;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the {@link OffHeapRowStore}, and the rebuild of the objects evicted by the {@link OffHeapCacheIdentityMap}.
+ */
+public class OffHeapCacheIdentityMapTest extends EmulatedDriverBase {
+
+    private static final int NO_OF_ROWS = 100;
+    private static final int CACHE_SIZE = 10;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+        public Long quantity;
+    }
+
+    private DatabaseSession session;
+
+    @Test
+    public void testStorePutRemove() {
+        OffHeapRowStore store = new OffHeapRowStore(16 * 1024);
+        assertTrue(store.put("a", new byte[] {1, 2, 3}));
+        assertTrue(store.put("b", new byte[] {4}));
+        assertTrue(store.put("a", new byte[] {5, 6}));
+        assertEquals(2, store.size());
+        assertTrue(store.containsKey("a"));
+        assertArrayEquals(new byte[] {5, 6}, store.remove("a"));
+        assertNull(store.remove("a"));
+        assertFalse(store.containsKey("a"));
+        assertEquals(1, store.getHits());
+        assertEquals(1, store.getMisses());
+        store.clear();
+        assertEquals(0, store.size());
+        assertNull(store.remove("b"));
+    }
+
+    @Test
+    public void testStoreEvictsOldestSegment() {
+        // 16 segments of 1024 bytes, each entry fills a segment.
+        OffHeapRowStore store = new OffHeapRowStore(16 * 1024);
+        for (int index = 0; index < 20; index++) {
+            assertTrue(store.put(index, new byte[1000]));
+        }
+        assertEquals(16, store.size());
+        assertEquals(4, store.getEvictions());
+        for (int index = 0; index < 4; index++) {
+            assertFalse(store.containsKey(index));
+        }
+        for (int index = 4; index < 20; index++) {
+            assertTrue(store.containsKey(index));
+        }
+    }
+
+    @Test
+    public void testStoreRejectsOversizedEntry() {
+        OffHeapRowStore store = new OffHeapRowStore(16 * 1024);
+        assertFalse(store.put("a", new byte[2048]));
+        assertFalse(store.containsKey("a"));
+    }
+
+    @Test
+    public void testEvictedObjectsRebuilt() {
+        RelationalDescriptor descriptor = login();
+        List<Object> items = session.readAllObjects(Item.class);
+        assertEquals(NO_OF_ROWS, items.size());
+        OffHeapCacheIdentityMap map = (OffHeapCacheIdentityMap) ((AbstractSession) session).getIdentityMapAccessorInstance().getIdentityMap(descriptor);
+        OffHeapRowStore store = map.getStore();
+        assertNotNull(store);
+        assertTrue(map.getSize() <= CACHE_SIZE);
+        assertEquals(NO_OF_ROWS - map.getSize(), store.size());
+
+        // The rows of the evicted objects are not read again, the emulated connection only returns the read all rows.
+        for (Object object : items) {
+            Item original = (Item) object;
+            boolean evicted = store.containsKey(original.id);
+            Item item = (Item) session.getIdentityMapAccessor().getFromIdentityMap(original.id, Item.class);
+            assertNotNull(item);
+            assertEquals(evicted, item != original);
+            assertEquals(original.id, item.id);
+            assertEquals(original.name, item.name);
+            assertEquals(original.quantity, item.quantity);
+            assertSame(item, session.getIdentityMapAccessor().getFromIdentityMap(original.id, Item.class));
+        }
+        // Each rebuilt object evicted another object off-heap.
+        assertEquals(NO_OF_ROWS - map.getSize(), store.size());
+    }
+
+    @Test
+    public void testRemovedObjectsDropped() {
+        RelationalDescriptor descriptor = login();
+        session.readAllObjects(Item.class);
+        OffHeapCacheIdentityMap map = (OffHeapCacheIdentityMap) ((AbstractSession) session).getIdentityMapAccessorInstance().getIdentityMap(descriptor);
+        OffHeapRowStore store = map.getStore();
+        assertTrue(store.containsKey(BigDecimal.ZERO));
+        session.getIdentityMapAccessor().removeFromIdentityMap(BigDecimal.ZERO, Item.class);
+        assertFalse(store.containsKey(BigDecimal.ZERO));
+        assertNull(session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ZERO, Item.class));
+    }
+
+    @Test
+    public void testCacheTypeProperty() {
+        String type = PropertiesHandler.getPrefixedPropertyValue(PersistenceUnitProperties.CACHE_TYPE_, "Employee",
+                Collections.singletonMap(PersistenceUnitProperties.CACHE_TYPE_ + "Employee", CacheType.OffHeapCache));
+        assertEquals(OffHeapCacheIdentityMap.class.getName(), type);
+    }
+
+    private RelationalDescriptor login() {
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id", "name", "quantity");
+        descriptor.useOffHeapCacheIdentityMap();
+        descriptor.setIdentityMapSize(CACHE_SIZE);
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        session = login(project);
+
+        List<ArrayRecord> rows = new ArrayList<>(NO_OF_ROWS);
+        for (int index = 0; index < NO_OF_ROWS; index++) {
+            rows.add(buildRow(descriptor, BigDecimal.valueOf(index), "Item " + index, (long) index));
+        }
+        putRows(session, new ReadAllQuery(Item.class), rows);
+        return descriptor;
+    }
+}
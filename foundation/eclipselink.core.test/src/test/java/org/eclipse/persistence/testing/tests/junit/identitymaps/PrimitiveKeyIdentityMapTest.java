@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.identitymaps;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.config.CacheType;
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.PrimitiveKeyIdentityMap;
+import org.eclipse.persistence.internal.sessions.PropertiesHandler;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the primitive key storage of the {@link PrimitiveKeyIdentityMap}.
+ */
+public class PrimitiveKeyIdentityMapTest {
+
+    private static final int NO_OF_THREADS = 16;
+    private static final int NO_OF_ITERATIONS = 2000;
+
+    @Test
+    public void testPutGetRemove() {
+        PrimitiveKeyIdentityMap map = new PrimitiveKeyIdentityMap(10, null, null, false);
+        // Grow the map past its initial size, and mix positive and negative keys.
+        for (long i = -1000; i < 1000; i++) {
+            map.put(i, "object " + i, null, 0);
+        }
+        assertEquals(2000, map.getSize());
+        for (long i = -1000; i < 1000; i++) {
+            assertEquals("object " + i, map.get(i));
+            assertEquals("object " + i, map.getCacheKey(i).getObject());
+        }
+        assertNull(map.get(1000L));
+        assertNull(map.getCacheKey(1000L));
+        for (long i = 0; i < 1000; i++) {
+            assertEquals("object " + i, map.remove(i, null));
+        }
+        assertEquals(1000, map.getSize());
+        assertNull(map.get(1L));
+        // Put a removed key again.
+        map.put(1L, "again", null, 0);
+        assertEquals("again", map.get(1L));
+        assertEquals(1001, map.getSize());
+    }
+
+    @Test
+    public void testIntegerAndObjectKeys() {
+        PrimitiveKeyIdentityMap map = new PrimitiveKeyIdentityMap(10, null, null, false);
+        map.put(1, "int", null, 0);
+        map.put("1", "string", null, 0);
+        CacheId compositeKey = new CacheId(new Object[] {1L, 2L});
+        map.put(compositeKey, "composite", null, 0);
+        assertEquals(3, map.getSize());
+        assertEquals("int", map.get(1));
+        assertEquals("string", map.get("1"));
+        assertEquals("composite", map.get(new CacheId(new Object[] {1L, 2L})));
+        // The original key is kept in the cache key.
+        assertEquals(Integer.valueOf(1), map.getCacheKey(1L).getKey());
+        Set<Object> objects = new HashSet<>();
+        for (Enumeration elements = map.elements(); elements.hasMoreElements();) {
+            objects.add(elements.nextElement());
+        }
+        assertEquals(Set.of("int", "string", "composite"), objects);
+    }
+
+    @Test
+    public void testPutExistingKey() {
+        PrimitiveKeyIdentityMap map = new PrimitiveKeyIdentityMap(10, null, null, false);
+        CacheKey cacheKey = map.put(5L, "first", null, 0);
+        assertSame(cacheKey, map.put(5L, "second", null, 0));
+        assertEquals("second", map.get(5L));
+        assertEquals(1, map.getSize());
+    }
+
+    @Test
+    public void testClone() {
+        PrimitiveKeyIdentityMap map = new PrimitiveKeyIdentityMap(10, null, null, false);
+        map.put(1L, "1", null, 0);
+        map.put(2L, "2", null, 0);
+        PrimitiveKeyIdentityMap clone = (PrimitiveKeyIdentityMap) map.clone();
+        clone.put(3L, "3", null, 0);
+        clone.remove(1L, null);
+        assertEquals(2, map.getSize());
+        assertEquals(2, clone.getSize());
+        assertTrue(map.containsKey(1L));
+        assertFalse(clone.containsKey(1L));
+        assertNotNull(clone.getCacheKey(2L));
+        assertFalse(map.containsKey(3L));
+    }
+
+    @Test
+    public void testConcurrentReadsAndWrites() throws Exception {
+        final int noOfKeys = 500;
+        final PrimitiveKeyIdentityMap map = new PrimitiveKeyIdentityMap(10, null, null, false);
+        ExecutorService executorService = Executors.newFixedThreadPool(NO_OF_THREADS);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < NO_OF_THREADS; thread++) {
+                results.add(executorService.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < NO_OF_ITERATIONS; i++) {
+                        long key = random.nextInt(noOfKeys);
+                        int operation = random.nextInt(10);
+                        if (operation == 0) {
+                            map.remove(key, null);
+                        } else if (operation < 4) {
+                            map.put(key, Long.toString(key), null, 0);
+                        } else {
+                            Object object = map.get(key);
+                            assertTrue(object == null || object.equals(Long.toString(key)));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        int count = 0;
+        for (Enumeration<CacheKey> keys = map.keys(); keys.hasMoreElements();) {
+            CacheKey cacheKey = keys.nextElement();
+            assertSame(cacheKey, map.getCacheKey((Long) cacheKey.getKey()));
+            count++;
+        }
+        assertEquals(map.getSize(), count);
+    }
+
+    @Test
+    public void testCacheTypeProperty() {
+        String type = PropertiesHandler.getPrefixedPropertyValue(PersistenceUnitProperties.CACHE_TYPE_, "Employee",
+                Collections.singletonMap(PersistenceUnitProperties.CACHE_TYPE_ + "Employee", CacheType.FullPrimitiveKey));
+        assertEquals(PrimitiveKeyIdentityMap.class.getName(), type);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.profiler;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.platform.server.JMXServerPlatformBase;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.eclipse.persistence.tools.profiler.HistogramProfiler;
+import org.eclipse.persistence.tools.profiler.LatencyHistogram;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the latency percentiles recorded by the {@link HistogramProfiler}.
+ */
+public class HistogramProfilerTest extends EmulatedDriverBase {
+
+    private static final int ITEMS = 10;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(100000, histogram.getCount());
+        assertEquals(100000, histogram.getMax());
+        assertEquals(50000.5, histogram.getMean(), 0.001);
+        assertWithin(50000, histogram.getValueAtPercentile(50));
+        assertWithin(99000, histogram.getValueAtPercentile(99));
+        assertWithin(99900, histogram.getValueAtPercentile(99.9));
+        assertEquals(100000, histogram.getValueAtPercentile(100));
+        // Small values are exact.
+        histogram.reset();
+        histogram.record(7);
+        assertEquals(7, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void testTailLatency() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int index = 0; index < 9990; index++) {
+            histogram.record(1000);
+        }
+        for (int index = 0; index < 10; index++) {
+            histogram.record(1000000000L);
+        }
+        assertWithin(1000, histogram.getValueAtPercentile(99.9));
+        assertWithin(1000000000L, histogram.getValueAtPercentile(99.95));
+    }
+
+    @Test
+    public void testNestedOperationRecordedOnce() {
+        HistogramProfiler profiler = new HistogramProfiler();
+        profiler.startOperationProfile(SessionProfiler.ObjectBuilding);
+        profiler.startOperationProfile(SessionProfiler.ObjectBuilding);
+        profiler.endOperationProfile(SessionProfiler.ObjectBuilding);
+        assertEquals(0, profiler.getCount(SessionProfiler.ObjectBuilding));
+        profiler.endOperationProfile(SessionProfiler.ObjectBuilding);
+        assertEquals(1, profiler.getCount(SessionProfiler.ObjectBuilding));
+        // An end without start is ignored.
+        profiler.endOperationProfile(SessionProfiler.ObjectBuilding);
+        assertEquals(1, profiler.getCount(SessionProfiler.ObjectBuilding));
+    }
+
+    @Test
+    public void testQueriesAndOperationsRecorded() {
+        HistogramProfiler profiler = new HistogramProfiler();
+        List<String> exported = new ArrayList<>();
+        profiler.setExportTime(-1);
+        profiler.addExporter((exportedSession, histograms) -> exported.addAll(histograms.keySet()));
+        insert(login(profiler));
+        // The execution and the close of the statements are both profiled.
+        assertEquals(2 * ITEMS, profiler.getCount(SessionProfiler.StatementExecute));
+        assertEquals(ITEMS, profiler.getCount(SessionProfiler.SqlPrepare));
+        String queryOperation = null;
+        for (String operation : profiler.getOperations()) {
+            if (!operation.equals(SessionProfiler.StatementExecute) && operation.endsWith(":StatementExecute")) {
+                queryOperation = operation;
+            }
+        }
+        assertNotNull(queryOperation);
+        assertEquals(2 * ITEMS, profiler.getCount(queryOperation));
+        assertTrue(profiler.getValueAtPercentile(SessionProfiler.StatementExecute, 99.9) > 0);
+        assertTrue(exported.contains(SessionProfiler.StatementExecute));
+        assertTrue(profiler.getSummary().contains(SessionProfiler.StatementExecute));
+    }
+
+    @Test
+    public void testMBeanRegistered() throws Exception {
+        HistogramProfiler profiler = new HistogramProfiler();
+        profiler.setShouldRegisterMBean(true);
+        DatabaseSession session = login(profiler);
+        insert(session);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(JMXServerPlatformBase.JMX_REGISTRATION_PREFIX + "HistogramProfiler(" + session.getName() + ")");
+        try {
+            assertTrue(server.isRegistered(name));
+            Object count = server.invoke(name, "getCount", new Object[] {SessionProfiler.StatementExecute}, new String[] {String.class.getName()});
+            assertEquals(2L * ITEMS, count);
+        } finally {
+            session.logout();
+        }
+        // The MBean is unregistered by the logout.
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testQueryOperationWithoutTimerPrefix() {
+        HistogramProfiler profiler = new HistogramProfiler();
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        profiler.startOperationProfile("Operation", query, SessionProfiler.ALL);
+        profiler.endOperationProfile("Operation", query, SessionProfiler.ALL);
+        assertEquals(1, profiler.getCount("Operation"));
+        assertEquals(1, profiler.getCount("Timer:" + query.getMonitorName() + ":Operation"));
+    }
+
+    @Test
+    public void testConnectionPoolWait() throws Exception {
+        HistogramProfiler profiler = new HistogramProfiler();
+        Project project = buildProject();
+        ServerSession serverSession = (ServerSession) project.createServerSession();
+        ConnectionPool pool = new ConcurrentConnectionPool(ServerSession.DEFAULT_POOL, project.getDatasourceLogin(), 1, 1, 1, serverSession);
+        serverSession.addConnectionPool(pool);
+        serverSession.dontLogMessages();
+        serverSession.setProfiler(profiler);
+        login(serverSession);
+        Accessor connection = pool.acquireConnection();
+        // A connection available is not waited for.
+        assertEquals(0, profiler.getCount(SessionProfiler.ConnectionPoolWait));
+        Thread waiting = new Thread(() -> pool.releaseConnection(pool.acquireConnection()));
+        waiting.start();
+        // The pool waits for a permit until its wait timeout.
+        for (int index = 0; index < 1000 && waiting.getState() != Thread.State.TIMED_WAITING; index++) {
+            Thread.sleep(10);
+        }
+        assertEquals(Thread.State.TIMED_WAITING, waiting.getState());
+        pool.releaseConnection(connection);
+        waiting.join(10000);
+        assertEquals(1, profiler.getCount(SessionProfiler.ConnectionPoolWait));
+    }
+
+    private void assertWithin(long expected, long value) {
+        assertTrue("Expected " + expected + " but was " + value, Math.abs(value - expected) <= expected / 32);
+    }
+
+    private void insert(DatabaseSession session) {
+        UnitOfWork uow = session.acquireUnitOfWork();
+        for (int id = 0; id < ITEMS; id++) {
+            Item item = new Item();
+            item.id = BigDecimal.valueOf(id);
+            item.name = "Item " + id;
+            uow.registerNewObject(item);
+        }
+        uow.commit();
+    }
+
+    private DatabaseSession login(HistogramProfiler profiler) {
+        DatabaseSession session = buildProject().createDatabaseSession();
+        session.dontLogMessages();
+        session.setProfiler(profiler);
+        return login(session);
+    }
+
+    private Project buildProject() {
+        Project project = new Project(buildLogin());
+        project.addDescriptor(buildDescriptor(Item.class, "ITEM", "id", "name"));
+        return project;
+    }
+}
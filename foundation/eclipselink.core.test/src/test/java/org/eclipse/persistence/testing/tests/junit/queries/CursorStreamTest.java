@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.eclipse.persistence.queries.ScrollableCursorPolicy;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that a {@link ScrollableCursor} stream returns the results in order and closes the cursor.
+ */
+public class CursorStreamTest extends EmulatedDriverBase {
+
+    private static final int NO_OF_ROWS = 100;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void prepare() {
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id", "name");
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        session = login(project);
+
+        List<ArrayRecord> rows = new ArrayList<>(NO_OF_ROWS);
+        for (int index = 0; index < NO_OF_ROWS; index++) {
+            rows.add(buildRow(descriptor, BigDecimal.valueOf(index), "Item " + index));
+        }
+        putRows(session, new ReadAllQuery(Item.class), rows);
+    }
+
+    private ScrollableCursor executeCursor() {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        query.useScrollableCursor();
+        ((ScrollableCursorPolicy) query.getContainerPolicy()).setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+        return (ScrollableCursor) session.executeQuery(query);
+    }
+
+    @Test
+    public void testStreamClosedWhenExhausted() {
+        ScrollableCursor cursor = executeCursor();
+        List<Object> items = cursor.stream().collect(Collectors.toList());
+        assertTrue(cursor.isClosed());
+        assertEquals(NO_OF_ROWS, items.size());
+        for (int index = 0; index < NO_OF_ROWS; index++) {
+            assertEquals(BigDecimal.valueOf(index), ((Item) items.get(index)).id);
+        }
+    }
+
+    @Test
+    public void testStreamClosedWhenClosed() {
+        ScrollableCursor cursor = executeCursor();
+        try (Stream<Object> stream = cursor.stream()) {
+            assertEquals(10, stream.limit(10).count());
+            assertFalse(cursor.isClosed());
+        }
+        assertTrue(cursor.isClosed());
+    }
+}
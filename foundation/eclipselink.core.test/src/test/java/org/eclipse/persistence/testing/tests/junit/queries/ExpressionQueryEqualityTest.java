@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.ConcurrentFrequencyCache;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the structural equality of expression queries, that the criteria query cache relies on:
+ * queries built the same way are equal, also once a clone of one is prepared, whatever their parameter values,
+ * and differ by their literal values.
+ */
+public class ExpressionQueryEqualityTest extends EmulatedDriverBase {
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    private DatabaseSession session;
+
+    @Before
+    public void prepare() {
+        Project project = new Project(buildLogin());
+        project.addDescriptor(buildDescriptor(Item.class, "ITEM", "id", "name"));
+        session = login(project);
+    }
+
+    @Test
+    public void testParameterQueriesEqual() {
+        ReadAllQuery query = buildParameterQuery();
+        ReadAllQuery otherQuery = buildParameterQuery();
+        assertEquals(query.hashCode(), otherQuery.hashCode());
+        assertEquals(query, otherQuery);
+        // Preparing a clone of the query keeps the query equal.
+        ReadAllQuery preparedQuery = (ReadAllQuery)query.clone();
+        preparedQuery.checkPrepare((AbstractSession)session, new DatabaseRecord());
+        assertTrue(preparedQuery.isPrepared());
+        assertFalse(query.isPrepared());
+        assertEquals(query, otherQuery);
+        assertEquals(otherQuery, query);
+        assertEquals(query.hashCode(), buildParameterQuery().hashCode());
+    }
+
+    @Test
+    public void testLiteralQueriesDiffer() {
+        assertEquals(buildLiteralQuery("a"), buildLiteralQuery("a"));
+        assertNotEquals(buildLiteralQuery("a"), buildLiteralQuery("b"));
+        ReadAllQuery orderedQuery = buildLiteralQuery("a");
+        orderedQuery.addAscendingOrdering("name");
+        assertNotEquals(buildLiteralQuery("a"), orderedQuery);
+    }
+
+    @Test
+    public void testCriteriaQueryCache() {
+        Project project = session.getProject();
+        assertTrue(project.getCriteriaQueryCache() instanceof ConcurrentFrequencyCache);
+        project.setCriteriaQueryCacheMaxSize(0);
+        assertEquals(0, project.getCriteriaQueryCacheMaxSize());
+    }
+
+    private ReadAllQuery buildParameterQuery() {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("name").equal(builder.getParameter("name")));
+        query.addArgument("name", String.class);
+        return query;
+    }
+
+    private ReadAllQuery buildLiteralQuery(String name) {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        query.setSelectionCriteria(builder.get("name").equal(name));
+        return query;
+    }
+}
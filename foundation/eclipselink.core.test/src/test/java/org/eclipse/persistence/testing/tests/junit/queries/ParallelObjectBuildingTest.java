@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.queries;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.descriptors.InheritancePolicy;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ArrayRecord;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that building the objects of a {@link ReadAllQuery} in parallel preserves the row order and identity.
+ */
+public class ParallelObjectBuildingTest extends EmulatedDriverBase {
+
+    private static final int NO_OF_ROWS = 5000;
+    private static final int NO_OF_OBJECTS = 1000;
+    private static final int NO_OF_TASKS = 4;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    /**
+     * Build the objects in parallel with a fixed number of tasks, whatever the number of processors,
+     * and record the threads building them.
+     */
+    public static final class ParallelDescriptor extends RelationalDescriptor {
+        final Set<Thread> buildingThreads = ConcurrentHashMap.newKeySet();
+
+        public ParallelDescriptor() {
+            setObjectBuilder(new ObjectBuilder(this) {
+                @Override
+                protected int getNumberOfParallelBuildTasks(int size) {
+                    return NO_OF_TASKS;
+                }
+
+                @Override
+                protected void buildObjectsInRange(ReadAllQuery query, List databaseRows, int start, int end, Object[] domainObjects, AbstractSession session,
+                        InheritancePolicy inheritancePolicy, boolean shouldCacheQueryResults, boolean shouldUseWrapperPolicy) {
+                    buildingThreads.add(Thread.currentThread());
+                    super.buildObjectsInRange(query, databaseRows, start, end, domainObjects, session,
+                            inheritancePolicy, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                }
+            });
+        }
+    }
+
+    private DatabaseSession session;
+    private ParallelDescriptor descriptor;
+
+    @Before
+    public void prepare() {
+        descriptor = new ParallelDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.addTableName("ITEM");
+        descriptor.addPrimaryKeyFieldName("ITEM.ID");
+        descriptor.addDirectMapping("id", "ITEM.ID");
+        descriptor.addDirectMapping("name", "ITEM.NAME");
+        descriptor.useFullIdentityMap();
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        session = login(project);
+
+        // Rows repeat each object, so objects are built concurrently by different tasks.
+        List<ArrayRecord> rows = new ArrayList<>(NO_OF_ROWS);
+        for (int index = 0; index < NO_OF_ROWS; index++) {
+            int id = index % NO_OF_OBJECTS;
+            rows.add(buildRow(descriptor, BigDecimal.valueOf(id), "Item " + id));
+        }
+        putRows(session, new ReadAllQuery(Item.class), rows);
+    }
+
+    @Test
+    public void testParallelBuild() {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        query.setShouldBuildObjectsInParallel(true);
+        List<Item> items = (List<Item>) session.executeQuery(query);
+        assertEquals(NO_OF_ROWS, items.size());
+        for (int index = 0; index < NO_OF_ROWS; index++) {
+            Item item = items.get(index);
+            assertEquals(BigDecimal.valueOf(index % NO_OF_OBJECTS), item.id);
+            assertEquals("Item " + (index % NO_OF_OBJECTS), item.name);
+            // One instance per primary key.
+            assertSame(items.get(index % NO_OF_OBJECTS), item);
+        }
+        // The calling thread builds the first range of rows, a thread is launched for each other range.
+        assertEquals(NO_OF_TASKS, descriptor.buildingThreads.size());
+        assertTrue(descriptor.buildingThreads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testSequentialAndParallelBuildShareCache() {
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        List<Item> sequential = (List<Item>) session.executeQuery(query);
+        query = new ReadAllQuery(Item.class);
+        query.setShouldBuildObjectsInParallel(true);
+        List<Item> parallel = (List<Item>) session.executeQuery(query);
+        assertEquals(sequential.size(), parallel.size());
+        for (int index = 0; index < sequential.size(); index++) {
+            assertSame(sequential.get(index), parallel.get(index));
+        }
+    }
+
+    @Test
+    public void testCachedQueryResults() {
+        // The query results cache is not thread safe, so the objects are built sequentially.
+        ReadAllQuery query = new ReadAllQuery(Item.class);
+        query.setShouldBuildObjectsInParallel(true);
+        query.cacheQueryResults();
+        List<Item> items = (List<Item>) session.executeQuery(query);
+        List<Item> cachedItems = (List<Item>) ((DatabaseSessionImpl) session).getIdentityMapAccessorInstance().getQueryResult(query, new ArrayList<>(), true);
+        assertEquals(items, cachedItems);
+        assertTrue(descriptor.buildingThreads.isEmpty());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sequencing;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the allocation of sequence values in the background, once the values remaining drop below the low-water mark.
+ */
+public class PreallocationLowWaterMarkTest extends EmulatedDriverBase {
+
+    private static final int SIZE = 50;
+    private static final int LOW_WATER_MARK = 20;
+
+    public static final class Item {
+        public BigDecimal id;
+    }
+
+    /**
+     * A non-transactional sequence, as a sequence object, that records the threads allocating the values.
+     */
+    private static final class CountingSequence extends Sequence {
+        private long next = 1;
+        private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        CountingSequence() {
+            super("ITEM_SEQ", SIZE);
+        }
+
+        @Override
+        public boolean shouldAcquireValueAfterInsert() {
+            return false;
+        }
+
+        @Override
+        public boolean shouldUseTransaction() {
+            return false;
+        }
+
+        @Override
+        public Object getGeneratedValue(Accessor accessor, AbstractSession writeSession, String seqName) {
+            return null;
+        }
+
+        @Override
+        public synchronized Vector<?> getGeneratedVector(Accessor accessor, AbstractSession writeSession, String seqName, int size) {
+            threads.add(Thread.currentThread());
+            Vector<Long> sequences = new Vector<>(size);
+            for (int index = 0; index < size; index++) {
+                sequences.add(next++);
+            }
+            return sequences;
+        }
+
+        @Override
+        public void onConnect() {
+        }
+
+        @Override
+        public void onDisconnect() {
+        }
+    }
+
+    private DatabaseSession session;
+    private CountingSequence sequence;
+
+    @Test
+    public void testAllocatedInBackground() throws Exception {
+        login(LOW_WATER_MARK, 0);
+        for (long value = 1; value <= SIZE - LOW_WATER_MARK + 1; value++) {
+            assertEquals(value, nextValue().longValue());
+        }
+        // The values remaining are below the low-water mark.
+        waitForAllocations(2);
+        assertEquals(Thread.currentThread(), sequence.threads.get(0));
+        assertNotEquals(Thread.currentThread(), sequence.threads.get(1));
+        for (long value = SIZE - LOW_WATER_MARK + 2; value <= SIZE + 1; value++) {
+            assertEquals(value, nextValue().longValue());
+        }
+    }
+
+    @Test
+    public void testPlatformLowWaterMark() throws Exception {
+        login(0, LOW_WATER_MARK);
+        for (int index = 0; index <= SIZE - LOW_WATER_MARK; index++) {
+            nextValue();
+        }
+        waitForAllocations(2);
+        assertNotEquals(Thread.currentThread(), sequence.threads.get(1));
+    }
+
+    @Test
+    public void testNoLowWaterMark() {
+        login(0, 0);
+        for (long value = 1; value <= (SIZE * 3); value++) {
+            assertEquals(value, nextValue().longValue());
+        }
+        assertEquals(3, sequence.threads.size());
+        for (Thread thread : sequence.threads) {
+            assertEquals(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void testConcurrentValuesUnique() throws Exception {
+        login(LOW_WATER_MARK, 0);
+        int threads = 8;
+        int valuesPerThread = 1000;
+        Set<Object> values = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int index = 0; index < valuesPerThread; index++) {
+                        assertTrue(values.add(nextValue()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(threads * valuesPerThread, values.size());
+    }
+
+    private Long nextValue() {
+        return (Long) ((AbstractSession) session).getSequencing().getNextValue(Item.class);
+    }
+
+    private void waitForAllocations(int allocations) throws InterruptedException {
+        for (int wait = 0; (wait < 500) && (sequence.threads.size() < allocations); wait++) {
+            Thread.sleep(10);
+        }
+        assertEquals(allocations, sequence.threads.size());
+    }
+
+    private void login(int lowWaterMark, int platformLowWaterMark) {
+        DatabaseLogin login = buildLogin();
+        login.getPlatform().setDefaultPreallocationLowWaterMark(platformLowWaterMark);
+        sequence = new CountingSequence();
+        sequence.setPreallocationLowWaterMark(lowWaterMark);
+        login.addSequence(sequence);
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id");
+        descriptor.setSequenceNumberName(sequence.getName());
+        descriptor.setSequenceNumberFieldName("ITEM.ID");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        // Only a server session allocates sequence objects in the background.
+        session = project.createServerSession();
+        session.dontLogMessages();
+        login(session);
+    }
+}
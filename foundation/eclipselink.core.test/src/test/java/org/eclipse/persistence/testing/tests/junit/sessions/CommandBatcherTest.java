@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the batching of the change sets propagated by the {@link RemoteCommandManager}.
+ */
+public class CommandBatcherTest extends EmulatedDriverBase {
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+        public Integer quantity;
+        public Long version;
+    }
+
+    private DatabaseSession sender;
+    private DatabaseSession receiver;
+    private RemoteCommandManager rcm;
+    private final List<Object> commands = new CopyOnWriteArrayList<>();
+
+    @Before
+    public void setUp() {
+        sender = login();
+        rcm = new RemoteCommandManager((AbstractSession) sender) {
+            @Override
+            protected void sendCommand(Object command) {
+                commands.add(command);
+            }
+
+            @Override
+            public void shutdown() {
+                flushBatch();
+            }
+        };
+        rcm.setBatchDelay(60000);
+        sender.setShouldPropagateChanges(true);
+        receiver = login();
+        for (DatabaseSession session : List.of(sender, receiver)) {
+            for (int id = 1; id <= 3; id++) {
+                session.getIdentityMapAccessor().putInIdentityMap(newItem(id));
+            }
+        }
+    }
+
+    @Test
+    public void testCollapse() {
+        update(1, "Item 1 changed", null);
+        update(1, null, 10);
+        update(1, "Item 1 changed again", null);
+        update(2, "Item 2 changed", null);
+        assertTrue(commands.isEmpty());
+        rcm.flushBatch();
+        assertEquals(1, commands.size());
+
+        UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand) commands.get(0)).getChangeSet(null);
+        assertEquals(2, changeSet.getAllChangeSets().size());
+        ObjectChangeSet item1 = find(changeSet, 1);
+        assertEquals(1L, item1.getInitialWriteLockValue());
+        assertEquals(4L, item1.getWriteLockValue());
+        assertEquals("Item 1 changed again", ((DirectToFieldChangeRecord) item1.getChangesForAttributeNamed("name")).getNewValue());
+        assertEquals(10, ((DirectToFieldChangeRecord) item1.getChangesForAttributeNamed("quantity")).getNewValue());
+        for (Object change : item1.getChanges()) {
+            assertSame(item1, ((DirectToFieldChangeRecord) change).getOwner());
+        }
+
+        merge(commands.get(0));
+        Item item = (Item) receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class);
+        assertEquals("Item 1 changed again", item.name);
+        assertEquals(Integer.valueOf(10), item.quantity);
+        assertEquals(Long.valueOf(4), item.version);
+        item = (Item) receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(2), Item.class);
+        assertEquals("Item 2 changed", item.name);
+    }
+
+    @Test
+    public void testDeleteCollapsesChanges() {
+        update(1, "Item 1 changed", null);
+        UnitOfWork uow = sender.acquireUnitOfWork();
+        uow.deleteObject(uow.readObject(sender.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class)));
+        uow.commit();
+        rcm.flushBatch();
+        assertEquals(1, commands.size());
+
+        UnitOfWorkChangeSet changeSet = ((MergeChangeSetCommand) commands.get(0)).getChangeSet(null);
+        assertTrue(changeSet.getAllChangeSets().isEmpty());
+        assertEquals(1, changeSet.getDeletedObjects().size());
+        merge(commands.get(0));
+        assertNull(receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class));
+    }
+
+    @Test
+    public void testMaxBatchSize() {
+        rcm.setMaxBatchSize(2);
+        update(1, "Item 1 changed", null);
+        update(1, "Item 1 changed again", null);
+        assertTrue(commands.isEmpty());
+        update(2, "Item 2 changed", null);
+        assertEquals(1, commands.size());
+        update(3, "Item 3 changed", null);
+        assertEquals(1, commands.size());
+        rcm.flushBatch();
+        assertEquals(2, commands.size());
+    }
+
+    @Test
+    public void testStaleVersionFlushesBatch() {
+        update(1, "Item 1 changed", null);
+        // An update made by another node, that this node's next change is based on.
+        Item item = (Item) sender.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class);
+        item.version = 5L;
+        update(1, "Item 1 changed again", null);
+        assertEquals(1, commands.size());
+        rcm.flushBatch();
+        assertEquals(2, commands.size());
+        assertEquals("Item 1 changed", ((DirectToFieldChangeRecord) find(((MergeChangeSetCommand) commands.get(0)).getChangeSet(null), 1)
+                .getChangesForAttributeNamed("name")).getNewValue());
+        assertEquals(5L, find(((MergeChangeSetCommand) commands.get(1)).getChangeSet(null), 1).getInitialWriteLockValue());
+    }
+
+    @Test
+    public void testOtherCommandFlushesBatch() {
+        update(1, "Item 1 changed", null);
+        Command command = new MergeChangeSetCommand() {};
+        rcm.propagateCommand(command);
+        assertEquals(2, commands.size());
+        assertTrue(commands.get(0) instanceof MergeChangeSetCommand);
+        assertSame(command, commands.get(1));
+    }
+
+    @Test
+    public void testBatchDelay() throws InterruptedException {
+        rcm.setBatchDelay(50);
+        update(1, "Item 1 changed", null);
+        update(2, "Item 2 changed", null);
+        for (int wait = 0; (wait < 200) && commands.isEmpty(); wait++) {
+            Thread.sleep(50);
+        }
+        assertEquals(1, commands.size());
+        assertEquals(2, ((MergeChangeSetCommand) commands.get(0)).getChangeSet(null).getAllChangeSets().size());
+    }
+
+    @Test
+    public void testShutdownFlushesBatch() {
+        update(1, "Item 1 changed", null);
+        sender.logout();
+        assertEquals(1, commands.size());
+    }
+
+    /**
+     * Change the name and quantity of the item, if not null, in a new transaction.
+     */
+    private void update(int id, String name, Integer quantity) {
+        UnitOfWork uow = sender.acquireUnitOfWork();
+        Item item = (Item) uow.readObject(sender.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(id), Item.class));
+        if (name != null) {
+            item.name = name;
+        }
+        if (quantity != null) {
+            item.quantity = quantity;
+        }
+        uow.commit();
+    }
+
+    /**
+     * Merge the command into the receiver, as sent between the nodes.
+     */
+    private void merge(Object command) {
+        Object bytes = JavaSerializer.instance.serialize(command, sender);
+        ((MergeChangeSetCommand) JavaSerializer.instance.deserialize(bytes, receiver)).executeWithSession((AbstractSession) receiver);
+    }
+
+    private ObjectChangeSet find(UnitOfWorkChangeSet changeSet, int id) {
+        ObjectChangeSet found = changeSet.getAllChangeSets().keySet().stream()
+                .filter(objectChangeSet -> objectChangeSet.getId().equals(BigDecimal.valueOf(id))).findFirst().orElse(null);
+        assertNotNull(found);
+        return found;
+    }
+
+    private Item newItem(int id) {
+        Item item = new Item();
+        item.id = BigDecimal.valueOf(id);
+        item.name = "Item " + id;
+        item.quantity = id;
+        item.version = 1L;
+        return item;
+    }
+
+    private DatabaseSession login() {
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id", "name", "quantity", "version");
+        VersionLockingPolicy lockingPolicy = new VersionLockingPolicy("ITEM.VERSION");
+        lockingPolicy.storeInObject();
+        descriptor.setOptimisticLockingPolicy(lockingPolicy);
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        return login(project);
+    }
+}
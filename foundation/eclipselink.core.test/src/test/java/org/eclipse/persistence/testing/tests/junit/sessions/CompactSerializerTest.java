@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectCollectionChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.CompactSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test the {@link CompactSerializer} writes the change sets sent by cache coordination,
+ * as Java serialization does.
+ */
+public class CompactSerializerTest extends EmulatedDriverBase {
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+        public Integer quantity;
+        public Double price;
+        public Timestamp updated;
+        public LocalDate due;
+        public byte[] data;
+        public Boolean active;
+        public Serializable extra;
+        public Owner owner;
+        public Long version;
+    }
+
+    public static final class Owner {
+        public BigDecimal id;
+        public String name;
+    }
+
+    private DatabaseSession sender;
+    private DatabaseSession receiver;
+    private final List<MergeChangeSetCommand> commands = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        sender = login(true);
+        new RemoteCommandManager((AbstractSession) sender) {
+            @Override
+            public void propagateCommand(Object command) {
+                ((MergeChangeSetCommand) command).setServiceId(getServiceId());
+                commands.add((MergeChangeSetCommand) command);
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+        sender.setShouldPropagateChanges(true);
+        receiver = login(true);
+        for (DatabaseSession session : List.of(sender, receiver)) {
+            session.getIdentityMapAccessor().putInIdentityMap(newItem(1));
+            session.getIdentityMapAccessor().putInIdentityMap(newItem(2));
+        }
+    }
+
+    @Test
+    public void testSameAsJavaSerialization() {
+        MergeChangeSetCommand command = update();
+        CompactSerializer serializer = new CompactSerializer();
+        byte[] bytes = (byte[]) serializer.serialize(command, sender);
+        MergeChangeSetCommand compact = (MergeChangeSetCommand) new CompactSerializer().deserialize(bytes, receiver);
+        byte[] javaBytes = (byte[]) JavaSerializer.instance.serialize(command, sender);
+        MergeChangeSetCommand java = (MergeChangeSetCommand) JavaSerializer.instance.deserialize(javaBytes, receiver);
+
+        assertEquals(java.getServiceId().getId(), compact.getServiceId().getId());
+        assertEquals(java.getServiceId().getChannel(), compact.getServiceId().getChannel());
+        assertSameChangeSets(java.getChangeSet(null).getAllChangeSets(), compact.getChangeSet(null).getAllChangeSets());
+        assertTrue("Compact " + bytes.length + " bytes, Java " + javaBytes.length + " bytes", bytes.length * 4 < javaBytes.length);
+    }
+
+    @Test
+    public void testMerge() {
+        MergeChangeSetCommand command = update();
+        CompactSerializer serializer = new CompactSerializer();
+        Object bytes = serializer.serialize(command, sender);
+        ((MergeChangeSetCommand) new CompactSerializer().deserialize(bytes, receiver)).executeWithSession((AbstractSession) receiver);
+
+        Item item = (Item) receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class);
+        assertEquals("Item 1 changed", item.name);
+        assertEquals(Integer.valueOf(-5), item.quantity);
+        assertEquals(Timestamp.valueOf("2026-10-18 10:15:30.123456789"), item.updated);
+        assertEquals(LocalDate.of(2026, 11, 1), item.due);
+        assertArrayEquals(new byte[] {1, 2, 3}, item.data);
+        assertEquals(Boolean.FALSE, item.active);
+        assertEquals(Locale.CANADA_FRENCH, item.extra);
+        assertEquals(Long.valueOf(2), item.version);
+        assertNotNull(item.owner);
+        assertEquals("Owner 10", item.owner.name);
+        assertSame(item.owner, receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.TEN, Owner.class));
+    }
+
+    @Test
+    public void testDelete() {
+        UnitOfWork uow = sender.acquireUnitOfWork();
+        uow.deleteObject(uow.readObject(sender.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(2), Item.class)));
+        uow.commit();
+        MergeChangeSetCommand command = commands.get(0);
+        Object bytes = new CompactSerializer().serialize(command, sender);
+        MergeChangeSetCommand compact = (MergeChangeSetCommand) new CompactSerializer().deserialize(bytes, receiver);
+        ObjectChangeSet deleted = compact.getChangeSet(null).getDeletedObjects().keySet().iterator().next();
+        assertEquals(BigDecimal.valueOf(2), deleted.getId());
+        assertTrue(deleted.shouldBeDeleted());
+
+        compact.executeWithSession((AbstractSession) receiver);
+        assertNull(receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(2), Item.class));
+        assertNotNull(receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class));
+    }
+
+    @Test
+    public void testDeflated() {
+        MergeChangeSetCommand command = update();
+        CompactSerializer serializer = new CompactSerializer(0);
+        byte[] bytes = (byte[]) serializer.serialize(command, sender);
+        assertTrue((bytes[0] & 0x80) != 0);
+        MergeChangeSetCommand compact = (MergeChangeSetCommand) new CompactSerializer().deserialize(bytes, receiver);
+        MergeChangeSetCommand java = (MergeChangeSetCommand) JavaSerializer.instance.deserialize(JavaSerializer.instance.serialize(command, sender), receiver);
+        assertSameChangeSets(java.getChangeSet(null).getAllChangeSets(), compact.getChangeSet(null).getAllChangeSets());
+    }
+
+    @Test
+    public void testJavaSerializedChanges() {
+        MergeChangeSetCommand command = update();
+        ObjectChangeSet changeSet = command.getChangeSet(null).getAllChangeSets().keySet().iterator().next();
+        DirectCollectionChangeRecord record = new DirectCollectionChangeRecord(changeSet);
+        record.setAttribute("name");
+        changeSet.getChanges().add(record);
+        CompactSerializer serializer = new CompactSerializer(-1);
+        byte[] bytes = (byte[]) serializer.serialize(command, sender);
+        assertEquals(1, bytes[0]);
+        MergeChangeSetCommand deserialized = (MergeChangeSetCommand) serializer.deserialize(bytes, receiver);
+        ObjectChangeSet deserializedChangeSet = deserialized.getChangeSet(null).getAllChangeSets().keySet().stream()
+                .filter(objectChangeSet -> objectChangeSet.getId().equals(changeSet.getId())).findFirst().get();
+        assertTrue(deserializedChangeSet.getChanges().stream().anyMatch(change -> change instanceof DirectCollectionChangeRecord));
+        assertEquals("value", serializer.deserialize(serializer.serialize("value", null), null));
+    }
+
+    @Test
+    public void testDifferentDescriptors() {
+        MergeChangeSetCommand command = update();
+        Object bytes = new CompactSerializer().serialize(command, sender);
+        DatabaseSession other = login(false);
+        try {
+            new CompactSerializer().deserialize(bytes, other);
+            fail("Deserialized with different descriptors");
+        } catch (RuntimeException expected) {
+            // expected
+        }
+    }
+
+    /**
+     * Change all the attributes of item 1, and set its owner to a new owner, return the command sent.
+     */
+    private MergeChangeSetCommand update() {
+        UnitOfWork uow = sender.acquireUnitOfWork();
+        Item item = (Item) uow.readObject(sender.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class));
+        item.name = "Item 1 changed";
+        item.quantity = -5;
+        item.price = 12.5;
+        item.updated = Timestamp.valueOf("2026-10-18 10:15:30.123456789");
+        item.due = LocalDate.of(2026, 11, 1);
+        item.data = new byte[] {1, 2, 3};
+        item.active = Boolean.FALSE;
+        item.extra = Locale.CANADA_FRENCH;
+        Owner owner = new Owner();
+        owner.id = BigDecimal.TEN;
+        owner.name = "Owner 10";
+        item.owner = (Owner) uow.registerObject(owner);
+        uow.commit();
+        assertEquals(1, commands.size());
+        return commands.get(0);
+    }
+
+    private void assertSameChangeSets(Map<ObjectChangeSet, ObjectChangeSet> expected, Map<ObjectChangeSet, ObjectChangeSet> actual) {
+        assertEquals(expected.size(), actual.size());
+        Map<Object, ObjectChangeSet> actualById = new HashMap<>();
+        for (ObjectChangeSet changeSet : actual.keySet()) {
+            actualById.put(changeSet.getClassName() + changeSet.getId(), changeSet);
+        }
+        for (ObjectChangeSet expectedChangeSet : expected.keySet()) {
+            ObjectChangeSet actualChangeSet = actualById.get(expectedChangeSet.getClassName() + expectedChangeSet.getId());
+            assertNotNull(expectedChangeSet.getId().toString(), actualChangeSet);
+            assertEquals(expectedChangeSet.isNew(), actualChangeSet.isNew());
+            assertEquals(expectedChangeSet.hasVersionChange(), actualChangeSet.hasVersionChange());
+            assertEquals(expectedChangeSet.shouldModifyVersionField(), actualChangeSet.shouldModifyVersionField());
+            assertEquals(expectedChangeSet.getCacheSynchronizationType(), actualChangeSet.getCacheSynchronizationType());
+            assertEquals(expectedChangeSet.getWriteLockValue(), actualChangeSet.getWriteLockValue());
+            assertEquals(expectedChangeSet.getInitialWriteLockValue(), actualChangeSet.getInitialWriteLockValue());
+            assertEquals(expectedChangeSet.getChanges().size(), actualChangeSet.getChanges().size());
+            for (int index = 0; index < expectedChangeSet.getChanges().size(); index++) {
+                ChangeRecord expectedChange = (ChangeRecord) expectedChangeSet.getChanges().get(index);
+                ChangeRecord actualChange = (ChangeRecord) actualChangeSet.getChanges().get(index);
+                assertEquals(expectedChange.getClass(), actualChange.getClass());
+                assertEquals(expectedChange.getAttribute(), actualChange.getAttribute());
+                assertSame(actualChangeSet, actualChange.getOwner());
+                if (expectedChange instanceof DirectToFieldChangeRecord) {
+                    Object expectedValue = ((DirectToFieldChangeRecord) expectedChange).getNewValue();
+                    Object actualValue = ((DirectToFieldChangeRecord) actualChange).getNewValue();
+                    if (expectedValue instanceof byte[]) {
+                        assertArrayEquals((byte[]) expectedValue, (byte[]) actualValue);
+                    } else {
+                        assertEquals(expectedValue, actualValue);
+                    }
+                } else {
+                    assertEquals(((ObjectReferenceChangeRecord) expectedChange).getNewValue().getId(),
+                            ((ObjectReferenceChangeRecord) actualChange).getNewValue().getId());
+                }
+            }
+        }
+    }
+
+    private Item newItem(int id) {
+        Item item = new Item();
+        item.id = BigDecimal.valueOf(id);
+        item.name = "Item " + id;
+        item.quantity = id;
+        item.price = 10.0;
+        item.active = Boolean.TRUE;
+        item.version = 1L;
+        return item;
+    }
+
+    private DatabaseSession login(boolean mapOwner) {
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM",
+                "id", "name", "quantity", "price", "updated", "due", "data", "active", "extra", "version");
+        if (mapOwner) {
+            OneToOneMapping ownerMapping = new OneToOneMapping();
+            ownerMapping.setAttributeName("owner");
+            ownerMapping.setReferenceClass(Owner.class);
+            ownerMapping.addForeignKeyFieldName("ITEM.OWNER_ID", "OWNER.ID");
+            ownerMapping.dontUseIndirection();
+            descriptor.addMapping(ownerMapping);
+        }
+        VersionLockingPolicy lockingPolicy = new VersionLockingPolicy("ITEM.VERSION");
+        lockingPolicy.storeInObject();
+        descriptor.setOptimisticLockingPolicy(lockingPolicy);
+        descriptor.setCacheSynchronizationType(ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES);
+        RelationalDescriptor ownerDescriptor = buildDescriptor(Owner.class, "OWNER", "id", "name");
+        ownerDescriptor.setCacheSynchronizationType(ClassDescriptor.SEND_NEW_OBJECTS_WITH_CHANGES);
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        project.addDescriptor(ownerDescriptor);
+        return login(project);
+    }
+}
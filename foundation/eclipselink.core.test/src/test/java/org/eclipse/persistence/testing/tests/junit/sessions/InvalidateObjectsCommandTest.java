@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.coordination.InvalidateObjectsCommand;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.coordination.Command;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the cache coordination only sending the objects to invalidate, with {@link InvalidateObjectsCommand}.
+ */
+public class InvalidateObjectsCommandTest extends EmulatedDriverBase {
+
+    private static final int ATTRIBUTES = 10;
+
+    private static final int ITEMS = 20;
+
+    /**
+     * An entity with many attributes, whose changes are much larger than its id and version.
+     */
+    public static final class Item {
+        public BigDecimal id;
+        public String value0;
+        public String value1;
+        public String value2;
+        public String value3;
+        public String value4;
+        public String value5;
+        public String value6;
+        public String value7;
+        public String value8;
+        public String value9;
+        public Long version;
+    }
+
+    private DatabaseSession sender;
+    private DatabaseSession receiver;
+    private RemoteCommandManager rcm;
+    private final List<Object> commands = new ArrayList<>();
+    private final List<byte[]> messages = new ArrayList<>();
+    private int updates;
+
+    @Before
+    public void setUp() {
+        sender = login();
+        rcm = new RemoteCommandManager((AbstractSession) sender) {
+            @Override
+            public void shutdown() {
+            }
+        };
+        rcm.setShouldPropagateAsynchronously(false);
+        rcm.setShouldInvalidateOnly(true);
+        rcm.setSerializer(new JavaSerializer() {
+            @Override
+            public Object serialize(Object object, Session session) {
+                byte[] bytes = (byte[]) super.serialize(object, session);
+                commands.add(object);
+                messages.add(bytes);
+                return bytes;
+            }
+        });
+        sender.setShouldPropagateChanges(true);
+        receiver = login();
+        for (DatabaseSession session : List.of(sender, receiver)) {
+            for (int id = 1; id <= ITEMS; id++) {
+                session.getIdentityMapAccessor().putInIdentityMap(newItem(id));
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidateOlderVersion() {
+        update(1);
+        assertEquals(1, commands.size());
+        InvalidateObjectsCommand command = (InvalidateObjectsCommand) commands.get(0);
+        assertEquals(1, command.size());
+
+        receive(0);
+        assertFalse(receiver.getIdentityMapAccessor().isValid(BigDecimal.ONE, Item.class));
+        assertTrue(receiver.getIdentityMapAccessor().isValid(BigDecimal.valueOf(2), Item.class));
+    }
+
+    @Test
+    public void testSkipCurrentVersion() {
+        update(1);
+        // The receiver already read the version changed.
+        ((Item) receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class)).version = 2L;
+
+        receive(0);
+        assertTrue(receiver.getIdentityMapAccessor().isValid(BigDecimal.ONE, Item.class));
+    }
+
+    @Test
+    public void testDelete() {
+        UnitOfWork uow = sender.acquireUnitOfWork();
+        uow.deleteObject(uow.readObject(sender.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(2), Item.class)));
+        uow.commit();
+
+        receive(0);
+        assertNull(receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(2), Item.class));
+        assertNotNull(receiver.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ONE, Item.class));
+    }
+
+    @Test
+    public void testNewObjectsNotSent() {
+        UnitOfWork uow = sender.acquireUnitOfWork();
+        uow.registerNewObject(newItem(4));
+        uow.commit();
+        assertTrue(commands.isEmpty());
+    }
+
+    @Test
+    public void testMessageSize() {
+        update(IntStream.rangeClosed(1, ITEMS).toArray());
+        rcm.setShouldInvalidateOnly(false);
+        update(IntStream.rangeClosed(1, ITEMS).toArray());
+        assertEquals(2, commands.size());
+        assertEquals(ITEMS, ((InvalidateObjectsCommand) commands.get(0)).size());
+        assertTrue(commands.get(1) instanceof MergeChangeSetCommand);
+        int invalidation = messages.get(0).length;
+        int changes = messages.get(1).length;
+        assertTrue("Invalidation " + invalidation + " bytes, changes " + changes + " bytes", invalidation * 10 < changes);
+    }
+
+    /**
+     * Change all the values of the items, in one transaction.
+     */
+    private void update(int... ids) {
+        updates++;
+        UnitOfWork uow = sender.acquireUnitOfWork();
+        for (int id : ids) {
+            Item item = (Item) uow.readObject(sender.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(id), Item.class));
+            setValues(item, " update " + updates + " value ");
+        }
+        uow.commit();
+    }
+
+    /**
+     * Execute the message sent on the receiver, as the remote command manager does.
+     */
+    private void receive(int index) {
+        Command command = (Command) JavaSerializer.instance.deserialize(messages.get(index), receiver);
+        command.executeWithSession((AbstractSession) receiver);
+    }
+
+    private void setValues(Item item, String value) {
+        try {
+            for (int index = 0; index < ATTRIBUTES; index++) {
+                Item.class.getField("value" + index).set(item, "Item " + item.id + value + index);
+            }
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private Item newItem(int id) {
+        Item item = new Item();
+        item.id = BigDecimal.valueOf(id);
+        setValues(item, " value ");
+        item.version = 1L;
+        return item;
+    }
+
+    private DatabaseSession login() {
+        String[] attributeNames = new String[ATTRIBUTES + 2];
+        attributeNames[0] = "id";
+        for (int index = 0; index < ATTRIBUTES; index++) {
+            attributeNames[index + 1] = "value" + index;
+        }
+        attributeNames[ATTRIBUTES + 1] = "version";
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", attributeNames);
+        VersionLockingPolicy lockingPolicy = new VersionLockingPolicy("ITEM.VERSION");
+        lockingPolicy.storeInObject();
+        descriptor.setOptimisticLockingPolicy(lockingPolicy);
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        return login(project);
+    }
+}
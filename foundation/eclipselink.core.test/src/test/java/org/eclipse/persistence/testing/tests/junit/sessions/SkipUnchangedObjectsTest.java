@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the skipping of the unchanged objects by the {@link DeferredChangeDetectionPolicy}.
+ */
+public class SkipUnchangedObjectsTest extends EmulatedDriverBase {
+
+    private static final int ITEMS = 100;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+        public Item parent;
+        public Long version;
+    }
+
+    private DatabaseSession session;
+
+    @Test
+    public void testUnchangedObjectsSkipped() {
+        login(true, false);
+        UnitOfWork uow = session.acquireUnitOfWork();
+        List<Item> items = registerItems(uow);
+        items.get(10).name = "Item 10 changed";
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        assertEquals(1, changeSet.getAllChangeSets().size());
+        // No change set was built for the unchanged objects.
+        assertEquals(1, changeSet.getCloneToObjectChangeSet().size());
+        ObjectChangeSet changes = changeSet.getAllChangeSets().keySet().iterator().next();
+        assertEquals("Item 10 changed", ((DirectToFieldChangeRecord) changes.getChangesForAttributeNamed("name")).getNewValue());
+        uow.commit();
+        assertEquals(Long.valueOf(2), ((Item) session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(10), Item.class)).version);
+        assertEquals(Long.valueOf(1), ((Item) session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(11), Item.class)).version);
+    }
+
+    @Test
+    public void testReferenceChangeDetected() {
+        login(true, false);
+        UnitOfWork uow = session.acquireUnitOfWork();
+        List<Item> items = registerItems(uow);
+        items.get(5).parent = items.get(1);
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        assertEquals(1, changeSet.getAllChangeSets().size());
+        assertTrue(changeSet.getAllChangeSets().keySet().iterator().next().getChangesForAttributeNamed("parent") != null);
+        uow.commit();
+        Item item = (Item) session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(5), Item.class);
+        assertSame(session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(1), Item.class), item.parent);
+    }
+
+    @Test
+    public void testAllObjectsComparedByDefault() {
+        login(false, false);
+        UnitOfWork uow = session.acquireUnitOfWork();
+        List<Item> items = registerItems(uow);
+        items.get(10).name = "Item 10 changed";
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        assertEquals(1, changeSet.getAllChangeSets().size());
+        assertEquals(ITEMS, changeSet.getCloneToObjectChangeSet().size());
+    }
+
+    @Test
+    public void testObjectsWithListenersCompared() {
+        login(true, true);
+        UnitOfWork uow = session.acquireUnitOfWork();
+        registerItems(uow);
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet) uow.getCurrentChanges();
+        assertEquals(0, changeSet.getAllChangeSets().size());
+        assertEquals(ITEMS, changeSet.getCloneToObjectChangeSet().size());
+    }
+
+    private List<Item> registerItems(UnitOfWork uow) {
+        List<Item> items = new ArrayList<>();
+        for (int id = 0; id < ITEMS; id++) {
+            items.add((Item) uow.registerObject(session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(id), Item.class)));
+        }
+        return items;
+    }
+
+    private void login(boolean shouldSkipUnchangedObjects, boolean hasListener) {
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id", "name", "version");
+        OneToOneMapping parentMapping = new OneToOneMapping();
+        parentMapping.setAttributeName("parent");
+        parentMapping.setReferenceClass(Item.class);
+        parentMapping.addForeignKeyFieldName("ITEM.PARENT_ID", "ITEM.ID");
+        parentMapping.dontUseIndirection();
+        descriptor.addMapping(parentMapping);
+        VersionLockingPolicy lockingPolicy = new VersionLockingPolicy("ITEM.VERSION");
+        lockingPolicy.storeInObject();
+        descriptor.setOptimisticLockingPolicy(lockingPolicy);
+        if (hasListener) {
+            descriptor.getEventManager().addListener(new DescriptorEventAdapter() {});
+        }
+        Project project = new Project(buildLogin());
+        project.addDescriptor(descriptor);
+        project.setShouldSkipUnchangedObjects(shouldSkipUnchangedObjects);
+        session = login(project);
+        for (int id = 0; id < ITEMS; id++) {
+            Item item = new Item();
+            item.id = BigDecimal.valueOf(id);
+            item.name = "Item " + id;
+            item.version = 1L;
+            if (id > 0) {
+                item.parent = (Item) session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.ZERO, Item.class);
+            }
+            session.getIdentityMapAccessor().putInIdentityMap(item);
+        }
+    }
+}
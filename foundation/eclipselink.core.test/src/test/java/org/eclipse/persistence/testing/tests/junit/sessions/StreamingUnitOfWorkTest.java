@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.sessions;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import org.eclipse.persistence.config.ReferenceMode;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.RepeatableWriteUnitOfWork;
+import org.eclipse.persistence.platform.database.DatabasePlatform;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.testing.tests.junit.EmulatedDriverBase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the streaming of the objects through a {@link RepeatableWriteUnitOfWork} with a streaming size.
+ */
+public class StreamingUnitOfWorkTest extends EmulatedDriverBase {
+
+    private static final int ITEMS = 25;
+
+    private static final int STREAMING_SIZE = 10;
+
+    public static final class Item {
+        public BigDecimal id;
+        public String name;
+    }
+
+    private DatabaseSession session;
+    private int batches;
+    private int inserts;
+    private int updates;
+    private int maxRegistered;
+
+    @Test
+    public void testNewObjectsWrittenAndDetached() {
+        login();
+        RepeatableWriteUnitOfWork uow = acquireUnitOfWork(STREAMING_SIZE);
+        List<Item> items = new ArrayList<>();
+        for (int id = 0; id < ITEMS; id++) {
+            uow.writeChangesIfStreamingSizeReached();
+            Item item = newItem(id);
+            uow.registerNewObjectForPersist(item, new IdentityHashMap<>());
+            items.add(item);
+            maxRegistered = Math.max(maxRegistered, uow.getCloneMapping().size());
+        }
+        // The first two windows are written, the objects written are no longer managed.
+        assertEquals(2 * STREAMING_SIZE, inserts);
+        assertEquals(2, batches);
+        assertEquals(STREAMING_SIZE, maxRegistered);
+        assertFalse(uow.isObjectRegistered(items.get(0)));
+        assertTrue(uow.isObjectRegistered(items.get(ITEMS - 1)));
+        uow.commit();
+        assertEquals(ITEMS, inserts);
+        assertEquals(3, batches);
+    }
+
+    @Test
+    public void testUpdatedClassesInvalidated() {
+        login();
+        for (int id = 0; id < ITEMS; id++) {
+            session.getIdentityMapAccessor().putInIdentityMap(newItem(id));
+        }
+        RepeatableWriteUnitOfWork uow = acquireUnitOfWork(STREAMING_SIZE);
+        for (int id = 0; id < ITEMS; id++) {
+            uow.writeChangesIfStreamingSizeReached();
+            Item item = (Item) uow.registerObject(session.getIdentityMapAccessor().getFromIdentityMap(BigDecimal.valueOf(id), Item.class));
+            item.name = "Item " + id + " changed";
+        }
+        assertEquals(2 * STREAMING_SIZE, updates);
+        uow.commit();
+        assertEquals(ITEMS, updates);
+        // The changes of the objects detached are not merged, so the class is invalidated.
+        assertFalse(session.getIdentityMapAccessor().isValid(BigDecimal.ZERO, Item.class));
+    }
+
+    @Test
+    public void testNotWrittenWithoutStreamingSize() {
+        login();
+        RepeatableWriteUnitOfWork uow = acquireUnitOfWork(0);
+        for (int id = 0; id < ITEMS; id++) {
+            uow.writeChangesIfStreamingSizeReached();
+            uow.registerNewObjectForPersist(newItem(id), new IdentityHashMap<>());
+        }
+        assertEquals(0, inserts);
+        assertEquals(ITEMS, uow.getCloneMapping().size());
+        uow.commit();
+        assertEquals(ITEMS, inserts);
+        assertTrue(session.getIdentityMapAccessor().isValid(BigDecimal.ZERO, Item.class));
+    }
+
+    private RepeatableWriteUnitOfWork acquireUnitOfWork(int streamingSize) {
+        RepeatableWriteUnitOfWork uow = ((AbstractSession) session).acquireRepeatableWriteUnitOfWork(ReferenceMode.HARD);
+        uow.setStreamingSize(streamingSize);
+        uow.beginEarlyTransaction();
+        return uow;
+    }
+
+    private Item newItem(int id) {
+        Item item = new Item();
+        item.id = BigDecimal.valueOf(id);
+        item.name = "Item " + id;
+        return item;
+    }
+
+    private void login() {
+        DatabasePlatform platform = new DatabasePlatform() {
+            @Override
+            public int executeBatch(Statement statement, boolean isStatementPrepared) throws SQLException {
+                batches++;
+                // The emulated driver does not return the row counts.
+                return 0;
+            }
+        };
+        DatabaseLogin login = buildLogin(platform);
+        login.useBatchWriting();
+        login.useJDBCBatchWriting();
+        RelationalDescriptor descriptor = buildDescriptor(Item.class, "ITEM", "id", "name");
+        descriptor.getEventManager().addListener(new DescriptorEventAdapter() {
+            @Override
+            public void postInsert(DescriptorEvent event) {
+                inserts++;
+            }
+
+            @Override
+            public void postUpdate(DescriptorEvent event) {
+                updates++;
+            }
+        });
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = login(project);
+    }
+}
@@ -736,6 +736,30 @@ public void postLogout(SessionEvent event) {
         log(event);
     }
 
+    /**
+     * PUBLIC:
+     * This Event is raised after the objects of a descriptor have been preloaded into the cache.
+     */
+    @Override
+    public void postPreloadDescriptor(SessionEvent event) {
+        if (!isTrackingEvent(event)) {
+            return;
+        }
+        log(event);
+    }
+
+    /**
+     * PUBLIC:
+     * This Event is raised after the cache preload completes.
+     */
+    @Override
+    public void postPreloadCache(SessionEvent event) {
+        if (!isTrackingEvent(event)) {
+            return;
+        }
+        log(event);
+    }
+
     /**
      * PUBLIC:
      * This Event is raised after the session logs in.
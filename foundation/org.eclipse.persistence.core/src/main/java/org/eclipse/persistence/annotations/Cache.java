@@ -122,4 +122,13 @@
      * Note that database event listener must also be configured for the persistence unit/session.
      */
     DatabaseChangeNotificationType databaseChangeNotificationType() default DatabaseChangeNotificationType.INVALIDATE;
+
+    /**
+     * (Optional) Setting to true will read all the objects into the shared
+     * cache when the session logs in, in the background.
+     * The cache type should be able to hold all the objects, such as FULL or SOFT.
+     * Default is false.
+     * @see org.eclipse.persistence.config.PersistenceUnitProperties#CACHE_PRELOAD_
+     */
+    boolean preload() default false;
 }
@@ -81,5 +81,31 @@ public enum CacheType {
      * This cache type should not be used to disable caching, to properly disable
      * caching set the @Cache isolation attribute to ISOLATED.
      */
-    NONE
+    NONE,
+
+    /**
+     * Same as the CACHE identity map, except that the least-recently-used
+     * order is approximate, so concurrent reads of the cache are not serialized.
+     * Use this identity map instead of CACHE for classes read by many threads.
+     * WARNING: Furnishes caching and identity, but does not guarantee
+     * identity.
+     */
+    CONCURRENT_CACHE,
+
+    /**
+     * Same as the FULL identity map, except that Long, Integer, Short and Byte
+     * primary keys are stored as primitive values instead of boxed keys.
+     * Use this identity map instead of FULL for classes with a single integral
+     * primary key, to reduce the memory and lookup cost of large caches.
+     * As FULL, objects are never removed, see the warning of {@link #FULL}.
+     */
+    FULL_PRIMITIVE_KEY,
+
+    /**
+     * Same as the CONCURRENT_CACHE identity map, with an off-heap tier.
+     * The rows of the objects evicted from the fixed size heap cache are stored off the heap,
+     * and the objects are rebuilt from their rows when read again, instead of being read from the database.
+     * The off-heap capacity is set by the "eclipselink.cache.off-heap-size" property.
+     */
+    OFF_HEAP_CACHE
 }
@@ -33,6 +33,8 @@
  * <li>JDBC - JDBC batch API's are used (dynamic, or parameterized).
  * <li>Bufferred - dynamic SQL is concatenated into a batch SQL string.
  * <li>Oracle-JDBC - Oracle JDBC batch API's are used (allows row count to be returned for optimistic locking).
+ * <li>Multi-Row-Insert - parameterized inserts are rewritten into inserts of multiple rows,
+ * other statements use the JDBC batch API's (the platform must support multi-row inserts).
  * <li>&lt;custom-class&gt; - A custom class that extends the BatchWritingMechanism class.
  * </ul>
  * @see BatchWritingMechanism
@@ -42,6 +44,7 @@ public class BatchWriting {
     public static final String  JDBC = "JDBC";
     public static final String  Buffered = "Buffered";
     public static final String  OracleJDBC = "Oracle-JDBC";
+    public static final String  MultiRowInsert = "Multi-Row-Insert";
 
     public static final String DEFAULT = None;
 }
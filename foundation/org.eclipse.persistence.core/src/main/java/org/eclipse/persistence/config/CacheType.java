@@ -88,6 +88,33 @@ public class CacheType {
      */
     public static final String  NONE = "NONE";
 
+    /**
+     * A ConcurrentCache holds a fixed number of objects read by the application,
+     * and removes the least recently used objects when the cache is full.
+     * The least recently used order is approximate, so concurrent reads of the cache are not serialized.
+     * <p>WARNING: This cache type does not guarantee object identity, objects removed from the cache
+     * are no longer identical to the objects read again.
+     */
+    public static final String  ConcurrentCache = "ConcurrentCache";
+
+    /**
+     * A FullPrimitiveKey cache is a Full cache storing Long, Integer, Short and Byte primary keys
+     * as primitive values instead of boxed keys, to reduce the memory and lookup cost of large caches
+     * of classes with a single integral primary key.
+     * <p>WARNING: As for Full, this cache type should only be used for a fixed sized number of objects.
+     * @see #Full
+     */
+    public static final String  FullPrimitiveKey = "FullPrimitiveKey";
+
+    /**
+     * An OffHeapCache is a ConcurrentCache with an off-heap tier.
+     * The rows of the objects removed from the cache are stored off the heap,
+     * and the objects are rebuilt from their rows when read again, instead of being read from the database.
+     * The off-heap capacity is set by the PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE property.
+     * @see #ConcurrentCache
+     */
+    public static final String  OffHeapCache = "OffHeapCache";
+
     /**
      * The default cache type is SoftWeak.
      */
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.config;
+
+/**
+ * Specify the implementation of an EclipseLink internal connection pool.
+ *
+ * <p>JPA persistence property Usage:
+ *
+ * <p><code>properties.add(PersistenceUnitProperties.CONNECTION_POOL + PersistenceUnitProperties.CONNECTION_POOL_TYPE, ConnectionPoolType.Concurrent);</code>
+ *
+ * <p>Property values are case-insensitive
+ *
+ * <ul>
+ * <li>Synchronized - connections are acquired and released under the pool monitor.
+ * <li>Concurrent - connections are acquired and released without a global lock, waiters are served in FIFO order.
+ * </ul>
+ * @see org.eclipse.persistence.sessions.server.ConnectionPool
+ * @see org.eclipse.persistence.sessions.server.ConcurrentConnectionPool
+ */
+public class ConnectionPoolType {
+    public static final String  Synchronized = "Synchronized";
+    public static final String  Concurrent = "Concurrent";
+
+    public static final String DEFAULT = Synchronized;
+}
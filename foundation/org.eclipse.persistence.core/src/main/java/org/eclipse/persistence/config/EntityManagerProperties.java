@@ -296,6 +296,18 @@ public final class EntityManagerProperties {
      */
     public static final String FLUSH_CLEAR_CACHE = PersistenceUnitProperties.FLUSH_CLEAR_CACHE;
 
+    /**
+     * Defines the number of objects registered in the EntityManager at which the changes are written
+     * and all the objects detached, before the next persist, merge or remove in a transaction.
+     * This allows streaming any number of objects through an EntityManager with a bounded memory.
+     * By default 0, the changes are only written on flush and commit.
+     * This property could be specified while creating either EntityManagerFactory
+     * (either in the map passed to createEntityManagerFactory method or in persistence.xml)
+     * or EntityManager (in the map passed to createEntityManager method);
+     * the latter overrides the former.
+     */
+    public static final String PERSISTENCE_CONTEXT_STREAMING_SIZE = PersistenceUnitProperties.PERSISTENCE_CONTEXT_STREAMING_SIZE;
+
     /**
      * The property may be passed to createEntityManager method of a composite persistence unit
      * to pass properties to member persistence units.
@@ -343,6 +355,7 @@ public final class EntityManagerProperties {
             add(ORDER_UPDATES);
             add(PERSISTENCE_CONTEXT_COMMIT_ORDER);
             add(FLUSH_CLEAR_CACHE);
+            add(PERSISTENCE_CONTEXT_STREAMING_SIZE);
             add(COMPOSITE_UNIT_PROPERTIES);
         }
     };
@@ -97,6 +97,7 @@
 import org.eclipse.persistence.sessions.factories.SessionManager;
 import org.eclipse.persistence.sessions.remote.RemoteSession;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.tools.profiler.HistogramProfiler;
 import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
@@ -296,6 +297,24 @@ public class PersistenceUnitProperties {
      */
     public static final String JPQL_VALIDATION = "eclipselink.jpql.validation";
 
+    /**
+     * The "<code>eclipselink.jpql.parse-cache.snapshot</code>" property configures a file
+     * to keep the JPQL strings of the JPQL parse cache across restarts.
+     * <p>
+     * The JPQL strings of the parse cache are written to the file, the most frequent first,
+     * when the persistence unit is undeployed. When the persistence unit is deployed,
+     * the JPQL strings of the file are parsed and prepared in the background,
+     * so the first executions of the dynamic queries do not pay for their parsing.
+     * JPQL strings that are no longer valid are ignored.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>the path of the snapshot file, written by the application
+     * <li>none (DEFAULT) - the JPQL parse cache starts empty
+     * </ul>
+     */
+    public static final String JPQL_PARSE_CACHE_SNAPSHOT = "eclipselink.jpql.parse-cache.snapshot";
+
     /**
      * The "<code>wait</code>" property.<br>
      * This can be append to any connection pool property,
@@ -459,6 +478,27 @@ public class PersistenceUnitProperties {
      */
     public static final String CONNECTION_POOL_FAILOVER = "failover";
 
+    /**
+     * The "<code>type</code>" property.<br>
+     * This can be append to any connection pool property,
+     * i.e. "<code>eclipselink.connection-pool.default.type</code>".<br>
+     * Configures the implementation used for the internal connection pool.
+     * The concurrent pool does not serialize acquire and release on the pool monitor,
+     * which avoids contention when many threads share a pool.
+     * <p>
+     * Ignored in case external connection pools are used, or for a shared read connection pool.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>Synchronized</code>" (DEFAULT) - connections are acquired and released under the pool monitor
+     * <li>"<code>Concurrent</code>" - connections are acquired and released without a global lock
+     * </ul>
+     *
+     * @see #CONNECTION_POOL
+     * @see ConnectionPoolType
+     */
+    public static final String CONNECTION_POOL_TYPE = "type";
+
     /**
      * Allow configuring a "<code>eclipselink.connection-pool.</code>" properties.
      * The name of the connection pool must be appended to configure the pool,
@@ -487,6 +527,7 @@ public class PersistenceUnitProperties {
      * <li> "<code>nonJtaDataSource</code>" - non JTA DataSource name to use for the connection, if different than the default.
      * <li> "<code>user</code>" - user to use for the connection, if different than the default.
      * <li> "<code>password</code>" - password to use for the connection, if different than the default.
+     * <li> "<code>type</code>" - implementation of the pool, "<code>Synchronized</code>" or "<code>Concurrent</code>".
      * </ul>
      * <p>
      * <b>Persistence XML example:</b><pre>
@@ -506,6 +547,7 @@ public class PersistenceUnitProperties {
      * @see #CONNECTION_POOL_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_NON_JTA_DATA_SOURCE
      * @see #CONNECTION_POOL_SHARED
+     * @see #CONNECTION_POOL_TYPE
      * @see org.eclipse.persistence.sessions.server.ConnectionPool
      */
     public static final String CONNECTION_POOL = "eclipselink.connection-pool.";
@@ -1310,6 +1352,102 @@ public class PersistenceUnitProperties {
      */
     public static final String CACHE_TYPE_DEFAULT = CACHE_TYPE_ + DEFAULT;
 
+    /**
+     * The "<code>eclipselink.cache.off-heap-size</code>" property sets the capacity in bytes
+     * of the off-heap tier of each entity cache of type
+     * {@link org.eclipse.persistence.annotations.CacheType#OFF_HEAP_CACHE}.
+     * The rows of the objects evicted from the heap are stored in the off-heap tier,
+     * and the objects are rebuilt from their rows when read again.
+     * It can also be set per entity as an entity property.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a number of bytes, the default is 67108864 (64 MB)
+     * </ul>
+     *
+     * @see org.eclipse.persistence.annotations.CacheType#OFF_HEAP_CACHE
+     */
+    public static final String CACHE_OFF_HEAP_SIZE = "eclipselink.cache.off-heap-size";
+
+    /**
+     * Property prefix "<code>eclipselink.cache.preload.</code>" sets if the objects of
+     * a specific entity type are read into the shared cache when the session logs in,
+     * once the tables are generated if DDL generation is enabled.
+     * The prefix must be followed by a valid entity type name.
+     * <p>
+     * Property names formed out of these prefixes by appending either entity
+     * name, or class name (indicating that the property values applies only to
+     * a particular entity) or {@link #DEFAULT} suffix (indicating that the property
+     * value applies to all entities).
+     * <p>
+     * The objects are read by pages of {@link #CACHE_PRELOAD_PAGE_SIZE} objects, on
+     * {@link #CACHE_PRELOAD_THREADS} threads. The cache type of the entity should be able
+     * to hold all the objects, such as {@link CacheType#Full} or {@link CacheType#Soft}.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>true</code>"
+     * <li>"<code>false</code>" (DEFAULT)
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_DEFAULT
+     * @see #CACHE_PRELOAD_WAIT
+     * @see org.eclipse.persistence.annotations.Cache#preload()
+     */
+    public static final String CACHE_PRELOAD_ = "eclipselink.cache.preload.";
+
+    /**
+     * Default cache preload property - applies to all entities with a shared cache.
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_DEFAULT = CACHE_PRELOAD_ + DEFAULT;
+
+    /**
+     * The "<code>eclipselink.cache.preload-wait</code>" property sets if the login waits
+     * until the cache preload completes. Otherwise the objects are preloaded in the
+     * background while the application starts, and the
+     * {@link org.eclipse.persistence.sessions.SessionEventListener#postPreloadCache} event
+     * is raised once the preload completes.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>true</code>"
+     * <li>"<code>false</code>" (DEFAULT)
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_WAIT = "eclipselink.cache.preload-wait";
+
+    /**
+     * The "<code>eclipselink.cache.preload-page-size</code>" property sets the number of
+     * objects read by each query of the cache preload.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a positive number of objects, the default is 1000
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_PAGE_SIZE = "eclipselink.cache.preload-page-size";
+
+    /**
+     * The "<code>eclipselink.cache.preload-threads</code>" property sets the number of
+     * threads running the queries of the cache preload. The threads are started through
+     * the server platform. A database session, which has a single connection, always
+     * preloads on the login thread.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a positive number of threads, the default is the number of processors, up to 4
+     * </ul>
+     *
+     * @see #CACHE_PRELOAD_
+     */
+    public static final String CACHE_PRELOAD_THREADS = "eclipselink.cache.preload-threads";
+
     /**
      * The "<code>eclipselink.cache.extended.logging</code>" property control (enable/disable)
      * usage logging of JPA L2 cache. In case of "<code>true</code>" EclipseLink generates messages into log output
@@ -2019,6 +2157,23 @@ public class PersistenceUnitProperties {
      */
     public static final String WEAVING_CHANGE_TRACKING = "eclipselink.weaving.changetracking";
 
+    /**
+     * The "<code>eclipselink.change-detection.skip-unchanged</code>" property configures
+     * if the entities using deferred change detection, as when not weaved for change tracking,
+     * are first compared to their backup copy before having their changes calculated,
+     * so the entities read but not changed are skipped at flush and commit.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT): calculate the changes of all the entities.
+     * <li>"<code>true</code>": skip the entities unchanged.
+     * </ul>
+     *
+     * @see #WEAVING_CHANGE_TRACKING
+     * @see org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy#setShouldSkipUnchangedObjects(boolean)
+     */
+    public static final String CHANGE_DETECTION_SKIP_UNCHANGED = "eclipselink.change-detection.skip-unchanged";
+
     /**
      * The "<code>eclipselink.weaving.fetchgroups</code>" property configures
      * whether FetchGroup support should be enabled through weaving. When this
@@ -2429,6 +2584,25 @@ public class PersistenceUnitProperties {
      */
     public static final String SEQUENCING_START_AT_NEXTVAL = "eclipselink.sequencing.start-sequence-at-nextval";
 
+    /**
+     * The "<code>eclipselink.sequencing.preallocation-low-water-mark</code>" property configures the number of
+     * preallocated sequence values remaining below which the next values are allocated in the background.
+     * The preallocated values are then handed out without locking, so inserts do not wait for the sequence
+     * table or sequence object under steady load.
+     * Values are allocated in the background when using a sequence connection pool, or native sequencing,
+     * otherwise they are only allocated once all used.
+     * The value should be less than the allocationSize of the sequences.
+     * <p>
+     * <b>Allowed Values</b> (String)<b>:</b>
+     * <ul>
+     * <li>"<code>0</code>" - (DEFAULT) values are allocated by the thread that needs them once all used
+     * <li>a positive integer, such as half the allocationSize
+     * </ul>
+     * @see #JDBC_SEQUENCE_CONNECTION_POOL
+     * @see org.eclipse.persistence.sequencing.Sequence#setPreallocationLowWaterMark(int)
+     */
+    public static final String SEQUENCING_PREALLOCATION_LOW_WATER_MARK = "eclipselink.sequencing.preallocation-low-water-mark";
+
     /**
      * The "<code>eclipselink.session.customizer</code>" property configures a
      * {@link SessionCustomizer} used to alter the runtime configuration through
@@ -2518,6 +2692,9 @@ public class PersistenceUnitProperties {
      * batch writing.
      * <li>"<code>Oracle-JDBC</code>" - use Oracle's native batch writing. This requires the
      * use of an Oracle JDBC driver.
+     * <li>"<code>Multi-Row-Insert</code>" - rewrite the batched inserts into inserts of multiple rows,
+     * <code>INSERT ... VALUES (...), (...)</code>, and use JDBC batch writing for the other statements.
+     * This requires a platform that supports multi-row inserts.
      * <li>"<code>None</code>" (DEFAULT): do not use batch writing (turn it off).
      * <li>the fully qualified name for a class that extends {@link BatchWritingMechanism} abstract class
      * </ul>
@@ -2538,6 +2715,34 @@ public class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The "<code>eclipselink.jdbc.batch-writing.rows-per-statement</code>" property
+     * configures the maximum number of rows inserted by each statement with
+     * "<code>Multi-Row-Insert</code>" batch writing, default 100.
+     * The rows of a statement are also limited to 2000 bound parameters.
+     *
+     * @see #BATCH_WRITING
+     * @see BatchWriting#MultiRowInsert
+     */
+    public static final String BATCH_WRITING_ROWS_PER_STATEMENT = "eclipselink.jdbc.batch-writing.rows-per-statement";
+
+    /**
+     * The "<code>eclipselink.jdbc.batch-writing.asynchronous</code>" property
+     * configures if a full batch of parameterized statements is executed in the background,
+     * while the commit builds the next batch, such as the statements of the next class in the commit order.
+     * The batches are executed on the transaction's connection, in order, so the transaction is unchanged.
+     * A batch failure is thrown by the next statement or the commit.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT): execute the batches in the committing thread.
+     * <li>"<code>true</code>": execute the batches in the background.
+     * </ul>
+     *
+     * @see #BATCH_WRITING
+     */
+    public static final String BATCH_WRITING_ASYNCHRONOUS = "eclipselink.jdbc.batch-writing.asynchronous";
+
     /**
      * The "<code>jakarta.persistence.bean.manager</code>" property is used to set
      * CDI BeanManager when available
@@ -2654,6 +2859,30 @@ public class PersistenceUnitProperties {
      */
     public static final String PROJECT_CACHE_FILE = "eclipselink.project-cache.java-serialization.file-location";
 
+    /**
+     * The "<code>eclipselink.project-cache.checksum</code>" property configures whether the cached project
+     * is validated against the metadata sources of the persistence unit.
+     * <p>
+     * When enabled, a checksum of the classes and xml files of the persistence unit's root and jar files,
+     * of its listed classes and of its mapping files is stored with the cached project,
+     * and a cached project is only used if its checksum matches the persistence unit,
+     * otherwise the metadata is processed and the project is cached again.
+     * This allows to cache the project at build time, i.e. with
+     * {@code org.eclipse.persistence.tools.metadata.jpa.ProjectCacheGenerator},
+     * and to safely skip the metadata processing at startup.
+     * <p>
+     * The checksum does not cover the properties given at runtime, they must not change the metadata of the project.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>true</code>" - validate the cached project with the checksum
+     * <li>"<code>false</code>" (DEFAULT) - use the cached project without validation
+     * </ul>
+     *
+     * @see #PROJECT_CACHE
+     */
+    public static final String PROJECT_CACHE_CHECKSUM = "eclipselink.project-cache.checksum";
+
     /**
      * The "<code>eclipselink.temporal.mutable</code>" property configures the
      * default for detecting changes to temporal field (Date, Calendar). Default
@@ -2782,6 +3011,23 @@ public class PersistenceUnitProperties {
      */
     public static final String DEPLOY_ON_STARTUP = "eclipselink.deploy-on-startup";
 
+    /**
+     * The "<code>eclipselink.deploy.parallelism</code>" property configures the number of threads
+     * reading the classes of the persistence unit when its metadata is processed.
+     * <p>
+     * The class files of the persistence unit, listed or found in its jar files and root,
+     * are read and their annotations collected in parallel, as each class is read independently.
+     * The metadata is then processed as with a single thread, so the deployed project is the same.
+     * This reduces the deployment time of persistence units with many classes.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>1</code>" (DEFAULT) - the classes are read by the deploying thread
+     * <li>the number of threads, i.e. the number of available processors
+     * </ul>
+     */
+    public static final String DEPLOY_PARALLELISM = "eclipselink.deploy.parallelism";
+
     /**
      * The "<code>eclipselink.validation-only</code>" property validates deployment
      * which includes initializing descriptors but does not connect (no login to the database).
@@ -3149,6 +3395,7 @@ public class PersistenceUnitProperties {
      * <li>"<code>NoProfiler</code>" (DEFAULT)
      * <li>"<code>PerformanceMonitor</code>" - use {@link PerformanceMonitor}
      * <li>"<code>PerformanceProfiler</code>" - use {@link PerformanceProfiler}
+     * <li>"<code>HistogramProfiler</code>" - use {@link HistogramProfiler}, registered as MBean
      * <li>"<code>QueryMonitor</code>" - use {@link QueryMonitor}
      * <li>"<code>DMSProfiler</code>" - use {@code org.eclipse.persistence.tools.profiler.oracle.DMSPerformanceProfiler}
      * <li>the fully qualified name for a class that implements {@link SessionProfiler} interface
@@ -3364,6 +3611,30 @@ public class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_FLUSH_MODE = "eclipselink.persistence-context.flush-mode";
 
+    /**
+     * The "<code>eclipselink.persistence-context.streaming-size</code>" property configures the number of
+     * objects registered in the persistence context at which the changes are written to the database
+     * and all the objects detached, before the next persist, merge or remove in a transaction.
+     * <p>
+     * This allows bulk jobs to stream any number of objects through an EntityManager with a bounded memory,
+     * without calling flush and clear.
+     * The objects written are no longer managed, and the classes changed are invalidated in the shared cache on commit.
+     * Batch writing should be used with it, as each write is a batch of up to this number of objects.
+     * <p>
+     * The property set in persistence.xml or passed to
+     * createEntityManagerFactory affects all EntityManagers created by the
+     * factory. Alternatively, to apply the property only to some EntityManagers
+     * pass it to createEntityManager method.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>0</code>" (DEFAULT) - the changes are only written on flush and commit.
+     * <li>a positive integer number of objects, i.e. "<code>1000</code>".
+     * </ul>
+     * @see #BATCH_WRITING
+     */
+    public static final String PERSISTENCE_CONTEXT_STREAMING_SIZE = "eclipselink.persistence-context.streaming-size";
+
     /**
      * The "<code>eclipselink.oracle.proxy-type</code>" property is used to
      * specify proxy type that should be passed to
@@ -3686,6 +3957,8 @@ public class PersistenceUnitProperties {
      * or integration with other systems.
      * <p>
      * The full class name of the serializer class should be provided.
+     * "<code>org.eclipse.persistence.sessions.serializers.CompactSerializer</code>" writes the changes
+     * in a compact binary format using the descriptors, all the nodes must have the same descriptors.
      *
      * @see #COORDINATION_PROTOCOL
      * @see Serializer
@@ -3693,6 +3966,57 @@ public class PersistenceUnitProperties {
      */
     public static final String COORDINATION_SERIALIZER = "eclipselink.cache.coordination.serializer";
 
+    /**
+     * The "<code>eclipselink.cache.coordination.batch.delay</code>" property
+     * configures the batching of the changes sent by cache coordination.
+     * <p>
+     * Set the time in milliseconds the changes committed are batched for before being sent.
+     * The changes committed within the delay are sent in a single message, and the changes of an object
+     * changed by several transactions are collapsed to its latest changes, at the cost of the caches of the
+     * other nodes being updated later. The other nodes merge the batch as a single change set, whether they
+     * batch their own changes or not.
+     * <p>
+     * The default is "<code>0</code>", each transaction's changes are sent as it is committed.
+     *
+     * @see #COORDINATION_BATCH_SIZE
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setBatchDelay(long)
+     */
+    public static final String COORDINATION_BATCH_DELAY = "eclipselink.cache.coordination.batch.delay";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.batch.size</code>" property
+     * configures the maximum number of objects whose changes are batched by cache coordination.
+     * <p>
+     * A batch holding as many objects is sent without waiting for the batch delay.
+     * The default is "<code>1000</code>", "<code>0</code>" for no maximum.
+     * Only used when "<code>eclipselink.cache.coordination.batch.delay</code>" is set.
+     *
+     * @see #COORDINATION_BATCH_DELAY
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setMaxBatchSize(int)
+     */
+    public static final String COORDINATION_BATCH_SIZE = "eclipselink.cache.coordination.batch.size";
+
+    /**
+     * The "<code>eclipselink.cache.coordination.invalidate-only</code>" property
+     * configures cache coordination to only invalidate the objects changed.
+     * <p>
+     * Set if only the class, id and version of the objects changed are sent, instead of their changes.
+     * The other nodes invalidate the objects they cache with an older version, and remove the objects deleted.
+     * The messages are much smaller than the changes, in particular for entities with many attributes,
+     * at the cost of the other nodes reading the objects changed again.
+     * All the nodes must use a version of EclipseLink supporting this property.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - send the changes as configured by the cache coordination type of each entity
+     * <li>"<code>true</code>" - only send the class, id and version of the objects changed
+     * </ul>
+     *
+     * @see #COORDINATION_PROTOCOL
+     * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setShouldInvalidateOnly(boolean)
+     */
+    public static final String COORDINATION_INVALIDATE_ONLY = "eclipselink.cache.coordination.invalidate-only";
+
     /**
      * The "<code>eclipselink.cache.coordination.channel</code>" property
      * configures cache coordination for a clustered environment.
@@ -4074,6 +4398,21 @@ public class PersistenceUnitProperties {
      */
     public static final String CONCURRENCY_MANAGER_ALLOW_STACK_TRACE_READ_LOCK = "eclipselink.concurrency.manager.allow.readlockstacktrace";
 
+    /**
+     * <p>
+     * This property control (enable/disable) if the lock state of cache keys and other concurrency managers is guarded
+     * by a {@link java.util.concurrent.locks.ReentrantLock} instead of the object monitor.
+     * Waiting on a monitor pins the carrier thread of a virtual thread, so this should be enabled if the application
+     * runs on virtual threads. Only concurrency managers created after the property is set are affected.
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - use <code>synchronized</code> and <code>Object.wait()/notifyAll()</code>
+     * <li>"<code>true</code>" - use a <code>ReentrantLock</code> and <code>Condition</code> per concurrency manager
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_REENTRANT_LOCK = "eclipselink.concurrency.manager.reentrant.lock";
+
     /**
      * <p>
      * This property control (enable/disable) semaphore in {@link org.eclipse.persistence.internal.descriptors.ObjectBuilder}
@@ -4183,6 +4522,7 @@ public static String getOverriddenLogStringForProperty(String propertyName) {
             add(VALIDATE_EXISTENCE);
             add(ORDER_UPDATES);
             add(FLUSH_CLEAR_CACHE);
+            add(PERSISTENCE_CONTEXT_STREAMING_SIZE);
         }
     };
 
@@ -26,12 +26,15 @@
  *
  * @see org.eclipse.persistence.tools.profiler.QueryMonitor
  * @see org.eclipse.persistence.tools.profiler.PerformanceProfiler
+ * @see org.eclipse.persistence.tools.profiler.HistogramProfiler
  */
 public class ProfilerType {
     //A tool used to provide high level performance profiling information
     public static final String PerformanceProfiler = "PerformanceProfiler";
     public static final String QueryMonitor = "QueryMonitor";
     public static final String PerformanceMonitor = "PerformanceMonitor";
+    //Records the latency percentiles per query and operation, exposed through JMX
+    public static final String HistogramProfiler = "HistogramProfiler";
     public static final String DMSProfiler = "DMSProfiler";
     public static final String NoProfiler = "NoProfiler";
 
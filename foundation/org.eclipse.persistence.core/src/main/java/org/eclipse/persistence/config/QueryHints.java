@@ -165,6 +165,18 @@ public class QueryHints {
      */
     public static final String QUERY_RESULTS_CACHE_INVALIDATE = "eclipselink.query-results-cache.invalidate-on-change";
 
+    /**
+     * "eclipselink.query-results-cache.track-dependencies"
+     * <p>Configures if the objects returned by each query cache result should be tracked,
+     * so a change only invalidates the results it affects, instead of all the results of the query.
+     * A changed or deleted object invalidates the results that returned it,
+     * and a changed or new object invalidates the results it conforms to in memory.
+     * This requires the query cache results to be invalidated on change.
+     * Valid values are "true" and "false", false is the default.
+     * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setIsDependencyTracked(boolean)
+     */
+    public static final String QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES = "eclipselink.query-results-cache.track-dependencies";
+
     /**
      * "eclipselink.query-results-cache.type"
      * <p>Configures the cache type of the query's results cache.
@@ -921,6 +933,36 @@ public class QueryHints {
      */
     public static final String RETURN_NAME_VALUE_PAIRS = "eclipselink.query-return-name-value-pairs";
 
+    /**
+     * "eclipselink.parallel-build"
+     * <p>Configures if the objects of this read all query should be built in parallel, once the rows are fetched.
+     * Large results are split between tasks launched through the server platform, the result order is preserved.
+     * Only read-only queries, or queries executed outside of a transaction, without join fetching, batch fetching
+     * or query results caching build their objects in parallel.
+     * Valid values are:  HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see org.eclipse.persistence.queries.ReadAllQuery#setShouldBuildObjectsInParallel(boolean)
+     */
+    public static final String PARALLEL_BUILD = "eclipselink.parallel-build";
+
+    /**
+     * "eclipselink.cursor.stream"
+     * <p>Configures the query to back the JPA Query getResultStream() with a forward only, read only ScrollableCursor.
+     * The objects are built as the stream is consumed, so large results can be processed without reading all of the
+     * results into memory. The JDBC fetch size can be set using JDBC_FETCH_SIZE, and READ_ONLY can be used
+     * to avoid registering the objects in the persistence context.
+     * The cursor keeps a live JDBC connection until the stream is consumed or closed,
+     * so the stream should be closed if it may not be fully consumed.
+     * HintValues.FALSE leaves the query unchanged, it does not remove a cursor configured by other hints.
+     * Valid values are:  HintValues.TRUE, HintValues.FALSE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see #JDBC_FETCH_SIZE
+     * @see #READ_ONLY
+     * @see org.eclipse.persistence.queries.Cursor#stream()
+     * @see org.eclipse.persistence.queries.ReadAllQuery#useScrollableCursor()
+     */
+    public static final String CURSOR_STREAM = "eclipselink.cursor.stream";
+
     private QueryHints() {
         // no instance please
     }
@@ -186,6 +186,21 @@ public class SystemProperties {
      */
     public static final String CONCURRENCY_MANAGER_ALLOW_STACK_TRACE_READ_LOCK = "eclipselink.concurrency.manager.allow.readlockstacktrace";
 
+    /**
+     * <p>
+     * This property control (enable/disable) if the lock state of cache keys and other concurrency managers is guarded
+     * by a {@link java.util.concurrent.locks.ReentrantLock} instead of the object monitor.
+     * Waiting on a monitor pins the carrier thread of a virtual thread, so this should be enabled if the application
+     * runs on virtual threads. Only concurrency managers created after the property is set are affected.
+     * <p>
+     * <b>Allowed Values</b> (case sensitive String)<b>:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - use <code>synchronized</code> and <code>Object.wait()/notifyAll()</code>
+     * <li>"<code>true</code>" - use a <code>ReentrantLock</code> and <code>Condition</code> per concurrency manager
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_REENTRANT_LOCK = "eclipselink.concurrency.manager.reentrant.lock";
+
     /**
      * <p>
      * This property control (enable/disable) semaphore in {@link org.eclipse.persistence.internal.descriptors.ObjectBuilder}
@@ -117,6 +117,9 @@ public class CachePolicy implements Cloneable, Serializable {
      */
     protected boolean prefetchCacheKeys;
 
+    /** Allows the objects to be read into the cache when the session logs in. */
+    protected boolean shouldPreload;
+
     protected Map<List<DatabaseField>, CacheIndex> cacheIndexes;
 
     /** Allows configuration of database change event notification. */
@@ -1068,4 +1071,27 @@ public void setPrefetchCacheKeys(boolean prefetchCacheKeys) {
     public boolean shouldPrefetchCacheKeys() {
         return this.prefetchCacheKeys ;
     }
+
+    /**
+     * PUBLIC:
+     * Return if the objects are read into the cache when the session logs in.
+     *
+     * @see #setShouldPreload(boolean)
+     */
+    public boolean shouldPreload() {
+        return shouldPreload;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the objects are read into the cache when the session logs in.
+     * The objects are read by pages in the background, and subclasses are read with their parent.
+     * This only applies to shared caches, and the cache type should be able to hold all the objects,
+     * such as a full or soft cache.
+     *
+     * @see org.eclipse.persistence.config.PersistenceUnitProperties#CACHE_PRELOAD_
+     */
+    public void setShouldPreload(boolean shouldPreload) {
+        this.shouldPreload = shouldPreload;
+    }
 }
@@ -5521,6 +5521,14 @@ public boolean shouldUseCacheIdentityMap() {
         return ClassConstants.CacheIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using ConcurrentCacheIdentityMap
+     */
+    public boolean shouldUseConcurrentCacheIdentityMap() {
+        return ClassConstants.ConcurrentCacheIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using FullIdentityMap
@@ -5529,6 +5537,22 @@ public boolean shouldUseFullIdentityMap() {
         return ClassConstants.FullIdentityMap_Class.equals(getIdentityMapClass());
     }
 
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using PrimitiveKeyIdentityMap
+     */
+    public boolean shouldUsePrimitiveKeyIdentityMap() {
+        return ClassConstants.PrimitiveKeyIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
+    /**
+     * PUBLIC:
+     * Return true if this descriptor is using OffHeapCacheIdentityMap
+     */
+    public boolean shouldUseOffHeapCacheIdentityMap() {
+        return ClassConstants.OffHeapCacheIdentityMap_Class.equals(getIdentityMapClass());
+    }
+
     /**
      * PUBLIC:
      * Return true if this descriptor is using SoftIdentityMap
@@ -5697,6 +5721,18 @@ public void useCacheIdentityMap() {
         setIdentityMapClass(ClassConstants.CacheIdentityMap_Class);
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the concurrent cache identity map.
+     * This map caches the approximate LRU instances read from the database,
+     * without serializing concurrent reads to maintain the LRU order.
+     * Note: This map does not guarantee object identity.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useConcurrentCacheIdentityMap() {
+        setIdentityMapClass(ClassConstants.ConcurrentCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the locking policy a changed fields locking policy.
@@ -5853,6 +5889,30 @@ public void useFullIdentityMap() {
         getCachePolicy().useFullIdentityMap();
     }
 
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the primitive key identity map.
+     * This map caches all instances read, as the full identity map,
+     * and stores integral primary keys as primitive values, without boxing.
+     * It should only be used for classes with a single Long, Integer, Short or Byte primary key.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void usePrimitiveKeyIdentityMap() {
+        setIdentityMapClass(ClassConstants.PrimitiveKeyIdentityMap_Class);
+    }
+
+    /**
+     * PUBLIC:
+     * Set the class of identity map to be the off-heap cache identity map.
+     * This map caches a fixed number of objects on the heap, as the concurrent cache identity map,
+     * and stores the rows of the evicted objects off the heap, to rebuild them when read again.
+     * The off-heap capacity is set by the "eclipselink.cache.off-heap-size" property.
+     * The default is the "SoftCacheWeakIdentityMap".
+     */
+    public void useOffHeapCacheIdentityMap() {
+        setIdentityMapClass(ClassConstants.OffHeapCacheIdentityMap_Class);
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the hard cache weak identity map.
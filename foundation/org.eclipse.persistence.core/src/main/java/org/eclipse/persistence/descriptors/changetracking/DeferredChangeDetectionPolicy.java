@@ -45,6 +45,9 @@
  */
 public class DeferredChangeDetectionPolicy implements ObjectChangePolicy, java.io.Serializable {
 
+    /** Skip the change calculation of the existing objects whose attributes are unchanged from their backup clone. */
+    protected boolean shouldSkipUnchangedObjects;
+
     /**
      * INTERNAL:
      * PERF: Calculate change for the new object, avoids check for new since already know.
@@ -223,16 +226,81 @@ public void enableEventProcessing(Object changeTracker){
     /**
      * INTERNAL:
      * Return true if the Object should be compared, false otherwise.  In DeferredChangeDetectionPolicy,
-     * true is always returned since always allow the UnitOfWork to calculate changes.
+     * true is returned since always allow the UnitOfWork to calculate changes,
+     * unless skipping the unchanged objects and the object is unchanged.
      * @param object the object that will be compared
      * @param unitOfWork the active unitOfWork
      * @param descriptor the descriptor for the current object
      */
     @Override
     public boolean shouldCompareExistingObjectForChange(Object object, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        if (!this.shouldSkipUnchangedObjects) {
+            return true;
+        }
+        return !isUnchanged(object, unitOfWork, descriptor);
+    }
+
+    /**
+     * INTERNAL:
+     * Return true if all the attributes of the existing clone are unchanged from its backup clone,
+     * and no change set is required for the clone, so the change calculation can be skipped.
+     * This does not create an object change set, nor extract the primary key,
+     * and returns false at the first attribute changed, or that cannot be compared without computing its changes,
+     * such as an instantiated collection.
+     */
+    protected boolean isUnchanged(Object clone, UnitOfWorkImpl unitOfWork, ClassDescriptor descriptor) {
+        // Events may change the object, forced and cascaded version updates require a change set.
+        if (descriptor.getEventManager().hasAnyEventListeners()
+                || ((descriptor.getCMPPolicy() != null) && descriptor.getCMPPolicy().getForceUpdate())
+                || (descriptor.usesOptimisticLocking() && descriptor.getOptimisticLockingPolicy().isCascaded())
+                || (unitOfWork.hasOptimisticReadLockObjects() && unitOfWork.getOptimisticReadLockObjects().containsKey(clone))) {
+            return false;
+        }
+        Object backUp = unitOfWork.getCloneMapping().get(clone);
+        if (backUp == null) {
+            return false;
+        }
+        FetchGroup fetchGroup = null;
+        if (descriptor.hasFetchGroupManager()) {
+            fetchGroup = descriptor.getFetchGroupManager().getObjectFetchGroup(clone);
+        }
+        // PERF: Avoid iterator.
+        List<DatabaseMapping> mappings = descriptor.getMappings();
+        int mappingsSize = mappings.size();
+        for (int index = 0; index < mappingsSize; index++) {
+            DatabaseMapping mapping = mappings.get(index);
+            if (((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName()))
+                    && !mapping.isUnchanged(clone, backUp, unitOfWork)) {
+                return false;
+            }
+        }
         return true;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the change calculation of the existing objects unchanged from their backup clone is skipped.
+     * @see #setShouldSkipUnchangedObjects(boolean)
+     */
+    public boolean shouldSkipUnchangedObjects() {
+        return shouldSkipUnchangedObjects;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the change calculation of the existing objects unchanged from their backup clone is skipped.
+     * By default each existing object has a change set built and all its mappings compared when changes are calculated.
+     * When set, the attributes of each object are first compared to its backup clone, without building any change set,
+     * and the objects unchanged are skipped, only the changed objects are compared and have a change set built.
+     * This reduces the commit and flush time of units of work holding many objects read but not changed.
+     * Objects with an instantiated collection, or whose descriptor has event listeners, are always compared.
+     * The default is the project's setting.
+     * @see org.eclipse.persistence.sessions.Project#setShouldSkipUnchangedObjects(boolean)
+     */
+    public void setShouldSkipUnchangedObjects(boolean shouldSkipUnchangedObjects) {
+        this.shouldSkipUnchangedObjects = shouldSkipUnchangedObjects;
+    }
+
     /**
      * INTERNAL:
      * Build back up clone.  Used if clone is new because listener should not be set.
@@ -319,7 +387,9 @@ public void revertChanges(Object clone, ClassDescriptor descriptor, UnitOfWorkIm
      */
     @Override
     public void initialize(AbstractSession session, ClassDescriptor descriptor) {
-        //do nothing
+        if (session.getProject().shouldSkipUnchangedObjects()) {
+            this.shouldSkipUnchangedObjects = true;
+        }
     }
 
     /**
@@ -48,11 +48,9 @@
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Hashtable;
 import java.util.List;
-import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
 
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.QueryException;
@@ -106,7 +104,7 @@ public class DatabaseAccessor extends DatasourceAccessor {
     public static boolean shouldUseDynamicStatements = true;
 
     /** Stores statement handles for common used prepared statements. */
-    protected Map<String, Statement> statementCache;
+    protected volatile StatementCache statementCache;
 
     /** Cache of the connection's java.sql.DatabaseMetaData */
     protected DatabaseMetaData metaData;
@@ -122,6 +120,15 @@ public class DatabaseAccessor extends DatasourceAccessor {
     protected DynamicSQLBatchWritingMechanism dynamicSQLMechanism;
     protected ParameterizedSQLBatchWritingMechanism parameterizedMechanism;
 
+    /** The completion of the batch of statements being executed in the background, null if none. */
+    protected volatile CountDownLatch asynchronousBatch;
+
+    /** The thread executing the batch of statements in the background. */
+    protected volatile Thread asynchronousBatchThread;
+
+    /** The failure of the batch of statements executed in the background, thrown by the next use of the connection. */
+    protected volatile Throwable asynchronousBatchFailure;
+
     // Bug 2804663 - Each DatabaseAccessor holds on to its own LOBValueWriter instance
     protected LOBValueWriter lobWriter;
 
@@ -350,7 +357,7 @@ protected void checkTransactionIsolation(AbstractSession session) throws Databas
      */
     public void clearStatementCache(AbstractSession session) {
         if (hasStatementCache()) {
-            for (Statement statement : getStatementCache().values()) {
+            for (Statement statement : this.statementCache.clear()) {
                 try {
                     statement.close();
                 } catch (SQLException exception) {
@@ -358,7 +365,6 @@ public void clearStatementCache(AbstractSession session) {
                     // a statement is closed twice.
                 }
             }
-            this.statementCache = null;
         }
 
         // Close cached dynamic statement.
@@ -386,6 +392,9 @@ public Object clone() {
         }
         accessor.parameterizedMechanism = null;
         accessor.statementCache = null;
+        accessor.asynchronousBatch = null;
+        accessor.asynchronousBatchThread = null;
+        accessor.asynchronousBatchFailure = null;
         return accessor;
     }
 
@@ -619,6 +628,7 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Abstrac
                 getActiveBatchWritingMechanism(session).executeBatchedStatements(session);
             }
         }
+        waitForAsynchronousBatch();
 
         try {
             incrementCallCount(session);
@@ -1498,19 +1508,54 @@ protected Object getObjectThroughOptimizedDataConversion(
      * This should be used to avoid lazy instantiation of the cache.
      */
     protected boolean hasStatementCache() {
+        StatementCache statementCache = this.statementCache;
         return (statementCache != null) && (!statementCache.isEmpty());
     }
 
     /**
      * The statement cache stores a fixed sized number of prepared statements.
      */
-    protected synchronized Map<String, Statement> getStatementCache() {
+    protected StatementCache getStatementCache() {
+        StatementCache statementCache = this.statementCache;
         if (statementCache == null) {
-            statementCache = new HashMap<>(50);
+            synchronized (this) {
+                statementCache = this.statementCache;
+                if (statementCache == null) {
+                    statementCache = new StatementCache();
+                    this.statementCache = statementCache;
+                }
+            }
         }
         return statementCache;
     }
 
+    /**
+     * INTERNAL:
+     * Return the number of times a cached prepared statement was reused by this accessor.
+     */
+    public long getStatementCacheHits() {
+        StatementCache statementCache = this.statementCache;
+        return (statementCache == null) ? 0 : statementCache.getHits();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of times this accessor had to prepare a statement that could have been cached.
+     */
+    public long getStatementCacheMisses() {
+        StatementCache statementCache = this.statementCache;
+        return (statementCache == null) ? 0 : statementCache.getMisses();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of prepared statements closed by this accessor to keep its statement cache within its size.
+     */
+    public long getStatementCacheEvictions() {
+        StatementCache statementCache = this.statementCache;
+        return (statementCache == null) ? 0 : statementCache.getEvictions();
+    }
+
     /**
      * Get a description of tables available in a catalog.
      *
@@ -1594,6 +1639,20 @@ protected boolean isInBatchWritingMode(AbstractSession session) {
         return getPlatform().usesBatchWriting() && this.isInTransaction;
     }
 
+    /**
+     * Remove and return an idle cached statement for the SQL, or null if none is cached.
+     * The hit or miss is recorded in the session's profiler.
+     */
+    protected Statement checkOutCachedStatement(String sql, AbstractSession session) {
+        Statement statement = getStatementCache().checkOut(sql);
+        if (statement == null) {
+            session.incrementProfile(SessionProfiler.StatementCacheMisses);
+        } else {
+            session.incrementProfile(SessionProfiler.StatementCacheHits);
+        }
+        return statement;
+    }
+
     /**
      * Prepare the SQL statement for the call.
      * First check if the statement is cached before building a new one.
@@ -1612,15 +1671,8 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session) th
     public Statement prepareStatement(DatabaseCall call, AbstractSession session, boolean unwrapConnection) throws SQLException {
         Statement statement = null;
         if (call.usesBinding(session) && call.shouldCacheStatement(session)) {
-            // Check the cache by sql string, must synchronize check and removal.
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = statementCache.get(call.getSQLString());
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(call.getSQLString());
-                }
-            }
+            // Check the cache by sql string, the statement is removed to allow concurrent statement execution.
+            statement = checkOutCachedStatement(call.getSQLString(), session);
         }
 
         if (statement == null) {
@@ -1666,16 +1718,9 @@ public Statement prepareStatement(DatabaseCall call, AbstractSession session, bo
      */
     public PreparedStatement prepareStatement(String sql, AbstractSession session, boolean callable) throws SQLException {
         PreparedStatement statement = null;
-        // Check the cache by sql string, must synchronize check and removal.
+        // Check the cache by sql string, the statement is removed to allow concurrent statement execution.
         if (getPlatform().shouldCacheAllStatements()) {
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                statement = (PreparedStatement)statementCache.get(sql);
-                if (statement != null) {
-                    // Need to remove to allow concurrent statement execution.
-                    statementCache.remove(sql);
-                }
-            }
+            statement = (PreparedStatement)checkOutCachedStatement(sql, session);
         }
 
         if (statement == null) {
@@ -1732,26 +1777,40 @@ protected void reconnect(AbstractSession session) {
     public void releaseStatement(Statement statement, String sqlString, DatabaseCall call, AbstractSession session) throws SQLException {
         if (((call == null) && getPlatform().shouldCacheAllStatements())
                 || ((call != null) && call.usesBinding(session) && call.shouldCacheStatement(session))) {
-            Map<String, Statement> statementCache = getStatementCache();
-            synchronized (statementCache) {
-                PreparedStatement preparedStatement = (PreparedStatement)statement;
-                if (!statementCache.containsKey(sqlString)) {// May already be there by other thread.
-                    preparedStatement.clearParameters();
-                    // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
-                    if (call != null) {
-                        resetStatementFromCall(preparedStatement, call);
-                    }
-                    if (statementCache.size() > getPlatform().getStatementCacheSize()) {
-                        // Currently one is removed at random...
-                        PreparedStatement removedStatement = (PreparedStatement)statementCache.remove(statementCache.keySet().iterator().next());
-                        closeStatement(removedStatement, session, call);
+            PreparedStatement preparedStatement = (PreparedStatement)statement;
+            preparedStatement.clearParameters();
+            // Bug 5709179 - reset statement settings on cached statements (dminsky) - inclusion of reset
+            if (call != null) {
+                resetStatementFromCall(preparedStatement, call);
+            }
+            List<Statement> evictedStatements = getStatementCache().checkIn(sqlString, preparedStatement, getPlatform().getStatementCacheSize());
+            if (evictedStatements.isEmpty()) {
+                decrementCallCount();
+            } else {
+                // The least recently used statements are closed, this may include the statement if it could not be cached.
+                // Each statement is closed even if closing a previous one failed.
+                boolean released = false;
+                SQLException failure = null;
+                for (Statement evictedStatement : evictedStatements) {
+                    session.incrementProfile(SessionProfiler.StatementCacheEvictions);
+                    if (released) {
+                        try {
+                            evictedStatement.close();
+                        } catch (SQLException exception) {
+                            // an exception can be raised if
+                            // a statement is closed twice.
+                        }
                     } else {
-                        decrementCallCount();
+                        released = true;
+                        try {
+                            closeStatement(evictedStatement, session, call);
+                        } catch (SQLException exception) {
+                            failure = exception;
+                        }
                     }
-                    statementCache.put(sqlString, preparedStatement);
-                } else {
-                    // CR... Must close the statement if not cached.
-                    closeStatement(statement, session, call);
+                }
+                if (failure != null) {
+                    throw failure;
                 }
             }
         } else if (statement == this.dynamicStatement) {
@@ -1789,6 +1848,11 @@ protected void resetStatementFromCall(Statement statement, DatabaseCall call) th
      */
     @Override
     public void rollbackTransaction(AbstractSession session) throws DatabaseException {
+        try {
+            waitForAsynchronousBatch();
+        } catch (RuntimeException ignore) {
+            // The batch failure is rolled back.
+        }
         getActiveBatchWritingMechanism(session).clear();
         super.rollbackTransaction(session);
     }
@@ -1848,7 +1912,7 @@ public void setActiveBatchWritingMechanism(BatchWritingMechanism mechanism) {
     /**
      * The statement cache stores a fixed sized number of prepared statements.
      */
-    protected void setStatementCache(Hashtable<String, Statement> statementCache) {
+    protected void setStatementCache(StatementCache statementCache) {
         this.statementCache = statementCache;
     }
 
@@ -1941,5 +2005,72 @@ public void writesCompleted(AbstractSession session) {
         if (isConnected && isInBatchWritingMode(session)) {
             getActiveBatchWritingMechanism(session).executeBatchedStatements(session);
         }
+        waitForAsynchronousBatch();
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batch of statements in the background, on this accessor's connection.
+     * The previous batch is completed first, so only one batch executes at a time,
+     * and any other use of the connection waits for the batch to complete.
+     * If the batch cannot be started in the background, it is executed in the current thread.
+     * @see DatabasePlatform#usesAsynchronousBatchWriting()
+     */
+    public void executeAsynchronously(Runnable batch, AbstractSession session) {
+        waitForAsynchronousBatch();
+        CountDownLatch done = new CountDownLatch(1);
+        this.asynchronousBatch = done;
+        Runnable runnable = () -> {
+            this.asynchronousBatchThread = Thread.currentThread();
+            try {
+                batch.run();
+            } catch (Throwable failure) {
+                this.asynchronousBatchFailure = failure;
+            } finally {
+                this.asynchronousBatchThread = null;
+                done.countDown();
+            }
+        };
+        try {
+            session.getServerPlatform().launchContainerRunnable(runnable);
+        } catch (RuntimeException notLaunched) {
+            this.asynchronousBatch = null;
+            batch.run();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for the batch of statements being executed in the background to complete,
+     * and throw its failure if it failed.
+     * This must be called before any other use of the connection.
+     */
+    public void waitForAsynchronousBatch() {
+        CountDownLatch done = this.asynchronousBatch;
+        if ((done == null) || (Thread.currentThread() == this.asynchronousBatchThread)) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException exception) {
+                // The statements are already executing on the connection, so must be waited for.
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        this.asynchronousBatch = null;
+        Throwable failure = this.asynchronousBatchFailure;
+        if (failure != null) {
+            this.asynchronousBatchFailure = null;
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (RuntimeException) failure;
+        }
     }
 }
@@ -185,6 +185,9 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
+    /** Allow a full batch of statements to be executed while the next batch is being built. **/
+    protected boolean usesAsynchronousBatchWriting;
+
     /** Allow configuration option to use Where clause outer joining or From clause joining. **/
     protected Boolean printOuterJoinInWhereClause;
 
@@ -798,6 +801,7 @@ public void copyInto(Platform platform) {
         databasePlatform.setUsesBatchWriting(usesBatchWriting());
         databasePlatform.setUsesJDBCBatchWriting(usesJDBCBatchWriting());
         databasePlatform.setUsesNativeBatchWriting(usesNativeBatchWriting());
+        databasePlatform.setUsesAsynchronousBatchWriting(usesAsynchronousBatchWriting());
         databasePlatform.setUsesStreamsForBinding(usesStreamsForBinding());
         databasePlatform.shouldCreateIndicesOnForeignKeys = this.shouldCreateIndicesOnForeignKeys;
         databasePlatform.printOuterJoinInWhereClause = this.printOuterJoinInWhereClause;
@@ -1900,6 +1904,19 @@ public void setUsesNativeBatchWriting(boolean usesNativeBatchWriting){
         this.usesNativeBatchWriting = usesNativeBatchWriting;
     }
 
+    /**
+     * ADVANCED:
+     * Set if batched statements are executed in the background, while the next batch is built.
+     * When a batch is full, or the next statement differs, the batch is executed by another thread
+     * on the same connection, while the commit continues to build the next statements.
+     * Any other use of the connection waits for the batch to complete, so the statements are
+     * still executed in the commit order, and in the same transaction.
+     * A failure of the batch is thrown by the next use of the connection, such as the commit.
+     */
+    public void setUsesAsynchronousBatchWriting(boolean usesAsynchronousBatchWriting) {
+        this.usesAsynchronousBatchWriting = usesAsynchronousBatchWriting;
+    }
+
     public void setUsesNativeSQL(boolean usesNativeSQL) {
         this.usesNativeSQL = usesNativeSQL;
     }
@@ -2848,6 +2865,14 @@ public boolean usesNativeBatchWriting(){
         return usesNativeBatchWriting;
     }
 
+    /**
+     * ADVANCED:
+     * Return if batched statements are executed in the background, while the next batch is built.
+     */
+    public boolean usesAsynchronousBatchWriting() {
+        return usesAsynchronousBatchWriting;
+    }
+
     public boolean usesNativeSQL() {
         return usesNativeSQL;
     }
@@ -3596,6 +3621,16 @@ public boolean supportsLockingQueriesWithMultipleTables() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether multiple rows can be inserted by a single INSERT statement,
+     * with a list of rows in its VALUES clause.
+     * This is used by the MultiRowInsertBatchWritingMechanism.
+     */
+    public boolean supportsMultiRowInsert() {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Indicates whether locking OF clause should print alias for field.
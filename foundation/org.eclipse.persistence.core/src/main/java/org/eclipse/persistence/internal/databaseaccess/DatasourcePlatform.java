@@ -103,6 +103,9 @@ public class DatasourcePlatform implements Platform {
     /** If sequences should start at Next Value */
     protected boolean defaultSeqenceAtNextValue;
 
+    /** The low-water mark of the sequences preallocated in the background, unless set on the sequence. */
+    protected int defaultPreallocationLowWaterMark;
+
     /**
      * This property configures if the database platform will use {@link java.sql.Statement#getGeneratedKeys()}, 
      * or a separate query, in order to obtain javax.persistence.GenerationType.IDENTITY generated values.
@@ -155,6 +158,23 @@ public void setDefaultSeqenceAtNextValue(boolean defaultSeqenceAtNextValue) {
         this.defaultSeqenceAtNextValue = defaultSeqenceAtNextValue;
     }
 
+    /**
+     * Return the number of preallocated values remaining below which the next values
+     * of the sequences are allocated in the background, unless set on the sequence, 0 if not used.
+     */
+    public int getDefaultPreallocationLowWaterMark() {
+        return defaultPreallocationLowWaterMark;
+    }
+
+    /**
+     * Set the number of preallocated values remaining below which the next values
+     * of the sequences are allocated in the background, unless set on the sequence.
+     * @see org.eclipse.persistence.sequencing.Sequence#setPreallocationLowWaterMark(int)
+     */
+    public void setDefaultPreallocationLowWaterMark(int defaultPreallocationLowWaterMark) {
+        this.defaultPreallocationLowWaterMark = defaultPreallocationLowWaterMark;
+    }
+
     protected void addOperator(ExpressionOperator operator) {
         platformOperators.put(operator.getSelector(), operator);
     }
@@ -271,6 +291,7 @@ public void copyInto(Platform platform) {
         datasourcePlatform.sequencesAfterCloneCleanup();
         datasourcePlatform.setDefaultNativeSequenceToTable(getDefaultNativeSequenceToTable());
         datasourcePlatform.setDefaultSeqenceAtNextValue(getDefaultSeqenceAtNextValue());
+        datasourcePlatform.setDefaultPreallocationLowWaterMark(getDefaultPreallocationLowWaterMark());
     }
 
     /**
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.io.StringWriter;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.DescriptorQueryManager;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * INTERNAL:
+ * <p>MultiRowInsertBatchWritingMechanism is a parameterized batch writing mechanism that rewrites
+ * a batch of homogeneous inserts into INSERT statements with multiple rows in their VALUES clause,
+ * <code>INSERT INTO T (A, B) VALUES (?, ?), (?, ?), ...</code>,
+ * so the rows are sent in a single round trip with drivers that execute JDBC batches one row at a time.</p>
+ * <p>The rows of each statement are limited by the rows per statement, and by the maximum number of
+ * parameters of a statement. The platform must support multi-row inserts, other statements,
+ * or platforms, are batched through the JDBC batch API as by the ParameterizedSQLBatchWritingMechanism.</p>
+ *
+ * @see DatabasePlatform#supportsMultiRowInsert()
+ * @see org.eclipse.persistence.config.BatchWriting#MultiRowInsert
+ */
+public class MultiRowInsertBatchWritingMechanism extends ParameterizedSQLBatchWritingMechanism {
+
+    /** Default maximum number of rows inserted by a statement. */
+    public static final int DEFAULT_ROWS_PER_STATEMENT = 100;
+
+    /** Default maximum number of parameters bound to a statement, SQLServer allows 2100. */
+    public static final int DEFAULT_MAX_PARAMETERS = 2000;
+
+    protected static final String VALUES = " VALUES ";
+
+    /** Maximum number of rows inserted by a statement. */
+    protected int rowsPerStatement;
+
+    /** Maximum number of parameters bound to a statement. */
+    protected int maxParameters;
+
+    public MultiRowInsertBatchWritingMechanism() {
+        super();
+        this.rowsPerStatement = DEFAULT_ROWS_PER_STATEMENT;
+        this.maxParameters = DEFAULT_MAX_PARAMETERS;
+    }
+
+    public MultiRowInsertBatchWritingMechanism(DatabaseAccessor databaseAccessor) {
+        super(databaseAccessor);
+        this.rowsPerStatement = DEFAULT_ROWS_PER_STATEMENT;
+        this.maxParameters = DEFAULT_MAX_PARAMETERS;
+    }
+
+    /**
+     * INTERNAL:
+     * Sets the accessor that this mechanism will use.
+     * The mechanism is cloned from the platform, so its batch must be initialized.
+     */
+    @Override
+    public void setAccessor(DatabaseAccessor accessor, AbstractSession session) {
+        super.setAccessor(accessor, session);
+        this.parameters = new ArrayList<>();
+        if (this.maxBatchSize == 0) {
+            this.maxBatchSize = session.getPlatform().getMaxBatchWritingSize();
+            if (this.maxBatchSize == 0) {
+                // the max size was not set on the platform - use default
+                this.maxBatchSize = DatabasePlatform.DEFAULT_PARAMETERIZED_MAX_BATCH_WRITING_SIZE;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the batched inserts as multi-row inserts, other statements are executed as a JDBC batch.
+     */
+    @Override
+    public void executeBatchedStatements(AbstractSession session) {
+        this.databaseAccessor.waitForAsynchronousBatch();
+        if ((this.parameters.size() <= 1) || !isMultiRowInsert(session)) {
+            super.executeBatchedStatements(session);
+            return;
+        }
+        // Clear the current batch before executing it, as in ParameterizedSQLBatchWritingMechanism.
+        MultiRowInsertBatchWritingMechanism currentBatch = (MultiRowInsertBatchWritingMechanism) this.clone();
+        this.clear();
+        currentBatch.executeMultiRowInsert(session);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the batched statements are inserts that can be rewritten to insert multiple rows.
+     */
+    protected boolean isMultiRowInsert(AbstractSession session) {
+        if (!session.getPlatform().supportsMultiRowInsert()
+                || (this.previousCall.getQuery() == null) || !this.previousCall.getQuery().isInsertObjectQuery()
+                || this.previousCall.shouldReturnGeneratedKeys()) {
+            return false;
+        }
+        String sql = this.previousCall.getSQLString();
+        int valuesIndex = sql.lastIndexOf(VALUES);
+        // All the parameters must be bound in the values of the row.
+        return (valuesIndex != -1) && (sql.indexOf('?') > valuesIndex)
+                && (sql.charAt(valuesIndex + VALUES.length()) == '(') && sql.endsWith(")");
+    }
+
+    /**
+     * INTERNAL:
+     * Insert the batched rows, by statements of up to the rows per statement.
+     */
+    protected void executeMultiRowInsert(AbstractSession session) {
+        try {
+            String sql = this.previousCall.getSQLString();
+            int valuesIndex = sql.lastIndexOf(VALUES) + VALUES.length();
+            String insert = sql.substring(0, valuesIndex);
+            String row = sql.substring(valuesIndex);
+            int size = this.parameters.size();
+            int rows = getRowsPerStatement(this.parameters.get(0).size());
+            String fullStatement = null;
+            for (int first = 0; first < size; first += rows) {
+                int last = Math.min(first + rows, size);
+                String statement;
+                if ((last - first) == rows) {
+                    // Full statements reuse the same SQL, so can be cached.
+                    if (fullStatement == null) {
+                        fullStatement = buildMultiRowInsertSQL(insert, row, rows);
+                    }
+                    statement = fullStatement;
+                } else {
+                    statement = buildMultiRowInsertSQL(insert, row, last - first);
+                }
+                insertRows(session, statement, this.parameters.subList(first, last));
+            }
+        } finally {
+            // Reset the batched statements.
+            this.clear();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of rows of each statement, for rows with the number of parameters.
+     */
+    protected int getRowsPerStatement(int parametersPerRow) {
+        if (parametersPerRow == 0) {
+            return this.rowsPerStatement;
+        }
+        return Math.max(1, Math.min(this.rowsPerStatement, this.maxParameters / parametersPerRow));
+    }
+
+    /**
+     * INTERNAL:
+     * Build the SQL inserting the number of rows, from the insert up to its values, and the values of a row.
+     */
+    public static String buildMultiRowInsertSQL(String insert, String row, int rows) {
+        StringBuilder sql = new StringBuilder(insert.length() + ((row.length() + 2) * rows));
+        sql.append(insert);
+        for (int index = 0; index < rows; index++) {
+            if (index > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * INTERNAL:
+     * Execute the statement inserting the rows, binding the parameters of all the rows.
+     */
+    protected void insertRows(AbstractSession session, String sql, List<List> rows) {
+        this.databaseAccessor.incrementCallCount(session);// Decrement occurs in release.
+        if (session.shouldLog(SessionLog.FINE, SessionLog.SQL)) {
+            List<Object> allParameters = new ArrayList<>();
+            for (List rowParameters : rows) {
+                allParameters.addAll(rowParameters);
+            }
+            StringWriter writer = new StringWriter();
+            writer.write(sql);
+            DatabaseCall.appendLogParameters(allParameters, this.databaseAccessor, writer, session);
+            session.log(SessionLog.FINE, SessionLog.SQL, writer.toString(), null, this.databaseAccessor, false);
+        }
+        PreparedStatement statement = null;
+        try {
+            session.startOperationProfile(SessionProfiler.SqlPrepare, null, SessionProfiler.ALL);
+            try {
+                DatabasePlatform platform = session.getPlatform();
+                statement = this.databaseAccessor.prepareStatement(sql, session, false);
+                if (this.queryTimeoutCache > DescriptorQueryManager.NoTimeout) {
+                    // Set the query timeout that was cached during the multiple calls to appendCall
+                    statement.setQueryTimeout(this.queryTimeoutCache);
+                }
+                int index = 1;
+                for (List rowParameters : rows) {
+                    for (Object parameter : rowParameters) {
+                        platform.setParameterValueInDatabaseCall(parameter, statement, index++, session);
+                    }
+                }
+            } finally {
+                session.endOperationProfile(SessionProfiler.SqlPrepare, null, SessionProfiler.ALL);
+            }
+            this.databaseAccessor.executeDirectNoSelect(statement, null, session);
+            this.databaseAccessor.writeStatementsCount++;
+        } catch (SQLException exception) {
+            // If this is a connection from an external pool then closeStatement will close the connection.
+            // we must test the connection before that happens.
+            RuntimeException exceptionToThrow = this.databaseAccessor.processExceptionForCommError(session, exception, null);
+            closeStatement(session, statement);
+            if (exceptionToThrow == null) {
+                throw DatabaseException.sqlException(exception, this.databaseAccessor, session, false);
+            }
+            throw exceptionToThrow;
+        } catch (RuntimeException exception) {
+            closeStatement(session, statement);
+            throw exception;
+        }
+        // This is in a separate try block to ensure that the real exception is not masked by the release exception.
+        try {
+            this.databaseAccessor.releaseStatement(statement, sql, null, session);
+        } catch (SQLException exception) {
+            throw DatabaseException.sqlException(exception, this.databaseAccessor, session, false);
+        }
+    }
+
+    /**
+     * Ensure that the statement is closed, but still ensure that the real exception is thrown.
+     */
+    protected void closeStatement(AbstractSession session, PreparedStatement statement) {
+        try {
+            this.databaseAccessor.closeStatement(statement, session, null);
+        } catch (SQLException closeException) {
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Keep this mechanism for the parameterized statements that follow the dynamic statements.
+     */
+    @Override
+    protected void switchMechanisms(AbstractSession session, DatabaseCall dbCall) {
+        this.databaseAccessor.parameterizedMechanism = this;
+        super.switchMechanisms(session, dbCall);
+    }
+
+    /**
+     * Return the maximum number of rows inserted by a statement.
+     */
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    /**
+     * Set the maximum number of rows inserted by a statement, default 100.
+     */
+    public void setRowsPerStatement(int rowsPerStatement) {
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    /**
+     * Return the maximum number of parameters bound to a statement.
+     */
+    public int getMaxParameters() {
+        return maxParameters;
+    }
+
+    /**
+     * Set the maximum number of parameters bound to a statement, default 2000.
+     * The rows per statement are reduced for rows with many parameters.
+     */
+    public void setMaxParameters(int maxParameters) {
+        this.maxParameters = maxParameters;
+    }
+}
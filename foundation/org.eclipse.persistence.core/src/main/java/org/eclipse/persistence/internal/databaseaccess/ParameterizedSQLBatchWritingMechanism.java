@@ -83,7 +83,7 @@ public void appendCall(AbstractSession session, DatabaseCall dbCall) {
                 if (this.previousCall.getSQLString().equals(dbCall.getSQLString()) && (this.parameters.size() < this.maxBatchSize)) {
                     this.parameters.add(dbCall.getParameters());
                 } else {
-                    executeBatchedStatements(session);
+                    flushBatchedStatements(session);
                     this.previousCall = dbCall;
                     this.parameters.add(dbCall.getParameters());
                 }
@@ -129,6 +129,8 @@ public void clear() {
      */
     @Override
     public void executeBatchedStatements(AbstractSession session) {
+        // Any batch executing in the background must be executed first.
+        this.databaseAccessor.waitForAsynchronousBatch();
         if (this.parameters.isEmpty()) {
             return;
         }
@@ -140,6 +142,24 @@ public void executeBatchedStatements(AbstractSession session) {
         currentBatch.executeBatch(session);
     }
 
+    /**
+     * INTERNAL:
+     * Execute the batched statements, as the batch is full or the next statement differs.
+     * If the platform uses asynchronous batch writing, the batch is executed in the background,
+     * so the next batch can be built while it executes.
+     * @see DatabasePlatform#usesAsynchronousBatchWriting()
+     */
+    protected void flushBatchedStatements(AbstractSession session) {
+        if ((this.parameters.size() <= 1) || !session.getPlatform().usesAsynchronousBatchWriting()) {
+            executeBatchedStatements(session);
+            return;
+        }
+        // As in executeBatchedStatements, the current batch is cleared before being executed.
+        BatchWritingMechanism currentBatch = this.clone();
+        this.clear();
+        this.databaseAccessor.executeAsynchronously(() -> currentBatch.executeBatchedStatements(session), session);
+    }
+
     /**
      * INTERNAL:
      * This method is added to execute and clear the batched statements on the cloned batch mechanism which
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.databaseaccess;
+
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * INTERNAL:
+ * <p>
+ * <b>Purpose</b>: Bounded least recently used cache of prepared statements for a single accessor.
+ * <p>
+ * Statements are keyed by their SQL string, and several idle statements can be cached for the same SQL,
+ * so concurrent executions of the same SQL on one accessor can each reuse a statement.
+ * A statement is removed from the cache while it is in use, and returned to it on release.
+ * When the cache grows past its size, the idle statements of the least recently used SQL are evicted.
+ * The caller is responsible for closing the statements returned as evicted.
+ * <p>
+ * The number of hits, misses and evictions are tracked for monitoring.
+ *
+ * @see DatabaseAccessor#prepareStatement(DatabaseCall, org.eclipse.persistence.internal.sessions.AbstractSession)
+ * @see DatabasePlatform#getStatementCacheSize()
+ */
+public class StatementCache {
+
+    /** Idle statements by SQL string, ordered from least to most recently used. */
+    protected Map<String, Deque<Statement>> statements;
+
+    /** Total number of idle statements in the cache. */
+    protected int size;
+
+    protected long hits;
+    protected long misses;
+    protected long evictions;
+
+    public StatementCache() {
+        this.statements = new LinkedHashMap<>(64, 0.75f, true);
+    }
+
+    /**
+     * Remove and return an idle statement for the SQL, or null if none is cached.
+     * The most recently released statement is returned first.
+     */
+    public synchronized Statement checkOut(String sql) {
+        Deque<Statement> idle = this.statements.get(sql);
+        if ((idle == null) || idle.isEmpty()) {
+            this.misses++;
+            return null;
+        }
+        Statement statement = idle.pollFirst();
+        if (idle.isEmpty()) {
+            this.statements.remove(sql);
+        }
+        this.size--;
+        this.hits++;
+        return statement;
+    }
+
+    /**
+     * Add the idle statement to the cache.
+     * Return the statements evicted to keep the cache within the maximum size, which must be closed by the caller.
+     * If the maximum size is 0 or less the statement itself is returned, as it cannot be cached.
+     */
+    public synchronized List<Statement> checkIn(String sql, Statement statement, int maxSize) {
+        if (maxSize <= 0) {
+            this.evictions++;
+            return Collections.singletonList(statement);
+        }
+        Deque<Statement> idle = this.statements.computeIfAbsent(sql, key -> new ArrayDeque<>(2));
+        idle.offerFirst(statement);
+        this.size++;
+        if (this.size <= maxSize) {
+            return Collections.emptyList();
+        }
+        List<Statement> evicted = new ArrayList<>(this.size - maxSize);
+        Iterator<Deque<Statement>> iterator = this.statements.values().iterator();
+        while ((this.size > maxSize) && iterator.hasNext()) {
+            Deque<Statement> eldest = iterator.next();
+            while ((this.size > maxSize) && !eldest.isEmpty()) {
+                // The oldest statement of the least recently used SQL goes first.
+                evicted.add(eldest.pollLast());
+                this.size--;
+                this.evictions++;
+            }
+            if (eldest.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Remove and return all the idle statements, which must be closed by the caller.
+     * The hit, miss and eviction counts are kept.
+     */
+    public synchronized List<Statement> clear() {
+        List<Statement> removed = new ArrayList<>(this.size);
+        for (Deque<Statement> idle : this.statements.values()) {
+            removed.addAll(idle);
+        }
+        this.statements.clear();
+        this.size = 0;
+        return removed;
+    }
+
+    /**
+     * Return if no idle statements are cached.
+     */
+    public synchronized boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Return the number of idle statements cached.
+     */
+    public synchronized int size() {
+        return this.size;
+    }
+
+    /**
+     * Return the number of times a cached statement was reused.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Return the number of times no cached statement was available and a new one had to be prepared.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Return the number of statements evicted from, or not admitted to, the cache.
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return getClass().getSimpleName() + "(size=" + this.size + ", hits=" + this.hits + ", misses=" + this.misses + ", evictions=" + this.evictions + ")";
+    }
+}
@@ -44,7 +44,9 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.persistence.annotations.BatchFetchType;
 import org.eclipse.persistence.annotations.CacheKeyType;
@@ -72,6 +74,7 @@
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.expressions.SQLSelectStatement;
+import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.helper.ConcurrencySemaphore;
 import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.helper.DatabaseField;
@@ -190,6 +193,8 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     private static final transient int SEMAPHORE_MAX_NUMBER_THREADS = ConcurrencyUtil.SINGLETON.getNoOfThreadsAllowedToObjectBuildInParallel();
     private static final transient Semaphore SEMAPHORE_LIMIT_MAX_NUMBER_OF_THREADS_OBJECT_BUILDING = new Semaphore(SEMAPHORE_MAX_NUMBER_THREADS);
     private transient ConcurrencySemaphore objectBuilderSemaphore = new ConcurrencySemaphore(SEMAPHORE_THREAD_LOCAL_VAR, SEMAPHORE_MAX_NUMBER_THREADS, SEMAPHORE_LIMIT_MAX_NUMBER_OF_THREADS_OBJECT_BUILDING, this, "object_builder_semaphore_acquired_01");
+    /** Minimum number of rows built by each task of a parallel build, smaller results are built on the calling thread. */
+    protected static final int PARALLEL_BUILD_MIN_ROWS_PER_TASK = 256;
 
     public ObjectBuilder(ClassDescriptor descriptor) {
         this.descriptor = descriptor;
@@ -1432,6 +1437,11 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                     }
                     query.setPrefetchedCacheKeys(session.getIdentityMapAccessorInstance().getAllCacheKeysFromIdentityMapWithEntityPK(pkList, descriptor));
                 }
+                // The objects are built in parallel up front, and added to the container in row order below.
+                Object[] builtObjects = null;
+                if (shouldBuildObjectsInParallel(query, size, isUnitOfWork, joinManager)) {
+                    builtObjects = buildObjectsInParallel(query, databaseRows, session, inheritancePolicy, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                }
                 ContainerPolicy policy = query.getContainerPolicy();
                 if (policy.shouldAddAll()) {
                     List domainObjectsIn = new ArrayList(size);
@@ -1440,8 +1450,12 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            if (builtObjects != null) {
+                                domainObjectsIn.add(builtObjects[index]);
+                            } else {
+                                domainObjectsIn.add(buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy));
+                            }
                             databaseRowsIn.add(databaseRow);
                         }
                     }
@@ -1452,8 +1466,13 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
                         AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
                         // PERF: 1-m joining nulls out duplicate rows.
                         if (databaseRow != null) {
-                            Object domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
-                                    isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            Object domainObject;
+                            if (builtObjects != null) {
+                                domainObject = builtObjects[index];
+                            } else {
+                                domainObject = buildObject(query, databaseRow, joinManager, session, this.descriptor, inheritancePolicy,
+                                        isUnitOfWork, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                            }
                             if (quickAdd) {
                                 ((Collection)domainObjects).add(domainObject);
                             } else {
@@ -1470,6 +1489,110 @@ public Object buildObjectsInto(ReadAllQuery query, List databaseRows, Object dom
         return domainObjects;
     }
 
+    /**
+     * Return if the objects of the rows can be built in parallel.
+     * This requires the query to enable parallel building, and enough rows to split between several tasks.
+     * Objects are only built in parallel outside of a unit of work, as registration in a unit of work is not thread safe,
+     * and without joining or batch reading, as the joined and batched results are shared by the rows.
+     * Queries caching their results are not built in parallel either, as the query results cache is not thread safe.
+     * Parallel building is also avoided if the calling thread is already building objects, as it may hold
+     * locks on cache keys the parallel tasks would wait for.
+     */
+    protected boolean shouldBuildObjectsInParallel(ReadAllQuery query, int size, boolean isUnitOfWork, JoinedAttributeManager joinManager) {
+        return query.shouldBuildObjectsInParallel()
+                && (size >= (PARALLEL_BUILD_MIN_ROWS_PER_TASK * 2))
+                && !isUnitOfWork
+                && (joinManager == null)
+                && !query.hasBatchReadAttributes()
+                && !query.shouldCacheQueryResults()
+                && (query.getSession().getServerPlatform() != null)
+                && (ConcurrencyManager.getDeferredLockManager(Thread.currentThread()) == null);
+    }
+
+    /**
+     * Build the objects of the rows in parallel, split in contiguous ranges of rows between tasks
+     * launched through the session's server platform, so the container's thread pool is used if it has one.
+     * The calling thread builds the first range, and waits for the other tasks to complete.
+     * Each object is built as for a sequential build, so identity is maintained through the cache keys
+     * of the identity map, which are locked by the task building the object.
+     * Return the objects indexed as their rows, null rows have no object.
+     */
+    protected Object[] buildObjectsInParallel(final ReadAllQuery query, final List databaseRows, final AbstractSession session,
+            final InheritancePolicy inheritancePolicy, final boolean shouldCacheQueryResults, final boolean shouldUseWrapperPolicy) {
+        final int size = databaseRows.size();
+        final Object[] domainObjects = new Object[size];
+        int numberOfTasks = getNumberOfParallelBuildTasks(size);
+        final int rowsPerTask = (size + numberOfTasks - 1) / numberOfTasks;
+        numberOfTasks = (size + rowsPerTask - 1) / rowsPerTask;
+        final CountDownLatch done = new CountDownLatch(numberOfTasks - 1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int start = rowsPerTask; start < size; start += rowsPerTask) {
+            final int from = start;
+            Runnable task = () -> {
+                try {
+                    buildObjectsInRange(query, databaseRows, from, Math.min(from + rowsPerTask, size), domainObjects, session,
+                            inheritancePolicy, shouldCacheQueryResults, shouldUseWrapperPolicy);
+                } catch (Throwable exception) {
+                    failure.compareAndSet(null, exception);
+                } finally {
+                    done.countDown();
+                }
+            };
+            try {
+                session.getServerPlatform().launchContainerRunnable(task);
+            } catch (RuntimeException notLaunched) {
+                task.run();
+            }
+        }
+        try {
+            buildObjectsInRange(query, databaseRows, 0, rowsPerTask, domainObjects, session,
+                    inheritancePolicy, shouldCacheQueryResults, shouldUseWrapperPolicy);
+        } finally {
+            // The other tasks may lock cache keys, so they must complete even if the calling thread failed.
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        Throwable exception = failure.get();
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException)exception;
+        } else if (exception != null) {
+            throw (Error)exception;
+        }
+        return domainObjects;
+    }
+
+    /**
+     * Return the number of tasks building the objects of the rows in parallel,
+     * one per available processor with at least the minimum number of rows per task.
+     */
+    protected int getNumberOfParallelBuildTasks(int size) {
+        return Math.min(Runtime.getRuntime().availableProcessors(), size / PARALLEL_BUILD_MIN_ROWS_PER_TASK);
+    }
+
+    /**
+     * Build the objects of the rows from the start index to the end index (exclusive) into the objects array.
+     */
+    protected void buildObjectsInRange(ReadAllQuery query, List databaseRows, int start, int end, Object[] domainObjects, AbstractSession session,
+            InheritancePolicy inheritancePolicy, boolean shouldCacheQueryResults, boolean shouldUseWrapperPolicy) {
+        for (int index = start; index < end; index++) {
+            AbstractRecord databaseRow = (AbstractRecord)databaseRows.get(index);
+            if (databaseRow != null) {
+                domainObjects[index] = buildObject(query, databaseRow, null, session, this.descriptor, inheritancePolicy,
+                        false, shouldCacheQueryResults, shouldUseWrapperPolicy);
+            }
+        }
+    }
+
     /**
      * Version of buildObjectsInto method that takes call instead of rows.
      * Return a container which contains the instances of the receivers javaClass.
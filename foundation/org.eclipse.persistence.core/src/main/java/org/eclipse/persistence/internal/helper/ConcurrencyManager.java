@@ -14,6 +14,8 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.internal.helper;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -28,8 +30,11 @@
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.persistence.config.SystemProperties;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
@@ -52,6 +57,10 @@
  * <li> Wait all other threads until the first thread is done.
  * <li> Maintain the depth of the active thread.
  * </ul>
+ * <p>
+ * The lock state is guarded by the manager's monitor, or by a {@link ReentrantLock} if
+ * {@link ConcurrencyUtil#isUseReentrantLock()} is set when the manager is created.
+ * The latter does not pin the carrier thread of a virtual thread while waiting.
  */
 public class ConcurrencyManager implements Serializable {
 
@@ -69,6 +78,11 @@ public class ConcurrencyManager implements Serializable {
     protected boolean lockedByMergeManager;
     protected Exception stack;
 
+    /** Lock guarding the lock state instead of the monitor, null if the monitor is used. */
+    protected transient ReentrantLock instanceLock;
+    /** Signaled when the lock state changes, null if the monitor is used. */
+    protected transient Condition instanceLockCondition;
+
     // Extended logging info fields
     // Unique ID assigned each time when a new instance of a concurrency manager is created
     private final long concurrencyManagerId = CONCURRENCY_MANAGER_ID.incrementAndGet();
@@ -106,6 +120,21 @@ public ConcurrencyManager() {
         this.depth  = new AtomicInteger(0);
         this.numberOfReaders = new AtomicInteger(0);
         this.numberOfWritersWaiting = new AtomicInteger(0);
+        if (ConcurrencyUtil.SINGLETON.isUseReentrantLock()) {
+            this.instanceLock = new ReentrantLock();
+            this.instanceLockCondition = this.instanceLock.newCondition();
+        }
+    }
+
+    /**
+     * The lock is not serialized, use the one of the current lock mode as when the manager is created.
+     */
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        if (ConcurrencyUtil.SINGLETON.isUseReentrantLock()) {
+            this.instanceLock = new ReentrantLock();
+            this.instanceLockCondition = this.instanceLock.newCondition();
+        }
     }
 
     /**
@@ -123,7 +152,28 @@ public void acquire() throws ConcurrencyException {
      * This should be called before entering a critical section.
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
+    public void acquire(boolean forMerge) throws ConcurrencyException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                acquireWhileLocked(forMerge);
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                acquireWhileLocked(forMerge);
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Wait for all threads except the active thread.
+     * If the active thread just increment the depth.
+     * This should be called before entering a critical section.
+     * called with true from the merge process, if true then the refresh will not refresh the object
+     */
+    protected void acquireWhileLocked(boolean forMerge) throws ConcurrencyException {
         //Flag the time when we start the while loop
         final long whileStartTimeMillis = System.currentTimeMillis();
         Thread currentThread = Thread.currentThread();
@@ -141,7 +191,7 @@ public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
             // This must be in a while as multiple threads may be released, or another thread may rush the acquire after one is released.
             try {
                 this.numberOfWritersWaiting.incrementAndGet();
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                waitOnInstance(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
                 // Run a method that will fire up an exception if we having been sleeping for too long
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
             } catch (InterruptedException exception) {
@@ -189,7 +239,28 @@ public boolean acquireNoWait() throws ConcurrencyException {
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
+    public boolean acquireNoWait(boolean forMerge) throws ConcurrencyException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                return acquireNoWaitWhileLocked(forMerge);
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                return acquireNoWaitWhileLocked(forMerge);
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * If the lock is not acquired already acquire it and return true.
+     * If it has been acquired already return false
+     * Added for CR 2317
+     * called with true from the merge process, if true then the refresh will not refresh the object
+     */
+    protected boolean acquireNoWaitWhileLocked(boolean forMerge) throws ConcurrencyException {
         if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == Thread.currentThread())) {
             //if I own the lock increment depth
             acquire(forMerge);
@@ -205,7 +276,28 @@ public synchronized boolean acquireNoWait(boolean forMerge) throws ConcurrencyEx
      * Added for CR 2317
      * called with true from the merge process, if true then the refresh will not refresh the object
      */
-    public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+    public boolean acquireWithWait(boolean forMerge, int wait) throws ConcurrencyException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                return acquireWithWaitWhileLocked(forMerge, wait);
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                return acquireWithWaitWhileLocked(forMerge, wait);
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * If the lock is not acquired already acquire it and return true.
+     * If it has been acquired already return false
+     * Added for CR 2317
+     * called with true from the merge process, if true then the refresh will not refresh the object
+     */
+    protected boolean acquireWithWaitWhileLocked(boolean forMerge, int wait) throws ConcurrencyException {
         final Thread currentThread = Thread.currentThread();
         if ((this.activeThread == null && this.numberOfReaders.get() == 0) || (this.activeThread == currentThread)) {
             // if I own the lock increment depth
@@ -214,7 +306,7 @@ public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws C
         } else {
             try {
                 putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_WITH_WAIT_METHOD_NAME); 
-                wait(wait);
+                waitOnInstance(wait);
             } catch (InterruptedException e) {
                 return false;
             } finally {
@@ -235,7 +327,28 @@ public synchronized boolean acquireWithWait(boolean forMerge, int wait) throws C
      * Added for Bug 5840635
      * Call with true from the merge process, if true then the refresh will not refresh the object.
      */
-    public synchronized boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
+    public boolean acquireIfUnownedNoWait(boolean forMerge) throws ConcurrencyException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                return acquireIfUnownedNoWaitWhileLocked(forMerge);
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                return acquireIfUnownedNoWaitWhileLocked(forMerge);
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * If the activeThread is not set, acquire it and return true.
+     * If the activeThread is set, it has been acquired already, return false.
+     * Added for Bug 5840635
+     * Call with true from the merge process, if true then the refresh will not refresh the object.
+     */
+    protected boolean acquireIfUnownedNoWaitWhileLocked(boolean forMerge) throws ConcurrencyException {
         // Only acquire lock if active thread is null. Do not check current thread.
         if (this.activeThread == null && this.numberOfReaders.get() == 0) {
              // if lock is unowned increment depth
@@ -258,45 +371,62 @@ public void acquireDeferredLock() throws ConcurrencyException {
             putDeferredLock(currentThread, lockManager);
         }
         lockManager.incrementDepth();
-        synchronized (this) {
-            final long whileStartTimeMillis = System.currentTimeMillis();
-            final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
-            if(currentThreadWillEnterTheWhileWait) {
-                putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                acquireDeferredLockWhileLocked(currentThread, lockManager, readLockManager);
             }
-            while (this.numberOfReaders.get() != 0) {
-                // There are readers of this object, wait until they are done before determining if
-                //there are any other writers.  If not we will wait on the readers for acquire.  If another
-                //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
-                //We could release all active locks before releasing deferred but the object may not be finished building
-                //we could make the readers get a hard lock, but then we would just build a deferred lock even though
-                //the object is not being built.
-                try {
-                    this.numberOfWritersWaiting.incrementAndGet();
-                    wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
-                    ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
-                } catch (InterruptedException exception) {
-                    // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
-                    releaseAllLocksAcquiredByThread(lockManager);
-                    if (currentThreadWillEnterTheWhileWait) {
-                        removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
-                    }
-                    throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
-                } finally {
-                    this.numberOfWritersWaiting.decrementAndGet();
-                }
-            }
-            if (currentThreadWillEnterTheWhileWait) {
-                removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+        } else {
+            this.instanceLock.lock();
+            try {
+                acquireDeferredLockWhileLocked(currentThread, lockManager, readLockManager);
+            } finally {
+                this.instanceLock.unlock();
             }
-            if ((this.activeThread == currentThread) || (!isAcquired())) {
-                lockManager.addActiveLock(this);
-                acquire();
-            } else {
-                lockManager.addDeferredLock(this);
-                if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
-                    AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
+        }
+    }
+
+    /**
+     * Wait on any readers, then acquire the lock if free or owned by the current thread, otherwise defer it.
+     * Must be called while holding the monitor or instance lock of this manager.
+     */
+    protected void acquireDeferredLockWhileLocked(Thread currentThread, DeferredLockManager lockManager, ReadLockManager readLockManager) throws ConcurrencyException {
+        final long whileStartTimeMillis = System.currentTimeMillis();
+        final boolean currentThreadWillEnterTheWhileWait = this.numberOfReaders.get() != 0;
+        if(currentThreadWillEnterTheWhileWait) {
+            putThreadAsWaitingToAcquireLockForWriting(currentThread, ACQUIRE_DEFERRED_LOCK_METHOD_NAME); 
+        }
+        while (this.numberOfReaders.get() != 0) {
+            // There are readers of this object, wait until they are done before determining if
+            //there are any other writers.  If not we will wait on the readers for acquire.  If another
+            //thread is also waiting on the acquire then a deadlock could occur.  See bug 3049635
+            //We could release all active locks before releasing deferred but the object may not be finished building
+            //we could make the readers get a hard lock, but then we would just build a deferred lock even though
+            //the object is not being built.
+            try {
+                this.numberOfWritersWaiting.incrementAndGet();
+                waitOnInstance(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
+            } catch (InterruptedException exception) {
+                // If the thread is interrupted we want to make sure we release all of the locks the thread was owning
+                releaseAllLocksAcquiredByThread(lockManager);
+                if (currentThreadWillEnterTheWhileWait) {
+                    removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
                 }
+                throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+            } finally {
+                this.numberOfWritersWaiting.decrementAndGet();
+            }
+        }
+        if (currentThreadWillEnterTheWhileWait) {
+            removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
+        }
+        if ((this.activeThread == currentThread) || (!isAcquired())) {
+            lockManager.addActiveLock(this);
+            acquire();
+        } else {
+            lockManager.addDeferredLock(this);
+            if (AbstractSessionLog.getLog().shouldLog(SessionLog.FINER) && this instanceof CacheKey) {
+                AbstractSessionLog.getLog().log(SessionLog.FINER, SessionLog.CACHE, "acquiring_deferred_lock", ((CacheKey)this).getObject(), currentThread.getName());
             }
         }
     }
@@ -331,7 +461,26 @@ public void checkReadLock() throws ConcurrencyException {
      * Wait on any writer.
      * Allow concurrent reads.
      */
-    public synchronized void acquireReadLock() throws ConcurrencyException {
+    public void acquireReadLock() throws ConcurrencyException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                acquireReadLockWhileLocked();
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                acquireReadLockWhileLocked();
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Wait on any writer.
+     * Allow concurrent reads.
+     */
+    protected void acquireReadLockWhileLocked() throws ConcurrencyException {
         final Thread currentThread = Thread.currentThread();
         final long whileStartTimeMillis = System.currentTimeMillis();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
@@ -343,7 +492,7 @@ public synchronized void acquireReadLock() throws ConcurrencyException {
         // Cannot check for starving writers as will lead to deadlocks.
         while ((this.activeThread != null) && (this.activeThread != Thread.currentThread())) {
             try {
-                wait(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
+                waitOnInstance(ConcurrencyUtil.SINGLETON.getAcquireWaitTime());
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(this, whileStartTimeMillis, lockManager, readLockManager, ConcurrencyUtil.SINGLETON.isAllowInterruptedExceptionFired());
             } catch (InterruptedException exception) {
                 releaseAllLocksAcquiredByThread(lockManager);
@@ -367,7 +516,25 @@ public synchronized void acquireReadLock() throws ConcurrencyException {
     /**
      * If this is acquired return false otherwise acquire readlock and return true
      */
-    public synchronized boolean acquireReadLockNoWait() {
+    public boolean acquireReadLockNoWait() {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                return acquireReadLockNoWaitWhileLocked();
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                return acquireReadLockNoWaitWhileLocked();
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * If this is acquired return false otherwise acquire readlock and return true
+     */
+    protected boolean acquireReadLockNoWaitWhileLocked() {
         if ((this.activeThread == null) || (this.activeThread == Thread.currentThread())) {
             acquireReadLock();
             return true;
@@ -383,6 +550,65 @@ public Thread getActiveThread() {
         return activeThread;
     }
 
+    /**
+     * Wait for at most the timeout in milliseconds, or until the lock state changes.
+     * A timeout of 0 means wait until signaled.
+     * Must be called while holding the monitor or instance lock of this manager.
+     */
+    protected void waitOnInstance(long timeout) throws InterruptedException {
+        if (this.instanceLock == null) {
+            wait(timeout);
+        } else if (timeout == 0) {
+            this.instanceLockCondition.await();
+        } else {
+            this.instanceLockCondition.await(timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Wake all threads waiting on this manager.
+     * Must be called while holding the monitor or instance lock of this manager.
+     */
+    protected void notifyAllOnInstance() {
+        if (this.instanceLock == null) {
+            notifyAll();
+        } else {
+            this.instanceLockCondition.signalAll();
+        }
+    }
+
+    /**
+     * If this manager is acquired, wait for at most the timeout in milliseconds for it to be released.
+     * A timeout of 0 means wait until released.
+     * This should be used instead of waiting on the manager's monitor, which is not notified if a
+     * {@link ReentrantLock} is used.
+     */
+    public void waitForRelease(long timeout) throws InterruptedException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                if (isAcquired()) {
+                    wait(timeout);
+                }
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                if (isAcquired()) {
+                    waitOnInstance(timeout);
+                }
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Return if a {@link ReentrantLock} guards the lock state of this manager instead of its monitor.
+     */
+    public boolean usesInstanceLock() {
+        return this.instanceLock != null;
+    }
+
     /**
      * Return the deferred lock manager from the thread
      */
@@ -587,7 +813,29 @@ public void putDeferredLock(Thread thread, DeferredLockManager lockManager) {
      * The notify will release the first thread waiting on the object,
      * if no threads are waiting it will do nothing.
      */
-    public synchronized void release() throws ConcurrencyException {
+    public void release() throws ConcurrencyException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                releaseWhileLocked();
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                releaseWhileLocked();
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Decrement the depth for the active thread.
+     * Assume the current thread is the active one.
+     * Raise an error if the depth become &lt; 0.
+     * The notify will release the first thread waiting on the object,
+     * if no threads are waiting it will do nothing.
+     */
+    protected void releaseWhileLocked() throws ConcurrencyException {
         if (this.depth.get() == 0) {
             throw ConcurrencyException.signalAttemptedBeforeWait();
         } else {
@@ -599,7 +847,7 @@ public synchronized void release() throws ConcurrencyException {
                 this.stack = null;
             }
             this.lockedByMergeManager = false;
-            notifyAll();
+            notifyAllOnInstance();
         }
     }
 
@@ -691,7 +939,25 @@ public void releaseDeferredLock() throws ConcurrencyException {
     /**
      * Decrement the number of readers. Used to allow concurrent reads.
      */
-    public synchronized void releaseReadLock() throws ConcurrencyException {
+    public void releaseReadLock() throws ConcurrencyException {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                releaseReadLockWhileLocked();
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                releaseReadLockWhileLocked();
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Decrement the number of readers. Used to allow concurrent reads.
+     */
+    protected void releaseReadLockWhileLocked() throws ConcurrencyException {
         if (this.numberOfReaders.get() == 0) {
             this.totalNumberOfKeysReleasedForReadingBlewUpExceptionDueToCacheKeyHavingReachedCounterZero.incrementAndGet();
             try {
@@ -709,7 +975,7 @@ public synchronized void releaseReadLock() throws ConcurrencyException {
             }
         }
         if (this.numberOfReaders.get() == 0) {
-            notifyAll();
+            notifyAllOnInstance();
         }
     }
 
@@ -758,7 +1024,22 @@ protected void setNumberOfWritersWaiting(int numberOfWritersWaiting) {
         this.numberOfWritersWaiting.set(numberOfWritersWaiting);
     }
 
-    public synchronized void transitionToDeferredLock() {
+    public void transitionToDeferredLock() {
+        if (this.instanceLock == null) {
+            synchronized (this) {
+                transitionToDeferredLockWhileLocked();
+            }
+        } else {
+            this.instanceLock.lock();
+            try {
+                transitionToDeferredLockWhileLocked();
+            } finally {
+                this.instanceLock.unlock();
+            }
+        }
+    }
+
+    protected void transitionToDeferredLockWhileLocked() {
         Thread currentThread = Thread.currentThread();
         DeferredLockManager lockManager = getDeferredLockManager(currentThread);
         if (lockManager == null) {
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provide a concurrent fixed size cache that keeps the most frequently used entries.
+ * This is used for caching JPQL parsed queries.
+ * <p>
+ * The frequency of the keys is estimated by a count-min sketch, counting the gets
+ * of all keys, cached or not, and halved periodically so the frequencies follow the workload.
+ * When the cache is full, a new key is only admitted if it is more frequent than
+ * the least recently used entry, which is then evicted (TinyLFU admission),
+ * so a scan of one-off keys does not evict the frequent ones.
+ * <p>
+ * Gets are not locked, only the eviction is synchronized.
+ * To keep the hits from writing shared state, the access time of a hit key is only updated
+ * if it is older than a quarter of the cache, and its frequency only if it is not already at the maximum.
+ * The hits, misses and evictions are counted.
+ * <p>
+ * The string keys can be written to a snapshot file, most frequent first,
+ * so that a restarted process can fill its cache again before the keys are used.
+ */
+public class ConcurrentFrequencyCache extends ConcurrentFixedCache {
+
+    /** The number of hash functions (rows) of the frequency sketch. */
+    protected static final int SKETCH_DEPTH = 4;
+
+    /** The highest frequency counted, higher frequencies do not matter for admission. */
+    protected static final int MAX_FREQUENCY = 15;
+
+    /** The seeds of the hash functions of the rows. */
+    protected static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    /** The last access tick of each key, to find the least recently used entry. */
+    protected Map<Object, Long> accessTimes;
+    protected AtomicLong clock;
+
+    /** The count-min sketch, SKETCH_DEPTH rows of counters, updated without lock so counts may be lost under contention. */
+    protected int[] sketch;
+    protected int additions;
+    protected int sampleSize;
+
+    protected LongAdder hits;
+    protected LongAdder misses;
+    protected LongAdder evictions;
+
+    /**
+     * Create a new frequency cache, with a fixed size of 100.
+     */
+    public ConcurrentFrequencyCache() {
+        this(100);
+    }
+
+    /**
+     * Create a new frequency cache, with the max size.
+     */
+    public ConcurrentFrequencyCache(int maxSize) {
+        super(maxSize);
+        this.accessTimes = new ConcurrentHashMap<>(maxSize);
+        this.clock = new AtomicLong();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        initializeSketch();
+    }
+
+    /**
+     * Size the frequency sketch for the max size.
+     * The frequencies are halved every 10 times the max size additions.
+     */
+    protected void initializeSketch() {
+        int width = Integer.highestOneBit(Math.max(16, this.maxSize * 4) - 1) << 1;
+        this.sketch = new int[width * SKETCH_DEPTH];
+        this.sampleSize = Math.max(160, this.maxSize * 10);
+        this.additions = 0;
+    }
+
+    /**
+     * Set the fixed size of the cache.
+     * The frequencies are reset.
+     */
+    @Override
+    public void setMaxSize(int maxSize) {
+        synchronized (this) {
+            super.setMaxSize(maxSize);
+            initializeSketch();
+        }
+    }
+
+    /**
+     * Return the value cached for the key, or null.
+     * The access is counted in the frequency of the key.
+     */
+    @Override
+    public Object get(Object key) {
+        Object value = this.cache.get(key);
+        incrementFrequency(key);
+        if (value == null) {
+            this.misses.increment();
+        } else {
+            this.hits.increment();
+            recordAccess(key);
+        }
+        return value;
+    }
+
+    /**
+     * Record the access of the cached key for the least recently used eviction.
+     * The access time of a key accessed within the last quarter of the cache's accesses is not updated,
+     * as it is not a victim anyway, so the hits of the hot keys do not all write the access times and the clock.
+     */
+    protected void recordAccess(Object key) {
+        Long accessTime = this.accessTimes.get(key);
+        if ((accessTime == null) || (this.clock.get() - accessTime > (this.maxSize >> 2))) {
+            this.accessTimes.put(key, this.clock.incrementAndGet());
+        }
+    }
+
+    /**
+     * Add the value to the cache.
+     * If the cache is full, the value is only cached if its key is more frequent
+     * than the least recently used key, which is then evicted.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        if (this.maxSize == 0) {
+            return;
+        }
+        if ((this.cache.size() < this.maxSize) || this.cache.containsKey(key)) {
+            this.accessTimes.put(key, this.clock.incrementAndGet());
+            this.cache.put(key, value);
+            if (this.cache.size() <= this.maxSize) {
+                return;
+            }
+        }
+        synchronized (this) {
+            if (!this.cache.containsKey(key)) {
+                Object victim = findLeastRecentlyUsed(key);
+                if ((victim != null) && (frequency(key) <= frequency(victim))) {
+                    // The new key is not frequent enough to be worth an entry.
+                    return;
+                }
+                this.accessTimes.put(key, this.clock.incrementAndGet());
+                this.cache.put(key, value);
+            }
+            // Concurrent puts may have filled the cache over its size.
+            while (this.cache.size() > this.maxSize) {
+                Object victim = findLeastRecentlyUsed(key);
+                if (victim == null) {
+                    break;
+                }
+                evict(victim);
+            }
+            // Forget the access of keys removed from the cache directly.
+            if (this.accessTimes.size() > this.cache.size() * 2) {
+                this.accessTimes.keySet().retainAll(this.cache.keySet());
+            }
+        }
+    }
+
+    /**
+     * Remove the entry to make room for a more frequent one.
+     */
+    protected void evict(Object key) {
+        if (this.cache.remove(key) != null) {
+            this.evictions.increment();
+        }
+        this.accessTimes.remove(key);
+    }
+
+    /**
+     * Return the least recently used key other than the key, or null if none.
+     * The cache is scanned, this is only done when the cache is full and a key is missing.
+     */
+    protected Object findLeastRecentlyUsed(Object excludedKey) {
+        Object victim = null;
+        long oldest = Long.MAX_VALUE;
+        for (Iterator iterator = this.cache.keySet().iterator(); iterator.hasNext(); ) {
+            Object next = iterator.next();
+            if (next.equals(excludedKey)) {
+                continue;
+            }
+            Long time = this.accessTimes.get(next);
+            long accessTime = (time == null) ? 0 : time;
+            if (accessTime < oldest) {
+                oldest = accessTime;
+                victim = next;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Count an access to the key, and halve all the frequencies once the sample size is reached.
+     * The access of a key at the maximum frequency is not counted, so nothing is written.
+     */
+    protected void incrementFrequency(Object key) {
+        int[] sketch = this.sketch;
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            int index = indexOf(sketch, hash, row);
+            if (sketch[index] < MAX_FREQUENCY) {
+                sketch[index]++;
+                added = true;
+            }
+        }
+        if (added && (++this.additions >= this.sampleSize)) {
+            age();
+        }
+    }
+
+    /**
+     * Halve the frequencies, so keys that were frequent in the past are not kept forever.
+     */
+    protected synchronized void age() {
+        if (this.additions < this.sampleSize) {
+            return;
+        }
+        int[] sketch = this.sketch;
+        for (int index = 0; index < sketch.length; index++) {
+            sketch[index] = sketch[index] >>> 1;
+        }
+        this.additions = this.additions / 2;
+    }
+
+    /**
+     * Return the estimated frequency of the key, the lowest count of its rows.
+     */
+    public int frequency(Object key) {
+        int[] sketch = this.sketch;
+        int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            frequency = Math.min(frequency, sketch[indexOf(sketch, hash, row)]);
+        }
+        return frequency;
+    }
+
+    /**
+     * Return the index of the counter of the hash in the row of the sketch.
+     * The width is taken from the sketch, as it is replaced when the max size changes.
+     */
+    protected static int indexOf(int[] sketch, int hash, int row) {
+        int width = sketch.length / SKETCH_DEPTH;
+        int rowHash = spread(hash * SEEDS[row]);
+        return (row * width) + (rowHash & (width - 1));
+    }
+
+    protected static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x45D9F3B;
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public void clear() {
+        synchronized (this) {
+            super.clear();
+            this.accessTimes.clear();
+            initializeSketch();
+        }
+    }
+
+    @Override
+    public void remove(Object key) {
+        super.remove(key);
+        this.accessTimes.remove(key);
+    }
+
+    /**
+     * Return the number of gets that found their value.
+     */
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Return the number of gets that did not find their value.
+     */
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Return the number of entries removed to admit more frequent ones.
+     */
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Return the ratio of gets that found their value, 0 if none.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        if (total == 0) {
+            return 0;
+        }
+        return (double)hits / total;
+    }
+
+    /**
+     * Reset the hits, misses and evictions.
+     */
+    public void resetStatistics() {
+        this.hits.reset();
+        this.misses.reset();
+        this.evictions.reset();
+    }
+
+    /**
+     * Return the most frequent cached keys, the most frequent first,
+     * at most the number of keys.
+     */
+    public List<Object> getTopEntries(int number) {
+        List<Object> keys = new ArrayList<>(this.cache.keySet());
+        keys.sort((key1, key2) -> Integer.compare(frequency(key2), frequency(key1)));
+        if (keys.size() > number) {
+            return new ArrayList<>(keys.subList(0, number));
+        }
+        return keys;
+    }
+
+    /**
+     * Write the string keys of the cache to the file, the most frequent first.
+     * The file is replaced, each key is written as its length and its UTF-8 bytes.
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        List<Object> keys = getTopEntries(Integer.MAX_VALUE);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            for (Object key : keys) {
+                if (key instanceof String) {
+                    byte[] bytes = ((String)key).getBytes(StandardCharsets.UTF_8);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+            }
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Return the keys written to the snapshot file, the most frequent first,
+     * or an empty list if the file does not exist.
+     * A truncated file returns the keys completely written.
+     */
+    public static List<String> readSnapshot(Path file) throws IOException {
+        List<String> keys = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return keys;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = input.readInt();
+                } catch (EOFException endOfFile) {
+                    break;
+                }
+                if (length < 0) {
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                try {
+                    input.readFully(bytes);
+                } catch (EOFException truncated) {
+                    break;
+                }
+                keys.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+        return keys;
+    }
+}
@@ -604,13 +604,13 @@ public void setTransactionId(Object transactionId) {
         this.transactionId = transactionId;
     }
 
-    public synchronized Object waitForObject(){
+    public Object waitForObject(){
         try {
             int count = 0;
             while (this.object == null && isAcquired()) {
                 if (count > MAX_WAIT_TRIES)
                     throw ConcurrencyException.maxTriesLockOnBuildObjectExceded(getActiveThread(), Thread.currentThread());
-                wait(10);
+                waitForRelease(10);
                 ++count;
             }
         } catch(InterruptedException ex) {
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A fixed size approximate LRU cache that does not serialize readers<p>
+ * As the {@link CacheIdentityMap}, a linked list of the cache keys is maintained to remove the
+ * least recently used objects once the max size is reached.
+ * Reads do not update the list directly, but record the accessed cache key in one of several
+ * striped read buffers, which are applied to the list in batches by whichever thread acquires the
+ * eviction lock. If a read buffer is full, or the eviction lock is busy, the access is dropped,
+ * so reads never wait on a global lock and the LRU order is approximate under contention.
+ * Inserts and removals update the list under the eviction lock.
+ * Evicted cache keys are unlinked under the eviction lock, but removed from the map after it is
+ * released, as the removal must acquire the cache key.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Keeps the approximate LRU linked list updated.
+ * </ul>
+ * @see CacheIdentityMap
+ */
+public class ConcurrentCacheIdentityMap extends FullIdentityMap {
+
+    /** Number of cache keys a read buffer can hold before it must be drained. */
+    protected static final int READ_BUFFER_SIZE = 32;
+
+    /** Number of read buffers, a power of two based on the number of processors. */
+    protected static final int READ_BUFFERS = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+
+    /** Provide handles on the linked list, the first is the most recently used. */
+    protected LinkedCacheKey first;
+
+    /** Provide handles on the linked list, the last is the least recently used. */
+    protected LinkedCacheKey last;
+
+    /** Guards the linked list. */
+    protected ReentrantLock evictionLock;
+
+    /** Striped buffers of cache keys that were read but not yet moved in the linked list. */
+    protected ReadBuffer[] readBuffers;
+
+    /** Number of cache keys unlinked for eviction but not yet removed from the map. */
+    protected AtomicInteger pendingEvictions;
+
+    public ConcurrentCacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        initializeLinks();
+    }
+
+    /**
+     * Initialize an empty linked list and read buffers.
+     */
+    protected void initializeLinks() {
+        this.first = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+        this.last = new LinkedCacheKey(CacheId.EMPTY, null, null, 0, isIsolated);
+        this.first.setNext(this.last);
+        this.last.setPrevious(this.first);
+        this.evictionLock = new ReentrantLock();
+        this.pendingEvictions = new AtomicInteger();
+        this.readBuffers = new ReadBuffer[READ_BUFFERS];
+        for (int index = 0; index < READ_BUFFERS; index++) {
+            this.readBuffers[index] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * Clone the map and its cache keys, and rebuild the linked list for the cloned keys.
+     */
+    @Override
+    public Object clone() {
+        ConcurrentCacheIdentityMap clone = (ConcurrentCacheIdentityMap)super.clone();
+        clone.initializeLinks();
+        for (CacheKey cacheKey : clone.getCacheKeys().values()) {
+            cacheKey.setOwningMap(clone);
+            clone.insertLink((LinkedCacheKey)cacheKey);
+        }
+        return clone;
+    }
+
+    @Override
+    public CacheKey createCacheKey(Object primaryKey, Object object, Object writeLockValue, long readTime) {
+        return new LinkedCacheKey(primaryKey, object, writeLockValue, readTime, isIsolated);
+    }
+
+    /**
+     * Access the object within the table for the given primaryKey.
+     * Record the access, the key is moved to the top of the linked list when the read buffers are drained.
+     * @param primaryKey is the primary key for the object to search for.
+     * @return the LinkedCacheKey or null if none found for primaryKey
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
+        CacheKey cacheKey = super.getCacheKey(primaryKey, forMerge);
+        if (cacheKey != null) {
+            ReadBuffer buffer = this.readBuffers[(int)(Thread.currentThread().getId() & (READ_BUFFERS - 1))];
+            if (!buffer.offer((LinkedCacheKey)cacheKey)) {
+                tryDrainReadBuffers();
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Apply the recorded reads to the linked list if the eviction lock is free, otherwise let the
+     * thread holding the lock, or a later one, drain them.
+     */
+    protected void tryDrainReadBuffers() {
+        if (this.evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Move the cache keys recorded in the read buffers to the top of the linked list.
+     * Callers of this method must hold the eviction lock.
+     */
+    protected void drainReadBuffers() {
+        for (ReadBuffer buffer : this.readBuffers) {
+            LinkedCacheKey cacheKey = buffer.poll();
+            while (cacheKey != null) {
+                // The key may have been removed since it was read.
+                if ((cacheKey.getPrevious() != null) && (cacheKey.getNext() != null)) {
+                    removeLink(cacheKey);
+                    insertLink(cacheKey);
+                }
+                cacheKey = buffer.poll();
+            }
+        }
+    }
+
+    /**
+     * Unlink the least recently used keys from the end of the linked list until the size of the
+     * receiver, excluding keys already pending eviction, is down to the maxSize.
+     * Callers of this method must hold the eviction lock, and remove the returned keys with
+     * {@link #removeEvicted(List)} once it is released.
+     * @return the unlinked keys to be removed from the map.
+     */
+    protected List<LinkedCacheKey> ensureFixedSize() {
+        List<LinkedCacheKey> evicted = Collections.emptyList();
+        // protect the case where someone attempts to break the cache by
+        // setting max size to 0.
+        while (getMaxSize() > 0 && (getSize() - this.pendingEvictions.get()) > getMaxSize()) {
+            LinkedCacheKey eldest = this.last.getPrevious();
+            if (eldest == this.first) {
+                // Keys being put concurrently are not linked yet.
+                break;
+            }
+            if (evicted.isEmpty()) {
+                evicted = new ArrayList<>(2);
+            }
+            evicted.add(removeLink(eldest));
+            this.pendingEvictions.incrementAndGet();
+        }
+        return evicted;
+    }
+
+    /**
+     * Remove the keys unlinked by {@link #ensureFixedSize()} from the map.
+     * Callers of this method must not hold the eviction lock.
+     */
+    protected void removeEvicted(List<LinkedCacheKey> evicted) {
+        for (LinkedCacheKey key : evicted) {
+            key.acquire();
+            try {
+                // The key may have been removed concurrently, and its primary key put again.
+                if (key.getOwningMap() == this) {
+                    evict(key);
+                }
+            } finally {
+                key.release();
+                this.pendingEvictions.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Remove the evicted key from the map.
+     * Callers of this method must hold the lock on the cache key, and not the eviction lock.
+     */
+    protected void evict(LinkedCacheKey key) {
+        super.remove(key);
+    }
+
+    /**
+     * Insert a new element at the top of the linked list of LinkedCacheKeys.
+     * Callers of this method must hold the eviction lock.
+     * @return the added LinkedCacheKey
+     */
+    protected LinkedCacheKey insertLink(LinkedCacheKey key) {
+        if (key == null){
+            return key;
+        }
+        this.first.getNext().setPrevious(key);
+        key.setNext(this.first.getNext());
+        key.setPrevious(this.first);
+        this.first.setNext(key);
+        return key;
+    }
+
+    /**
+     * Remove the LinkedCacheKey from the linked list.
+     * Callers of this method must hold the eviction lock.
+     * @return the removed LinkedCacheKey.
+     */
+    protected LinkedCacheKey removeLink(LinkedCacheKey key) {
+        if (key == null || key.getPrevious() == null || key.getNext() == null){
+            //already removed by a competing thread, just return
+            return key;
+        }
+        key.getPrevious().setNext(key.getNext());
+        key.getNext().setPrevious(key.getPrevious());
+        key.setNext(null);
+        key.setPrevious(null);
+        return key;
+    }
+
+    /**
+     * Also insert the link if the cacheKey is put, and evict the least recently used keys past the max size.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+        if (cacheKey == null) {
+            List<LinkedCacheKey> evicted = Collections.emptyList();
+            this.evictionLock.lock();
+            try {
+                // The key may have been removed by a concurrent thread before it is linked.
+                if (searchKey.getOwningMap() == this) {
+                    drainReadBuffers();
+                    insertLink((LinkedCacheKey)searchKey);
+                    evicted = ensureFixedSize();
+                }
+            } finally {
+                this.evictionLock.unlock();
+            }
+            removeEvicted(evicted);
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Remove the LinkedCacheKey from the cache as well as from the linked list.
+     * @return the object of the removed LinkedCacheKey.
+     */
+    @Override
+    public Object remove(CacheKey key) {
+        // The key may be null if was missing, just null should be returned in this case.
+        if (key == null) {
+            return null;
+        }
+        // The map removal locks the cache key, do not hold the eviction lock while waiting on it.
+        Object object = super.remove(key);
+        this.evictionLock.lock();
+        try {
+            removeLink((LinkedCacheKey)key);
+        } finally {
+            this.evictionLock.unlock();
+        }
+        return object;
+    }
+
+    /**
+     * INTERNAL:
+     * This method will be used to update the max cache size, any objects exceeding the max cache size will
+     * be remove from the cache.
+     */
+    @Override
+    public void updateMaxSize(int maxSize) {
+        setMaxSize(maxSize);
+        List<LinkedCacheKey> evicted;
+        this.evictionLock.lock();
+        try {
+            drainReadBuffers();
+            evicted = ensureFixedSize();
+        } finally {
+            this.evictionLock.unlock();
+        }
+        removeEvicted(evicted);
+    }
+
+    /**
+     * Return the number of keys in the linked list, for testing.
+     */
+    protected int getLinkedSize() {
+        this.evictionLock.lock();
+        try {
+            int size = 0;
+            for (LinkedCacheKey key = this.first.getNext(); key != this.last; key = key.getNext()) {
+                size++;
+            }
+            return size;
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Lossy bounded buffer of cache keys read by a stripe of threads.
+     * Any thread can offer a key, keys are only polled by the thread holding the eviction lock.
+     */
+    protected static class ReadBuffer {
+        protected final AtomicReferenceArray<LinkedCacheKey> keys = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        protected final AtomicLong writeCount = new AtomicLong();
+        protected volatile long readCount;
+
+        /**
+         * Record the key, return false if the buffer is full and must be drained.
+         * The key is dropped if another thread is recording a key concurrently.
+         */
+        protected boolean offer(LinkedCacheKey key) {
+            long write = this.writeCount.get();
+            if (write - this.readCount >= READ_BUFFER_SIZE) {
+                return false;
+            }
+            if (this.writeCount.compareAndSet(write, write + 1)) {
+                this.keys.lazySet((int)(write & (READ_BUFFER_SIZE - 1)), key);
+            }
+            return true;
+        }
+
+        /**
+         * Return the next recorded key, or null if none are left or the next one is not published yet.
+         * Callers of this method must hold the eviction lock.
+         */
+        protected LinkedCacheKey poll() {
+            long read = this.readCount;
+            if (read >= this.writeCount.get()) {
+                return null;
+            }
+            int index = (int)(read & (READ_BUFFER_SIZE - 1));
+            LinkedCacheKey key = this.keys.get(index);
+            if (key == null) {
+                return null;
+            }
+            this.keys.lazySet(index, null);
+            this.readCount = read + 1;
+            return key;
+        }
+    }
+}
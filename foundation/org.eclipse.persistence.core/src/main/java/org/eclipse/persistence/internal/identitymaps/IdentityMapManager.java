@@ -57,6 +57,7 @@
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
@@ -88,6 +89,9 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set> queryResultsInvalidationsByClass;
 
+    /** A map of query to the dependencies of its results, for queries tracking the dependencies of their results. */
+    protected Map<Object, QueryResultsDependencies> queryResultsDependencies;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
@@ -119,11 +123,13 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap();
             this.queryResults = new HashMap();
             this.queryResultsInvalidationsByClass = new HashMap();
+            this.queryResultsDependencies = new HashMap();
             this.cacheIndexes = new HashMap();
         } else {
             this.identityMaps = new ConcurrentHashMap();
             this.queryResults = new ConcurrentHashMap();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap();
+            this.queryResultsDependencies = new ConcurrentHashMap();
             this.cacheIndexes = new ConcurrentHashMap();
         }
         checkIsCacheAccessPreCheckRequired();
@@ -389,6 +395,12 @@ protected <T extends IdentityMap> IdentityMap buildNewIdentityMap(
                 return new FullIdentityMap(size, descriptor, this.session, isIsolated);
             } else if (identityMapClass == ClassConstants.CacheIdentityMap_Class) {
                 return new CacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.ConcurrentCacheIdentityMap_Class) {
+                return new ConcurrentCacheIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.PrimitiveKeyIdentityMap_Class) {
+                return new PrimitiveKeyIdentityMap(size, descriptor, this.session, isIsolated);
+            } else if (identityMapClass == ClassConstants.OffHeapCacheIdentityMap_Class) {
+                return new OffHeapCacheIdentityMap(size, descriptor, this.session, isIsolated);
             }
         }
         final Class<?>[] parameters = new Class<?>[]{ClassConstants.PINT, ClassDescriptor.class, AbstractSession.class, boolean.class};
@@ -448,6 +460,7 @@ public Object clone() {
     public void clearQueryCache() {
         this.queryResults = new ConcurrentHashMap();
         this.queryResultsInvalidationsByClass = new ConcurrentHashMap();
+        this.queryResultsDependencies = new ConcurrentHashMap();
     }
 
     /**
@@ -470,6 +483,7 @@ public void clearQueryCache(ReadQuery query) {
                 queryKey = query;
             }
             this.queryResults.remove(queryKey);
+            this.queryResultsDependencies.remove(queryKey);
         }
     }
 
@@ -478,18 +492,38 @@ public void clearQueryCache(ReadQuery query) {
      * This is used to invalidate the query cache on any change.
      */
     public void invalidateQueryCache(Class<?> classThatChanged) {
+        invalidateQueryCache(classThatChanged, null);
+    }
+
+    /**
+     * Invalidate/remove the results for the class from the query cache affected by the changes.
+     * Only the results of queries tracking their dependencies can be kept,
+     * all the results of the other queries are removed.
+     * This is used to invalidate the query cache on a merge.
+     * @param changeSets the changes to objects of the class, null if unknown.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, List<ObjectChangeSet> changeSets) {
         if (this.queryResultsInvalidationsByClass == null) {
             return;
         }
         Set invalidations = this.queryResultsInvalidationsByClass.get(classThatChanged);
         if (invalidations != null) {
             for (Object queryKey : invalidations) {
-                this.queryResults.remove(queryKey);
+                QueryResultsDependencies dependencies = this.queryResultsDependencies.get(queryKey);
+                if ((changeSets == null) || (dependencies == null) || !dependencies.canCheckChanges(classThatChanged)) {
+                    this.queryResults.remove(queryKey);
+                    this.queryResultsDependencies.remove(queryKey);
+                } else {
+                    IdentityMap map = this.queryResults.get(queryKey);
+                    if (map != null) {
+                        dependencies.invalidate(map, changeSets, this, this.session);
+                    }
+                }
             }
         }
         Class<?> superClass = classThatChanged.getSuperclass();
         if ((superClass != null) && (superClass != ClassConstants.OBJECT)) {
-            invalidateQueryCache(superClass);
+            invalidateQueryCache(superClass, changeSets);
         }
     }
 
@@ -1402,6 +1436,17 @@ public CacheKey putInIdentityMap(Object domainObject, Object keys, Object writeL
      * different parameter values access different caches.
      */
     public void putQueryResult(ReadQuery query, List parameters, Object results) {
+        putQueryResult(query, parameters, results, null);
+    }
+
+    /**
+     * Set the results for a query.
+     * Query results are cached based on the parameter values provided to the query
+     * different parameter values access different caches.
+     * The translation row is used to check if changed objects conform to the query,
+     * for queries tracking the dependencies of their results.
+     */
+    public void putQueryResult(ReadQuery query, List parameters, Object results, AbstractRecord translationRow) {
         if ((results == null) || (results == InvalidObject.instance())) {
             if (query.getQueryResultsCachePolicy().isNullIgnored()) {
                 return;
@@ -1434,6 +1479,9 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
                             }
                             invalidations.add(queryKey);
                         }
+                        if (query.getQueryResultsCachePolicy().isDependencyTracked() && QueryResultsDependencies.canTrackDependencies(query)) {
+                            this.queryResultsDependencies.put(queryKey, new QueryResultsDependencies((ObjectLevelReadQuery)query));
+                        }
                     }
                 }
             }
@@ -1456,6 +1504,10 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
             results = InvalidObject.instance();
         }
         map.put(lookupParameters, results, null, queryTime);
+        QueryResultsDependencies dependencies = this.queryResultsDependencies.get(queryKey);
+        if (dependencies != null) {
+            dependencies.addDependency(lookupParameters, results, translationRow, map, this.session);
+        }
     }
 
     /**
@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DatabaseMapping.WriteType;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+
+/**
+ * <p><b>Purpose</b>: A fixed size approximate LRU cache, backed by a larger off-heap tier<p>
+ * As the {@link ConcurrentCacheIdentityMap}, the least recently used objects are evicted once
+ * the max size is reached. The row of an evicted object is serialized to an {@link OffHeapRowStore},
+ * and on a miss of the heap tier, the object is rebuilt from its row, as if read from the database,
+ * and put back in the heap tier. An object is in at most one of the tiers, putting or locking a
+ * primary key for merge removes its off-heap row.
+ * Only objects that can be rebuilt from their row are stored off-heap, objects read with a fetch group,
+ * objects with fields not written to their row, and objects of isolated caches are dropped when evicted.
+ * Only the objects of the heap tier are counted and iterated by the map.
+ * The off-heap capacity is set in bytes by the "eclipselink.cache.off-heap-size" descriptor or session property.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity through primary key values
+ *    <li> Stores the rows of the evicted objects off the heap, and rebuilds their objects on demand.
+ * </ul>
+ * @see PersistenceUnitProperties#CACHE_OFF_HEAP_SIZE
+ */
+public class OffHeapCacheIdentityMap extends ConcurrentCacheIdentityMap {
+
+    /** Default off-heap capacity in bytes. */
+    public static final long DEFAULT_OFF_HEAP_SIZE = 64L * 1024 * 1024;
+
+    // Tags of the serialized row values.
+    protected static final byte NULL = 0;
+    protected static final byte STRING = 1;
+    protected static final byte LONG = 2;
+    protected static final byte INTEGER = 3;
+    protected static final byte SHORT = 4;
+    protected static final byte BYTE = 5;
+    protected static final byte BOOLEAN = 6;
+    protected static final byte DOUBLE = 7;
+    protected static final byte FLOAT = 8;
+    protected static final byte CHARACTER = 9;
+    protected static final byte BIG_DECIMAL = 10;
+    protected static final byte BIG_INTEGER = 11;
+    protected static final byte BYTES = 12;
+    protected static final byte TIMESTAMP = 13;
+    protected static final byte SQL_DATE = 14;
+    protected static final byte SQL_TIME = 15;
+    protected static final byte DATE = 16;
+    protected static final byte SERIALIZED = 17;
+
+    /** Off-heap tier, null if the objects of the map cannot be stored off-heap. */
+    protected OffHeapRowStore store;
+
+    /** Descriptors of the stored rows, a row refers to its descriptor by index. */
+    protected List<ClassDescriptor> rowDescriptors;
+
+    public OffHeapCacheIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        initializeStore();
+    }
+
+    /**
+     * Create the off-heap tier, if the objects of the map are shared.
+     */
+    protected void initializeStore() {
+        this.rowDescriptors = new CopyOnWriteArrayList<>();
+        if ((this.descriptor != null) && (this.session != null) && !this.isIsolated
+                && this.descriptor.getCachePolicy().isSharedIsolation()) {
+            this.store = new OffHeapRowStore(getOffHeapSize());
+        } else {
+            this.store = null;
+        }
+    }
+
+    /**
+     * Return the off-heap capacity in bytes, from the descriptor property, or the session property.
+     */
+    protected long getOffHeapSize() {
+        Object value = this.descriptor.getProperty(PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE);
+        if (value == null) {
+            value = this.session.getProperty(PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE);
+        }
+        if (value == null) {
+            return DEFAULT_OFF_HEAP_SIZE;
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException exception) {
+            throw ValidationException.invalidValueForProperty(value, PersistenceUnitProperties.CACHE_OFF_HEAP_SIZE, exception);
+        }
+    }
+
+    /**
+     * Return the off-heap tier, or null if the map does not store its objects off-heap.
+     */
+    public OffHeapRowStore getStore() {
+        return this.store;
+    }
+
+    /**
+     * Clone the map with an empty off-heap tier, the off-heap rows are not cloned.
+     */
+    @Override
+    public Object clone() {
+        OffHeapCacheIdentityMap clone = (OffHeapCacheIdentityMap)super.clone();
+        clone.initializeStore();
+        return clone;
+    }
+
+    /**
+     * Return the cache key for the primary key.
+     * On a miss of the heap tier, rebuild the object from its off-heap row, unless the key is for merge,
+     * in which case the off-heap row is discarded, as the object is about to change.
+     */
+    @Override
+    public CacheKey getCacheKey(Object primaryKey, boolean forMerge) {
+        CacheKey cacheKey = super.getCacheKey(primaryKey, forMerge);
+        if ((cacheKey == null) && (this.store != null)) {
+            // The row is removed before the object is built, so the build does not find it again.
+            byte[] bytes = this.store.remove(primaryKey);
+            if ((bytes != null) && !forMerge) {
+                rebuildObject(primaryKey, bytes);
+                cacheKey = super.getCacheKey(primaryKey, forMerge);
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Remove the off-heap row of a put cache key, the object is now in the heap tier.
+     */
+    @Override
+    protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
+        CacheKey cacheKey = super.putCacheKeyIfAbsent(searchKey);
+        if ((cacheKey == null) && (this.store != null)) {
+            this.store.remove(searchKey.getKey());
+        }
+        return cacheKey;
+    }
+
+    /**
+     * Remove the cache key, and its off-heap row.
+     */
+    @Override
+    public Object remove(CacheKey key) {
+        if ((key != null) && (this.store != null)) {
+            this.store.remove(key.getKey());
+        }
+        return super.remove(key);
+    }
+
+    /**
+     * Store the row of the evicted object off-heap, before it is removed from the heap tier,
+     * so concurrent readers find the object in one of the tiers.
+     */
+    @Override
+    protected void evict(LinkedCacheKey key) {
+        Object object = key.getObject();
+        if ((this.store != null) && (object != null) && (key.getInvalidationState() != CacheKey.CACHE_KEY_INVALID)) {
+            byte[] bytes = serializeObject(object, key);
+            if (bytes != null) {
+                this.store.put(key.getKey(), bytes);
+            }
+        }
+        super.evict(key);
+    }
+
+    /**
+     * Return the serialized row of the object, or null if the object cannot be rebuilt from its row.
+     */
+    protected byte[] serializeObject(Object object, CacheKey key) {
+        ClassDescriptor concreteDescriptor = this.session.getDescriptor(object.getClass());
+        if ((concreteDescriptor == null) || concreteDescriptor.hasSerializedObjectPolicy()
+                || (concreteDescriptor.hasFetchGroupManager() && concreteDescriptor.getFetchGroupManager().isPartialObject(object))) {
+            return null;
+        }
+        AbstractRecord row = concreteDescriptor.getObjectBuilder().buildRow(object, this.session, WriteType.UNDEFINED);
+        // Read-only mappings are not written to the row, but are read from it.
+        for (DatabaseMapping mapping : concreteDescriptor.getMappings()) {
+            if (mapping.isReadOnly() && mapping.isAbstractDirectMapping() && !row.containsKey(mapping.getField())) {
+                AbstractDirectMapping directMapping = (AbstractDirectMapping)mapping;
+                row.put(mapping.getField(), directMapping.getFieldValue(directMapping.getAttributeValueFromObject(object), this.session));
+            }
+        }
+        List<DatabaseField> fields = concreteDescriptor.getAllFields();
+        int index = this.rowDescriptors.indexOf(concreteDescriptor);
+        if (index < 0) {
+            synchronized (this.rowDescriptors) {
+                index = this.rowDescriptors.indexOf(concreteDescriptor);
+                if (index < 0) {
+                    this.rowDescriptors.add(concreteDescriptor);
+                    index = this.rowDescriptors.size() - 1;
+                }
+            }
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(fields.size() * 16);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeShort(index);
+            out.writeLong(key.getReadTime());
+            writeValue(out, key.getWriteLockValue());
+            for (DatabaseField field : fields) {
+                if (!row.containsKey(field)) {
+                    // The object cannot be rebuilt without the field.
+                    return null;
+                }
+                writeValue(out, row.get(field));
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException exception) {
+            // A value is not serializable, the object is not stored off-heap.
+            this.session.logThrowable(SessionLog.FINEST, SessionLog.CACHE, exception);
+            return null;
+        }
+    }
+
+    /**
+     * Build the object from its serialized row, as if read from the database, this puts it in the heap tier.
+     */
+    protected void rebuildObject(Object primaryKey, byte[] bytes) {
+        ClassDescriptor concreteDescriptor;
+        long readTime;
+        Object writeLockValue;
+        Vector<Object> values;
+        List<DatabaseField> fields;
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            concreteDescriptor = this.rowDescriptors.get(in.readUnsignedShort());
+            readTime = in.readLong();
+            writeLockValue = readValue(in);
+            fields = concreteDescriptor.getAllFields();
+            values = new Vector<>(fields.size());
+            for (int index = 0; index < fields.size(); index++) {
+                values.add(readValue(in));
+            }
+        } catch (IOException | ClassNotFoundException exception) {
+            // The object is read from the database instead.
+            this.session.logThrowable(SessionLog.FINEST, SessionLog.CACHE, exception);
+            return;
+        }
+        DatabaseRecord row = new DatabaseRecord(new Vector<>(fields), values);
+        ReadObjectQuery query = new ReadObjectQuery(concreteDescriptor.getJavaClass());
+        query.setSession(this.session);
+        query.setDescriptor(concreteDescriptor);
+        Object object = concreteDescriptor.getObjectBuilder().buildObject(query, row, null);
+        CacheKey cacheKey = super.getCacheKey(primaryKey, true);
+        if ((cacheKey != null) && (cacheKey.getObject() == object)) {
+            // Keep the read time of the object, so it expires as if it was not evicted.
+            cacheKey.setReadTime(readTime);
+            if (writeLockValue != null) {
+                cacheKey.setWriteLockValue(writeLockValue);
+            }
+        }
+    }
+
+    /**
+     * Write the tagged value, common database types are written directly, other values are serialized.
+     */
+    protected void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            byte[] bytes = ((String)value).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (type == Long.class) {
+            out.writeByte(LONG);
+            out.writeLong((Long)value);
+        } else if (type == Integer.class) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer)value);
+        } else if (type == Short.class) {
+            out.writeByte(SHORT);
+            out.writeShort((Short)value);
+        } else if (type == Byte.class) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte)value);
+        } else if (type == Boolean.class) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean)value);
+        } else if (type == Double.class) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double)value);
+        } else if (type == Float.class) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float)value);
+        } else if (type == Character.class) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character)value);
+        } else if (type == BigDecimal.class) {
+            byte[] bytes = ((BigDecimal)value).unscaledValue().toByteArray();
+            out.writeByte(BIG_DECIMAL);
+            out.writeInt(((BigDecimal)value).scale());
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (type == BigInteger.class) {
+            byte[] bytes = ((BigInteger)value).toByteArray();
+            out.writeByte(BIG_INTEGER);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (type == byte[].class) {
+            out.writeByte(BYTES);
+            out.writeInt(((byte[])value).length);
+            out.write((byte[])value);
+        } else if (type == java.sql.Timestamp.class) {
+            out.writeByte(TIMESTAMP);
+            out.writeLong(((java.sql.Timestamp)value).getTime());
+            out.writeInt(((java.sql.Timestamp)value).getNanos());
+        } else if (type == java.sql.Date.class) {
+            out.writeByte(SQL_DATE);
+            out.writeLong(((java.sql.Date)value).getTime());
+        } else if (type == java.sql.Time.class) {
+            out.writeByte(SQL_TIME);
+            out.writeLong(((java.sql.Time)value).getTime());
+        } else if (type == java.util.Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((java.util.Date)value).getTime());
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(bytes)) {
+                objectOut.writeObject(value);
+            }
+            out.writeByte(SERIALIZED);
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+    /**
+     * Read a value written by {@link #writeValue(DataOutputStream, Object)}.
+     */
+    protected Object readValue(DataInputStream in) throws IOException, ClassNotFoundException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case LONG:
+                return in.readLong();
+            case INTEGER:
+                return in.readInt();
+            case SHORT:
+                return in.readShort();
+            case BYTE:
+                return in.readByte();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case FLOAT:
+                return in.readFloat();
+            case CHARACTER:
+                return in.readChar();
+            case BIG_DECIMAL:
+                int scale = in.readInt();
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case BYTES:
+                return readBytes(in);
+            case TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case SQL_DATE:
+                return new java.sql.Date(in.readLong());
+            case SQL_TIME:
+                return new java.sql.Time(in.readLong());
+            case DATE:
+                return new java.util.Date(in.readLong());
+            case SERIALIZED:
+                try (ObjectInputStream objectIn = new CustomObjectInputStream(new ByteArrayInputStream(readBytes(in)), this.session)) {
+                    return objectIn.readObject();
+                }
+            default:
+                throw new IOException("Invalid tag: " + tag);
+        }
+    }
+
+    protected byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
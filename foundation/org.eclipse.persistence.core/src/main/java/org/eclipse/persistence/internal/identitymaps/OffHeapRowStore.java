@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p><b>Purpose</b>: Stores byte arrays by key outside of the Java heap<p>
+ * The bytes are appended to fixed size direct ByteBuffer segments, used in turn as a ring.
+ * When the next segment is needed and all segments are in use, the oldest segment is
+ * recycled and the entries written to it are evicted, so the least recently written
+ * entries are evicted first.
+ * Removed or replaced entries leave their bytes in their segment until it is recycled.
+ * Only the index of the entries is kept on the heap.
+ * All operations lock the store, the bytes are only copied while it is locked.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Hold the bytes of each key off the heap, up to its capacity.
+ *    <li> Evict the least recently written entries.
+ * </ul>
+ * @see OffHeapCacheIdentityMap
+ */
+public class OffHeapRowStore {
+
+    /** Number of segments the capacity is split in. */
+    protected static final int SEGMENTS = 16;
+
+    /** Segments, allocated when first written. */
+    protected final ByteBuffer[] segments;
+
+    /** Keys written to each segment, to evict them when the segment is recycled. */
+    protected final List<Object>[] segmentKeys;
+
+    /** Size in bytes of each segment. */
+    protected final int segmentSize;
+
+    /** Index of the entries. */
+    protected final Map<Object, Entry> entries;
+
+    /** Segment being written. */
+    protected int currentSegment;
+
+    /** Offset of the next write in the current segment. */
+    protected int writeOffset;
+
+    protected long hits;
+    protected long misses;
+    protected long evictions;
+
+    /**
+     * Location of the bytes of an entry.
+     */
+    protected static class Entry {
+        protected final int segment;
+        protected final int offset;
+        protected final int length;
+
+        protected Entry(int segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Create a store with the capacity in bytes.
+     */
+    @SuppressWarnings("unchecked")
+    public OffHeapRowStore(long capacity) {
+        this.segmentSize = (int)Math.max(1024, Math.min(Integer.MAX_VALUE, capacity / SEGMENTS));
+        this.segments = new ByteBuffer[SEGMENTS];
+        this.segmentKeys = new List[SEGMENTS];
+        this.entries = new HashMap<>();
+        this.currentSegment = -1;
+        this.writeOffset = this.segmentSize;
+    }
+
+    /**
+     * Store the bytes for the key, replacing any bytes stored for it.
+     * Return false if the bytes are larger than a segment, they are not stored.
+     */
+    public synchronized boolean put(Object key, byte[] bytes) {
+        this.entries.remove(key);
+        if (bytes.length > this.segmentSize) {
+            return false;
+        }
+        if ((this.currentSegment < 0) || ((this.segmentSize - this.writeOffset) < bytes.length)) {
+            nextSegment();
+        }
+        ByteBuffer buffer = this.segments[this.currentSegment].duplicate();
+        buffer.position(this.writeOffset);
+        buffer.put(bytes);
+        this.entries.put(key, new Entry(this.currentSegment, this.writeOffset, bytes.length));
+        this.segmentKeys[this.currentSegment].add(key);
+        this.writeOffset = this.writeOffset + bytes.length;
+        return true;
+    }
+
+    /**
+     * Move to the next segment, evicting the entries of the segment if it was used.
+     */
+    protected void nextSegment() {
+        this.currentSegment = (this.currentSegment + 1) % SEGMENTS;
+        this.writeOffset = 0;
+        if (this.segments[this.currentSegment] == null) {
+            this.segments[this.currentSegment] = ByteBuffer.allocateDirect(this.segmentSize);
+            this.segmentKeys[this.currentSegment] = new ArrayList<>();
+            return;
+        }
+        List<Object> keys = this.segmentKeys[this.currentSegment];
+        for (Object key : keys) {
+            Entry entry = this.entries.get(key);
+            // The key may have been removed, or written again to another segment.
+            if ((entry != null) && (entry.segment == this.currentSegment)) {
+                this.entries.remove(key);
+                this.evictions++;
+            }
+        }
+        keys.clear();
+    }
+
+    /**
+     * Remove and return the bytes stored for the key, or null if none are stored.
+     */
+    public synchronized byte[] remove(Object key) {
+        Entry entry = this.entries.remove(key);
+        if (entry == null) {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        byte[] bytes = new byte[entry.length];
+        ByteBuffer buffer = this.segments[entry.segment].duplicate();
+        buffer.position(entry.offset);
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Return if bytes are stored for the key.
+     */
+    public synchronized boolean containsKey(Object key) {
+        return this.entries.containsKey(key);
+    }
+
+    /**
+     * Remove all entries, the segments are kept to be reused.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        for (List<Object> keys : this.segmentKeys) {
+            if (keys != null) {
+                keys.clear();
+            }
+        }
+        this.currentSegment = -1;
+        this.writeOffset = this.segmentSize;
+    }
+
+    /**
+     * Return the number of entries stored.
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Return the capacity in bytes.
+     */
+    public long getCapacity() {
+        return (long)this.segmentSize * SEGMENTS;
+    }
+
+    /**
+     * Return the number of removals that found their entry.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Return the number of removals that did not find their entry.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Return the number of entries evicted to reuse their segment.
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+}
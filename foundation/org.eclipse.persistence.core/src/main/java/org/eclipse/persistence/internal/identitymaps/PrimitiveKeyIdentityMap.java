@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+
+/**
+ * <p><b>Purpose</b>: A FullIdentityMap for classes with a single integral primary key<p>
+ * Long, Integer, Short and Byte primary keys are stored as primitive longs in a concurrent
+ * open-addressing hash table, instead of as boxed keys in the nodes of a ConcurrentHashMap.
+ * Lookups do not allocate, and avoid the node and key indirections of the ConcurrentHashMap.
+ * Any other primary key, such as a {@link CacheId} for a composite primary key,
+ * is stored in a ConcurrentHashMap, so the map is correct, but not faster, for other primary keys.
+ * Integral primary keys are compared by their value, not their class, so the classes sharing this map
+ * must use the same primary key type, as is the case for the classes of an inheritance hierarchy.
+ * <p><b>Responsibilities</b>:<ul>
+ *    <li> Guarantees identity
+ *    <li> Holds all cached objects indefinitely.
+ * </ul>
+ * @see FullIdentityMap
+ */
+public class PrimitiveKeyIdentityMap extends FullIdentityMap {
+
+    public PrimitiveKeyIdentityMap(int size, ClassDescriptor descriptor, AbstractSession session, boolean isolated) {
+        super(size, descriptor, session, isolated);
+        this.cacheKeys = new PrimitiveKeyMap(size);
+    }
+
+    /**
+     * INTERNAL:
+     * Clones itself.
+     */
+    @Override
+    public Object clone() {
+        PrimitiveKeyIdentityMap clone = (PrimitiveKeyIdentityMap)super.clone();
+        Map<Object, CacheKey> cacheKeys = new PrimitiveKeyMap(clone.getCacheKeys().size());
+        cacheKeys.putAll(clone.getCacheKeys());
+        clone.setCacheKeys(cacheKeys);
+        return clone;
+    }
+
+    /**
+     * Return the cache key matching the primitive primary key.
+     * If no object for the key exists, return null.
+     */
+    public CacheKey getCacheKey(long primaryKey) {
+        return ((PrimitiveKeyMap)this.cacheKeys).get(primaryKey);
+    }
+
+    /**
+     * Return if the key is stored as a primitive long.
+     */
+    protected static boolean isPrimitiveKey(Object key) {
+        return (key instanceof Long) || (key instanceof Integer) || (key instanceof Short) || (key instanceof Byte);
+    }
+
+    /**
+     * INTERNAL:
+     * ConcurrentMap of cache keys, that stores integral keys as primitive longs.
+     * The table is split in segments, each an open-addressing table with linear probing.
+     * Reads are not locked, writes lock the segment of the key.
+     * A slot is assigned a key once, its value is set after its key, so a reader that sees the
+     * value also sees the key. Removed values are replaced by a marker, which is reused if the
+     * same key is put again, and discarded when the segment is rehashed.
+     * The map key of a stored cache key is its {@link CacheKey#getKey()}.
+     */
+    protected static class PrimitiveKeyMap extends AbstractMap<Object, CacheKey> implements ConcurrentMap<Object, CacheKey> {
+
+        /** Number of segments, a power of two. */
+        protected static final int SEGMENTS = 16;
+
+        /** Minimum capacity of a segment, a power of two. */
+        protected static final int MIN_CAPACITY = 8;
+
+        /** Marks the slot of a removed key. */
+        protected static final Object REMOVED = new Object();
+
+        /** Segments holding the primitive keys. */
+        protected final Segment[] segments;
+
+        /** Cache keys for any keys that are not stored as primitives. */
+        protected final ConcurrentMap<Object, CacheKey> objectKeys;
+
+        public PrimitiveKeyMap(int size) {
+            int capacity = MIN_CAPACITY;
+            int segmentSize = (size / SEGMENTS) + 1;
+            // Keep the table at most two thirds full.
+            while (capacity * 2 < segmentSize * 3) {
+                capacity = capacity << 1;
+            }
+            this.segments = new Segment[SEGMENTS];
+            for (int index = 0; index < SEGMENTS; index++) {
+                this.segments[index] = new Segment(capacity);
+            }
+            this.objectKeys = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Spread the bits of the key, the high bits select the segment, the low bits the slot.
+         */
+        protected static int hash(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int)(hash ^ (hash >>> 32));
+        }
+
+        protected Segment segmentFor(int hash) {
+            return this.segments[hash >>> 28];
+        }
+
+        /**
+         * Return the cache key for the primitive key, without locking.
+         */
+        public CacheKey get(long key) {
+            int hash = hash(key);
+            Table table = segmentFor(hash).table;
+            int mask = table.keys.length - 1;
+            int index = hash & mask;
+            while (true) {
+                Object value = table.values.get(index);
+                if (value == null) {
+                    return null;
+                }
+                if (table.keys[index] == key) {
+                    return (value == REMOVED) ? null : (CacheKey)value;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        @Override
+        public CacheKey get(Object key) {
+            if (isPrimitiveKey(key)) {
+                return get(((Number)key).longValue());
+            }
+            return this.objectKeys.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public CacheKey put(Object key, CacheKey value) {
+            if (isPrimitiveKey(key)) {
+                long primitiveKey = ((Number)key).longValue();
+                int hash = hash(primitiveKey);
+                return segmentFor(hash).put(primitiveKey, hash, value, false);
+            }
+            return this.objectKeys.put(key, value);
+        }
+
+        @Override
+        public CacheKey putIfAbsent(Object key, CacheKey value) {
+            if (isPrimitiveKey(key)) {
+                long primitiveKey = ((Number)key).longValue();
+                int hash = hash(primitiveKey);
+                return segmentFor(hash).put(primitiveKey, hash, value, true);
+            }
+            return this.objectKeys.putIfAbsent(key, value);
+        }
+
+        @Override
+        public CacheKey remove(Object key) {
+            if (isPrimitiveKey(key)) {
+                long primitiveKey = ((Number)key).longValue();
+                int hash = hash(primitiveKey);
+                return segmentFor(hash).replace(primitiveKey, hash, null, null, false);
+            }
+            return this.objectKeys.remove(key);
+        }
+
+        @Override
+        public boolean remove(Object key, Object value) {
+            if (value == null) {
+                return false;
+            }
+            if (isPrimitiveKey(key)) {
+                long primitiveKey = ((Number)key).longValue();
+                int hash = hash(primitiveKey);
+                return segmentFor(hash).replace(primitiveKey, hash, value, null, true) != null;
+            }
+            return this.objectKeys.remove(key, value);
+        }
+
+        @Override
+        public CacheKey replace(Object key, CacheKey value) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            if (isPrimitiveKey(key)) {
+                long primitiveKey = ((Number)key).longValue();
+                int hash = hash(primitiveKey);
+                return segmentFor(hash).replace(primitiveKey, hash, null, value, false);
+            }
+            return this.objectKeys.replace(key, value);
+        }
+
+        @Override
+        public boolean replace(Object key, CacheKey oldValue, CacheKey newValue) {
+            if ((oldValue == null) || (newValue == null)) {
+                throw new NullPointerException();
+            }
+            if (isPrimitiveKey(key)) {
+                long primitiveKey = ((Number)key).longValue();
+                int hash = hash(primitiveKey);
+                return segmentFor(hash).replace(primitiveKey, hash, oldValue, newValue, true) != null;
+            }
+            return this.objectKeys.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public int size() {
+            int size = this.objectKeys.size();
+            for (Segment segment : this.segments) {
+                size = size + segment.count;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public void clear() {
+            for (Segment segment : this.segments) {
+                segment.clear();
+            }
+            this.objectKeys.clear();
+        }
+
+        /**
+         * Return a weakly consistent view of the cache keys.
+         */
+        @Override
+        public Collection<CacheKey> values() {
+            return new AbstractCollection<>() {
+                @Override
+                public Iterator<CacheKey> iterator() {
+                    return new ValueIterator();
+                }
+
+                @Override
+                public int size() {
+                    return PrimitiveKeyMap.this.size();
+                }
+            };
+        }
+
+        /**
+         * Return a weakly consistent view of the entries, the key of an entry is the key of its cache key.
+         */
+        @Override
+        public Set<Map.Entry<Object, CacheKey>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<Object, CacheKey>> iterator() {
+                    final Iterator<CacheKey> values = new ValueIterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return values.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<Object, CacheKey> next() {
+                            CacheKey value = values.next();
+                            return new AbstractMap.SimpleImmutableEntry<>(value.getKey(), value);
+                        }
+
+                        @Override
+                        public void remove() {
+                            values.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return PrimitiveKeyMap.this.size();
+                }
+            };
+        }
+
+        /**
+         * Iterates the segments, then the object keys.
+         */
+        protected class ValueIterator implements Iterator<CacheKey> {
+            protected int segmentIndex = 0;
+            protected Table table = segments[0].table;
+            protected int index = 0;
+            protected Iterator<CacheKey> objectValues;
+            protected CacheKey next;
+            protected CacheKey last;
+
+            protected ValueIterator() {
+                advance();
+            }
+
+            protected void advance() {
+                this.next = null;
+                while (this.objectValues == null) {
+                    while (this.index < this.table.keys.length) {
+                        Object value = this.table.values.get(this.index++);
+                        if ((value != null) && (value != REMOVED)) {
+                            this.next = (CacheKey)value;
+                            return;
+                        }
+                    }
+                    this.segmentIndex++;
+                    if (this.segmentIndex < segments.length) {
+                        this.table = segments[this.segmentIndex].table;
+                        this.index = 0;
+                    } else {
+                        this.objectValues = objectKeys.values().iterator();
+                    }
+                }
+                if (this.objectValues.hasNext()) {
+                    this.next = this.objectValues.next();
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public CacheKey next() {
+                if (this.next == null) {
+                    throw new NoSuchElementException();
+                }
+                this.last = this.next;
+                advance();
+                return this.last;
+            }
+
+            @Override
+            public void remove() {
+                if (this.last == null) {
+                    throw new IllegalStateException();
+                }
+                PrimitiveKeyMap.this.remove(this.last.getKey(), this.last);
+                this.last = null;
+            }
+        }
+
+        /**
+         * Open-addressing table, the key of a slot is only set once.
+         */
+        protected static class Table {
+            protected final long[] keys;
+            protected final AtomicReferenceArray<Object> values;
+
+            /** Number of slots assigned a key, including removed keys. */
+            protected int used;
+
+            protected Table(int capacity) {
+                this.keys = new long[capacity];
+                this.values = new AtomicReferenceArray<>(capacity);
+            }
+        }
+
+        /**
+         * Segment of the map, writes are synchronized on the segment.
+         */
+        protected static class Segment {
+            protected volatile Table table;
+
+            /** Number of cache keys in the segment. */
+            protected volatile int count;
+
+            protected Segment(int capacity) {
+                this.table = new Table(capacity);
+            }
+
+            /**
+             * Put the value for the key, return the previous value.
+             */
+            protected synchronized CacheKey put(long key, int hash, CacheKey value, boolean onlyIfAbsent) {
+                if (value == null) {
+                    throw new NullPointerException();
+                }
+                Table table = this.table;
+                int mask = table.keys.length - 1;
+                int index = hash & mask;
+                while (true) {
+                    Object existing = table.values.get(index);
+                    if (existing == null) {
+                        break;
+                    }
+                    if (table.keys[index] == key) {
+                        if (existing == REMOVED) {
+                            table.values.set(index, value);
+                            this.count++;
+                            return null;
+                        }
+                        if (!onlyIfAbsent) {
+                            table.values.set(index, value);
+                        }
+                        return (CacheKey)existing;
+                    }
+                    index = (index + 1) & mask;
+                }
+                // The key must be set before the value is published.
+                table.keys[index] = key;
+                table.values.set(index, value);
+                table.used++;
+                this.count++;
+                if (table.used * 3 > table.keys.length * 2) {
+                    rehash(table);
+                }
+                return null;
+            }
+
+            /**
+             * Replace the value of the key with the new value, or remove it if the new value is null.
+             * If matchValue, only if its value is the old value.
+             * Return the previous value, or null if not replaced.
+             */
+            protected synchronized CacheKey replace(long key, int hash, Object oldValue, CacheKey newValue, boolean matchValue) {
+                Table table = this.table;
+                int mask = table.keys.length - 1;
+                int index = hash & mask;
+                while (true) {
+                    Object existing = table.values.get(index);
+                    if (existing == null) {
+                        return null;
+                    }
+                    if (table.keys[index] == key) {
+                        if ((existing == REMOVED) || (matchValue && (existing != oldValue))) {
+                            return null;
+                        }
+                        if (newValue == null) {
+                            table.values.set(index, REMOVED);
+                            this.count--;
+                        } else {
+                            table.values.set(index, newValue);
+                        }
+                        return (CacheKey)existing;
+                    }
+                    index = (index + 1) & mask;
+                }
+            }
+
+            /**
+             * Copy the cache keys to a new table, discarding the removed keys.
+             * The table doubles if it is more than a third full of cache keys.
+             * Readers of the old table still find all of its keys, it is no longer modified.
+             */
+            protected void rehash(Table table) {
+                int capacity = table.keys.length;
+                if (this.count * 3 > capacity) {
+                    capacity = capacity << 1;
+                }
+                Table newTable = new Table(capacity);
+                int mask = capacity - 1;
+                for (int oldIndex = 0; oldIndex < table.keys.length; oldIndex++) {
+                    Object value = table.values.get(oldIndex);
+                    if ((value != null) && (value != REMOVED)) {
+                        long key = table.keys[oldIndex];
+                        int index = hash(key) & mask;
+                        while (newTable.values.get(index) != null) {
+                            index = (index + 1) & mask;
+                        }
+                        newTable.keys[index] = key;
+                        newTable.values.lazySet(index, value);
+                        newTable.used++;
+                    }
+                }
+                // Publishing the table publishes its keys and values.
+                this.table = newTable;
+            }
+
+            protected synchronized void clear() {
+                this.table = new Table(MIN_CAPACITY);
+                this.count = 0;
+            }
+        }
+    }
+}
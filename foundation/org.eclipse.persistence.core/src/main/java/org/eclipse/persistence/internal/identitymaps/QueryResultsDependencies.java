@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.expressions.ExpressionIterator;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.helper.InvalidObject;
+import org.eclipse.persistence.internal.queries.ContainerPolicy;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+
+/**
+ * <p><b>Purpose</b>: Record what the cached results of a query depend on,
+ * so a change only invalidates the results it affects.
+ * <p>For each cached result, the primary keys of the objects returned and the query arguments are recorded.
+ * A changed or deleted object invalidates the results that returned it, and a changed or new object
+ * invalidates the results it now conforms to in memory. Results are invalidated whenever this cannot
+ * be determined, such as for selection criteria that cannot be conformed, or objects not in the cache.
+ * Changes to other classes used by the query invalidate all its results, as do all changes if the selection
+ * criteria use relationships, other expression builders or sub-selects, as a change to an object may then
+ * change whether other objects conform.
+ *
+ * @see org.eclipse.persistence.queries.QueryResultsCachePolicy#setIsDependencyTracked(boolean)
+ */
+public class QueryResultsDependencies implements Serializable {
+
+    /** The query the results are cached for. */
+    protected final ObjectLevelReadQuery query;
+
+    /** Dependencies of the results, by query parameters. */
+    protected final Map<Object, Dependency> dependencies;
+
+    /** Whether the selection criteria only use the direct mappings of the query root, computed lazily. */
+    protected volatile Boolean hasDirectCriteria;
+
+    /**
+     * The primary keys and arguments of a cached result.
+     */
+    protected static class Dependency implements Serializable {
+        protected final Set<Object> primaryKeys;
+        protected final AbstractRecord translationRow;
+
+        protected Dependency(Set<Object> primaryKeys, AbstractRecord translationRow) {
+            this.primaryKeys = primaryKeys;
+            this.translationRow = translationRow;
+        }
+    }
+
+    public QueryResultsDependencies(ObjectLevelReadQuery query) {
+        this.query = query;
+        this.dependencies = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Return if the dependencies of the query results can be tracked.
+     * Only the objects of queries returning objects of their reference class can be tracked.
+     * The objects of a page after the first one can not be tracked, as a change to an object
+     * of a previous page not in the result can shift the page.
+     */
+    public static boolean canTrackDependencies(ReadQuery query) {
+        return query.isObjectLevelReadQuery() && !query.isReportQuery()
+                && (((ObjectLevelReadQuery)query).getDescriptor() != null) && (query.getFirstResult() == 0);
+    }
+
+    /**
+     * Return if changes to objects of the class can be checked against the results,
+     * otherwise all the results must be invalidated.
+     */
+    public boolean canCheckChanges(Class<?> changedClass) {
+        return this.query.getReferenceClass().isAssignableFrom(changedClass) && hasDirectCriteria();
+    }
+
+    /**
+     * Return if the selection criteria only use the direct mappings of the objects of the query root,
+     * so a changed object can only change whether itself conforms.
+     */
+    protected boolean hasDirectCriteria() {
+        Boolean hasDirectCriteria = this.hasDirectCriteria;
+        if (hasDirectCriteria == null) {
+            hasDirectCriteria = Boolean.valueOf(checkDirectCriteria());
+            this.hasDirectCriteria = hasDirectCriteria;
+        }
+        return hasDirectCriteria.booleanValue();
+    }
+
+    protected boolean checkDirectCriteria() {
+        Expression selectionCriteria = this.query.getSelectionCriteria();
+        if (selectionCriteria == null) {
+            return true;
+        }
+        final ExpressionBuilder builder = selectionCriteria.getBuilder();
+        final ObjectBuilder objectBuilder = this.query.getDescriptor().getObjectBuilder();
+        ExpressionIterator iterator = new ExpressionIterator() {
+            @Override
+            public void iterate(Expression each) {
+                if (each.isExpressionBuilder()) {
+                    if (each != builder) {
+                        setResult(Boolean.FALSE);
+                    }
+                } else if (each.isQueryKeyExpression()) {
+                    DatabaseMapping mapping = objectBuilder.getMappingForAttributeName(each.getName());
+                    if ((((QueryKeyExpression)each).getBaseExpression() != builder) || (mapping == null) || !mapping.isAbstractDirectMapping()) {
+                        setResult(Boolean.FALSE);
+                    }
+                } else if (each.isSubSelectExpression() || (each.isDataExpression() && !each.isFieldExpression())) {
+                    setResult(Boolean.FALSE);
+                }
+            }
+        };
+        iterator.setResult(Boolean.TRUE);
+        iterator.iterateOn(selectionCriteria);
+        return ((Boolean)iterator.getResult()).booleanValue();
+    }
+
+    /**
+     * Record the objects of the result cached for the query parameters.
+     */
+    public void addDependency(Object lookupParameters, Object results, AbstractRecord translationRow, IdentityMap resultsMap, AbstractSession session) {
+        Set<Object> primaryKeys = new HashSet<>();
+        if ((results != null) && (results != InvalidObject.instance())) {
+            ClassDescriptor descriptor = this.query.getDescriptor();
+            if (this.query.isReadAllQuery()) {
+                ContainerPolicy policy = ((ReadAllQuery)this.query).getContainerPolicy();
+                for (Object iterator = policy.iteratorFor(results); policy.hasNext(iterator);) {
+                    addPrimaryKey(primaryKeys, policy.next(iterator, session), descriptor, session);
+                }
+            } else {
+                addPrimaryKey(primaryKeys, results, descriptor, session);
+            }
+        }
+        this.dependencies.put(lookupParameters, new Dependency(primaryKeys, translationRow));
+        // Forget the results evicted from the query cache.
+        if (this.dependencies.size() > this.query.getQueryResultsCachePolicy().getMaximumCachedResults()) {
+            this.dependencies.keySet().removeIf(key -> resultsMap.getCacheKey(key, false) == null);
+        }
+    }
+
+    protected void addPrimaryKey(Set<Object> primaryKeys, Object object, ClassDescriptor descriptor, AbstractSession session) {
+        if (object != null) {
+            ClassDescriptor objectDescriptor = descriptor;
+            if (object.getClass() != descriptor.getJavaClass()) {
+                objectDescriptor = session.getDescriptor(object);
+            }
+            primaryKeys.add(objectDescriptor.getObjectBuilder().extractPrimaryKeyFromObject(object, session));
+        }
+    }
+
+    /**
+     * Remove the results affected by the changes from the query results map.
+     * The changes are all of objects of a class that can be checked.
+     */
+    public void invalidate(IdentityMap resultsMap, List<ObjectChangeSet> changeSets, IdentityMapManager manager, AbstractSession session) {
+        for (Iterator<Map.Entry<Object, Dependency>> iterator = this.dependencies.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<Object, Dependency> entry = iterator.next();
+            if (resultsMap.getCacheKey(entry.getKey(), false) == null) {
+                iterator.remove();
+            } else if (isAffected(entry.getValue(), changeSets, manager, session)) {
+                resultsMap.remove(entry.getKey(), null);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Return if any of the changes may change the result.
+     */
+    protected boolean isAffected(Dependency dependency, List<ObjectChangeSet> changeSets, IdentityMapManager manager, AbstractSession session) {
+        for (ObjectChangeSet changeSet : changeSets) {
+            Object primaryKey = changeSet.getId();
+            if ((primaryKey == null) || dependency.primaryKeys.contains(primaryKey)) {
+                return true;
+            }
+            ClassDescriptor descriptor = changeSet.getDescriptor();
+            if (descriptor == null) {
+                descriptor = session.getDescriptor(changeSet.getClassType(session));
+            }
+            Object object = manager.getFromIdentityMap(primaryKey, descriptor.getJavaClass(), true, descriptor);
+            if (object == null) {
+                // A deleted object not returned cannot change the result, other objects not in the cache cannot be checked.
+                if (!isDeleted(changeSet)) {
+                    return true;
+                }
+            } else if (this.query.getReferenceClass().isInstance(object) && conforms(object, dependency, session)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return if the change set is of a deleted object.
+     * Deleted objects are removed from the cache by the merge.
+     */
+    protected boolean isDeleted(ObjectChangeSet changeSet) {
+        UnitOfWorkChangeSet changes = (UnitOfWorkChangeSet)changeSet.getUOWChangeSet();
+        return (changes != null) && changes.hasDeletedObjects() && changes.getDeletedObjects().containsKey(changeSet);
+    }
+
+    /**
+     * Return if the object conforms to the query selection criteria, or may conform.
+     */
+    protected boolean conforms(Object object, Dependency dependency, AbstractSession session) {
+        Expression selectionCriteria = this.query.getSelectionCriteria();
+        if (selectionCriteria == null) {
+            return true;
+        }
+        ExpressionBuilder builder = selectionCriteria.getBuilder();
+        if (builder.getSession() == null) {
+            builder.setSession(session.getRootSession(null));
+            builder.setQueryClass(this.query.getReferenceClass());
+        }
+        try {
+            return selectionCriteria.doesConform(object, session, dependency.translationRow, InMemoryQueryIndirectionPolicy.SHOULD_THROW_INDIRECTION_EXCEPTION);
+        } catch (RuntimeException exception) {
+            // The criteria cannot be conformed in memory, so the object may be part of the result.
+            return true;
+        }
+    }
+}
@@ -78,26 +78,47 @@ public class ToStringLocalizationResource extends ListResourceBundle {
                                            { "staticweave_processor_unknown_outcome", "Weaving classes stored in a directory and outputting to a JAR often leads to unexpected results." },
                                            { "staticweave_processor_dir_not_created", "The {0} directory cannot be created."},
                                            { "staticweave_processor_file_not_created", "The {0} file cannot be created." },
+                                           { "staticweave_processor_file_not_deleted", "The {0} file cannot be deleted." },
+                                           { "staticweave_processor_up_to_date", "The {0} target is up to date, no class was woven." },
+                                           { "staticweave_processor_incremental", "{0} changed classes were processed for weaving to the {1} target." },
 
-                                           { "staticweave_commandline_help_message_1of19", "  Usage: StaticWeave [options] source target" },
-                                           { "staticweave_commandline_help_message_2of19", "  Options:" },
-                                           { "staticweave_commandline_help_message_3of19", "    -classpath classpath" },
-                                           { "staticweave_commandline_help_message_4of19", "           Set the user class path.  Use \";\" as delimiter in Windows and \":\" in Unix." },
-                                           { "staticweave_commandline_help_message_5of19", "    -persistenceinfo" },
-                                           { "staticweave_commandline_help_message_6of19", "           Explicitly identify where META-INF/persistence.xml is stored.  It must be the root of META-INF/persistence.xml." },
-                                           { "staticweave_commandline_help_message_7of19", "           This option is typically used to specify the main jar when weaving files referenced by <jar-file> in persistence.xml." },
-                                           { "staticweave_commandline_help_message_8of19", "    -persistencexml" },
-                                           { "staticweave_commandline_help_message_9of19", "           Identify the location of the persistence.xml relative to the root of the persistence unit if it is somewhere other that META-INF/persistence.xml" },
-                                           { "staticweave_commandline_help_message_10of19", "    -log" },
-                                           { "staticweave_commandline_help_message_11of19", "           Specify logging file." },
-                                           { "staticweave_commandline_help_message_12of19", "    -loglevel" },
-                                           { "staticweave_commandline_help_message_13of19", "           Specify the integer value of the logging level (8=OFF,7=SEVERE,6=WARNING,5=INFO,4=CONFIG,3=FINE,2=FINER(default),1=FINEST,0=ALL)." },
-                                           { "staticweave_commandline_help_message_14of19", "    The classpath must contain all the classes necessary to load the classes in the source." },
-                                           { "staticweave_commandline_help_message_15of19", "    The weaving will be performed in place if source and target point to the same location.  Weaving in place is ONLY applicable for directory-based sources." },
-                                           { "staticweave_commandline_help_message_16of19", "  Example:" },
-                                           { "staticweave_commandline_help_message_17of19", "    To weave all entites contained in C:\\foo-source.jar with its persistence.xml contained within the C:\\foo-containing-persistence-xml.jar," },
-                                           { "staticweave_commandline_help_message_18of19", "    and output to C:\\foo-target.jar:" },
-                                           { "staticweave_commandline_help_message_19of19", "    StaticWeave -persistenceinfo C:\\foo-containing-persistence-xml.jar -classpath C:\\classpath1;C:\\classpath2 C:\\foo-source.jar C:\\foo-target.jar"},
+                                           { "staticweave_commandline_help_message_1of23", "  Usage: StaticWeave [options] source target" },
+                                           { "staticweave_commandline_help_message_2of23", "  Options:" },
+                                           { "staticweave_commandline_help_message_3of23", "    -classpath classpath" },
+                                           { "staticweave_commandline_help_message_4of23", "           Set the user class path.  Use \";\" as delimiter in Windows and \":\" in Unix." },
+                                           { "staticweave_commandline_help_message_5of23", "    -persistenceinfo" },
+                                           { "staticweave_commandline_help_message_6of23", "           Explicitly identify where META-INF/persistence.xml is stored.  It must be the root of META-INF/persistence.xml." },
+                                           { "staticweave_commandline_help_message_7of23", "           This option is typically used to specify the main jar when weaving files referenced by <jar-file> in persistence.xml." },
+                                           { "staticweave_commandline_help_message_8of23", "    -persistencexml" },
+                                           { "staticweave_commandline_help_message_9of23", "           Identify the location of the persistence.xml relative to the root of the persistence unit if it is somewhere other that META-INF/persistence.xml" },
+                                           { "staticweave_commandline_help_message_10of23", "    -log" },
+                                           { "staticweave_commandline_help_message_11of23", "           Specify logging file." },
+                                           { "staticweave_commandline_help_message_12of23", "    -loglevel" },
+                                           { "staticweave_commandline_help_message_13of23", "           Specify the integer value of the logging level (8=OFF,7=SEVERE,6=WARNING,5=INFO,4=CONFIG,3=FINE,2=FINER(default),1=FINEST,0=ALL)." },
+                                           { "staticweave_commandline_help_message_14of23", "    -threads" },
+                                           { "staticweave_commandline_help_message_15of23", "           Specify the number of threads weaving the classes.  The default value is 1." },
+                                           { "staticweave_commandline_help_message_16of23", "    -manifest" },
+                                           { "staticweave_commandline_help_message_17of23", "           Specify the manifest file of the incremental weaving.  Only the classes changed since the previous weaving, and the classes depending on them, are woven again." },
+                                           { "staticweave_commandline_help_message_18of23", "    The classpath must contain all the classes necessary to load the classes in the source." },
+                                           { "staticweave_commandline_help_message_19of23", "    The weaving will be performed in place if source and target point to the same location.  Weaving in place is ONLY applicable for directory-based sources." },
+                                           { "staticweave_commandline_help_message_20of23", "  Example:" },
+                                           { "staticweave_commandline_help_message_21of23", "    To weave all entites contained in C:\\foo-source.jar with its persistence.xml contained within the C:\\foo-containing-persistence-xml.jar," },
+                                           { "staticweave_commandline_help_message_22of23", "    and output to C:\\foo-target.jar:" },
+                                           { "staticweave_commandline_help_message_23of23", "    StaticWeave -persistenceinfo C:\\foo-containing-persistence-xml.jar -classpath C:\\classpath1;C:\\classpath2 C:\\foo-source.jar C:\\foo-target.jar"},
+                                           { "projectcache_commandline_help_message_1of14", "  Usage: ProjectCacheGenerator [options] persistenceunit file" },
+                                           { "projectcache_commandline_help_message_2of14", "  Options:" },
+                                           { "projectcache_commandline_help_message_3of14", "    -classpath classpath" },
+                                           { "projectcache_commandline_help_message_4of14", "           Set the user class path.  Use \";\" as delimiter in Windows and \":\" in Unix." },
+                                           { "projectcache_commandline_help_message_5of14", "    -persistencexml" },
+                                           { "projectcache_commandline_help_message_6of14", "           Identify the location of the persistence.xml if it is somewhere other than META-INF/persistence.xml" },
+                                           { "projectcache_commandline_help_message_7of14", "    -property name=value" },
+                                           { "projectcache_commandline_help_message_8of14", "           Set a persistence unit property, i.e. eclipselink.weaving=static if the classes are statically woven.  The option can be repeated." },
+                                           { "projectcache_commandline_help_message_9of14", "    -loglevel" },
+                                           { "projectcache_commandline_help_message_10of14", "           Specify a literal value for eclipselink log level (OFF,SEVERE,WARNING,INFO,CONFIG,FINE,FINER,FINEST).  The default value is OFF." },
+                                           { "projectcache_commandline_help_message_11of14", "    The metadata of the persistence unit is processed without database connection, and its project is serialized to the file with the checksum of the persistence unit." },
+                                           { "projectcache_commandline_help_message_12of14", "    The file is used at runtime with the properties eclipselink.project-cache=java-serialization, eclipselink.project-cache.java-serialization.file-location=file and eclipselink.project-cache.checksum=true." },
+                                           { "projectcache_commandline_help_message_13of14", "  Example:" },
+                                           { "projectcache_commandline_help_message_14of14", "    ProjectCacheGenerator -classpath C:\\classpath1;C:\\classpath2 -property eclipselink.weaving=static my-pu C:\\my-pu.project" },
 
                                            { "sdo_classgenerator_usage_help_1of8", "{0} Usage: org.eclipse.persistence.sdo.helper.{0} [-options]" },
                                            { "sdo_classgenerator_usage_help_2of8", "Options:" },
@@ -49,6 +49,9 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "cache_class_invalidation", "Entities based on class ({0}) was invalidated from the cache by thread (Id: {1} Name: {2})" },
         { "cache_hit", "Cache hit for entity ({0}) with Id ({1})" },
         { "cache_miss", "Cache miss for entity ({0}) with Id ({1})" },
+        { "cache_preload_start", "Cache preload of {0} entities started on {1} threads" },
+        { "cache_preload_descriptor", "Cache preload of entity ({0}) completed, {1} objects read" },
+        { "cache_preload_complete", "Cache preload completed, {0} objects read in {1} ms" },
         { "stack_of_visited_objects_that_refer_to_the_corrupt_object", "stack of visited objects that refer to the corrupt object: {0}" },
         { "corrupt_object_referenced_through_mapping", "corrupt object referenced through mapping: {0}" },
         { "corrupt_object", "corrupt object: {0}" },
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sequencing;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the preallocated values of a sequence as ranges of consecutive values.
+ * The values of the current range are handed out by an atomic counter, so threads do not lock,
+ * and the next range can be allocated in the background before the current range is used.
+ * Allocated values that are not a range of consecutive longs are queued.
+ * @see SequencingManager
+ */
+class PreallocatedRanges {
+
+    /**
+     * A range of consecutive values, handed out by incrementing its next value.
+     */
+    static final class Range {
+        final AtomicLong next;
+        final long last;
+
+        Range(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        long remaining() {
+            return Math.max(0, this.last - this.next.get() + 1);
+        }
+    }
+
+    /** The range the values are handed out from. */
+    protected volatile Range current;
+
+    /** The ranges allocated after the current range. */
+    protected final Queue<Range> ranges;
+
+    /** The allocated values that are not a range. */
+    protected final Queue<Object> values;
+
+    /** If the next values are being allocated in the background. */
+    protected final AtomicBoolean isAllocating;
+
+    public PreallocatedRanges() {
+        this.ranges = new ConcurrentLinkedQueue<>();
+        this.values = new ConcurrentLinkedQueue<>();
+        this.isAllocating = new AtomicBoolean();
+    }
+
+    /**
+     * Return the next value, or null if all the values are used.
+     */
+    public Object poll() {
+        Range range = this.current;
+        while (range != null) {
+            long value = range.next.getAndIncrement();
+            if (value <= range.last) {
+                return value;
+            }
+            range = nextRange(range);
+        }
+        return this.values.poll();
+    }
+
+    /**
+     * Replace the used range by the next range, unless another thread already has.
+     */
+    protected synchronized Range nextRange(Range used) {
+        if (this.current == used) {
+            this.current = this.ranges.poll();
+        }
+        return this.current;
+    }
+
+    /**
+     * Add the allocated values, consecutive long values are added as a range.
+     * A lock should typically be obtained from the sequence manager before calling this method,
+     * to ensure sequential numbers.
+     */
+    public void add(List<?> sequences) {
+        if (sequences.isEmpty()) {
+            return;
+        }
+        if (isRange(sequences)) {
+            this.ranges.add(new Range((Long)sequences.get(0), (Long)sequences.get(sequences.size() - 1)));
+            if (this.current == null) {
+                nextRange(null);
+            }
+        } else {
+            this.values.addAll(sequences);
+        }
+    }
+
+    /**
+     * Return if the values are consecutive longs.
+     */
+    protected boolean isRange(List<?> sequences) {
+        Object first = sequences.get(0);
+        if (!(first instanceof Long)) {
+            return false;
+        }
+        long expected = (Long)first;
+        for (Object value : sequences) {
+            if (!(value instanceof Long) || ((Long)value != expected)) {
+                return false;
+            }
+            expected++;
+        }
+        return true;
+    }
+
+    /**
+     * Return the number of values remaining.
+     */
+    public long remaining() {
+        Range range = this.current;
+        long remaining = (range == null) ? 0 : range.remaining();
+        for (Range next : this.ranges) {
+            remaining = remaining + next.remaining();
+        }
+        return remaining + this.values.size();
+    }
+
+    /**
+     * Return true if the values remaining are below the low-water mark, and the next values are not already being allocated.
+     * The caller must then allocate the next values, and call {@link #endAllocation()}.
+     */
+    public boolean startAllocation(int lowWaterMark) {
+        Range range = this.current;
+        if (this.isAllocating.get() || ((range != null) && (range.remaining() >= lowWaterMark))) {
+            return false;
+        }
+        return (remaining() < lowWaterMark) && this.isAllocating.compareAndSet(false, true);
+    }
+
+    /**
+     * Record the allocation of the next values is complete.
+     */
+    public void endAllocation() {
+        this.isAllocating.set(false);
+    }
+}
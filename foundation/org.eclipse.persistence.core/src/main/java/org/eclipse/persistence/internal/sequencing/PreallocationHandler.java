@@ -24,6 +24,7 @@
  */
 class PreallocationHandler implements SequencingLogInOut {
     protected Map<String, Queue<Object>> preallocatedSequences;
+    protected Map<String, PreallocatedRanges> preallocatedRanges;
 
     public PreallocationHandler() {
         super();
@@ -48,6 +49,15 @@ public Queue<Object> getPreallocated(String sequenceName) {
         return sequences;
     }
 
+    /**
+     * Returns the preallocated ranges of the sequences for the seqName.
+     * If there are none, new empty ranges are registered.
+     * These are used instead of the Queue for sequences allocated in the background.
+     */
+    public PreallocatedRanges getPreallocatedRanges(String sequenceName) {
+        return preallocatedRanges.computeIfAbsent(sequenceName, name -> new PreallocatedRanges());
+    }
+
     // SequencingLogInOut
     @Override
     public void onConnect() {
@@ -57,6 +67,7 @@ public void onConnect() {
     @Override
     public void onDisconnect() {
         preallocatedSequences = null;
+        preallocatedRanges = null;
     }
 
     @Override
@@ -71,6 +82,7 @@ public boolean isConnected() {
      */
     public void initializePreallocated() {
         preallocatedSequences = new ConcurrentHashMap<>(20);
+        preallocatedRanges = new ConcurrentHashMap<>(20);
     }
 
     /**
@@ -80,6 +92,7 @@ public void initializePreallocated() {
      */
     public void initializePreallocated(String seqName) {
         preallocatedSequences.remove(seqName);
+        preallocatedRanges.remove(seqName);
     }
 
     /**
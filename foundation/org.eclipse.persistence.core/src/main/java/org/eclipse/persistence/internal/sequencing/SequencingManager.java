@@ -21,6 +21,7 @@
 import java.util.Queue;
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.MultitenantPolicy;
@@ -28,6 +29,7 @@
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
@@ -362,6 +364,75 @@ protected void logDebugLocalPreallocation(AbstractSession writeSession, String s
         }
     }
 
+    /**
+     * Return the number of preallocated values remaining below which the next values of the sequence
+     * are allocated in the background, 0 if not used.
+     */
+    protected int getPreallocationLowWaterMark(Sequence sequence) {
+        int lowWaterMark = sequence.getPreallocationLowWaterMark();
+        if ((lowWaterMark == 0) && (getOwnerSession().getDatasourcePlatform() instanceof DatasourcePlatform)) {
+            lowWaterMark = ((DatasourcePlatform)getOwnerSession().getDatasourcePlatform()).getDefaultPreallocationLowWaterMark();
+        }
+        return lowWaterMark;
+    }
+
+    /**
+     * Return the next value of the sequence from its preallocated ranges, without locking.
+     * Once the values remaining drop below the low-water mark, the next values are allocated in the background
+     * if the allocator can be used from any thread, so a thread only allocates and waits if all the values are used.
+     */
+    protected Object getNextRangeValue(Sequence sequence, AbstractSession writeSession, int lowWaterMark, Function<AbstractSession, Vector<?>> allocator, boolean canAllocateInBackground) {
+        String seqName = sequence.getName();
+        PreallocatedRanges ranges = getPreallocationHandler(getContext(writeSession)).getPreallocatedRanges(seqName);
+        Object sequenceValue = ranges.poll();
+        if (sequenceValue == null) {
+            // Values are used, so must lock and allocate next batch of sequences.
+            ConcurrencyManager lock = acquireLock(seqName);
+            try {
+                sequenceValue = ranges.poll();
+                if (sequenceValue == null) {
+                    Vector<?> sequences = allocator.apply(writeSession);
+                    // Remove the first value before adding to the ranges to ensure this thread gets one.
+                    sequenceValue = sequences.remove(0);
+                    ranges.add(sequences);
+                    logDebugPreallocation(seqName, sequenceValue, sequences);
+                }
+            } finally {
+                lock.release();
+            }
+        }
+        if (canAllocateInBackground && ranges.startAllocation(lowWaterMark)) {
+            getOwnerSession().getServerPlatform().launchContainerRunnable(() -> allocateInBackground(seqName, ranges, lowWaterMark, allocator));
+        }
+        return sequenceValue;
+    }
+
+    /**
+     * Allocate the next values of the sequence into its ranges, unless allocated while waiting for the lock.
+     * Failures are logged, the values are then allocated once used.
+     */
+    protected void allocateInBackground(String seqName, PreallocatedRanges ranges, int lowWaterMark, Function<AbstractSession, Vector<?>> allocator) {
+        try {
+            ConcurrencyManager lock = acquireLock(seqName);
+            try {
+                if (ranges.remaining() < lowWaterMark) {
+                    Vector<?> sequences = allocator.apply(getOwnerSession());
+                    ranges.add(sequences);
+                    if (getOwnerSession().shouldLog(SessionLog.FINEST, SessionLog.SEQUENCING) && !sequences.isEmpty()) {
+                        Object[] args = { seqName, sequences.size(), sequences.firstElement(), sequences.lastElement() };
+                        getOwnerSession().log(SessionLog.FINEST, SessionLog.SEQUENCING, "sequencing_preallocation", args);
+                    }
+                }
+            } finally {
+                lock.release();
+            }
+        } catch (RuntimeException exception) {
+            getOwnerSession().logThrowable(SessionLog.WARNING, SessionLog.SEQUENCING, exception);
+        } finally {
+            ranges.endAllocation();
+        }
+    }
+
     static abstract class State {
         abstract Object getNextValue(Sequence sequence, AbstractSession writeSession);
 
@@ -600,6 +671,11 @@ class Preallocation_Transaction_Accessor_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
+                int lowWaterMark = getPreallocationLowWaterMark(sequence);
+                if (lowWaterMark > 0) {
+                    // The sequence connection can be used by any thread, so allocate in the background.
+                    return getNextRangeValue(sequence, writeSession, lowWaterMark, session -> allocateSequences(sequence, session), true);
+                }
                 PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
@@ -614,32 +690,12 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                     if (sequenceValue != null) {
                         return sequenceValue;
                     }
-                    // note that accessor.getLogin().shouldUseExternalTransactionController()
-                    // should be set to false
-                    Accessor accessor = getConnectionHandler().acquireAccessor();
-                    try {
-                        accessor.beginTransaction(writeSession);
-                        try {
-                            Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
-                            accessor.commitTransaction(writeSession);
-                            // Remove the first value before adding to the global cache to ensure this thread gets one.
-                            sequenceValue = sequences.remove(0);
-                            // copy remaining values to global cache.
-                            handler.setPreallocated(seqName, sequences);
-                            logDebugPreallocation(seqName, sequenceValue, sequences);
-                        } catch (RuntimeException ex) {
-                            try {
-                                // make sure to rollback the transaction we've begun
-                                accessor.rollbackTransaction(writeSession);
-                            } catch (Exception rollbackException) {
-                                // ignore rollback exception
-                            }
-                            // don't eat the original exception
-                            throw ex;
-                        }
-                    } finally {
-                        getConnectionHandler().releaseAccessor(accessor);
-                    }
+                    Vector<?> sequences = allocateSequences(sequence, writeSession);
+                    // Remove the first value before adding to the global cache to ensure this thread gets one.
+                    sequenceValue = sequences.remove(0);
+                    // copy remaining values to global cache.
+                    handler.setPreallocated(seqName, sequences);
+                    logDebugPreallocation(seqName, sequenceValue, sequences);
                 } finally {
                     lock.release();
                 }
@@ -670,6 +726,34 @@ public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
                 }
             }
         }
+
+        /**
+         * Allocate the next values of the sequence in a transaction on the sequence connection.
+         */
+        Vector<?> allocateSequences(Sequence sequence, AbstractSession writeSession) {
+            // note that accessor.getLogin().shouldUseExternalTransactionController()
+            // should be set to false
+            Accessor accessor = getConnectionHandler().acquireAccessor();
+            try {
+                accessor.beginTransaction(writeSession);
+                try {
+                    Vector<?> sequences = sequence.getGeneratedVector(accessor, writeSession);
+                    accessor.commitTransaction(writeSession);
+                    return sequences;
+                } catch (RuntimeException ex) {
+                    try {
+                        // make sure to rollback the transaction we've begun
+                        accessor.rollbackTransaction(writeSession);
+                    } catch (Exception rollbackException) {
+                        // ignore rollback exception
+                    }
+                    // don't eat the original exception
+                    throw ex;
+                }
+            } finally {
+                getConnectionHandler().releaseAccessor(accessor);
+            }
+        }
     }
 
     /**
@@ -682,6 +766,11 @@ class Preallocation_NoTransaction_State extends State {
         public Object getNextValue(Sequence sequence, AbstractSession writeSession) {
             String seqName = sequence.getName();
             if(sequence.getPreallocationSize() > 1) {
+                int lowWaterMark = getPreallocationLowWaterMark(sequence);
+                if (lowWaterMark > 0) {
+                    // Only a server session can select the sequence from any thread, on a read connection.
+                    return getNextRangeValue(sequence, writeSession, lowWaterMark, session -> sequence.getGeneratedVector(null, session), getOwnerSession().isServerSession());
+                }
                 PreallocationHandler handler = getPreallocationHandler(getContext(writeSession));
                 Queue<Object> sequencesForName = handler.getPreallocated(seqName);
                 // First try to get the next sequence value without locking.
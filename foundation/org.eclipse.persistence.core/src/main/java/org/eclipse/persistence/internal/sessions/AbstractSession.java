@@ -2805,16 +2805,12 @@ protected CacheKey getCacheKeyFromTargetSessionForMerge(Object implementation, O
                cacheKey.acquireDeferredLock();
                original = cacheKey.getObject();
                if (original == null) {
-                   synchronized (cacheKey) {
-                       if (cacheKey.isAcquired()) {
-                           try {
-                               cacheKey.wait();
-                           } catch (InterruptedException e) {
-                               //ignore and return
-                           }
-                       }
-                       original = cacheKey.getObject();
+                   try {
+                       cacheKey.waitForRelease(0);
+                   } catch (InterruptedException e) {
+                       //ignore and return
                    }
+                   original = cacheKey.getObject();
                }
                cacheKey.releaseDeferredLock();
            }
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+
+/**
+ * <p><b>Purpose</b>: Read the objects of the descriptors set to be preloaded into the shared cache, at login<p>
+ * The objects of each descriptor are counted, then read by pages of ReadAllQuery ordered by primary key,
+ * so the objects, and their cache indexes, are put in the cache as by any other query.
+ * The pages of all the descriptors are read in parallel by the threads of the server platform.
+ * A database session has a single connection, so its objects are read on the login thread.
+ * The postPreloadDescriptor session event is raised after the objects of each descriptor are read,
+ * and the postPreloadCache session event once all the objects are read.
+ * A failed query is logged, and does not stop the preload of the other pages.
+ *
+ * @see org.eclipse.persistence.descriptors.CachePolicy#setShouldPreload(boolean)
+ * @see PersistenceUnitProperties#CACHE_PRELOAD_
+ */
+public class CachePreloader {
+
+    /** Default number of objects read by each query. */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    /** Default maximum number of threads. */
+    public static final int DEFAULT_MAX_THREADS = 4;
+
+    protected final DatabaseSessionImpl session;
+
+    protected final List<ClassDescriptor> descriptors;
+
+    protected final int pageSize;
+
+    protected final int numberOfThreads;
+
+    protected final boolean shouldWait;
+
+    /** Queries waiting to be run. */
+    protected final BlockingQueue<Runnable> tasks;
+
+    protected final AtomicInteger remainingDescriptors;
+
+    protected final AtomicLong numberOfObjects;
+
+    protected final CountDownLatch completed;
+
+    protected volatile boolean isCancelled;
+
+    protected long startTime;
+
+    /**
+     * Objects read for a descriptor.
+     */
+    protected class DescriptorPreload {
+        protected final ClassDescriptor descriptor;
+        protected final AtomicInteger remainingPages;
+        protected final AtomicLong numberOfObjects;
+
+        protected DescriptorPreload(ClassDescriptor descriptor) {
+            this.descriptor = descriptor;
+            this.remainingPages = new AtomicInteger();
+            this.numberOfObjects = new AtomicLong();
+        }
+    }
+
+    public CachePreloader(DatabaseSessionImpl session) {
+        this.session = session;
+        this.descriptors = new ArrayList<>();
+        for (ClassDescriptor descriptor : session.getProject().getOrderedDescriptors()) {
+            if (shouldPreload(descriptor)) {
+                this.descriptors.add(descriptor);
+            }
+        }
+        this.pageSize = getIntegerProperty(PersistenceUnitProperties.CACHE_PRELOAD_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+        if (session.isServerSession()) {
+            this.numberOfThreads = getIntegerProperty(PersistenceUnitProperties.CACHE_PRELOAD_THREADS,
+                    Math.min(DEFAULT_MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+            this.shouldWait = "true".equalsIgnoreCase(String.valueOf(session.getProperty(PersistenceUnitProperties.CACHE_PRELOAD_WAIT)));
+        } else {
+            this.numberOfThreads = 1;
+            this.shouldWait = true;
+        }
+        this.tasks = new LinkedBlockingQueue<>();
+        this.remainingDescriptors = new AtomicInteger(this.descriptors.size());
+        this.numberOfObjects = new AtomicLong();
+        this.completed = new CountDownLatch(1);
+    }
+
+    /**
+     * Return if the objects of the descriptor are read by the preload.
+     * Subclasses are read with their parent if it is preloaded.
+     */
+    protected boolean shouldPreload(ClassDescriptor descriptor) {
+        if (descriptor.isDescriptorTypeAggregate() || descriptor.isDescriptorForInterface()
+                || !descriptor.getCachePolicy().shouldPreload() || !descriptor.getCachePolicy().isSharedIsolation()
+                || descriptor.getTables().isEmpty()) {
+            return false;
+        }
+        ClassDescriptor parent = descriptor;
+        while (parent.isChildDescriptor()) {
+            parent = parent.getInheritancePolicy().getParentDescriptor();
+            if (parent.getCachePolicy().shouldPreload()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the positive integer session property, or the default value.
+     */
+    protected int getIntegerProperty(String name, int defaultValue) {
+        Object value = this.session.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        int integer;
+        try {
+            integer = Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException exception) {
+            throw ValidationException.invalidValueForProperty(value, name, exception);
+        }
+        if (integer <= 0) {
+            throw ValidationException.invalidValueForProperty(value, name, null);
+        }
+        return integer;
+    }
+
+    /**
+     * Return the descriptors of the objects read by the preload.
+     */
+    public List<ClassDescriptor> getDescriptors() {
+        return this.descriptors;
+    }
+
+    /**
+     * Return the number of objects read so far.
+     */
+    public long getNumberOfObjects() {
+        return this.numberOfObjects.get();
+    }
+
+    /**
+     * Return if all the objects have been read, or the preload was cancelled.
+     */
+    public boolean isComplete() {
+        return this.completed.getCount() == 0;
+    }
+
+    /**
+     * Start reading the objects, and wait until they are read if required.
+     */
+    public void start() {
+        this.startTime = System.currentTimeMillis();
+        this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_start", this.descriptors.size(), this.numberOfThreads);
+        if (this.descriptors.isEmpty()) {
+            complete();
+            return;
+        }
+        for (ClassDescriptor descriptor : this.descriptors) {
+            DescriptorPreload preload = new DescriptorPreload(descriptor);
+            this.tasks.add(() -> preloadDescriptor(preload));
+        }
+        // The login thread runs the queries too when it waits.
+        int backgroundThreads = this.shouldWait ? this.numberOfThreads - 1 : this.numberOfThreads;
+        for (int index = 0; index < backgroundThreads; index++) {
+            this.session.getServerPlatform().launchContainerRunnable(this::runTasks);
+        }
+        if (this.shouldWait) {
+            runTasks();
+            waitForCompletion();
+        }
+    }
+
+    /**
+     * Wait until all the objects are read, or the preload is cancelled.
+     */
+    public void waitForCompletion() {
+        try {
+            this.completed.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop reading the objects, the running queries complete.
+     */
+    public void cancel() {
+        this.isCancelled = true;
+        this.tasks.clear();
+        this.completed.countDown();
+    }
+
+    /**
+     * Run the queries until all the objects are read, or the preload is cancelled.
+     */
+    protected void runTasks() {
+        try {
+            while (!this.isCancelled && (this.remainingDescriptors.get() > 0)) {
+                // Other threads may still add pages while their count query runs.
+                Runnable task = this.tasks.poll(100, TimeUnit.MILLISECONDS);
+                if (task != null) {
+                    task.run();
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Count the objects of the descriptor, and add the queries reading its pages.
+     */
+    protected void preloadDescriptor(DescriptorPreload preload) {
+        ClassDescriptor descriptor = preload.descriptor;
+        if (descriptor.hasInheritance() && descriptor.getInheritancePolicy().requiresMultipleTableSubclassRead()) {
+            // The subclasses are read by separate queries, which cannot be paged together.
+            preload.remainingPages.set(1);
+            this.tasks.add(() -> preloadPage(preload, buildPageQuery(descriptor, 0, true)));
+            return;
+        }
+        long count;
+        try {
+            count = ((Number)this.session.executeQuery(buildCountQuery(descriptor))).longValue();
+        } catch (RuntimeException exception) {
+            logFailure(exception);
+            completeDescriptor(preload);
+            return;
+        }
+        int pages = (int)((count + this.pageSize - 1) / this.pageSize);
+        if (pages == 0) {
+            completeDescriptor(preload);
+            return;
+        }
+        preload.remainingPages.set(pages);
+        for (int page = 0; page < pages; page++) {
+            // The last page reads the objects inserted since the count.
+            ReadAllQuery query = buildPageQuery(descriptor, page * this.pageSize, page == (pages - 1));
+            this.tasks.add(() -> preloadPage(preload, query));
+        }
+    }
+
+    /**
+     * Read a page of objects into the cache.
+     */
+    protected void preloadPage(DescriptorPreload preload, ReadAllQuery query) {
+        try {
+            Collection<?> objects = (Collection<?>)this.session.executeQuery(query);
+            preload.numberOfObjects.addAndGet(objects.size());
+            this.numberOfObjects.addAndGet(objects.size());
+        } catch (RuntimeException exception) {
+            logFailure(exception);
+        }
+        if (preload.remainingPages.decrementAndGet() == 0) {
+            completeDescriptor(preload);
+        }
+    }
+
+    /**
+     * Raise the descriptor event, and complete the preload after the last descriptor.
+     */
+    protected void completeDescriptor(DescriptorPreload preload) {
+        if (this.isCancelled) {
+            return;
+        }
+        this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_descriptor", preload.descriptor.getJavaClassName(), preload.numberOfObjects.get());
+        this.session.getEventManager().postPreloadDescriptor(preload.descriptor, preload.numberOfObjects.get());
+        if (this.remainingDescriptors.decrementAndGet() == 0) {
+            complete();
+        }
+    }
+
+    /**
+     * Raise the preload event, and release the threads waiting for the preload.
+     */
+    protected void complete() {
+        this.session.log(SessionLog.FINE, SessionLog.CACHE, "cache_preload_complete", this.numberOfObjects.get(), System.currentTimeMillis() - this.startTime);
+        try {
+            this.session.getEventManager().postPreloadCache(this.numberOfObjects.get());
+        } finally {
+            this.completed.countDown();
+        }
+    }
+
+    protected void logFailure(RuntimeException exception) {
+        if (!this.isCancelled) {
+            this.session.logThrowable(SessionLog.WARNING, SessionLog.CACHE, exception);
+        }
+    }
+
+    /**
+     * Build the query counting the objects of the descriptor, including its subclasses.
+     */
+    public ReportQuery buildCountQuery(ClassDescriptor descriptor) {
+        ReportQuery query = new ReportQuery(descriptor.getJavaClass(), new ExpressionBuilder());
+        query.addCount();
+        query.setShouldReturnSingleValue(true);
+        return query;
+    }
+
+    /**
+     * Build the query reading a page of objects of the descriptor, ordered by primary key.
+     */
+    public ReadAllQuery buildPageQuery(ClassDescriptor descriptor, int firstResult, boolean isLastPage) {
+        ReadAllQuery query = new ReadAllQuery(descriptor.getJavaClass());
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        for (DatabaseField field : descriptor.getPrimaryKeyFields()) {
+            query.addOrdering(builder.getField(field).ascending());
+        }
+        if (firstResult > 0) {
+            query.setFirstResult(firstResult);
+        }
+        if (!isLastPage) {
+            query.setMaxRows(firstResult + this.pageSize);
+        }
+        return query;
+    }
+}
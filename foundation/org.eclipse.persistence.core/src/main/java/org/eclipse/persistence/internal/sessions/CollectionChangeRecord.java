@@ -574,6 +574,19 @@ public boolean orderHasBeenRepaired() {
        return this.orderHasBeenRepaired;
    }
 
+   /**
+    * INTERNAL:
+    * Return if the record has changes to the order of the collection,
+    * without initializing the ordered changes.
+    */
+   public boolean hasOrderedChanges() {
+       return this.orderHasBeenRepaired
+               || ((this.orderedAddObjects != null) && !this.orderedAddObjects.isEmpty())
+               || ((this.orderedAddObjectIndices != null) && !this.orderedAddObjectIndices.isEmpty())
+               || ((this.orderedChangeObjectList != null) && !this.orderedChangeObjectList.isEmpty())
+               || ((this.orderedRemoveObjects != null) && !this.orderedRemoveObjects.isEmpty());
+   }
+
    /**
     * Clears info about added / removed objects set by change tracker.
     */
@@ -139,6 +139,19 @@ public class DatabaseSessionImpl extends AbstractSession implements org.eclipse.
     //Bug#3440544 Used to stop the attempt to login more than once.
     protected volatile boolean isLoggedIn;
 
+    /**
+     * INTERNAL:
+     * Reads the objects into the cache at login, while the preload is running.
+     */
+    protected transient volatile CachePreloader cachePreloader;
+
+    /**
+     * INTERNAL:
+     * Indicate if the cache is preloaded when the session connects,
+     * JPA preloads it once the DDL of the persistence unit is generated.
+     */
+    protected boolean shouldPreloadCacheOnLogin = true;
+
     /**
      * INTERNAL:
      * Set the SequencingHome object used by the session.
@@ -925,7 +938,47 @@ protected void postConnectDatasource(){
         if ((getDatasourcePlatform() instanceof DatabasePlatform) && getPlatform().getBatchWritingMechanism() != null) {
             getPlatform().getBatchWritingMechanism().initialize(this);
         }
+        if (this.shouldPreloadCacheOnLogin && !hasBroker() && !isRemoteSession()) {
+            preloadCache();
+        }
+    }
 
+    /**
+     * INTERNAL:
+     * Read the objects of the descriptors set to be preloaded into the cache.
+     * A server session reads them in the background, unless the preload wait property is set.
+     */
+    public void preloadCache() {
+        CachePreloader preloader = new CachePreloader(this);
+        if (!preloader.getDescriptors().isEmpty()) {
+            this.cachePreloader = preloader;
+            preloader.start();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the cache preloader started at login, or null if no objects are preloaded.
+     */
+    public CachePreloader getCachePreloader() {
+        return this.cachePreloader;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the cache is preloaded when the session connects.
+     */
+    public boolean shouldPreloadCacheOnLogin() {
+        return this.shouldPreloadCacheOnLogin;
+    }
+
+    /**
+     * INTERNAL:
+     * Set if the cache is preloaded when the session connects,
+     * otherwise {@link #preloadCache()} has to be called once the session is connected.
+     */
+    public void setShouldPreloadCacheOnLogin(boolean shouldPreloadCacheOnLogin) {
+        this.shouldPreloadCacheOnLogin = shouldPreloadCacheOnLogin;
     }
 
     /**
@@ -978,6 +1031,11 @@ public void logout() throws DatabaseException {
             this.eventManager.preLogout(this);
         }
 
+        if (this.cachePreloader != null) {
+            this.cachePreloader.cancel();
+            this.cachePreloader = null;
+        }
+
         cleanUpInjectionManager();
 
         // Reset cached data, as may be invalid later on.
@@ -879,6 +879,15 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         getIdentityMapManager().invalidateQueryCache(classThatChanged);
     }
 
+    /**
+     * INTERNAL:
+     * Invalidate/remove the results for the class from the query cache affected by the changes.
+     * This is used to invalidate the query cache on a merge.
+     */
+    public void invalidateQueryCache(Class<?> classThatChanged, List<ObjectChangeSet> changeSets) {
+        getIdentityMapManager().invalidateQueryCache(classThatChanged, changeSets);
+    }
+
     /**
      * ADVANCED:
      * Set all of the objects from all identity maps to be invalid in the cache.
@@ -1024,7 +1033,17 @@ public Object putInIdentityMap(Object object, Object key, Object writeLockValue,
      * different parameter values access different caches.
      */
     public void putQueryResult(ReadQuery query, List parameters, Object results) {
-        getIdentityMapManager().putQueryResult(query, parameters, results);
+        putQueryResult(query, parameters, results, null);
+    }
+
+    /**
+     * INTERNAL:
+     * Set the results for a query, and the translation row they were read with.
+     * Query results are cached based on the parameter values provided to the query
+     * different parameter values access different caches.
+     */
+    public void putQueryResult(ReadQuery query, List parameters, Object results, AbstractRecord translationRow) {
+        getIdentityMapManager().putQueryResult(query, parameters, results, translationRow);
     }
 
     /**
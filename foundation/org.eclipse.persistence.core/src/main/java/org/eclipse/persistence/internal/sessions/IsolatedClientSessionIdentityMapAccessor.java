@@ -263,22 +263,20 @@ protected Object getAndCloneCacheKeyFromParent(Object primaryKey, Object objectT
         // in which GC could remove the object and we would end up with a null pointer
         // as well we must inspect the cacheKey without locking on it.
         if ((cacheKey != null) && (shouldReturnInvalidatedObjects || !descriptor.getCacheInvalidationPolicy().isInvalidated(cacheKey))) {
-            synchronized (cacheKey) {
-                //if the object in the cachekey is null but the key is acquired then
-                //someone must be rebuilding it or creating a new one.  Sleep until
-                // it's finished. A plain wait here would be more efficient but we may not
-                // get notified for quite some time (ie deadlock) if the other thread
-                //is building the object.  Must wait and not sleep in order for the monitor to be released
-                objectFromCache = cacheKey.getObject();
-                try {
-                    while (cacheKey.isAcquired() && (objectFromCache == null)) {
-                        cacheKey.wait(5);
-                    }
-                } catch (InterruptedException ex) {
-                }
-                if (objectFromCache == null) {
-                    return null;
+            //if the object in the cachekey is null but the key is acquired then
+            //someone must be rebuilding it or creating a new one.  Sleep until
+            // it's finished. A plain wait here would be more efficient but we may not
+            // get notified for quite some time (ie deadlock) if the other thread
+            //is building the object.  Must wait and not sleep in order for the lock to be released
+            objectFromCache = cacheKey.getObject();
+            try {
+                while (cacheKey.isAcquired() && (objectFromCache == null)) {
+                    cacheKey.waitForRelease(5);
                 }
+            } catch (InterruptedException ex) {
+            }
+            if (objectFromCache == null) {
+                return null;
             }
         } else {
             return null;
@@ -539,6 +537,19 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * Invalidate/remove the results for the class from the query cache affected by the changes.
+     * This is used to invalidate the query cache on a merge.
+     */
+    @Override
+    public void invalidateQueryCache(Class<?> classThatChanged, List<ObjectChangeSet> changeSets) {
+        if (!session.getDescriptor(classThatChanged).getCachePolicy().isSharedIsolation()) {
+            getIdentityMapManager().invalidateQueryCache(classThatChanged, changeSets);
+        } else {
+            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().invalidateQueryCache(classThatChanged, changeSets);
+        }
+    }
+
     /**
      * PUBLIC:
      * Reset the entire local object cache.
@@ -561,11 +572,11 @@ public void initializeIdentityMaps() {
      * different parameter values access different caches.
      */
     @Override
-    public void putQueryResult(ReadQuery query, List parameters, Object results) {
+    public void putQueryResult(ReadQuery query, List parameters, Object results, AbstractRecord translationRow) {
         if (((IsolatedClientSession)session).isIsolatedQuery(query)) {
-            getIdentityMapManager().putQueryResult(query, parameters, results);
+            getIdentityMapManager().putQueryResult(query, parameters, results, translationRow);
         } else {
-            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().putQueryResult(query, parameters, results);
+            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().putQueryResult(query, parameters, results, translationRow);
         }
     }
 
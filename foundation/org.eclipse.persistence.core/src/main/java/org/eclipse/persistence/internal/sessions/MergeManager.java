@@ -21,12 +21,11 @@
 package org.eclipse.persistence.internal.sessions;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.VersionLockingPolicy;
@@ -436,7 +435,7 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
             // Iterate over each clone and let the object build merge to clones into the originals.
             this.session.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(this, uowChangeSet);
             Iterator<ObjectChangeSet> objectChangeEnum = uowChangeSet.getAllChangeSets().keySet().iterator();
-            Set<Class<?>> classesChanged = new HashSet<>();
+            Map<Class<?>, List<ObjectChangeSet>> classesChanged = new HashMap<>();
             while (objectChangeEnum.hasNext()) {
                 ObjectChangeSet objectChangeSet = objectChangeEnum.next();
                 // Don't read the object here.  If it is null then we won't merge it at this stage, unless it
@@ -451,19 +450,19 @@ public void mergeChangesFromChangeSet(UnitOfWorkChangeSet uowChangeSet) {
                 } else {
                     this.session.incrementProfile(SessionProfiler.ChangeSetsNotProcessed);
                 }
-                classesChanged.add(objectChangeSet.getClassType(this.session));
+                classesChanged.computeIfAbsent(objectChangeSet.getClassType(this.session), changedClass -> new ArrayList<>()).add(objectChangeSet);
             }
             if (uowChangeSet.hasDeletedObjects()) {
                 Iterator<ObjectChangeSet> deletedObjects = uowChangeSet.getDeletedObjects().values().iterator();
                 while (deletedObjects.hasNext()) {
                     ObjectChangeSet changeSet = deletedObjects.next();
                     changeSet.removeFromIdentityMap(this.session);
-                    classesChanged.add(changeSet.getClassType(this.session));
+                    classesChanged.computeIfAbsent(changeSet.getClassType(this.session), changedClass -> new ArrayList<>()).add(changeSet);
                 }
             }
             // Clear the query cache as well.
-            for (Class<?> changedClass : classesChanged) {
-                this.session.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+            for (Map.Entry<Class<?>, List<ObjectChangeSet>> entry : classesChanged.entrySet()) {
+                this.session.getIdentityMapAccessorInstance().invalidateQueryCache(entry.getKey(), entry.getValue());
             }
         } catch (RuntimeException exception) {
             this.session.handleException(exception);
@@ -210,6 +210,8 @@ protected static abstract class Prop {
             addProp(new CacheSizeProp());
             addProp(new CacheTypeProp());
             addProp(new BooleanProp(PersistenceUnitProperties.CACHE_SHARED_, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.CACHE_PRELOAD_, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.CACHE_PRELOAD_WAIT, "false"));
             addProp(new DescriptorCustomizerProp());
             addProp(new BatchWritingProp());
             addProp(new FlushClearCacheProp());
@@ -221,6 +223,7 @@ protected static abstract class Prop {
             addProp(new BooleanProp(PersistenceUnitProperties.VALIDATE_EXISTENCE, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.ORDER_UPDATES, "true"));
             addProp(new CommitOrderProp());
+            addProp(new StreamingSizeProp());
             addProp(new BooleanProp(PersistenceUnitProperties.JOIN_EXISTING_TRANSACTION, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.COMPOSITE_UNIT, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.COMPOSITE_UNIT_MEMBER, "false"));
@@ -630,6 +633,12 @@ protected static class CacheSizeProp extends Prop {
         }
     }
 
+    protected static class StreamingSizeProp extends Prop {
+        StreamingSizeProp() {
+            super(PersistenceUnitProperties.PERSISTENCE_CONTEXT_STREAMING_SIZE, Integer.toString(0));
+        }
+    }
+
     protected static class CacheTypeProp extends Prop {
         CacheTypeProp() {
             super(PersistenceUnitProperties.CACHE_TYPE_, CacheType.DEFAULT);
@@ -640,7 +649,10 @@ protected static class CacheTypeProp extends Prop {
                 {CacheType.SoftWeak, pcg + "SoftCacheWeakIdentityMap"},
                 {CacheType.HardWeak, pcg + "HardCacheWeakIdentityMap"},
                 {CacheType.Full, pcg + "FullIdentityMap"},
-                {CacheType.NONE, pcg + "NoIdentityMap"}
+                {CacheType.NONE, pcg + "NoIdentityMap"},
+                {CacheType.ConcurrentCache, pcg + "ConcurrentCacheIdentityMap"},
+                {CacheType.FullPrimitiveKey, pcg + "PrimitiveKeyIdentityMap"},
+                {CacheType.OffHeapCache, pcg + "OffHeapCacheIdentityMap"}
             };
         }
     }
@@ -669,7 +681,8 @@ protected static class BatchWritingProp extends Prop {
                 BatchWriting.None,
                 BatchWriting.JDBC,
                 BatchWriting.Buffered,
-                BatchWriting.OracleJDBC
+                BatchWriting.OracleJDBC,
+                BatchWriting.MultiRowInsert
             };
         }
     }
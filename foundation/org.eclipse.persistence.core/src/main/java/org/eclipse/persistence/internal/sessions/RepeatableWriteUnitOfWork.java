@@ -80,9 +80,18 @@ public class RepeatableWriteUnitOfWork extends UnitOfWorkImpl {
      * and the set is cleared.
      * Relevant only in case call to flush method followed by call to clear method.
      * Works together with flushClearCache.
+     * Also contains the classes of the objects updated and deleted by the streaming flushes.
      */
     protected transient Set<ClassDescriptor> classesToBeInvalidated;
 
+    /**
+     * The number of registered objects at which the changes are written
+     * and all the objects detached, before the next persist, merge or remove.
+     * Allows streaming any number of objects through the unit of work with a bounded memory,
+     * 0 (default) never writes the changes before flush or commit.
+     */
+    protected int streamingSize;
+
     /**
      * Alters the behaviour of the RWUOW commit to function like the UOW with respect to Entity lifecycle
      */
@@ -180,6 +189,7 @@ public void clearForClose(boolean shouldClearCache){
      * and the set is cleared.
      * Relevant only in case call to flush method followed by call to clear method.
      * Works together with flushClearCache.
+     * Also contains the classes of the objects updated and deleted by the streaming flushes.
      */
      public Set<ClassDescriptor> getClassesToBeInvalidated(){
         return classesToBeInvalidated;
@@ -230,9 +240,10 @@ public boolean shouldForceReadFromDB(ObjectBuildingQuery query, Object primaryKe
                         }
                     }
                 }
+            }
             // if the invalidation list for this UOW contains any changes to the class being queried for
             // we should build directly from the DB
-            } else if (this.getFlushClearCache().equals(FlushClearCache.DropInvalidate) && this.getClassesToBeInvalidated() != null){
+            if (this.getClassesToBeInvalidated() != null){
                     if (this.getClassesToBeInvalidated().contains(query.getDescriptor())){
                         return true;
                     }
@@ -436,6 +447,28 @@ public void updateChangeTrackersIfRequired(Object objectToWrite, ObjectChangeSet
      */
     @Override
     public void writeChanges() {
+        writeChanges(false);
+    }
+
+    /**
+     * INTERNAL:
+     * Write the changes and detach all the objects if the number of registered objects reached the streaming size.
+     * Called before each persist, merge and remove in a transaction.
+     */
+    public void writeChangesIfStreamingSizeReached() {
+        if ((this.streamingSize > 0) && !this.isWithinFlush && hasCloneMapping() && (getCloneMapping().size() >= this.streamingSize)) {
+            writeChanges(true);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * This will flush all changes to the database.
+     * If detaching, all the objects are cleared from the unit of work, without rebuilding their backup clones
+     * or keeping their changes, and the classes changed are invalidated in the shared cache on commit,
+     * otherwise the changes are created or merged into the cumulativeUOWChangeSet.
+     */
+    protected void writeChanges(boolean shouldDetach) {
         // Check for a nested flush and return early if we are in one
         if (this.isWithinFlush()) {
             log(SessionLog.WARNING, SessionLog.TRANSACTION, "nested_entity_manager_flush_not_executed_pre_query_changes_may_be_pending", getClass().getSimpleName());
@@ -466,6 +499,9 @@ public void writeChanges() {
                 writesCompleted();
                 //return if there were no changes in the change set.
                 log(SessionLog.FINER, SessionLog.TRANSACTION, "end_unit_of_work_flush");
+                if (shouldDetach) {
+                    clear(true);
+                }
                 return;
             }
             // Write changes to the database.
@@ -479,6 +515,13 @@ public void writeChanges() {
             this.isWithinFlush = false;  // clear the flag in the case that we have changes
         }
 
+        if (shouldDetach) {
+            addClassesToBeInvalidated(changeSet);
+            log(SessionLog.FINER, SessionLog.TRANSACTION, "end_unit_of_work_flush");
+            clear(true);
+            return;
+        }
+
         if (this.cumulativeUOWChangeSet == null) {
             this.cumulativeUOWChangeSet = changeSet;
         } else {
@@ -491,6 +534,26 @@ public void writeChanges() {
         log(SessionLog.FINER, SessionLog.TRANSACTION, "resume_unit_of_work");
     }
 
+    /**
+     * INTERNAL:
+     * Add the classes of the objects updated and deleted by the change set
+     * to the classes invalidated in the shared cache on commit.
+     */
+    protected void addClassesToBeInvalidated(UnitOfWorkChangeSet changeSet) {
+        if (this.classesToBeInvalidated == null) {
+            this.classesToBeInvalidated = new HashSet<>();
+        }
+        Set<ClassDescriptor> updatedObjectsClasses = changeSet.findUpdatedObjectsClasses();
+        if (updatedObjectsClasses != null) {
+            this.classesToBeInvalidated.addAll(updatedObjectsClasses);
+        }
+        if (hasObjectsDeletedDuringCommit()) {
+            for (Object deletedObject : this.objectsDeletedDuringCommit.keySet()) {
+                this.classesToBeInvalidated.add(getDescriptor(deletedObject));
+            }
+        }
+    }
+
     /**
      * ADVANCED:
      * Register the new object with the unit of work.
@@ -709,6 +772,25 @@ public void setFlushClearCache(String flushClearCache) {
         this.flushClearCache = flushClearCache;
     }
 
+    /**
+     * Return the number of registered objects at which the changes are written
+     * and all the objects detached, 0 if never.
+     */
+    public int getStreamingSize() {
+        return streamingSize;
+    }
+
+    /**
+     * Set the number of registered objects at which the changes are written
+     * and all the objects detached, before the next persist, merge or remove.
+     * This allows streaming any number of objects through the unit of work with a bounded memory,
+     * the objects written are no longer managed and the classes changed are invalidated in the shared cache on commit.
+     * 0 (default) never writes the changes before flush or commit.
+     */
+    public void setStreamingSize(int streamingSize) {
+        this.streamingSize = streamingSize;
+    }
+
     /**
      * Return whether we are already performing a flush() call
      */
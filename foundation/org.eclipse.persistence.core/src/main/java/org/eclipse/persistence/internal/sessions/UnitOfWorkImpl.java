@@ -3384,6 +3384,8 @@ protected void mergeChangesIntoParent() {
                 this.parent.getIdentityMapAccessorInstance().getWriteLockManager().acquireRequiredLocks(getMergeManager(), (UnitOfWorkChangeSet)getUnitOfWorkChangeSet());
             }
             Set<Class<?>> classesChanged = new HashSet<>();
+            // The changes of each class, to only invalidate the query results they affect.
+            Map<Class<?>, List<ObjectChangeSet>> changeSetsByClass = new HashMap<>();
             if (! shouldStoreBypassCache()) {
                 for (Map<ObjectChangeSet, ObjectChangeSet> objectChangesList : ((UnitOfWorkChangeSet)getUnitOfWorkChangeSet()).getObjectChanges().values()) {
                     // May be no changes for that class type.
@@ -3397,6 +3399,7 @@ protected void mergeChangesIntoParent() {
                             }
                             manager.mergeChanges(objectToWrite, changeSetToWrite, this.getParentIdentityMapSession(descriptor, false, false));
                             classesChanged.add(objectToWrite.getClass());
+                            changeSetsByClass.computeIfAbsent(objectToWrite.getClass(), changedClass -> new ArrayList<>()).add(changeSetToWrite);
                         }
                     }
                 }
@@ -3430,8 +3433,13 @@ protected void mergeChangesIntoParent() {
 
                 postMergeChanges(classesChanged);
 
+                if (this.unitOfWorkChangeSet.hasDeletedObjects()) {
+                    for (ObjectChangeSet removedObjectChangeSet : this.unitOfWorkChangeSet.getDeletedObjects().keySet()) {
+                        changeSetsByClass.computeIfAbsent(removedObjectChangeSet.getDescriptor().getJavaClass(), changedClass -> new ArrayList<>()).add(removedObjectChangeSet);
+                    }
+                }
                 for (Class<?> changedClass : classesChanged) {
-                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass);
+                    this.parent.getIdentityMapAccessorInstance().invalidateQueryCache(changedClass, changeSetsByClass.get(changedClass));
                 }
                 // If change propagation enabled through RemoteCommandManager then go for it
                 if (this.parent.shouldPropagateChanges() && (this.parent.getCommandManager() != null)) {
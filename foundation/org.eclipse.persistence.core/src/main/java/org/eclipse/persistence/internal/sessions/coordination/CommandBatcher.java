@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Batch the change sets propagated by cache coordination.
+ * </p>
+ * <p>
+ * <b>Description</b>: Collects the change sets of the MergeChangeSetCommands propagated
+ * by the RemoteCommandManager, and propagates them as a single MergeChangeSetCommand once
+ * the batch delay has elapsed since the first of them, or the batch holds the maximum
+ * number of object change sets. The changes of an object changed by several transactions
+ * of the batch are collapsed into a single object change set, holding the latest value
+ * of each attribute changed; the receivers merge the whole batch in one merge.
+ * Changes that cannot be collapsed, such as the changes of a collection changed by
+ * several transactions, flush the batch first, so the changes are merged in order.
+ * </p>
+ */
+public class CommandBatcher {
+
+    /** Reference to manager to propagate the batches */
+    protected RemoteCommandManager rcm;
+
+    /** The change sets of the pending batch by class name and id, in the order of their first change */
+    protected Map<Key, List<ObjectChangeSet>> changeSets;
+
+    /** The keys of the objects deleted in the pending batch */
+    protected Map<Key, Key> deletedObjects;
+
+    /** Counts the batches, to only flush the batch the delay was started for */
+    protected long batchNumber;
+
+    public CommandBatcher(RemoteCommandManager rcm) {
+        this.rcm = rcm;
+        this.changeSets = new LinkedHashMap<>();
+        this.deletedObjects = new LinkedHashMap<>();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the command is a merge of changes that can be batched.
+     */
+    public static boolean isBatchable(Object command) {
+        return (command != null) && (command.getClass() == MergeChangeSetCommand.class);
+    }
+
+    /**
+     * INTERNAL:
+     * Add the change set of the command to the batch.
+     * The batch is flushed first if any of its changes cannot be collapsed with the pending changes,
+     * and once it holds the maximum number of object change sets.
+     */
+    public void addCommand(MergeChangeSetCommand command) {
+        UnitOfWorkChangeSet changeSet = command.getChangeSet(null);
+        if (changeSet == null) {
+            return;
+        }
+        MergeChangeSetCommand previousBatch = null;
+        MergeChangeSetCommand batch = null;
+        boolean startDelay;
+        long number;
+        synchronized (this) {
+            if (!canCollapse(changeSet)) {
+                previousBatch = buildBatch();
+            }
+            startDelay = this.changeSets.isEmpty() && this.deletedObjects.isEmpty();
+            for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().values()) {
+                this.changeSets.computeIfAbsent(new Key(objectChangeSet), key -> new ArrayList<>(1)).add(objectChangeSet);
+            }
+            for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().values()) {
+                Key key = new Key(objectChangeSet);
+                this.changeSets.remove(key);
+                this.deletedObjects.put(key, key);
+            }
+            int maxBatchSize = this.rcm.getMaxBatchSize();
+            if ((maxBatchSize > 0) && ((this.changeSets.size() + this.deletedObjects.size()) >= maxBatchSize)) {
+                batch = buildBatch();
+                startDelay = false;
+            }
+            number = this.batchNumber;
+        }
+        if (previousBatch != null) {
+            this.rcm.propagateBatch(previousBatch);
+        }
+        if (batch != null) {
+            this.rcm.propagateBatch(batch);
+        }
+        if (startDelay) {
+            startDelay(number);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Propagate the pending batch, if any.
+     */
+    public void flush() {
+        MergeChangeSetCommand batch;
+        synchronized (this) {
+            batch = buildBatch();
+        }
+        if (batch != null) {
+            this.rcm.propagateBatch(batch);
+        }
+    }
+
+    /**
+     * Flush the batch once the batch delay has elapsed, unless it was already flushed.
+     */
+    protected void startDelay(long number) {
+        this.rcm.getServerPlatform().launchContainerRunnable(() -> {
+            try {
+                Thread.sleep(this.rcm.getBatchDelay());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                MergeChangeSetCommand batch = null;
+                synchronized (this) {
+                    if (this.batchNumber == number) {
+                        batch = buildBatch();
+                    }
+                }
+                if (batch != null) {
+                    this.rcm.propagateBatch(batch);
+                }
+            } catch (RuntimeException exception) {
+                this.rcm.handleException(exception);
+            }
+        });
+    }
+
+    /**
+     * Return if the changes of the change set can be collapsed with the pending changes.
+     * The changes of an object can be collapsed if its version follows the version of its pending changes,
+     * and each attribute is either changed by one transaction, or holds a value replaced as a whole.
+     */
+    protected boolean canCollapse(UnitOfWorkChangeSet changeSet) {
+        if (this.changeSets.isEmpty() && this.deletedObjects.isEmpty()) {
+            return true;
+        }
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().values()) {
+            Key key = new Key(objectChangeSet);
+            if (this.deletedObjects.containsKey(key)) {
+                return false;
+            }
+            List<ObjectChangeSet> pending = this.changeSets.get(key);
+            if (pending == null) {
+                continue;
+            }
+            ObjectChangeSet last = pending.get(pending.size() - 1);
+            if (objectChangeSet.isInvalid() || last.isInvalid()
+                    || (objectChangeSet.getCacheSynchronizationType() != last.getCacheSynchronizationType())) {
+                return false;
+            }
+            Object writeLockValue = last.getWriteLockValue();
+            Object initialWriteLockValue = objectChangeSet.getInitialWriteLockValue();
+            if ((writeLockValue != null) && (initialWriteLockValue != null) && !writeLockValue.equals(initialWriteLockValue)) {
+                return false;
+            }
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : objectChangeSet.getChanges()) {
+                for (ObjectChangeSet previous : pending) {
+                    ChangeRecord previousRecord = findChange(previous, record.getAttribute());
+                    if ((previousRecord != null) && !(isReplaceable(previousRecord) && isReplaceable((ChangeRecord) record))) {
+                        return false;
+                    }
+                }
+            }
+        }
+        for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().values()) {
+            if (this.deletedObjects.containsKey(new Key(objectChangeSet))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return if the change record holds the value of the attribute as a whole.
+     */
+    protected boolean isReplaceable(ChangeRecord record) {
+        return (record.getClass() == DirectToFieldChangeRecord.class) || (record.getClass() == ObjectReferenceChangeRecord.class);
+    }
+
+    /**
+     * Return the change of the attribute, without building the attribute index of the change set.
+     */
+    protected ChangeRecord findChange(ObjectChangeSet changeSet, String attribute) {
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : changeSet.getChanges()) {
+            if (attribute.equals(record.getAttribute())) {
+                return (ChangeRecord) record;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Build the command merging the pending changes, and start the next batch.
+     * Return null if there are no pending changes.
+     */
+    protected MergeChangeSetCommand buildBatch() {
+        if (this.changeSets.isEmpty() && this.deletedObjects.isEmpty()) {
+            return null;
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>(this.changeSets.size());
+        for (List<ObjectChangeSet> pending : this.changeSets.values()) {
+            ObjectChangeSet objectChangeSet = pending.size() == 1 ? pending.get(0) : collapse(pending);
+            allChangeSets.put(objectChangeSet, objectChangeSet);
+        }
+        Map<ObjectChangeSet, ObjectChangeSet> deletedChangeSets = new IdentityHashMap<>(this.deletedObjects.size());
+        for (Key key : this.deletedObjects.keySet()) {
+            deletedChangeSets.put(key.changeSet, key.changeSet);
+        }
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        if (!allChangeSets.isEmpty()) {
+            changeSet.setAllChangeSets(allChangeSets);
+        }
+        if (!deletedChangeSets.isEmpty()) {
+            changeSet.setDeletedObjects(deletedChangeSets);
+        }
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        this.changeSets = new LinkedHashMap<>();
+        this.deletedObjects = new LinkedHashMap<>();
+        this.batchNumber++;
+        return command;
+    }
+
+    /**
+     * Return a new change set holding the changes of the change sets of an object, in the order they were made.
+     * The change records are not copied, they are moved to the new change set, which becomes their owner,
+     * so the change sets of the object must not be used once collapsed. They have already been merged
+     * by the sending session when they are added to the batch.
+     */
+    protected ObjectChangeSet collapse(List<ObjectChangeSet> pending) {
+        ObjectChangeSet first = pending.get(0);
+        ObjectChangeSet last = pending.get(pending.size() - 1);
+        ObjectChangeSet changeSet = new ObjectChangeSet();
+        changeSet.setId(first.getId());
+        changeSet.setClassName(first.getClassName());
+        changeSet.setDescriptor(first.getDescriptor());
+        changeSet.setCacheSynchronizationType(first.getCacheSynchronizationType());
+        changeSet.setIsNew(first.isNew());
+        changeSet.setIsAggregate(first.isAggregate());
+        changeSet.setInitialWriteLockValue(first.getInitialWriteLockValue());
+        changeSet.setOldKey(first.getOldKey());
+        changeSet.setShouldModifyVersionField(last.shouldModifyVersionField());
+        changeSet.setNewKey(last.getNewKey());
+        changeSet.setProtectedForeignKeys(last.getProtectedForeignKeys());
+        Map<String, ChangeRecord> changes = new LinkedHashMap<>();
+        for (ObjectChangeSet objectChangeSet : pending) {
+            if (objectChangeSet.getWriteLockValue() != null) {
+                changeSet.setWriteLockValue(objectChangeSet.getWriteLockValue());
+            }
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord record : objectChangeSet.getChanges()) {
+                changes.remove(record.getAttribute());
+                changes.put(record.getAttribute(), (ChangeRecord) record);
+            }
+        }
+        List<org.eclipse.persistence.sessions.changesets.ChangeRecord> records = changeSet.getChanges();
+        Map<String, ChangeRecord> attributesToChanges = changeSet.getAttributesToChanges();
+        for (ChangeRecord record : changes.values()) {
+            record.setOwner(changeSet);
+            records.add(record);
+            attributesToChanges.put(record.getAttribute(), record);
+        }
+        changeSet.setHasVersionChange(last.hasVersionChange());
+        return changeSet;
+    }
+
+    /**
+     * Identifies an object by its class name and id, as the receivers of the batch do.
+     */
+    protected static final class Key {
+        private final String className;
+        private final Object id;
+        private final ObjectChangeSet changeSet;
+
+        protected Key(ObjectChangeSet changeSet) {
+            this.className = changeSet.getClassName();
+            this.id = changeSet.getId();
+            this.changeSet = changeSet;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) object;
+            return this.className.equals(key.className) && this.id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.className.hashCode() * 31 + this.id.hashCode();
+        }
+    }
+}
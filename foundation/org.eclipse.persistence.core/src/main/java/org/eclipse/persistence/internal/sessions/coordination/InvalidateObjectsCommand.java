@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions.coordination;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
+import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.IdentityMapAccessor;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.coordination.Command;
+
+/**
+ * <p>
+ * <b>Purpose</b>: A Command implementation used to invalidate the objects changed on another node.
+ * </p>
+ * <p>
+ * <b>Description</b>: Sent by cache coordination instead of the MergeChangeSetCommand when the
+ * remote command manager only invalidates, the command only holds the class name, id and new
+ * version of each object changed, and if it was deleted.
+ * An object is only invalidated if it is cached with an older version, the objects deleted
+ * are removed from the cache.
+ * </p>
+ */
+public class InvalidateObjectsCommand extends Command {
+
+    /** The types of the ids and versions written as primitives */
+    protected static final byte OBJECT = 0;
+    protected static final byte LONG = 1;
+    protected static final byte INTEGER = 2;
+    protected static final byte STRING = 3;
+    protected static final byte BIG_DECIMAL = 4;
+
+    /** The class names of the objects changed */
+    protected transient String[] classNames;
+
+    /** The ids of the objects changed */
+    protected transient Object[] ids;
+
+    /** The versions of the objects changed, null if unknown */
+    protected transient Object[] writeLockValues;
+
+    /** If the objects were deleted */
+    protected transient boolean[] deleted;
+
+    public InvalidateObjectsCommand(String[] classNames, Object[] ids, Object[] writeLockValues, boolean[] deleted) {
+        super();
+        this.classNames = classNames;
+        this.ids = ids;
+        this.writeLockValues = writeLockValues;
+        this.deleted = deleted;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the command invalidating the objects changed by the change set,
+     * or null if no object cached on another node was changed.
+     * New objects are not sent, as they cannot be cached by the other nodes.
+     */
+    public static InvalidateObjectsCommand fromChangeSet(UnitOfWorkChangeSet changeSet) {
+        if (changeSet == null) {
+            return null;
+        }
+        List<ObjectChangeSet> changed = new ArrayList<>(changeSet.getAllChangeSets().size());
+        for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().values()) {
+            if (!objectChangeSet.isNew() && (objectChangeSet.getId() != null)) {
+                changed.add(objectChangeSet);
+            }
+        }
+        int size = changed.size() + changeSet.getDeletedObjects().size();
+        if (size == 0) {
+            return null;
+        }
+        String[] classNames = new String[size];
+        Object[] ids = new Object[size];
+        Object[] writeLockValues = new Object[size];
+        boolean[] deleted = new boolean[size];
+        int index = 0;
+        for (ObjectChangeSet objectChangeSet : changed) {
+            classNames[index] = objectChangeSet.getClassName();
+            ids[index] = objectChangeSet.getId();
+            writeLockValues[index] = objectChangeSet.getWriteLockValue();
+            index++;
+        }
+        for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().values()) {
+            classNames[index] = objectChangeSet.getClassName();
+            ids[index] = objectChangeSet.getId();
+            deleted[index] = true;
+            index++;
+        }
+        return new InvalidateObjectsCommand(classNames, ids, writeLockValues, deleted);
+    }
+
+    /**
+     * INTERNAL:
+     * Invalidate the objects cached with an older version than the version changed, remove the objects deleted,
+     * and invalidate the query results for the classes changed.
+     */
+    @Override
+    public void executeWithSession(AbstractSession session) {
+        IdentityMapAccessor accessor = session.getIdentityMapAccessorInstance();
+        Set<Class<?>> classesChanged = new HashSet<>();
+        for (int index = 0; index < this.ids.length; index++) {
+            Class<?> theClass = session.getDatasourcePlatform().getConversionManager().convertObject(this.classNames[index], ClassConstants.CLASS);
+            ClassDescriptor descriptor = session.getDescriptor(theClass);
+            if (descriptor == null) {
+                continue;
+            }
+            classesChanged.add(theClass);
+            Object id = this.ids[index];
+            if (this.deleted[index]) {
+                accessor.removeFromIdentityMap(id, theClass);
+                continue;
+            }
+            CacheKey cacheKey = accessor.getCacheKeyForObject(id, theClass, descriptor, false);
+            if ((cacheKey == null) || (cacheKey.getObject() == null) || (cacheKey.getInvalidationState() == CacheKey.CACHE_KEY_INVALID)) {
+                // Not cached or already invalid, nothing to invalidate.
+                continue;
+            }
+            if (isCurrent(cacheKey, this.writeLockValues[index], descriptor, session)) {
+                session.log(SessionLog.FINEST, SessionLog.PROPAGATION, "change_from_remote_server_older_than_current_version", this.classNames[index], id);
+                continue;
+            }
+            cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
+        }
+        for (Class<?> theClass : classesChanged) {
+            accessor.invalidateQueryCache(theClass, null);
+        }
+    }
+
+    /**
+     * Return if the cached version is the version changed or a newer one.
+     * Return false if the versions cannot be compared.
+     */
+    protected boolean isCurrent(CacheKey cacheKey, Object writeLockValue, ClassDescriptor descriptor, AbstractSession session) {
+        if ((writeLockValue == null) || !descriptor.usesOptimisticLocking()) {
+            return false;
+        }
+        OptimisticLockingPolicy policy = descriptor.getOptimisticLockingPolicy();
+        if (!policy.supportsWriteLockValuesComparison()) {
+            return false;
+        }
+        Object cachedWriteLockValue = cacheKey.getWriteLockValue();
+        if (cachedWriteLockValue == null) {
+            cachedWriteLockValue = policy.getWriteLockValue(cacheKey.getObject(), cacheKey.getKey(), session);
+        }
+        return (cachedWriteLockValue != null) && (policy.compareWriteLockValues(cachedWriteLockValue, writeLockValue) >= 0);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of objects invalidated by the command.
+     */
+    public int size() {
+        return this.ids.length;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the objects as a count followed by a tuple per object, writing each class name once,
+     * and the usual ids and versions as primitives, to avoid the overhead of their serialization.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(this.ids.length);
+        Map<String, Integer> classIndexes = new HashMap<>();
+        for (int index = 0; index < this.ids.length; index++) {
+            Integer classIndex = classIndexes.get(this.classNames[index]);
+            if (classIndex == null) {
+                stream.writeInt(-1);
+                stream.writeUTF(this.classNames[index]);
+                classIndexes.put(this.classNames[index], classIndexes.size());
+            } else {
+                stream.writeInt(classIndex);
+            }
+            stream.writeBoolean(this.deleted[index]);
+            writeValue(stream, this.ids[index]);
+            if (!this.deleted[index]) {
+                writeValue(stream, this.writeLockValues[index]);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Read the objects written by writeObject.
+     */
+    private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int size = stream.readInt();
+        this.classNames = new String[size];
+        this.ids = new Object[size];
+        this.writeLockValues = new Object[size];
+        this.deleted = new boolean[size];
+        List<String> classNames = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            int classIndex = stream.readInt();
+            if (classIndex < 0) {
+                this.classNames[index] = stream.readUTF();
+                classNames.add(this.classNames[index]);
+            } else {
+                this.classNames[index] = classNames.get(classIndex);
+            }
+            this.deleted[index] = stream.readBoolean();
+            this.ids[index] = readValue(stream);
+            if (!this.deleted[index]) {
+                this.writeLockValues[index] = readValue(stream);
+            }
+        }
+    }
+
+    /**
+     * Write the id or version, as a primitive for the usual types.
+     */
+    protected void writeValue(ObjectOutputStream stream, Object value) throws IOException {
+        Class<?> type = (value == null) ? null : value.getClass();
+        if (type == ClassConstants.LONG) {
+            stream.writeByte(LONG);
+            stream.writeLong((Long)value);
+        } else if (type == ClassConstants.INTEGER) {
+            stream.writeByte(INTEGER);
+            stream.writeInt((Integer)value);
+        } else if ((type == ClassConstants.STRING) && (((String)value).length() < 0x4000)) {
+            stream.writeByte(STRING);
+            stream.writeUTF((String)value);
+        } else if ((type == ClassConstants.BIGDECIMAL) && (((BigDecimal)value).scale() == 0) && (((BigDecimal)value).unscaledValue().bitLength() < 64)) {
+            stream.writeByte(BIG_DECIMAL);
+            stream.writeLong(((BigDecimal)value).longValue());
+        } else {
+            stream.writeByte(OBJECT);
+            stream.writeObject(value);
+        }
+    }
+
+    /**
+     * Read the id or version written by writeValue.
+     */
+    protected Object readValue(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+        switch (stream.readByte()) {
+            case LONG:
+                return stream.readLong();
+            case INTEGER:
+                return stream.readInt();
+            case STRING:
+                return stream.readUTF();
+            case BIG_DECIMAL:
+                return BigDecimal.valueOf(stream.readLong());
+            default:
+                return stream.readObject();
+        }
+    }
+}
@@ -581,6 +581,20 @@ public void compareCollectionsForChange(Object oldCollection, Object newCollecti
         this.containerPolicy.compareCollectionsForChange(oldCollection, newCollection, (CollectionChangeRecord) changeRecord, session, getReferenceDescriptor());
     }
 
+    /**
+     * INTERNAL:
+     * Return true if the clone's collection was never instantiated, so cannot have changed.
+     * The instantiated collections are not compared, false is returned.
+     */
+    @Override
+    public boolean isUnchanged(Object clone, Object backUp, AbstractSession session) {
+        Object cloneAttribute = getAttributeValueFromObject(clone);
+        if (cloneAttribute == null) {
+            return getAttributeValueFromObject(backUp) == null;
+        }
+        return !this.indirectionPolicy.objectIsInstantiated(cloneAttribute);
+    }
+
     /**
      * INTERNAL:
      * This method is used to create a change record from comparing two collections.
@@ -532,6 +532,17 @@ public void postInitializeSourceAndTargetExpressions() {
      */
     abstract public ChangeRecord compareForChange(Object clone, Object backup, ObjectChangeSet owner, AbstractSession session);
 
+    /**
+     * INTERNAL:
+     * Return true if the attribute of the existing clone is unchanged from its backup clone,
+     * meaning compareForChange would not return a change record, without building any change record.
+     * Return false if changed, or if the mapping cannot tell without computing the changes.
+     * An override must remain consistent with the mapping's compareForChange.
+     */
+    public boolean isUnchanged(Object clone, Object backup, AbstractSession session) {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Compare the attributes belonging to this mapping for the objects.
@@ -101,6 +101,15 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * Mapping is write only so never changes.
+     */
+    @Override
+    public boolean isUnchanged(Object clone, Object backUp, AbstractSession session) {
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Compare the attributes belonging to this mapping for the objects.
@@ -195,6 +195,31 @@ public Expression buildExpression(Object queryObject, QueryByExamplePolicy polic
         return objectBuilder.buildExpressionFromExample(attributeValue, policy, expressionBuilder.get(attributeName), processedObjects, session);
     }
 
+    /**
+     * INTERNAL:
+     * Return true if the clone's reference was not instantiated, or references the same object as the backup clone.
+     */
+    @Override
+    public boolean isUnchanged(Object clone, Object backUp, AbstractSession session) {
+        Object cloneAttribute = getAttributeValueFromObject(clone);
+        Object backUpAttribute = getAttributeValueFromObject(backUp);
+        if ((cloneAttribute == null) && (backUpAttribute == null)) {
+            return true;
+        }
+        if ((cloneAttribute != null) && (!this.indirectionPolicy.objectIsInstantiated(cloneAttribute))) {
+            return true;
+        }
+        Object cloneAttributeValue = null;
+        Object backUpAttributeValue = null;
+        if (cloneAttribute != null) {
+            cloneAttributeValue = getRealAttributeValueFromAttribute(cloneAttribute, clone, session);
+        }
+        if (backUpAttribute != null) {
+            backUpAttributeValue = getRealAttributeValueFromAttribute(backUpAttribute, backUp, session);
+        }
+        return cloneAttributeValue == backUpAttributeValue;
+    }
+
     /**
      * INTERNAL:
      * Return an ObjectReferenceChangeRecord describing the change, or null if no change.
@@ -389,6 +389,15 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * Return true if the clone and backup clone values are the same, as compared by compareForChange.
+     */
+    @Override
+    public boolean isUnchanged(Object clone, Object backUp, AbstractSession session) {
+        return compareObjects(backUp, clone, session);
+    }
+
     /**
      * INTERNAL:
      * For mappings used as MapKeys in MappedKeyContainerPolicy, Delete the passed object if necessary.
@@ -70,6 +70,16 @@ public boolean supportsOuterJoinsWithBrackets() {
         return false;
     }
 
+    /**
+     * INTERNAL:
+     * Return if multiple rows can be used in the VALUES clause of an INSERT.
+     * DB2 on z/OS inserts multiple rows through FOR n ROWS instead.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return false;
+    }
+
     @Override
     protected Hashtable<Class<?>, FieldTypeDefinition> buildFieldTypes() {
         Hashtable<Class<?>, FieldTypeDefinition> res = super.buildFieldTypes();
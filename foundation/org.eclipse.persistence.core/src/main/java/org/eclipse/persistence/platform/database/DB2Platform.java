@@ -1620,6 +1620,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL: Indicates whether the platform supports multiple rows in the VALUES clause of an INSERT.
+     * DB2 for LUW, and Derby do.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     /**
      * INTERNAL: DB2 supports temp tables.
      * This is used by UpdateAllQuerys.
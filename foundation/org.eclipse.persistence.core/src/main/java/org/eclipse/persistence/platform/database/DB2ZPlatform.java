@@ -1005,4 +1005,14 @@ public Object getParameterValueFromDatabaseCall(CallableStatement statement, Str
         //Didn't work, fall back. This most likely still won't work, but the driver exception from there will be helpful.
         return super.getParameterValueFromDatabaseCall(statement, name, session);
     }
+
+    /**
+     * INTERNAL:
+     * Return if multiple rows can be used in the VALUES clause of an INSERT.
+     * DB2 on z/OS inserts multiple rows through FOR n ROWS instead.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return false;
+    }
 }
@@ -140,6 +140,11 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     @Override
     public boolean supportsSequenceObjects() {
         return true;
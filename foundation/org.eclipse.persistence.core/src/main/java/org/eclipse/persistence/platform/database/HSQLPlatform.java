@@ -199,6 +199,11 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     @Override
     public ValueReadQuery buildSelectQueryForIdentity() {
         return new ValueReadQuery("CALL IDENTITY()");
@@ -629,6 +629,15 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL:
+     * Indicates whether the platform supports multiple rows in the VALUES clause of an INSERT.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     /**
      * INTERNAL:
      * Indicates whether the platform supports the count distinct function with multiple fields.
@@ -350,6 +350,14 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     * INTERNAL: Indicates whether the platform supports multiple rows in the VALUES clause of an INSERT.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     /**
      * INTERNAL: Returns query used to read back the value generated by
      * Identity. This method is called when identity NativeSequence is
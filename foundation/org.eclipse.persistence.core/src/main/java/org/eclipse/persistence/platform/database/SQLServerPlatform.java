@@ -952,6 +952,16 @@ public boolean supportsIdentity() {
         return true;
     }
 
+    /**
+     *  INTERNAL:
+     *  Indicates whether the platform supports multiple rows in the VALUES clause of an INSERT.
+     *  SQLServer allows up to 1000 rows, and 2100 parameters, per statement.
+     */
+    @Override
+    public boolean supportsMultiRowInsert() {
+        return true;
+    }
+
     /**
      * INTERNAL:
      */
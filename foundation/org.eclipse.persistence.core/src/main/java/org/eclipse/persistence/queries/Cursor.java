@@ -16,6 +16,9 @@
 
 import java.sql.*;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.persistence.exceptions.*;
 import org.eclipse.persistence.expressions.*;
@@ -452,4 +455,26 @@ public void clear() {
             ((ObjectLevelReadQuery)this.query).getJoinedAttributeManager().clearDataResults();
         }
     }
+
+    /**
+     * PUBLIC:
+     * Return a sequential stream over the remaining objects of the cursor.
+     * Objects are read and built from the result set as the stream is consumed.
+     * The cursor is closed once the stream is exhausted, or when the stream is closed,
+     * so the stream should be used in a try-with-resources block if it may not be fully consumed.
+     */
+    public Stream<Object> stream() {
+        Spliterator<Object> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Object> action) {
+                if (!isClosed() && hasNext()) {
+                    action.accept(next());
+                    return true;
+                }
+                close();
+                return false;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
 }
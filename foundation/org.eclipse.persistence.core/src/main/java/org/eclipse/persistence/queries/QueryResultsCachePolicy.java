@@ -47,6 +47,8 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean invalidateOnChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
+    /** Allows a change to only invalidate the query cached results it affects. */
+    protected boolean isDependencyTracked;
 
     /**
      * PUBLIC:
@@ -140,6 +142,32 @@ public void setInvalidateOnChange(boolean invalidateOnChange) {
         this.invalidateOnChange = invalidateOnChange;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the objects returned by each cached result are tracked,
+     * so a change only invalidates the results it affects.
+     * By default any change invalidates all the results.
+     */
+    public boolean isDependencyTracked() {
+        return isDependencyTracked;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the objects returned by each cached result are tracked,
+     * so a change only invalidates the results it affects.
+     * This requires the results to be invalidated on change.
+     * <p>A changed or deleted object invalidates the results that returned it,
+     * and a changed or new object invalidates the results of the parameters it conforms to in memory.
+     * A change that cannot be checked, such as to an object not in the cache, to another class used by the query,
+     * or to an object that cannot be conformed to the selection criteria, invalidates all the results.
+     * Dependencies are only tracked for queries returning objects, such as ReadAllQuery, or ReadObjectQuery.
+     * By default any change invalidates all the results.
+     */
+    public void setIsDependencyTracked(boolean isDependencyTracked) {
+        this.isDependencyTracked = isDependencyTracked;
+    }
+
     /**
      * PUBLIC:
      * Return the type of the cache used for the query results.
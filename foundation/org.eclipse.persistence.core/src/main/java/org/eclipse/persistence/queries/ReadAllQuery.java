@@ -80,6 +80,9 @@ public class ReadAllQuery extends ObjectLevelReadQuery {
     protected List<Expression> orderSiblingsByExpressions;
     protected Direction direction;
 
+    /** Indicates whether the objects of the result rows should be built in parallel. */
+    protected boolean shouldBuildObjectsInParallel;
+
     /**
      * Specifies the direction in which the hierarchy is traversed in a
      * hierarchical query.
@@ -773,7 +776,8 @@ public boolean isDefaultPropertiesQuery() {
         return super.isDefaultPropertiesQuery()
             && (!hasBatchReadAttributes())
             && (!hasHierarchicalExpressions())
-            && (!this.containerPolicy.isCursorPolicy());
+            && (!this.containerPolicy.isCursorPolicy())
+            && (!this.shouldBuildObjectsInParallel);
     }
 
     /**
@@ -1126,6 +1130,27 @@ public Map replaceValueHoldersIn(Object object, RemoteSessionController controll
         return controller.replaceValueHoldersInAll(object, getContainerPolicy());
     }
 
+    /**
+     * PUBLIC:
+     * Set if the objects of the result rows should be built in parallel, once the rows are fetched.
+     * Large results are split between tasks launched through the server platform, the result order is preserved.
+     * This only applies to queries executed outside of a unit of work (or read-only queries),
+     * without joining, batch reading or query results caching, other queries build their objects sequentially.
+     * By default objects are built sequentially.
+     */
+    public void setShouldBuildObjectsInParallel(boolean shouldBuildObjectsInParallel) {
+        this.shouldBuildObjectsInParallel = shouldBuildObjectsInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the objects of the result rows should be built in parallel.
+     * @see #setShouldBuildObjectsInParallel(boolean)
+     */
+    public boolean shouldBuildObjectsInParallel() {
+        return this.shouldBuildObjectsInParallel;
+    }
+
     /**
      * PUBLIC:
      * Set the container policy. Used to support different containers
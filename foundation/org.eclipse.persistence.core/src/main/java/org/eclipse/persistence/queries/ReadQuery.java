@@ -460,7 +460,7 @@ protected void setQueryResults(Object resultFromQuery, AbstractRecord row, Abstr
         } else {
             arguments =  row.getValues();
         }
-        session.getIdentityMapAccessorInstance().putQueryResult(this, arguments, resultFromQuery);
+        session.getIdentityMapAccessorInstance().putQueryResult(this, arguments, resultFromQuery, row);
     }
 
     /**
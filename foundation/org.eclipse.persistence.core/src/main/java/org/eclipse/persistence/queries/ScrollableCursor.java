@@ -44,7 +44,13 @@ public ScrollableCursor() {
      */
     public ScrollableCursor(DatabaseCall call, ScrollableCursorPolicy policy) {
         super(call, policy);
-        setPosition(-1);
+        if (policy.getResultSetType() == ScrollableCursorPolicy.TYPE_FORWARD_ONLY) {
+            // A forward only result set starts before the first row,
+            // and may not support getRow(), so track the position from the start.
+            setPosition(0);
+        } else {
+            setPosition(-1);
+        }
     }
 
     /**
@@ -70,6 +70,15 @@ public int getPreallocationSize() {
         }
     }
 
+    @Override
+    public int getPreallocationLowWaterMark() {
+        if ((preallocationLowWaterMark != 0) || (getDefaultSequence() == null)) {
+            return preallocationLowWaterMark;
+        } else {
+            return getDefaultSequence().getPreallocationLowWaterMark();
+        }
+    }
+
     @Override
     public int getInitialValue() {
         if ((initialValue != 0) || (getDefaultSequence() == null)) {
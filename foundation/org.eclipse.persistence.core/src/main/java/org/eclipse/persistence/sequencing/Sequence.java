@@ -58,6 +58,9 @@ public abstract class Sequence implements Serializable, Cloneable {
     // note that even if set to false sequence always overrides if shouldAcquireValueAfterInsert returns true.
     protected boolean shouldAlwaysOverrideExistingValue;
 
+    // number of preallocated values remaining below which the next values are allocated in the background, 0 if not used.
+    protected int preallocationLowWaterMark;
+
     protected Sequence() {
         super();
         setName("SEQUENCE");
@@ -119,6 +122,30 @@ public int getInitialValue() {
         return initialValue;
     }
 
+    /**
+     * PUBLIC:
+     * Return the number of preallocated values remaining below which
+     * the next values are allocated in the background, 0 if not used.
+     */
+    public int getPreallocationLowWaterMark() {
+        return preallocationLowWaterMark;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of preallocated values remaining below which the next values are allocated in the background.
+     * The preallocated values are then handed out from ranges by an atomic counter, without locking,
+     * so inserts do not wait for the sequence to be allocated under steady load.
+     * This requires a sequence connection pool for table sequencing, or native sequencing with a server session,
+     * as the values must be allocated on their own connection, otherwise they are only allocated once all used.
+     * This only applies to sequences using preallocation, and should be less than the preallocation size.
+     * By default 0, the values are allocated by the thread that needs them once all used.
+     * @see org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform#setDefaultPreallocationLowWaterMark(int)
+     */
+    public void setPreallocationLowWaterMark(int preallocationLowWaterMark) {
+        this.preallocationLowWaterMark = preallocationLowWaterMark;
+    }
+
     public void setInitialValue(int initialValue) {
         this.initialValue = initialValue;
     }
@@ -42,13 +42,17 @@
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.ConcurrentFrequencyCache;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.HardCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 import org.eclipse.persistence.internal.identitymaps.NoIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.OffHeapCacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.PrimitiveKeyIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.SoftIdentityMap;
 import org.eclipse.persistence.internal.identitymaps.WeakIdentityMap;
@@ -62,8 +66,10 @@
 import org.eclipse.persistence.sessions.DatabaseLogin;
 import org.eclipse.persistence.sessions.DefaultConnector;
 import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 
 
@@ -842,8 +848,14 @@ public Vector<String> getMappedClassNamesUsingFilter(String filter) {
      protected String getCacheTypeFor(Class<?> identityMapClass) {
          if (identityMapClass == CacheIdentityMap.class) {
              return "Cache";
+         } else if (identityMapClass == OffHeapCacheIdentityMap.class) {
+             return "OffHeapCache";
+         } else if (identityMapClass == ConcurrentCacheIdentityMap.class) {
+             return "ConcurrentCache";
          } else if (identityMapClass == FullIdentityMap.class) {
              return "Full";
+         } else if (identityMapClass == PrimitiveKeyIdentityMap.class) {
+             return "FullPrimitiveKey";
          } else if (identityMapClass == HardCacheWeakIdentityMap.class) {
              return "HardWeak";
          } else if (identityMapClass == NoIdentityMap.class) {
@@ -991,6 +1003,102 @@ public synchronized void clearStatementCache() {
 
      }
 
+     /**
+     *     Returns the number of times a cached statement was reused.
+     *     Only valid if statements are being cached and the session is profiled by a PerformanceMonitor.
+     */
+     public Long getStatementCacheHits() {
+         return getProfileCounter(SessionProfiler.StatementCacheHits);
+     }
+
+     /**
+     *     Returns the number of times a statement that could have been cached had to be prepared.
+     *     Only valid if statements are being cached and the session is profiled by a PerformanceMonitor.
+     */
+     public Long getStatementCacheMisses() {
+         return getProfileCounter(SessionProfiler.StatementCacheMisses);
+     }
+
+     /**
+     *     Returns the number of statements closed to keep the statement caches within their size.
+     *     Only valid if statements are being cached and the session is profiled by a PerformanceMonitor.
+     */
+     public Long getStatementCacheEvictions() {
+         return getProfileCounter(SessionProfiler.StatementCacheEvictions);
+     }
+
+     /**
+     *     Returns the ratio of dynamic JPQL queries found already parsed in the JPQL parse cache.
+     */
+     public Double getJPQLParseCacheHitRate() {
+         ConcurrentFrequencyCache cache = getJPQLParseCache();
+         return (cache == null) ? 0.0 : cache.getHitRate();
+     }
+
+     /**
+     *     Returns the number of dynamic JPQL queries found already parsed in the JPQL parse cache.
+     */
+     public Long getJPQLParseCacheHits() {
+         ConcurrentFrequencyCache cache = getJPQLParseCache();
+         return (cache == null) ? 0L : cache.getHits();
+     }
+
+     /**
+     *     Returns the number of dynamic JPQL queries that had to be parsed.
+     */
+     public Long getJPQLParseCacheMisses() {
+         ConcurrentFrequencyCache cache = getJPQLParseCache();
+         return (cache == null) ? 0L : cache.getMisses();
+     }
+
+     /**
+     *     Returns the number of parsed JPQL queries removed from the JPQL parse cache for more frequent ones.
+     */
+     public Long getJPQLParseCacheEvictions() {
+         ConcurrentFrequencyCache cache = getJPQLParseCache();
+         return (cache == null) ? 0L : cache.getEvictions();
+     }
+
+     /**
+     *     Returns the most frequent JPQL strings of the JPQL parse cache, the most frequent first.
+     * @param number the maximum number of JPQL strings to return
+     */
+     public List<String> getJPQLParseCacheTopEntries(int number) {
+         ConcurrentFrequencyCache cache = getJPQLParseCache();
+         List<String> entries = new ArrayList<>();
+         if (cache != null) {
+             for (Object key : cache.getTopEntries(number)) {
+                 entries.add(String.valueOf(key));
+             }
+         }
+         return entries;
+     }
+
+     /**
+      * INTERNAL:
+      * Return the JPQL parse cache, or null if it does not keep statistics.
+      */
+     protected ConcurrentFrequencyCache getJPQLParseCache() {
+         if (getSession().getProject().getJPQLParseCache() instanceof ConcurrentFrequencyCache) {
+             return (ConcurrentFrequencyCache)getSession().getProject().getJPQLParseCache();
+         }
+         return null;
+     }
+
+     /**
+      * INTERNAL:
+      * Return the value of the profiler counter, or 0 if the session is not profiled by a PerformanceMonitor.
+      */
+     protected Long getProfileCounter(String counterName) {
+         if (getSession().isInProfile() && (getSession().getProfiler() instanceof PerformanceMonitor)) {
+             Object value = ((PerformanceMonitor)getSession().getProfiler()).getOperationTime(counterName);
+             if (value instanceof Long) {
+                 return (Long)value;
+             }
+         }
+         return 0L;
+     }
+
      /**
      *     This method will print the available Connection pools to the SessionLog.
      */
@@ -348,6 +348,50 @@ public interface MBeanRuntimeServicesMBean {
     */
     void clearStatementCache();
 
+    /**
+    *     Returns the number of times a cached statement was reused.
+    *     Only valid if statements are being cached and the session is profiled by a PerformanceMonitor.
+    */
+    Long getStatementCacheHits();
+
+    /**
+    *     Returns the number of times a statement that could have been cached had to be prepared.
+    *     Only valid if statements are being cached and the session is profiled by a PerformanceMonitor.
+    */
+    Long getStatementCacheMisses();
+
+    /**
+    *     Returns the number of statements closed to keep the statement caches within their size.
+    *     Only valid if statements are being cached and the session is profiled by a PerformanceMonitor.
+    */
+    Long getStatementCacheEvictions();
+
+    /**
+    *     Returns the ratio of dynamic JPQL queries found already parsed in the JPQL parse cache.
+    */
+    Double getJPQLParseCacheHitRate();
+
+    /**
+    *     Returns the number of dynamic JPQL queries found already parsed in the JPQL parse cache.
+    */
+    Long getJPQLParseCacheHits();
+
+    /**
+    *     Returns the number of dynamic JPQL queries that had to be parsed.
+    */
+    Long getJPQLParseCacheMisses();
+
+    /**
+    *     Returns the number of parsed JPQL queries removed from the JPQL parse cache for more frequent ones.
+    */
+    Long getJPQLParseCacheEvictions();
+
+    /**
+    *     Returns the most frequent JPQL strings of the JPQL parse cache, the most frequent first.
+    * @param number the maximum number of JPQL strings to return
+    */
+    List<String> getJPQLParseCacheTopEntries(int number);
+
     /**
     *     This method will print the available Connection pools to the SessionLog.
     */
@@ -56,6 +56,7 @@
 import org.eclipse.persistence.descriptors.MultitenantPolicy;
 import org.eclipse.persistence.descriptors.partitioning.PartitioningPolicy;
 import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
+import org.eclipse.persistence.internal.helper.ConcurrentFrequencyCache;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.NonSynchronizedVector;
 import org.eclipse.persistence.internal.identitymaps.AbstractIdentityMap;
@@ -112,6 +113,9 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
     /** PERF: Provide an JPQL parse cache to optimize dynamic JPQL. */
     protected transient ConcurrentFixedCache jpqlParseCache;
 
+    /** PERF: Provide a cache of prepared criteria queries to optimize repeated criteria queries. */
+    protected transient ConcurrentFixedCache criteriaQueryCache;
+
     /** Define the default setting for configuring if dates and calendars are mutable. */
     protected boolean defaultTemporalMutable = false;
 
@@ -203,6 +207,9 @@ public class Project extends CoreProject<ClassDescriptor, Login, DatabaseSession
      /** Force all queries and relationships to use deferred lock strategy during object building and L2 cache population. */
     protected boolean queryCacheForceDeferredLocks = false;
 
+    /** Default for the deferred change detection policies to skip the change calculation of the objects unchanged. */
+    protected boolean shouldSkipUnchangedObjects = false;
+
     /**
      * PUBLIC:
      * Create a new project.
@@ -215,7 +222,7 @@ public Project() {
         this.hasIsolatedClasses = false;
         this.hasGenericHistorySupport = false;
         this.hasProxyIndirection = false;
-        this.jpqlParseCache = new ConcurrentFixedCache(200);
+        this.jpqlParseCache = new ConcurrentFrequencyCache(200);
         this.queries = new ArrayList<>();
         this.mappedSuperclassDescriptors = new HashMap<>(2);
         this.metamodelIdClassMap = new HashMap<>();
@@ -275,6 +282,24 @@ public void setQueryCacheForceDeferredLocks(boolean queryCacheForceDeferredLocks
         this.queryCacheForceDeferredLocks = queryCacheForceDeferredLocks;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the descriptors using deferred change detection skip the change calculation of the objects unchanged.
+     */
+    public boolean shouldSkipUnchangedObjects() {
+        return shouldSkipUnchangedObjects;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the descriptors using deferred change detection skip the change calculation of the objects unchanged.
+     * This is applied to the descriptors' policies when they are initialized, by default false.
+     * @see org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy#setShouldSkipUnchangedObjects(boolean)
+     */
+    public void setShouldSkipUnchangedObjects(boolean shouldSkipUnchangedObjects) {
+        this.shouldSkipUnchangedObjects = shouldSkipUnchangedObjects;
+    }
+
     /**
      * PUBLIC:
      * Return the default setting for configuring if dates and calendars are mutable.
@@ -329,7 +354,7 @@ public List<DatabaseQuery> getJPATablePerTenantQueries() {
      */
     public ConcurrentFixedCache getJPQLParseCache() {
         if (jpqlParseCache==null) {
-            jpqlParseCache = new ConcurrentFixedCache(200);
+            jpqlParseCache = new ConcurrentFrequencyCache(200);
         }
         return jpqlParseCache;
     }
@@ -340,7 +365,7 @@ public ConcurrentFixedCache getJPQLParseCache() {
      * This is used to optimize dynamic JPQL.
      */
     public void setJPQLParseCacheMaxSize(int maxSize) {
-        setJPQLParseCache(new ConcurrentFixedCache(maxSize));
+        setJPQLParseCache(new ConcurrentFrequencyCache(maxSize));
     }
 
     /**
@@ -361,6 +386,37 @@ protected void setJPQLParseCache(ConcurrentFixedCache jpqlParseCache) {
         this.jpqlParseCache = jpqlParseCache;
     }
 
+    /**
+     * INTERNAL:
+     * Return the criteria query cache.
+     * The prepared queries of criteria queries are cached by their structure,
+     * this is used to optimize repeated criteria queries.
+     */
+    public ConcurrentFixedCache getCriteriaQueryCache() {
+        if (criteriaQueryCache == null) {
+            criteriaQueryCache = new ConcurrentFrequencyCache(200);
+        }
+        return criteriaQueryCache;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the criteria query cache max size, 0 disables the cache.
+     * This is used to optimize repeated criteria queries.
+     */
+    public void setCriteriaQueryCacheMaxSize(int maxSize) {
+        this.criteriaQueryCache = new ConcurrentFrequencyCache(maxSize);
+    }
+
+    /**
+     * ADVANCED:
+     * Return the criteria query cache max size.
+     * This is used to optimize repeated criteria queries.
+     */
+    public int getCriteriaQueryCacheMaxSize() {
+        return getCriteriaQueryCache().getMaxSize();
+    }
+
     /**
      * INTERNAL:
      * List of queries that upon initialization are copied over to the session
@@ -96,7 +96,11 @@ public class SessionEvent extends EventObject {
     public static final int MissingDescriptor = 32;
     public static final int NoRowsModified = 35;
 
-    // last event value for this class as of Jan 26th, 2004 is 41
+    // Cache preload events
+    public static final int PostPreloadDescriptor = 42;
+    public static final int PostPreloadCache = 43;
+
+    // last event value for this class is 43
 
     /**
      * INTERNAL:
@@ -142,4 +142,10 @@ public void preLogout(SessionEvent event) { }
 
     @Override
     public void postLogout(SessionEvent event) { }
+
+    @Override
+    public void postPreloadDescriptor(SessionEvent event) { }
+
+    @Override
+    public void postPreloadCache(SessionEvent event) { }
 }
@@ -299,4 +299,24 @@ public interface SessionEventListener extends CoreSessionEventListener {
      * This Event is raised after the session logs out.
      */
     void postLogout(SessionEvent event);
+
+    /**
+     * PUBLIC:
+     * This Event is raised after the objects of a descriptor have been preloaded into the cache.
+     * The event "result" is the number of objects read, and property "descriptor" is the descriptor.
+     * The event is raised by the thread that preloaded the last objects of the descriptor,
+     * which is not the thread that logged in the session.
+     */
+    default void postPreloadDescriptor(SessionEvent event) {
+    }
+
+    /**
+     * PUBLIC:
+     * This Event is raised after the cache preload started at login completes.
+     * The event "result" is the number of objects read.
+     * The event is raised by the thread that preloaded the last objects,
+     * which is not the thread that logged in the session.
+     */
+    default void postPreloadCache(SessionEvent event) {
+    }
 }
@@ -19,6 +19,7 @@
 import java.io.*;
 import org.eclipse.persistence.queries.*;
 import org.eclipse.persistence.core.sessions.CoreSessionEventManager;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.internal.databaseaccess.*;
 import org.eclipse.persistence.internal.sessions.*;
 import org.eclipse.persistence.sessions.broker.SessionBroker;
@@ -719,6 +720,45 @@ public void postLogout(Session session) {
         endOperationProfile();
     }
 
+    /**
+     * INTERNAL:
+     * Raised after the objects of the descriptor have been preloaded into the cache.
+     */
+    public void postPreloadDescriptor(ClassDescriptor descriptor, long numberOfObjects) {
+        if (!hasListeners()) {
+            return;
+        }
+        startOperationProfile();
+        SessionEvent event = new SessionEvent(SessionEvent.PostPreloadDescriptor, getSession());
+        event.setResult(numberOfObjects);
+        event.setProperty("descriptor", descriptor);
+        List<SessionEventListener> listeners = this.listeners;
+        int size = listeners.size();
+        for (int index = 0; index < size; index++) {
+            listeners.get(index).postPreloadDescriptor(event);
+        }
+        endOperationProfile();
+    }
+
+    /**
+     * INTERNAL:
+     * Raised after the cache preload completes.
+     */
+    public void postPreloadCache(long numberOfObjects) {
+        if (!hasListeners()) {
+            return;
+        }
+        startOperationProfile();
+        SessionEvent event = new SessionEvent(SessionEvent.PostPreloadCache, getSession());
+        event.setResult(numberOfObjects);
+        List<SessionEventListener> listeners = this.listeners;
+        int size = listeners.size();
+        for (int index = 0; index < size; index++) {
+            listeners.get(index).postPreloadCache(event);
+        }
+        endOperationProfile();
+    }
+
     /**
      * INTERNAL:
      * Prepare unit of work.
@@ -50,6 +50,9 @@ public interface SessionProfiler {
     String Disconnects = "Counter:DisconnectCalls";
     String CacheHits = "Counter:CacheHits";
     String CacheMisses = "Counter:CacheMisses";
+    String StatementCacheHits = "Counter:StatementCacheHits";
+    String StatementCacheMisses = "Counter:StatementCacheMisses";
+    String StatementCacheEvictions = "Counter:StatementCacheEvictions";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
 
@@ -69,6 +72,7 @@ public interface SessionProfiler {
     String CacheCoordinationSerialize = "Timer:CacheCoordinationSerialize";
     String CacheCoordination = "Timer:CacheCoordination";
     String ConnectionManagement = "Timer:ConnectionManagement";
+    String ConnectionPoolWait = "Timer:ConnectionPoolWait";
     String Logging = "Timer:Logging";
     String JtsBeforeCompletion = "Timer:TXBeforeCompletion";
     String JtsAfterCompletion = "Timer:TXAfterCompletion";
@@ -26,7 +26,9 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.coordination.CommandBatcher;
 import org.eclipse.persistence.internal.sessions.coordination.CommandPropagator;
+import org.eclipse.persistence.internal.sessions.coordination.InvalidateObjectsCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RCMCommand;
 import org.eclipse.persistence.internal.sessions.coordination.RemoteConnection;
 import org.eclipse.persistence.platform.server.ServerPlatform;
@@ -78,6 +80,7 @@
 public class RemoteCommandManager implements org.eclipse.persistence.sessions.coordination.CommandManager {
     public static final String DEFAULT_CHANNEL = "EclipseLinkCommandChannel";
     public static final boolean DEFAULT_ASYNCHRONOUS_MODE = true;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
 
     /** Uniquely identifies this service in the cluster */
     protected ServiceId serviceId;
@@ -109,6 +112,18 @@ public class RemoteCommandManager implements org.eclipse.persistence.sessions.co
     //** Indicates whether RCM is active. In case there's discoveryManager it mirrors discoveryManager.isDiscoveryStopped()
     protected boolean isStopped = true;
 
+    /** The time in milliseconds change sets are batched for before being propagated, 0 if not batched. */
+    protected long batchDelay;
+
+    /** The maximum number of object change sets in a batch, 0 for no maximum. */
+    protected int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /** Batches the change sets propagated, created on the first propagation with a batch delay. */
+    protected volatile CommandBatcher commandBatcher;
+
+    /** Determines whether only the class, id and version of the objects changed are sent, to invalidate them */
+    protected boolean shouldInvalidateOnly;
+
     public RemoteCommandManager(CommandProcessor commandProcessor) {
         this.serviceId = new ServiceId();
 
@@ -197,6 +212,7 @@ public void shutdown() {
             newDmgr.shallowCopy(discoveryManager);
             discoveryManager = newDmgr;
         }
+        flushBatch();
         isStopped = true;
         transportManager.discardConnections();
     }
@@ -205,16 +221,80 @@ public void shutdown() {
      * ADVANCED:
      * Propagate a remote command to all remote RCM services participating
      * in the EclipseLink cluster.
+     * If a batch delay is set, the change sets merged by the command are batched,
+     * and propagated with the change sets of the following commands.
      *
      * @param command An object representing a EclipseLink command
      */
     @Override
     public void propagateCommand(Object command) {
+        if (this.batchDelay > 0) {
+            CommandBatcher batcher = getCommandBatcher();
+            if ((this.commandConverter == null) && CommandBatcher.isBatchable(command)) {
+                batcher.addCommand((MergeChangeSetCommand)command);
+                return;
+            }
+            // Propagate the pending change sets first, so the commands are processed in order.
+            batcher.flush();
+        }
+        sendCommand(command);
+    }
+
+    /**
+     * INTERNAL:
+     * Propagate a batch of change sets, built by the command batcher.
+     */
+    public void propagateBatch(MergeChangeSetCommand command) {
+        sendCommand(command);
+    }
+
+    /**
+     * ADVANCED:
+     * Propagate the change sets batched so far, if any.
+     */
+    public void flushBatch() {
+        CommandBatcher batcher = this.commandBatcher;
+        if (batcher != null) {
+            batcher.flush();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the batcher of the change sets propagated, created if needed.
+     */
+    protected CommandBatcher getCommandBatcher() {
+        CommandBatcher batcher = this.commandBatcher;
+        if (batcher == null) {
+            synchronized (this) {
+                batcher = this.commandBatcher;
+                if (batcher == null) {
+                    batcher = new CommandBatcher(this);
+                    this.commandBatcher = batcher;
+                }
+            }
+        }
+        return batcher;
+    }
+
+    /**
+     * INTERNAL:
+     * Convert and serialize the command, and send it to all remote RCM services,
+     * without batching it.
+     */
+    protected void sendCommand(Object command) {
         Command newCommand;
         CommandPropagator propagator;
 
         this.commandProcessor.startOperationProfile(SessionProfiler.CacheCoordination);
         try {
+            if (this.shouldInvalidateOnly && (this.commandConverter == null) && CommandBatcher.isBatchable(command)) {
+                // Only send what the other nodes need to invalidate the objects changed.
+                command = InvalidateObjectsCommand.fromChangeSet(((MergeChangeSetCommand)command).getChangeSet(null));
+                if (command == null) {
+                    return;
+                }
+            }
             if (this.commandConverter != null) {
                 // Use the converter if we have one
                 Object[] args = { command };
@@ -606,4 +686,63 @@ public Serializer getSerializer() {
     public void setSerializer(Serializer serializer) {
         this.serializer = serializer;
     }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds the change sets are batched for before being propagated.
+     * 0, the default, if each change set is propagated as it is committed.
+     */
+    public long getBatchDelay() {
+        return batchDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds the change sets are batched for before being propagated.
+     * The change sets committed within the delay are propagated in a single command,
+     * collapsing the changes of an object changed by several transactions, at the cost of
+     * the remote caches being updated later.
+     * 0, the default, propagates each change set as it is committed.
+     */
+    public void setBatchDelay(long batchDelay) {
+        this.batchDelay = batchDelay;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the maximum number of object change sets in a batch.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of object change sets in a batch,
+     * the batch is propagated without waiting for the batch delay once it holds as many.
+     * 0 for no maximum, the default is 1000.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if only the class, id and version of the objects changed are sent, to invalidate them.
+     */
+    public boolean shouldInvalidateOnly() {
+        return shouldInvalidateOnly;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if only the class, id and version of the objects changed are sent, instead of their changes.
+     * The other nodes invalidate the objects they cache with an older version, and remove the objects deleted.
+     * The messages are much smaller than the changes, at the cost of the other nodes reading the objects changed again.
+     * This applies to the objects of all the descriptors sending changes, whatever their cache synchronization type,
+     * new objects are not sent. By default the changes are sent.
+     */
+    public void setShouldInvalidateOnly(boolean shouldInvalidateOnly) {
+        this.shouldInvalidateOnly = shouldInvalidateOnly;
+    }
 }
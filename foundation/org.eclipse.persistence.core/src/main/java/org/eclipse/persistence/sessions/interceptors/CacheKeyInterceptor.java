@@ -292,4 +292,17 @@ public String toString() {
         public void updateAccess() {
             wrappedKey.updateAccess();
         }
+
+        /**
+         * Wait on the wrapped cache key, as that is the one notified when its lock is released.
+         */
+        @Override
+        public void waitForRelease(long timeout) throws InterruptedException {
+            wrappedKey.waitForRelease(timeout);
+        }
+
+        @Override
+        public Object waitForObject() {
+            return wrappedKey.waitForObject();
+        }
     }
@@ -0,0 +1,1040 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.serializers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.CustomObjectInputStream;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.AggregateChangeRecord;
+import org.eclipse.persistence.internal.sessions.ChangeRecord;
+import org.eclipse.persistence.internal.sessions.CollectionChangeRecord;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.ObjectReferenceChangeRecord;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+
+/**
+ * Compact binary serialization of the change sets sent by cache coordination.
+ * <p>
+ * A {@link MergeChangeSetCommand} is written using the session's descriptors: each change set as the index of its
+ * class, its primary key, version values and changed attributes, as the index of the attribute's mapping and its
+ * value. Numbers and lengths are written as variable length integers and change sets are referenced by index,
+ * so no class metadata is sent. All the nodes must have the same descriptors, this is checked using a checksum
+ * of the classes and mappings sent with each message.
+ * <p>
+ * Other commands, and change sets with changes other than direct, reference, aggregate or unordered collection
+ * changes, are sent using Java serialization, as are values of types with no compact encoding.
+ * Messages larger than the compression threshold are deflated.
+ * @see org.eclipse.persistence.sessions.coordination.RemoteCommandManager#setSerializer(Serializer)
+ */
+public class CompactSerializer extends AbstractSerializer {
+
+    /** The default size in bytes above which messages are deflated. */
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    /** Formats of the message, its first byte. */
+    protected static final int JAVA_FORMAT = 1;
+    protected static final int COMPACT_FORMAT = 2;
+
+    /** Set on the format if the rest of the message is deflated. */
+    protected static final int DEFLATED = 0x80;
+
+    /** Flags of an object change set. */
+    protected static final int SHOULD_BE_DELETED = 1;
+    protected static final int IS_INVALID = 2;
+    protected static final int IS_NEW = 4;
+    protected static final int IS_AGGREGATE = 8;
+    protected static final int HAS_VERSION_CHANGE = 16;
+    protected static final int HAS_MODIFY_VERSION_FIELD = 32;
+    protected static final int SHOULD_MODIFY_VERSION_FIELD = 64;
+
+    /** Types of change record, written in the low bits of the mapping index. */
+    protected static final int DIRECT_CHANGE = 0;
+    protected static final int REFERENCE_CHANGE = 1;
+    protected static final int AGGREGATE_CHANGE = 2;
+    protected static final int COLLECTION_CHANGE = 3;
+
+    /** Types of value. */
+    protected static final int NULL = 0;
+    protected static final int TRUE = 1;
+    protected static final int FALSE = 2;
+    protected static final int INTEGER = 3;
+    protected static final int LONG = 4;
+    protected static final int SHORT = 5;
+    protected static final int BYTE = 6;
+    protected static final int CHARACTER = 7;
+    protected static final int FLOAT = 8;
+    protected static final int DOUBLE = 9;
+    protected static final int STRING = 10;
+    protected static final int DECIMAL = 11;
+    protected static final int BIG_DECIMAL = 12;
+    protected static final int BIG_INTEGER = 13;
+    protected static final int BYTES = 14;
+    protected static final int CACHE_ID = 15;
+    protected static final int DATE = 16;
+    protected static final int SQL_DATE = 17;
+    protected static final int TIME = 18;
+    protected static final int TIMESTAMP = 19;
+    protected static final int LOCAL_DATE = 20;
+    protected static final int LOCAL_TIME = 21;
+    protected static final int LOCAL_DATE_TIME = 22;
+    protected static final int INSTANT = 23;
+    protected static final int UUID_VALUE = 24;
+    protected static final int SERIALIZED = 25;
+
+    /** The types of the values of the classes with a compact encoding. */
+    protected static final Map<Class<?>, Integer> VALUE_TYPES = new HashMap<>();
+
+    static {
+        VALUE_TYPES.put(Boolean.class, TRUE);
+        VALUE_TYPES.put(Integer.class, INTEGER);
+        VALUE_TYPES.put(Long.class, LONG);
+        VALUE_TYPES.put(Short.class, SHORT);
+        VALUE_TYPES.put(Byte.class, BYTE);
+        VALUE_TYPES.put(Character.class, CHARACTER);
+        VALUE_TYPES.put(Float.class, FLOAT);
+        VALUE_TYPES.put(Double.class, DOUBLE);
+        VALUE_TYPES.put(String.class, STRING);
+        VALUE_TYPES.put(BigDecimal.class, BIG_DECIMAL);
+        VALUE_TYPES.put(BigInteger.class, BIG_INTEGER);
+        VALUE_TYPES.put(byte[].class, BYTES);
+        VALUE_TYPES.put(CacheId.class, CACHE_ID);
+        VALUE_TYPES.put(Date.class, DATE);
+        VALUE_TYPES.put(java.sql.Date.class, SQL_DATE);
+        VALUE_TYPES.put(Time.class, TIME);
+        VALUE_TYPES.put(Timestamp.class, TIMESTAMP);
+        VALUE_TYPES.put(LocalDate.class, LOCAL_DATE);
+        VALUE_TYPES.put(LocalTime.class, LOCAL_TIME);
+        VALUE_TYPES.put(LocalDateTime.class, LOCAL_DATE_TIME);
+        VALUE_TYPES.put(Instant.class, INSTANT);
+        VALUE_TYPES.put(UUID.class, UUID_VALUE);
+    }
+
+    /** Messages larger than this size in bytes are deflated, -1 to never deflate. */
+    protected int compressionThreshold;
+
+    /** The ids of the classes and mappings of the session's descriptors. */
+    protected transient volatile Descriptors descriptors;
+
+    public CompactSerializer() {
+        this(DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    public CompactSerializer(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Return the size in bytes above which messages are deflated, -1 if messages are never deflated.
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Set the size in bytes above which messages are deflated, -1 to never deflate messages.
+     * Deflating reduces the size of messages with many changes by about half, for some additional CPU.
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public void initialize(Class<?> serializeClass, String serializePackage, Session session) {
+        // The ids are built on first use, once the descriptors are initialized.
+        this.descriptors = null;
+    }
+
+    @Override
+    public Object serialize(Object object, Session session) {
+        try {
+            Output message = null;
+            if ((session != null) && (object != null) && (object.getClass() == MergeChangeSetCommand.class)) {
+                message = writeCommand((MergeChangeSetCommand)object, session);
+            }
+            if (message == null) {
+                byte[] bytes = (byte[])JavaSerializer.instance.serialize(object, session);
+                message = new Output(bytes.length + 1);
+                message.writeByte(JAVA_FORMAT);
+                message.writeBytes(bytes, 0, bytes.length);
+            }
+            if ((this.compressionThreshold >= 0) && (message.size() > this.compressionThreshold)) {
+                return deflate(message);
+            }
+            return message.toByteArray();
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    @Override
+    public Object deserialize(Object bytes, Session session) {
+        byte[] message = (byte[])bytes;
+        try {
+            if (message.length == 0) {
+                throw new EOFException();
+            }
+            int format = message[0] & 0xFF;
+            Input input;
+            if ((format & DEFLATED) != 0) {
+                format = format & ~DEFLATED;
+                input = inflate(message);
+            } else {
+                input = new Input(message, 1);
+            }
+            if (format == JAVA_FORMAT) {
+                return readSerialized(input.buffer, input.position, input.limit - input.position, session);
+            } else if ((format == COMPACT_FORMAT) && (session != null)) {
+                return readCommand(input, session);
+            }
+            throw new StreamCorruptedException("Unsupported message format: " + format);
+        } catch (IOException | ClassNotFoundException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    /**
+     * Return the ids of the classes and mappings of the session's descriptors.
+     */
+    protected Descriptors getDescriptors(Session session) {
+        Descriptors descriptors = this.descriptors;
+        if ((descriptors == null) || (descriptors.session != session)) {
+            descriptors = new Descriptors(session);
+            this.descriptors = descriptors;
+        }
+        return descriptors;
+    }
+
+    /**
+     * Write the command, or return null if it has changes that cannot be written compactly.
+     */
+    protected Output writeCommand(MergeChangeSetCommand command, Session session) throws IOException {
+        Descriptors descriptors = getDescriptors(session);
+        UnitOfWorkChangeSet changeSet = command.getChangeSet((AbstractSession)session);
+        // All the change sets written, including the ones only referenced by changes, are numbered.
+        List<ObjectChangeSet> changeSets = new ArrayList<>();
+        Map<ObjectChangeSet, Integer> indexes = new IdentityHashMap<>();
+        if (changeSet != null) {
+            for (ObjectChangeSet objectChangeSet : changeSet.getAllChangeSets().keySet()) {
+                addChangeSet(objectChangeSet, changeSets, indexes);
+            }
+            if (changeSet.hasDeletedObjects()) {
+                for (ObjectChangeSet objectChangeSet : changeSet.getDeletedObjects().keySet()) {
+                    addChangeSet(objectChangeSet, changeSets, indexes);
+                }
+            }
+            for (int index = 0; index < changeSets.size(); index++) {
+                if (!addReferences(changeSets.get(index), changeSets, indexes, descriptors)) {
+                    return null;
+                }
+            }
+        }
+        Output output = new Output(64 + (changeSets.size() * 32));
+        output.writeByte(COMPACT_FORMAT);
+        output.writeInt(descriptors.checksum);
+        ServiceId serviceId = command.getServiceId();
+        output.writeBoolean(serviceId != null);
+        if (serviceId != null) {
+            output.writeString(serviceId.getChannel());
+            output.writeString(serviceId.getId());
+            output.writeString(serviceId.getURL());
+        }
+        output.writeBoolean(changeSet != null);
+        if (changeSet != null) {
+            output.writeVarInt(changeSets.size());
+            for (ObjectChangeSet objectChangeSet : changeSets) {
+                writeChangeSet(output, objectChangeSet, indexes, descriptors);
+            }
+            writeReferences(output, changeSet.getAllChangeSets(), indexes);
+            writeReferences(output, changeSet.hasDeletedObjects() ? changeSet.getDeletedObjects() : null, indexes);
+        }
+        return output;
+    }
+
+    /**
+     * Number the change set, if not already numbered.
+     */
+    protected void addChangeSet(ObjectChangeSet changeSet, List<ObjectChangeSet> changeSets, Map<ObjectChangeSet, Integer> indexes) {
+        if ((changeSet != null) && !indexes.containsKey(changeSet)) {
+            indexes.put(changeSet, changeSets.size());
+            changeSets.add(changeSet);
+        }
+    }
+
+    /**
+     * Number the change sets referenced by the changes of the change set.
+     * Return false if the change set cannot be written compactly.
+     */
+    protected boolean addReferences(ObjectChangeSet changeSet, List<ObjectChangeSet> changeSets, Map<ObjectChangeSet, Integer> indexes, Descriptors descriptors) {
+        Integer classId = descriptors.classIds.get(changeSet.getClassName());
+        if (classId == null) {
+            return false;
+        }
+        if (isIdentityOnly(changeSet)) {
+            return true;
+        }
+        Map<String, Integer> mappingIds = descriptors.mappingIds.get(classId);
+        for (org.eclipse.persistence.sessions.changesets.ChangeRecord change : changeSet.getChanges()) {
+            if (!mappingIds.containsKey(change.getAttribute())) {
+                return false;
+            }
+            Class<?> changeClass = change.getClass();
+            if (changeClass == ObjectReferenceChangeRecord.class) {
+                addChangeSet((ObjectChangeSet)((ObjectReferenceChangeRecord)change).getNewValue(), changeSets, indexes);
+            } else if (changeClass == AggregateChangeRecord.class) {
+                ObjectChangeSet aggregate = (ObjectChangeSet)((AggregateChangeRecord)change).getChangedObject();
+                if ((aggregate != null) && !addReferences(aggregate, changeSets, indexes, descriptors)) {
+                    return false;
+                }
+            } else if (changeClass == CollectionChangeRecord.class) {
+                CollectionChangeRecord collectionChange = (CollectionChangeRecord)change;
+                if (collectionChange.isDeferred() || collectionChange.hasOrderedChanges()) {
+                    return false;
+                }
+                for (ObjectChangeSet added : collectionChange.getAddObjectList().keySet()) {
+                    addChangeSet(added, changeSets, indexes);
+                }
+                for (ObjectChangeSet removed : collectionChange.getRemoveObjectList().keySet()) {
+                    addChangeSet(removed, changeSets, indexes);
+                }
+            } else if (changeClass != DirectToFieldChangeRecord.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return if only the identity of the change set is sent, as by its Java serialization.
+     */
+    protected boolean isIdentityOnly(ObjectChangeSet changeSet) {
+        int cacheSynchronizationType = changeSet.getCacheSynchronizationType();
+        return changeSet.shouldBeDeleted() || (cacheSynchronizationType == ClassDescriptor.DO_NOT_SEND_CHANGES)
+                || (cacheSynchronizationType == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS);
+    }
+
+    protected void writeChangeSet(Output output, ObjectChangeSet changeSet, Map<ObjectChangeSet, Integer> indexes, Descriptors descriptors) throws IOException {
+        int classId = descriptors.classIds.get(changeSet.getClassName());
+        output.writeVarInt(classId);
+        int flags = 0;
+        if (changeSet.shouldBeDeleted()) {
+            flags = flags | SHOULD_BE_DELETED;
+        }
+        if (changeSet.isInvalid()) {
+            flags = flags | IS_INVALID;
+        }
+        if (changeSet.isNew()) {
+            flags = flags | IS_NEW;
+        }
+        if (changeSet.isAggregate()) {
+            flags = flags | IS_AGGREGATE;
+        }
+        if (changeSet.hasVersionChange()) {
+            flags = flags | HAS_VERSION_CHANGE;
+        }
+        Boolean shouldModifyVersionField = changeSet.shouldModifyVersionField();
+        if (shouldModifyVersionField != null) {
+            flags = flags | HAS_MODIFY_VERSION_FIELD;
+            if (shouldModifyVersionField) {
+                flags = flags | SHOULD_MODIFY_VERSION_FIELD;
+            }
+        }
+        output.writeByte(flags);
+        output.writeSignedVarLong(changeSet.getCacheSynchronizationType());
+        writeValue(output, changeSet.getId());
+        writeValue(output, changeSet.getWriteLockValue());
+        writeValue(output, changeSet.getInitialWriteLockValue());
+        if (!isIdentityOnly(changeSet)) {
+            Map<String, Integer> mappingIds = descriptors.mappingIds.get(classId);
+            List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = changeSet.getChanges();
+            output.writeVarInt(changes.size());
+            for (org.eclipse.persistence.sessions.changesets.ChangeRecord change : changes) {
+                writeChange(output, (ChangeRecord)change, mappingIds.get(change.getAttribute()), indexes, descriptors);
+            }
+            writeValue(output, changeSet.getOldKey());
+            writeValue(output, changeSet.getNewKey());
+            writeValue(output, changeSet.getProtectedForeignKeys());
+        }
+    }
+
+    protected void writeChange(Output output, ChangeRecord change, int mappingId, Map<ObjectChangeSet, Integer> indexes, Descriptors descriptors) throws IOException {
+        if (change instanceof DirectToFieldChangeRecord) {
+            output.writeVarInt((mappingId << 2) | DIRECT_CHANGE);
+            writeValue(output, ((DirectToFieldChangeRecord)change).getNewValue());
+        } else if (change instanceof ObjectReferenceChangeRecord) {
+            output.writeVarInt((mappingId << 2) | REFERENCE_CHANGE);
+            ObjectChangeSet reference = (ObjectChangeSet)((ObjectReferenceChangeRecord)change).getNewValue();
+            output.writeVarInt((reference == null) ? 0 : (indexes.get(reference) + 1));
+        } else if (change instanceof AggregateChangeRecord) {
+            output.writeVarInt((mappingId << 2) | AGGREGATE_CHANGE);
+            ObjectChangeSet aggregate = (ObjectChangeSet)((AggregateChangeRecord)change).getChangedObject();
+            output.writeBoolean(aggregate != null);
+            if (aggregate != null) {
+                writeChangeSet(output, aggregate, indexes, descriptors);
+            }
+        } else {
+            output.writeVarInt((mappingId << 2) | COLLECTION_CHANGE);
+            writeReferences(output, ((CollectionChangeRecord)change).getAddObjectList(), indexes);
+            writeReferences(output, ((CollectionChangeRecord)change).getRemoveObjectList(), indexes);
+        }
+    }
+
+    /**
+     * Write the indexes of the change sets.
+     */
+    protected void writeReferences(Output output, Map<ObjectChangeSet, ObjectChangeSet> changeSets, Map<ObjectChangeSet, Integer> indexes) {
+        if (changeSets == null) {
+            output.writeVarInt(0);
+            return;
+        }
+        output.writeVarInt(changeSets.size());
+        for (ObjectChangeSet changeSet : changeSets.keySet()) {
+            output.writeVarInt(indexes.get(changeSet));
+        }
+    }
+
+    protected void writeValue(Output output, Object value) throws IOException {
+        int type = getValueType(value);
+        output.writeByte(type);
+        switch (type) {
+            case NULL:
+            case TRUE:
+            case FALSE:
+                break;
+            case INTEGER:
+                output.writeSignedVarLong((Integer)value);
+                break;
+            case LONG:
+                output.writeSignedVarLong((Long)value);
+                break;
+            case SHORT:
+                output.writeSignedVarLong((Short)value);
+                break;
+            case BYTE:
+                output.writeByte((Byte)value);
+                break;
+            case CHARACTER:
+                output.writeVarInt((Character)value);
+                break;
+            case FLOAT:
+                output.writeInt(Float.floatToRawIntBits((Float)value));
+                break;
+            case DOUBLE:
+                output.writeLong(Double.doubleToRawLongBits((Double)value));
+                break;
+            case STRING:
+                output.writeString((String)value);
+                break;
+            case DECIMAL:
+                output.writeSignedVarLong(((BigDecimal)value).scale());
+                output.writeSignedVarLong(((BigDecimal)value).unscaledValue().longValue());
+                break;
+            case BIG_DECIMAL:
+                output.writeSignedVarLong(((BigDecimal)value).scale());
+                output.writeByteArray(((BigDecimal)value).unscaledValue().toByteArray());
+                break;
+            case BIG_INTEGER:
+                output.writeByteArray(((BigInteger)value).toByteArray());
+                break;
+            case BYTES:
+                output.writeByteArray((byte[])value);
+                break;
+            case CACHE_ID:
+                Object[] primaryKey = ((CacheId)value).getPrimaryKey();
+                output.writeVarInt(primaryKey.length);
+                for (Object keyValue : primaryKey) {
+                    writeValue(output, keyValue);
+                }
+                break;
+            case DATE:
+            case SQL_DATE:
+            case TIME:
+                output.writeSignedVarLong(((Date)value).getTime());
+                break;
+            case TIMESTAMP:
+                output.writeSignedVarLong(((Timestamp)value).getTime());
+                output.writeVarInt(((Timestamp)value).getNanos());
+                break;
+            case LOCAL_DATE:
+                output.writeSignedVarLong(((LocalDate)value).toEpochDay());
+                break;
+            case LOCAL_TIME:
+                output.writeVarLong(((LocalTime)value).toNanoOfDay());
+                break;
+            case LOCAL_DATE_TIME:
+                output.writeSignedVarLong(((LocalDateTime)value).toLocalDate().toEpochDay());
+                output.writeVarLong(((LocalDateTime)value).toLocalTime().toNanoOfDay());
+                break;
+            case INSTANT:
+                output.writeSignedVarLong(((Instant)value).getEpochSecond());
+                output.writeVarInt(((Instant)value).getNano());
+                break;
+            case UUID_VALUE:
+                output.writeLong(((UUID)value).getMostSignificantBits());
+                output.writeLong(((UUID)value).getLeastSignificantBits());
+                break;
+            default:
+                ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+                ObjectOutputStream objectOut = new ObjectOutputStream(byteOut);
+                objectOut.writeObject(value);
+                objectOut.flush();
+                output.writeByteArray(byteOut.toByteArray());
+        }
+    }
+
+    /**
+     * Return the type the value is written as.
+     */
+    protected int getValueType(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer type = VALUE_TYPES.get(value.getClass());
+        if (type == null) {
+            return SERIALIZED;
+        } else if (type == TRUE) {
+            return ((Boolean)value) ? TRUE : FALSE;
+        } else if ((type == BIG_DECIMAL) && (((BigDecimal)value).unscaledValue().bitLength() < 64)) {
+            return DECIMAL;
+        }
+        return type;
+    }
+
+    protected MergeChangeSetCommand readCommand(Input input, Session session) throws IOException, ClassNotFoundException {
+        Descriptors descriptors = getDescriptors(session);
+        if (input.readInt() != descriptors.checksum) {
+            throw new InvalidObjectException("The message was sent by a session with different descriptors.");
+        }
+        MergeChangeSetCommand command = new MergeChangeSetCommand();
+        if (input.readBoolean()) {
+            String channel = input.readString();
+            String id = input.readString();
+            command.setServiceId(new ServiceId(channel, id, input.readString()));
+        }
+        if (input.readBoolean()) {
+            ObjectChangeSet[] changeSets = new ObjectChangeSet[input.readLength()];
+            for (int index = 0; index < changeSets.length; index++) {
+                changeSets[index] = new ObjectChangeSet();
+            }
+            for (ObjectChangeSet objectChangeSet : changeSets) {
+                readChangeSet(input, objectChangeSet, changeSets, descriptors);
+            }
+            UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+            Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = readReferences(input, changeSets);
+            if (!allChangeSets.isEmpty()) {
+                changeSet.setAllChangeSets(allChangeSets);
+            }
+            Map<ObjectChangeSet, ObjectChangeSet> deletedObjects = readReferences(input, changeSets);
+            if (!deletedObjects.isEmpty()) {
+                changeSet.setDeletedObjects(deletedObjects);
+            }
+            command.setChangeSet(changeSet);
+        }
+        return command;
+    }
+
+    protected void readChangeSet(Input input, ObjectChangeSet changeSet, ObjectChangeSet[] changeSets, Descriptors descriptors) throws IOException, ClassNotFoundException {
+        int classId = input.readVarInt();
+        if ((classId < 0) || (classId >= descriptors.descriptors.length)) {
+            throw new StreamCorruptedException("Invalid class id: " + classId);
+        }
+        ClassDescriptor descriptor = descriptors.descriptors[classId];
+        changeSet.setClassName(descriptor.getJavaClassName());
+        changeSet.setClassType(descriptor.getJavaClass());
+        int flags = input.readByte();
+        changeSet.setShouldBeDeleted((flags & SHOULD_BE_DELETED) != 0);
+        changeSet.setIsInvalid((flags & IS_INVALID) != 0);
+        changeSet.setIsNew((flags & IS_NEW) != 0);
+        changeSet.setIsAggregate((flags & IS_AGGREGATE) != 0);
+        if ((flags & HAS_MODIFY_VERSION_FIELD) != 0) {
+            changeSet.setShouldModifyVersionField((flags & SHOULD_MODIFY_VERSION_FIELD) != 0);
+        }
+        changeSet.setCacheSynchronizationType((int)input.readSignedVarLong());
+        changeSet.setId(readValue(input, descriptors.session));
+        changeSet.setWriteLockValue(readValue(input, descriptors.session));
+        changeSet.setInitialWriteLockValue(readValue(input, descriptors.session));
+        // Set after the write lock value, which flags a version change.
+        changeSet.setHasVersionChange((flags & HAS_VERSION_CHANGE) != 0);
+        if (!isIdentityOnly(changeSet)) {
+            String[] attributes = descriptors.attributes[classId];
+            int size = input.readLength();
+            List<ChangeRecord> changes = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                changes.add(readChange(input, changeSet, attributes, changeSets, descriptors));
+            }
+            changeSet.setChanges(changes);
+            changeSet.setOldKey(readValue(input, descriptors.session));
+            changeSet.setNewKey(readValue(input, descriptors.session));
+            changeSet.setProtectedForeignKeys((AbstractRecord)readValue(input, descriptors.session));
+        }
+    }
+
+    protected ChangeRecord readChange(Input input, ObjectChangeSet owner, String[] attributes, ObjectChangeSet[] changeSets, Descriptors descriptors) throws IOException, ClassNotFoundException {
+        int key = input.readVarInt();
+        int mappingId = key >>> 2;
+        if (mappingId >= attributes.length) {
+            throw new StreamCorruptedException("Invalid mapping id: " + mappingId);
+        }
+        ChangeRecord change;
+        switch (key & 3) {
+            case DIRECT_CHANGE:
+                DirectToFieldChangeRecord directChange = new DirectToFieldChangeRecord();
+                directChange.setNewValue(readValue(input, descriptors.session));
+                change = directChange;
+                break;
+            case REFERENCE_CHANGE:
+                ObjectReferenceChangeRecord referenceChange = new ObjectReferenceChangeRecord();
+                int reference = input.readVarInt();
+                if (reference != 0) {
+                    referenceChange.setNewValue(getChangeSet(changeSets, reference - 1));
+                }
+                change = referenceChange;
+                break;
+            case AGGREGATE_CHANGE:
+                AggregateChangeRecord aggregateChange = new AggregateChangeRecord();
+                if (input.readBoolean()) {
+                    ObjectChangeSet aggregate = new ObjectChangeSet();
+                    readChangeSet(input, aggregate, changeSets, descriptors);
+                    aggregateChange.setChangedObject(aggregate);
+                }
+                change = aggregateChange;
+                break;
+            default:
+                CollectionChangeRecord collectionChange = new CollectionChangeRecord();
+                collectionChange.setAddObjectList(readReferences(input, changeSets));
+                collectionChange.setRemoveObjectList(readReferences(input, changeSets));
+                change = collectionChange;
+        }
+        change.setAttribute(attributes[mappingId]);
+        change.setOwner(owner);
+        return change;
+    }
+
+    protected Map<ObjectChangeSet, ObjectChangeSet> readReferences(Input input, ObjectChangeSet[] changeSets) throws IOException {
+        int size = input.readLength();
+        Map<ObjectChangeSet, ObjectChangeSet> references = new IdentityHashMap<>(size);
+        for (int index = 0; index < size; index++) {
+            ObjectChangeSet changeSet = getChangeSet(changeSets, input.readVarInt());
+            references.put(changeSet, changeSet);
+        }
+        return references;
+    }
+
+    protected ObjectChangeSet getChangeSet(ObjectChangeSet[] changeSets, int index) throws IOException {
+        if ((index < 0) || (index >= changeSets.length)) {
+            throw new StreamCorruptedException("Invalid change set index: " + index);
+        }
+        return changeSets[index];
+    }
+
+    protected Object readValue(Input input, Session session) throws IOException, ClassNotFoundException {
+        int type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case INTEGER:
+                return (int)input.readSignedVarLong();
+            case LONG:
+                return input.readSignedVarLong();
+            case SHORT:
+                return (short)input.readSignedVarLong();
+            case BYTE:
+                return (byte)input.readByte();
+            case CHARACTER:
+                return (char)input.readVarInt();
+            case FLOAT:
+                return Float.intBitsToFloat(input.readInt());
+            case DOUBLE:
+                return Double.longBitsToDouble(input.readLong());
+            case STRING:
+                return input.readString();
+            case DECIMAL:
+                int scale = (int)input.readSignedVarLong();
+                return BigDecimal.valueOf(input.readSignedVarLong(), scale);
+            case BIG_DECIMAL:
+                int bigScale = (int)input.readSignedVarLong();
+                return new BigDecimal(new BigInteger(input.readByteArray()), bigScale);
+            case BIG_INTEGER:
+                return new BigInteger(input.readByteArray());
+            case BYTES:
+                return input.readByteArray();
+            case CACHE_ID:
+                Object[] primaryKey = new Object[input.readLength()];
+                for (int index = 0; index < primaryKey.length; index++) {
+                    primaryKey[index] = readValue(input, session);
+                }
+                return new CacheId(primaryKey);
+            case DATE:
+                return new Date(input.readSignedVarLong());
+            case SQL_DATE:
+                return new java.sql.Date(input.readSignedVarLong());
+            case TIME:
+                return new Time(input.readSignedVarLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readSignedVarLong());
+                timestamp.setNanos(input.readVarInt());
+                return timestamp;
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readSignedVarLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readVarLong());
+            case LOCAL_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(input.readSignedVarLong());
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(input.readVarLong()));
+            case INSTANT:
+                long seconds = input.readSignedVarLong();
+                return Instant.ofEpochSecond(seconds, input.readVarInt());
+            case UUID_VALUE:
+                long mostSignificantBits = input.readLong();
+                return new UUID(mostSignificantBits, input.readLong());
+            case SERIALIZED:
+                int length = input.readLength();
+                Object value = readSerialized(input.buffer, input.position, length, session);
+                input.position = input.position + length;
+                return value;
+            default:
+                throw new StreamCorruptedException("Invalid value type: " + type);
+        }
+    }
+
+    /**
+     * Read the Java serialized object, using the session's class loader.
+     */
+    protected Object readSerialized(byte[] bytes, int offset, int length, Session session) throws IOException, ClassNotFoundException {
+        ByteArrayInputStream byteIn = new ByteArrayInputStream(bytes, offset, length);
+        try (ObjectInputStream objectIn = session == null
+                ? new ObjectInputStream(byteIn)
+                : new CustomObjectInputStream(byteIn, session)) {
+            return objectIn.readObject();
+        }
+    }
+
+    /**
+     * Return the message with all but the format deflated, preceded by its length.
+     */
+    protected byte[] deflate(Output message) {
+        int length = message.size() - 1;
+        Output output = new Output((length / 2) + 16);
+        output.writeByte(message.buffer[0] | DEFLATED);
+        output.writeVarInt(length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(message.buffer, 1, length);
+            deflater.finish();
+            while (!deflater.finished()) {
+                output.ensureCapacity(256);
+                output.size = output.size + deflater.deflate(output.buffer, output.size, output.buffer.length - output.size);
+            }
+        } finally {
+            deflater.end();
+        }
+        return output.toByteArray();
+    }
+
+    protected Input inflate(byte[] message) throws IOException {
+        Input header = new Input(message, 1);
+        byte[] bytes = new byte[header.readVarInt()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(message, header.position, message.length - header.position);
+            int length = 0;
+            while (length < bytes.length) {
+                int count = inflater.inflate(bytes, length, bytes.length - length);
+                if ((count == 0) && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new EOFException();
+                }
+                length = length + count;
+            }
+        } catch (DataFormatException exception) {
+            throw new StreamCorruptedException(exception.getMessage());
+        } finally {
+            inflater.end();
+        }
+        return new Input(bytes, 0);
+    }
+
+    /**
+     * The ids of the classes of the session's descriptors, their index ordered by class name,
+     * and of the attributes of each class, the index of their mapping.
+     */
+    protected static class Descriptors {
+        protected final Session session;
+        protected final ClassDescriptor[] descriptors;
+        protected final String[][] attributes;
+        protected final Map<String, Integer> classIds;
+        protected final List<Map<String, Integer>> mappingIds;
+        /** Checksum of the class names and attributes, to check the sender has the same descriptors. */
+        protected final int checksum;
+
+        protected Descriptors(Session session) {
+            this.session = session;
+            Map<String, ClassDescriptor> descriptorsByName = new TreeMap<>();
+            for (ClassDescriptor descriptor : session.getDescriptors().values()) {
+                if (descriptor.getJavaClassName() != null) {
+                    descriptorsByName.putIfAbsent(descriptor.getJavaClassName(), descriptor);
+                }
+            }
+            this.descriptors = descriptorsByName.values().toArray(new ClassDescriptor[0]);
+            this.attributes = new String[this.descriptors.length][];
+            this.classIds = new HashMap<>();
+            this.mappingIds = new ArrayList<>(this.descriptors.length);
+            CRC32 checksum = new CRC32();
+            for (int classId = 0; classId < this.descriptors.length; classId++) {
+                ClassDescriptor descriptor = this.descriptors[classId];
+                this.classIds.put(descriptor.getJavaClassName(), classId);
+                checksum.update(descriptor.getJavaClassName().getBytes(StandardCharsets.UTF_8));
+                List<DatabaseMapping> mappings = descriptor.getMappings();
+                String[] classAttributes = new String[mappings.size()];
+                Map<String, Integer> ids = new HashMap<>();
+                for (int mappingId = 0; mappingId < classAttributes.length; mappingId++) {
+                    classAttributes[mappingId] = mappings.get(mappingId).getAttributeName();
+                    ids.putIfAbsent(classAttributes[mappingId], mappingId);
+                    checksum.update(0);
+                    checksum.update(String.valueOf(classAttributes[mappingId]).getBytes(StandardCharsets.UTF_8));
+                }
+                this.attributes[classId] = classAttributes;
+                this.mappingIds.add(ids);
+                checksum.update(1);
+            }
+            this.checksum = (int)checksum.getValue();
+        }
+    }
+
+    /**
+     * A growable buffer the message is written to.
+     */
+    protected static class Output {
+        protected byte[] buffer;
+        protected int size;
+
+        protected Output(int capacity) {
+            this.buffer = new byte[Math.max(capacity, 16)];
+        }
+
+        protected void ensureCapacity(int length) {
+            if ((this.size + length) > this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + length));
+            }
+        }
+
+        protected int size() {
+            return this.size;
+        }
+
+        protected byte[] toByteArray() {
+            return Arrays.copyOf(this.buffer, this.size);
+        }
+
+        protected void writeByte(int value) {
+            ensureCapacity(1);
+            this.buffer[this.size++] = (byte)value;
+        }
+
+        protected void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        protected void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, this.buffer, this.size, length);
+            this.size = this.size + length;
+        }
+
+        /**
+         * Write the length of the bytes followed by the bytes.
+         */
+        protected void writeByteArray(byte[] bytes) {
+            writeVarInt(bytes.length);
+            writeBytes(bytes, 0, bytes.length);
+        }
+
+        protected void writeInt(int value) {
+            ensureCapacity(4);
+            this.buffer[this.size++] = (byte)(value >>> 24);
+            this.buffer[this.size++] = (byte)(value >>> 16);
+            this.buffer[this.size++] = (byte)(value >>> 8);
+            this.buffer[this.size++] = (byte)value;
+        }
+
+        protected void writeLong(long value) {
+            writeInt((int)(value >>> 32));
+            writeInt((int)value);
+        }
+
+        /**
+         * Write the unsigned value using 7 bits per byte, the high bit set on all but the last byte.
+         */
+        protected void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                this.buffer[this.size++] = (byte)((value & 0x7F) | 0x80);
+                value = value >>> 7;
+            }
+            this.buffer[this.size++] = (byte)value;
+        }
+
+        protected void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        /**
+         * Write the value zig-zag encoded, so small negative values are also written in few bytes.
+         */
+        protected void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        /**
+         * Write the UTF-8 length of the string plus one, 0 for null, followed by its UTF-8 bytes.
+         */
+        protected void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Reads a message written by {@link Output}.
+     */
+    protected static class Input {
+        protected final byte[] buffer;
+        protected final int limit;
+        protected int position;
+
+        protected Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.limit = buffer.length;
+            this.position = position;
+        }
+
+        protected int readByte() throws IOException {
+            if (this.position >= this.limit) {
+                throw new EOFException();
+            }
+            return this.buffer[this.position++] & 0xFF;
+        }
+
+        protected boolean readBoolean() throws IOException {
+            return readByte() != 0;
+        }
+
+        protected int readInt() throws IOException {
+            return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+        }
+
+        protected long readLong() throws IOException {
+            return ((long)readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+        }
+
+        protected long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift = shift + 7) {
+                int next = readByte();
+                value = value | ((long)(next & 0x7F) << shift);
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Invalid variable length integer");
+        }
+
+        protected int readVarInt() throws IOException {
+            return (int)readVarLong();
+        }
+
+        protected long readSignedVarLong() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Read a length, checking it is not more than the bytes remaining.
+         */
+        protected int readLength() throws IOException {
+            int length = readVarInt();
+            if ((length < 0) || (length > (this.limit - this.position))) {
+                throw new StreamCorruptedException("Invalid length: " + length);
+            }
+            return length;
+        }
+
+        protected byte[] readByteArray() throws IOException {
+            int length = readLength();
+            byte[] bytes = Arrays.copyOfRange(this.buffer, this.position, this.position + length);
+            this.position = this.position + length;
+            return bytes;
+        }
+
+        protected String readString() throws IOException {
+            int length = readVarInt();
+            if (length == 0) {
+                return null;
+            }
+            length = length - 1;
+            if ((length < 0) || (length > (this.limit - this.position))) {
+                throw new StreamCorruptedException("Invalid length: " + length);
+            }
+            String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+            this.position = this.position + length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sessions.server;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Connection pool that does not serialize acquire and release on the pool monitor.
+ * <p>
+ * Idle connections are kept in a concurrent deque and the number of connections handed out is
+ * bounded by a fair semaphore, so waiting threads are served in FIFO order.
+ * New connections are built outside of any lock, so a slow database connect does not block
+ * threads releasing or acquiring other connections.
+ * Fail-over and connection health checking behave as in {@link ConnectionPool}.
+ * <p>
+ * The pool can be configured in JPA through the "<code>eclipselink.connection-pool.type</code>" property.
+ *
+ * @see ConnectionPool
+ * @see org.eclipse.persistence.config.ConnectionPoolType
+ */
+public class ConcurrentConnectionPool extends ConnectionPool {
+
+    /** Idle connections, the last released connection is reused first. */
+    protected Deque<Accessor> idleConnections;
+    /** Connections currently allocated to clients. */
+    protected Set<Accessor> busyConnections;
+    /** Number of idle connections, as the deque size is not constant time. */
+    protected AtomicInteger idleCount;
+    /** Permits for each connection that can be allocated, fair to hand over in FIFO order. */
+    protected volatile PoolSemaphore permits;
+
+    /**
+     * PUBLIC:
+     * A concurrent connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool() {
+        super();
+    }
+
+    /**
+     * PUBLIC:
+     * A concurrent connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, ServerSession owner) {
+        super(name, login, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A concurrent connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * PUBLIC:
+     * A concurrent connection pool is used to specify how connection should be pooled in a server session.
+     */
+    public ConcurrentConnectionPool(String name, Login login, int initialNumberOfConnections, int minNumberOfConnections, int maxNumberOfConnections, ServerSession owner) {
+        super(name, login, initialNumberOfConnections, minNumberOfConnections, maxNumberOfConnections, owner);
+    }
+
+    /**
+     * INTERNAL:
+     * Wait until a connection is available and allocate the connection for the client.
+     * Only the wait for a free permit can block, connections are built outside of any lock.
+     */
+    @Override
+    public Accessor acquireConnection() throws ConcurrencyException {
+        // Check for dead database and fail-over.
+        if (this.isDead) {
+            return failover();
+        }
+        PoolSemaphore permits = this.permits;
+        acquirePermit(permits);
+        while (permits.isClosed()) {
+            // The pool was shut down or reset while waiting, wait on its new permits.
+            permits = this.permits;
+            acquirePermit(permits);
+        }
+        Accessor connection = null;
+        try {
+            connection = pollIdleConnection();
+            if (connection == null) {
+                try {
+                    connection = buildConnection();
+                } catch (RuntimeException failed) {
+                    if (!this.failoverConnectionPools.isEmpty()) {
+                        this.isDead = true;
+                        this.timeOfDeath = System.currentTimeMillis();
+                        this.owner.logThrowable(SessionLog.WARNING, SessionLog.SQL, failed);
+                    } else {
+                        throw failed;
+                    }
+                }
+            }
+        } finally {
+            if (connection == null) {
+                permits.release();
+            }
+        }
+        if (connection == null) {
+            return acquireConnection();
+        }
+        this.busyConnections.add(connection);
+        if (this.owner.isInProfile()) {
+            this.owner.updateProfile(MONITOR_HEADER + this.name, this.busyConnections.size());
+        }
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "acquire_connection", args, connection);
+        }
+        return connection;
+    }
+
+    /**
+     * INTERNAL:
+     * Wait for a permit to allocate a connection, the wait is profiled as {@link SessionProfiler#ConnectionPoolWait}.
+     * A wait timeout of 0 means wait forever.
+     */
+    protected void acquirePermit(Semaphore permits) throws ConcurrencyException {
+        try {
+            // A timed try honors the fairness of the permits, unlike tryAcquire().
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+            this.owner.startOperationProfile(SessionProfiler.ConnectionPoolWait);
+            try {
+                if (this.waitTimeout <= 0) {
+                    permits.acquire();
+                } else if (!permits.tryAcquire(this.waitTimeout, TimeUnit.MILLISECONDS)) {
+                    throw ConcurrencyException.waitTimeoutOnConnectionPool(this.name, this.waitTimeout);
+                }
+            } finally {
+                this.owner.endOperationProfile(SessionProfiler.ConnectionPoolWait);
+            }
+        } catch (InterruptedException exception) {
+            throw ConcurrencyException.waitFailureOnClientSession(exception);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the most recently released idle connection, or null if none are idle.
+     * If a connection failure was reported, the idle connections are tested until a good one is found,
+     * the bad ones are closed and removed from the pool.
+     */
+    protected Accessor pollIdleConnection() {
+        Accessor connection = this.idleConnections.pollLast();
+        while (connection != null) {
+            this.idleCount.decrementAndGet();
+            if (!this.checkConnections) {
+                return connection;
+            }
+            // EclipseLink has encountered a problem with a connection where the database no longer responded
+            // We need to now ensure that the failure was specific to that connection or we need to empty
+            // the pool of dead connections in the case of a database failover.
+            if (this.owner.getLogin().isConnectionHealthValidatedOnError() && this.owner.getServerPlatform().wasFailureCommunicationBased(null, connection, this.owner)) {
+                try {
+                    //connection failed connect test
+                    connection.closeConnection();
+                } catch (Exception ex){
+                    //ignore
+                } finally {
+                    connection.releaseCustomizer();
+                }
+                connection = this.idleConnections.pollLast();
+            } else {
+                //connection was good use it.  And make sure we stop testing connections
+                this.checkConnections = false;
+                return connection;
+            }
+        }
+        //we have emptied out all connections so let's have the connection pool build more
+        this.checkConnections = false;
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Add the connection as single that a new connection is available.
+     */
+    @Override
+    public void releaseConnection(Accessor connection) throws DatabaseException {
+        if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
+            Object[] args = new Object[1];
+            args[0] = this.name;
+            this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
+        }
+        connection.reset();
+
+        // Only release a permit for connections allocated by this pool, to avoid growing past the maximum.
+        boolean wasBusy = this.busyConnections.remove(connection);
+        try {
+            if (!connection.isValid()) {
+                this.checkConnections = true;
+                try {
+                    connection.disconnect(this.owner);
+                } catch (DatabaseException ex) {
+                    //this is an invalid connection so expect an exception.
+                }
+            } else {
+                if ((this.busyConnections.size() + this.idleCount.get()) < this.minNumberOfConnections) {
+                    this.idleCount.incrementAndGet();
+                    this.idleConnections.offerLast(connection);
+                } else {
+                    connection.disconnect(getOwner());
+                }
+            }
+            if (this.owner.isInProfile()) {
+                this.owner.updateProfile(MONITOR_HEADER + this.name, this.busyConnections.size());
+            }
+        } finally {
+            if (wasBusy) {
+                this.permits.release();
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return a snapshot of the connections currently available for use in the pool.
+     */
+    @Override
+    public List<Accessor> getConnectionsAvailable() {
+        return new ArrayList<>(this.idleConnections);
+    }
+
+    /**
+     * Return a snapshot of the connections that are being used.
+     */
+    @Override
+    protected List<Accessor> getConnectionsUsed() {
+        return new ArrayList<>(this.busyConnections);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the total number of connections currently in use.
+     */
+    @Override
+    public int getTotalNumberOfConnections() {
+        return this.busyConnections.size() + this.idleCount.get();
+    }
+
+    /**
+     * INTERNAL:
+     * Return if an idle connection is available.
+     */
+    @Override
+    public boolean hasConnectionAvailable() {
+        return !this.idleConnections.isEmpty();
+    }
+
+    /**
+     * INTERNAL:
+     * Reset the connections on shutDown and when the pool is started.
+     */
+    @Override
+    public void resetConnections() {
+        PoolSemaphore previousPermits = this.permits;
+        this.idleConnections = new ConcurrentLinkedDeque<>();
+        this.busyConnections = ConcurrentHashMap.newKeySet();
+        this.idleCount = new AtomicInteger();
+        this.permits = new PoolSemaphore(this.maxNumberOfConnections);
+        // Wake up the threads waiting on the previous permits, they then wait on the new ones.
+        if (previousPermits != null) {
+            previousPermits.close();
+        }
+        this.checkConnections = false;
+        this.isDead = false;
+        this.timeOfDeath = 0;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the maximum number of connections allowed.
+     * The permits of the pool are adjusted, connections already allocated are not affected.
+     * @see ConnectionPool#setMaxNumberOfConnections(int)
+     */
+    @Override
+    public void setMaxNumberOfConnections(int maxNumberOfConnections) {
+        int delta = maxNumberOfConnections - this.maxNumberOfConnections;
+        super.setMaxNumberOfConnections(maxNumberOfConnections);
+        if (this.permits != null) {
+            if (delta > 0) {
+                this.permits.release(delta);
+            } else if (delta < 0) {
+                this.permits.reducePermits(-delta);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Disconnect all connections.
+     */
+    @Override
+    public synchronized void shutDown() {
+        setIsConnected(false);
+
+        for (Accessor connection : this.idleConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+
+        for (Accessor connection : this.busyConnections) {
+            try {
+                connection.disconnect(getOwner());
+            } catch (DatabaseException exception) {
+                // Ignore.
+            }
+        }
+        resetConnections();
+    }
+
+    /**
+     * INTERNAL:
+     * Allocate the initial connections.
+     */
+    @Override
+    public synchronized void startUp() {
+        if (isConnected()) {
+            return;
+        }
+        for (int index = getInitialNumberOfConnections(); index > 0; index--) {
+            this.idleConnections.offerLast(buildConnection());
+            this.idleCount.incrementAndGet();
+        }
+
+        setIsConnected(true);
+    }
+
+    /**
+     * INTERNAL:
+     * Fair semaphore that allows the number of permits to be reduced when the pool is resized.
+     */
+    protected static class PoolSemaphore extends Semaphore {
+        private static final long serialVersionUID = -1805936591224431372L;
+
+        /** Set when the pool replaced the semaphore, its permits are then no longer bounded. */
+        protected volatile boolean isClosed;
+
+        protected PoolSemaphore(int permits) {
+            super(permits, true);
+        }
+
+        /**
+         * Release the threads waiting for a permit, and any thread that still acquires one.
+         */
+        protected void close() {
+            this.isClosed = true;
+            release(Integer.MAX_VALUE / 2);
+        }
+
+        protected boolean isClosed() {
+            return this.isClosed;
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
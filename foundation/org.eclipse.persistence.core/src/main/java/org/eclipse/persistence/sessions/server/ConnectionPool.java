@@ -18,6 +18,7 @@
 
 import org.eclipse.persistence.internal.databaseaccess.*;
 import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.internal.helper.*;
 import org.eclipse.persistence.exceptions.*;
 import org.eclipse.persistence.internal.localization.*;
@@ -157,10 +158,13 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
                 }
                 return connection;
             }
+            this.owner.startOperationProfile(SessionProfiler.ConnectionPoolWait);
             try {
                 wait(this.waitTimeout);// Notify is called when connections are released.
             } catch (InterruptedException exception) {
                 throw ConcurrencyException.waitFailureOnClientSession(exception);
+            } finally {
+                this.owner.endOperationProfile(SessionProfiler.ConnectionPoolWait);
             }
         }
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.util.Map;
+
+import org.eclipse.persistence.sessions.Session;
+
+/**
+ * <p><b>Purpose</b>: Publish the latency histograms recorded by the {@link HistogramProfiler}
+ * to a monitoring system.
+ * <p><b>Description</b>: Exporters are added to the profiler, which calls them periodically,
+ * every export time, from a thread executing a query.
+ * Exporters should not block, or should hand the values over to another thread.
+ *
+ * @see HistogramProfiler#addExporter(HistogramExporter)
+ */
+public interface HistogramExporter {
+
+    /**
+     * Publish the histograms, by operation name.
+     * The operation names are the {@link org.eclipse.persistence.sessions.SessionProfiler} operation names,
+     * and "<code>Timer:</code>" followed by the query monitor name for the query executions,
+     * or by the query monitor name, ":" and the operation name for the operations of the query.
+     * The histograms are live, and keep being recorded.
+     */
+    void export(Session session, Map<String, LatencyHistogram> histograms);
+}
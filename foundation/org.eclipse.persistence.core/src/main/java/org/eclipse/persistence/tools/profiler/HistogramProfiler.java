@@ -0,0 +1,414 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.platform.server.JMXServerPlatformBase;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DataRecord;
+import org.eclipse.persistence.sessions.SessionEvent;
+import org.eclipse.persistence.sessions.SessionEventAdapter;
+import org.eclipse.persistence.sessions.SessionEventListener;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.sessions.SessionProfilerAdapter;
+
+/**
+ * <p><b>Purpose</b>: A tool used to monitor the latency distribution of the queries and operations in production.
+ * <p><b>Description</b>: Unlike the {@link PerformanceMonitor} totals, the profiler records a {@link LatencyHistogram}
+ * per query and per operation, to report their percentiles, i.e. the median and 99.9th percentile latencies.
+ * The histograms are recorded:
+ * <ul>
+ * <li>per query execution, by "<code>Timer:</code>" followed by the query monitor name,
+ * <li>per operation, such as {@link SessionProfiler#SqlPrepare}, {@link SessionProfiler#StatementExecute},
+ * {@link SessionProfiler#RowFetch}, {@link SessionProfiler#ObjectBuilding}, {@link SessionProfiler#Merge},
+ * {@link SessionProfiler#CacheCoordination} or {@link SessionProfiler#ConnectionPoolWait}, by operation name,
+ * <li>per query and operation, by "<code>Timer:</code>", the query monitor name, ":" and the operation name without "<code>Timer:</code>".
+ * </ul>
+ * Recording is lock free, the start times are kept per thread and each latency is counted by an atomic increment.
+ * The histograms are exposed through JMX if registered as MBean, and published to the exporters every export time.
+ *
+ * @see HistogramExporter
+ */
+public class HistogramProfiler extends SessionProfilerAdapter implements HistogramProfilerMBean {
+    protected static final String TIMER = "Timer:";
+
+    protected AbstractSession session;
+    protected final Map<String, LatencyHistogram> histograms;
+    /** The start time and nesting depth of each operation in progress, per thread. */
+    protected final ThreadLocal<Map<String, long[]>> operationStartTimes;
+    protected final List<HistogramExporter> exporters;
+    protected volatile long lastExportTime;
+    protected long exportTime;
+    protected int profileWeight;
+    protected boolean shouldRegisterMBean;
+    protected ObjectName mBeanName;
+    /** Unregisters the MBean when the session logs out. */
+    protected SessionEventListener logoutListener;
+
+    /**
+     * PUBLIC:
+     * Create a new profiler.
+     * The profiler can be registered with a session to record the latencies of its queries and operations.
+     */
+    public HistogramProfiler() {
+        this.histograms = new ConcurrentHashMap<>();
+        this.operationStartTimes = ThreadLocal.withInitial(HashMap::new);
+        this.exporters = new CopyOnWriteArrayList<>();
+        this.lastExportTime = System.currentTimeMillis();
+        this.exportTime = 60000; // 1 minute
+        this.profileWeight = SessionProfiler.ALL;
+    }
+
+    /**
+     * PUBLIC:
+     * Add the exporter the histograms are published to every export time.
+     */
+    public void addExporter(HistogramExporter exporter) {
+        this.exporters.add(exporter);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the exporters the histograms are published to.
+     */
+    public List<HistogramExporter> getExporters() {
+        return exporters;
+    }
+
+    /**
+     * Return the number of milliseconds after which the histograms are published to the exporters.
+     */
+    public long getExportTime() {
+        return exportTime;
+    }
+
+    /**
+     * Set the number of milliseconds after which the histograms are published to the exporters.
+     */
+    public void setExportTime(long exportTime) {
+        this.exportTime = exportTime;
+    }
+
+    /**
+     * Return if the profiler registers itself as MBean in the platform MBean server when the session logs in.
+     */
+    public boolean shouldRegisterMBean() {
+        return shouldRegisterMBean;
+    }
+
+    /**
+     * Set if the profiler registers itself as MBean in the platform MBean server when the session logs in,
+     * by default false.
+     */
+    public void setShouldRegisterMBean(boolean shouldRegisterMBean) {
+        this.shouldRegisterMBean = shouldRegisterMBean;
+    }
+
+    /**
+     * Publish the histograms after a set amount of time has passed.
+     */
+    public void checkExportTime() {
+        if (!this.exporters.isEmpty() && ((System.currentTimeMillis() - this.lastExportTime) > this.exportTime)) {
+            export();
+        }
+    }
+
+    /**
+     * Publish the histograms to the exporters.
+     */
+    public void export() {
+        this.lastExportTime = System.currentTimeMillis();
+        Map<String, LatencyHistogram> histograms = Collections.unmodifiableMap(this.histograms);
+        for (HistogramExporter exporter : this.exporters) {
+            exporter.export(this.session, histograms);
+        }
+    }
+
+    /**
+     * Return the histogram of the operation, or null if not recorded.
+     */
+    public LatencyHistogram getHistogram(String operation) {
+        return this.histograms.get(operation);
+    }
+
+    /**
+     * Return the histograms, by operation name.
+     */
+    public Map<String, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Record the latency of the operation.
+     */
+    public void record(String operation, long nanos) {
+        LatencyHistogram histogram = this.histograms.get(operation);
+        if (histogram == null) {
+            histogram = this.histograms.computeIfAbsent(operation, name -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * INTERNAL:
+     * Start the operation timing.
+     * A nested start of the same operation is only counted once, by the outer operation.
+     */
+    @Override
+    public void startOperationProfile(String operationName) {
+        if (this.profileWeight < SessionProfiler.HEAVY) {
+            return;
+        }
+        startTimer(operationName);
+    }
+
+    /**
+     * INTERNAL:
+     * Start the operation timing.
+     */
+    @Override
+    public void startOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        startTimer(operationName);
+    }
+
+    /**
+     * INTERNAL:
+     * End the operation timing, and record its latency.
+     */
+    @Override
+    public void endOperationProfile(String operationName) {
+        if (this.profileWeight < SessionProfiler.HEAVY) {
+            return;
+        }
+        long time = endTimer(operationName);
+        if (time >= 0) {
+            record(operationName, time);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * End the operation timing, and record its latency for the operation and for the query.
+     */
+    @Override
+    public void endOperationProfile(String operationName, DatabaseQuery query, int weight) {
+        if (this.profileWeight < weight) {
+            return;
+        }
+        long time = endTimer(operationName);
+        if (time >= 0) {
+            record(operationName, time);
+            if (query != null) {
+                String name = operationName.startsWith(TIMER) ? operationName.substring(TIMER.length()) : operationName;
+                record(TIMER + query.getMonitorName() + ":" + name, time);
+            }
+        }
+    }
+
+    /**
+     * Start timing the operation on the current thread, unless already in progress.
+     */
+    protected void startTimer(String operationName) {
+        Map<String, long[]> startTimes = this.operationStartTimes.get();
+        long[] startTime = startTimes.get(operationName);
+        if (startTime == null) {
+            startTime = new long[2];
+            startTimes.put(operationName, startTime);
+        }
+        if (startTime[1]++ == 0) {
+            startTime[0] = System.nanoTime();
+        }
+    }
+
+    /**
+     * End timing the operation on the current thread,
+     * return its latency, or -1 if not started or still in progress in an outer operation.
+     */
+    protected long endTimer(String operationName) {
+        long[] startTime = this.operationStartTimes.get().get(operationName);
+        if ((startTime == null) || (startTime[1] == 0)) {
+            return -1;
+        }
+        if (--startTime[1] > 0) {
+            return -1;
+        }
+        return System.nanoTime() - startTime[0];
+    }
+
+    /**
+     * INTERNAL:
+     * Record the latency of the query execution.
+     */
+    @Override
+    public Object profileExecutionOfQuery(DatabaseQuery query, DataRecord row, AbstractSession session) {
+        if (this.profileWeight < SessionProfiler.NORMAL) {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        }
+        long startTime = System.nanoTime();
+        try {
+            return session.internalExecuteQuery(query, (AbstractRecord)row);
+        } finally {
+            record(TIMER + query.getMonitorName(), System.nanoTime() - startTime);
+            checkExportTime();
+        }
+    }
+
+    @Override
+    public void setSession(org.eclipse.persistence.sessions.Session session) {
+        this.session = (AbstractSession)session;
+    }
+
+    public AbstractSession getSession() {
+        return session;
+    }
+
+    /**
+     * Set the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * NORMAL only records the query executions, HEAVY and above also records the operations.
+     * @see SessionProfiler
+     */
+    @Override
+    public void setProfileWeight(int profileWeight) {
+        this.profileWeight = profileWeight;
+    }
+
+    /**
+     * Return the level of profiling.
+     * One of ALL, HEAVY, NORMAL, NONE.
+     * @see SessionProfiler
+     */
+    @Override
+    public int getProfileWeight() {
+        return profileWeight;
+    }
+
+    /**
+     * INTERNAL:
+     * Register the MBean if required, when the session logs in, it is unregistered when the session logs out.
+     */
+    @Override
+    public void initialize() {
+        if (this.shouldRegisterMBean) {
+            registerMBean();
+            if (this.logoutListener == null) {
+                this.logoutListener = new SessionEventAdapter() {
+                    @Override
+                    public void postLogout(SessionEvent event) {
+                        unregisterMBean();
+                    }
+                };
+                this.session.getEventManager().addListener(this.logoutListener);
+            }
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Register the profiler in the platform MBean server, replacing the profiler of a previous session of the same name.
+     */
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMXServerPlatformBase.JMX_REGISTRATION_PREFIX + "HistogramProfiler(" + this.session.getName() + ")");
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            this.mBeanName = name;
+        } catch (Exception exception) {
+            this.session.logThrowable(SessionLog.WARNING, SessionLog.SERVER, exception);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Unregister the profiler from the platform MBean server, if registered.
+     */
+    public void unregisterMBean() {
+        if (this.mBeanName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.mBeanName);
+        } catch (Exception exception) {
+            this.session.logThrowable(SessionLog.WARNING, SessionLog.SERVER, exception);
+        }
+        this.mBeanName = null;
+    }
+
+    @Override
+    public String[] getOperations() {
+        Set<String> operations = new TreeSet<>(this.histograms.keySet());
+        return operations.toArray(new String[operations.size()]);
+    }
+
+    @Override
+    public long getCount(String operation) {
+        LatencyHistogram histogram = this.histograms.get(operation);
+        return (histogram == null) ? 0 : histogram.getCount();
+    }
+
+    @Override
+    public long getValueAtPercentile(String operation, double percentile) {
+        LatencyHistogram histogram = this.histograms.get(operation);
+        return (histogram == null) ? 0 : histogram.getValueAtPercentile(percentile);
+    }
+
+    @Override
+    public long getMax(String operation) {
+        LatencyHistogram histogram = this.histograms.get(operation);
+        return (histogram == null) ? 0 : histogram.getMax();
+    }
+
+    @Override
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder("Operation\tCount\tp50 (ns)\tp99 (ns)\tp999 (ns)\tMax (ns)\n");
+        for (String operation : getOperations()) {
+            LatencyHistogram histogram = this.histograms.get(operation);
+            summary.append(operation).append('\t').append(histogram.getCount());
+            summary.append('\t').append(histogram.getValueAtPercentile(50));
+            summary.append('\t').append(histogram.getValueAtPercentile(99));
+            summary.append('\t').append(histogram.getValueAtPercentile(99.9));
+            summary.append('\t').append(histogram.getMax()).append('\n');
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : this.histograms.values()) {
+            histogram.reset();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+/**
+ * <p><b>Purpose</b>: JMX interface of the {@link HistogramProfiler},
+ * exposing the latency percentiles of each operation in nanoseconds.
+ */
+public interface HistogramProfilerMBean {
+
+    /**
+     * Return the names of the operations recorded.
+     */
+    String[] getOperations();
+
+    /**
+     * Return the number of times the operation was recorded.
+     */
+    long getCount(String operation);
+
+    /**
+     * Return the latency of the operation at the percentile, i.e. 99.9.
+     */
+    long getValueAtPercentile(String operation, double percentile);
+
+    /**
+     * Return the highest latency of the operation.
+     */
+    long getMax(String operation);
+
+    /**
+     * Return the median, 99th and 999th per thousand latencies and the count of each operation,
+     * one operation per line.
+     */
+    String getSummary();
+
+    /**
+     * Clear the latencies recorded.
+     */
+    void reset();
+}
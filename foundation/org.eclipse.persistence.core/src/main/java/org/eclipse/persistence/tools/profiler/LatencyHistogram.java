@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.profiler;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p><b>Purpose</b>: Record the distribution of latencies of an operation, to report its percentiles.
+ * <p><b>Description</b>: The values are counted in log-linear buckets, each power of two being split
+ * in 32 buckets, so the values reported are within about 3% of the values recorded, from nanoseconds to hours.
+ * Recording is lock free, a single atomic increment of the value's bucket,
+ * so the histogram can be recorded by concurrent threads and read while recorded.
+ *
+ * @see HistogramProfiler
+ */
+public class LatencyHistogram implements Serializable {
+
+    /** The number of bits of the value kept in the bucket index, 32 buckets per power of two. */
+    protected static final int SUB_BUCKET_BITS = 5;
+    protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** The number of buckets to count any positive long value. */
+    protected static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    protected final AtomicLongArray counts;
+    protected final LongAdder total;
+    protected final AtomicLong max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.total = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Record the value, usually a latency in nanoseconds.
+     * Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        this.counts.incrementAndGet(bucketIndex(value));
+        this.total.add(value);
+        if (value > this.max.get()) {
+            this.max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Return the number of values recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            count += this.counts.get(index);
+        }
+        return count;
+    }
+
+    /**
+     * Return the largest value recorded.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Return the mean of the values recorded, 0 if none.
+     */
+    public double getMean() {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        return (double)this.total.sum() / count;
+    }
+
+    /**
+     * Return the value below or at which the percentage of the values recorded fall,
+     * i.e. 50 for the median, 99.9 for the 999th of 1000 values.
+     * Return the highest value of the bucket, so the value reported is never below the value recorded,
+     * and 0 if no value was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            snapshot[index] = this.counts.get(index);
+            count += snapshot[index];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        // Round to the nearest rank, as the percentile is usually not exact in binary, i.e. 99.9.
+        long rank = (long)(((Math.min(percentile, 100.0) / 100.0) * count) + 0.5);
+        if (rank < 1) {
+            rank = 1;
+        }
+        long cumulated = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            cumulated += snapshot[index];
+            if (cumulated >= rank) {
+                return Math.min(highestValue(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clear the values recorded.
+     * Values recorded concurrently may be lost.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            this.counts.set(index, 0);
+        }
+        this.total.reset();
+        this.max.set(0);
+    }
+
+    /**
+     * Return the index of the bucket counting the value.
+     * The values below 32 have their own bucket, the others keep their 5 highest bits and their power of two.
+     */
+    protected static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int)value;
+        }
+        int exponent = (Long.SIZE - 1) - Long.numberOfLeadingZeros(value);
+        int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT) + subBucket;
+    }
+
+    /**
+     * Return the highest value counted by the bucket.
+     */
+    protected static long highestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index / SUB_BUCKET_COUNT) - 1;
+        long lowest = ((long)(SUB_BUCKET_COUNT + (index % SUB_BUCKET_COUNT))) << shift;
+        return lowest + ((1L << shift) - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram(count=" + getCount() + ", p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99)
+                + ", p999=" + getValueAtPercentile(99.9) + ", max=" + getMax() + ")";
+    }
+}
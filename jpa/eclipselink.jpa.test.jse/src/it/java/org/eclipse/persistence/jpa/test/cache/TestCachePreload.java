@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.sessions.CachePreloader;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.test.framework.DDLGen;
+import org.eclipse.persistence.jpa.test.framework.Emf;
+import org.eclipse.persistence.jpa.test.framework.EmfRunner;
+import org.eclipse.persistence.jpa.test.framework.Property;
+import org.eclipse.persistence.jpa.test.query.model.QueryEmployee;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test the cache preload of a persistence unit generating its tables.
+ */
+@RunWith(EmfRunner.class)
+public class TestCachePreload {
+
+    private static final int NO_OF_EMPLOYEES = 5;
+
+    @Emf(name = "cachePreloadEMF", classes = { QueryEmployee.class }, createTables = DDLGen.DROP_CREATE,
+            properties = {
+                @Property(name = PersistenceUnitProperties.CACHE_PRELOAD_DEFAULT, value = "true"),
+                @Property(name = PersistenceUnitProperties.CACHE_PRELOAD_WAIT, value = "true"),
+                @Property(name = PersistenceUnitProperties.LOGGING_LOGGER, value = "org.eclipse.persistence.jpa.test.cache.TestCachePreload$FailureLog") })
+    private EntityManagerFactory emf;
+
+    @Emf(name = "cachePreloadedEMF", classes = { QueryEmployee.class }, createTables = DDLGen.NONE,
+            properties = {
+                @Property(name = PersistenceUnitProperties.CACHE_PRELOAD_DEFAULT, value = "true"),
+                @Property(name = PersistenceUnitProperties.CACHE_PRELOAD_WAIT, value = "true"),
+                @Property(name = PersistenceUnitProperties.LOGGING_LOGGER, value = "org.eclipse.persistence.jpa.test.cache.TestCachePreload$FailureLog") })
+    private EntityManagerFactory preloadedEmf;
+
+    /**
+     * Test that the objects are preloaded once the tables are generated,
+     * and that a persistence unit deployed later preloads the objects inserted in the tables.
+     */
+    @Test
+    public void testPreloadAfterTableGeneration() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            CachePreloader preloader = getCachePreloader(emf);
+            Assert.assertTrue(preloader.isComplete());
+            Assert.assertEquals(0, preloader.getNumberOfObjects());
+            Assert.assertTrue("The preload failed: " + FailureLog.EXCEPTIONS, FailureLog.EXCEPTIONS.isEmpty());
+
+            em.getTransaction().begin();
+            for (int index = 0; index < NO_OF_EMPLOYEES; index++) {
+                em.persist(new QueryEmployee());
+            }
+            em.getTransaction().commit();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+
+        em = preloadedEmf.createEntityManager();
+        try {
+            CachePreloader preloader = getCachePreloader(preloadedEmf);
+            Assert.assertTrue(preloader.isComplete());
+            Assert.assertEquals(NO_OF_EMPLOYEES, preloader.getNumberOfObjects());
+            Assert.assertTrue("The preload failed: " + FailureLog.EXCEPTIONS, FailureLog.EXCEPTIONS.isEmpty());
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    private CachePreloader getCachePreloader(EntityManagerFactory factory) {
+        DatabaseSessionImpl session = (DatabaseSessionImpl) JpaHelper.getServerSession(factory);
+        Assert.assertNotNull(session.getCachePreloader());
+        return session.getCachePreloader();
+    }
+
+    /**
+     * Record the exceptions logged by the persistence units.
+     */
+    public static class FailureLog extends DefaultSessionLog {
+        static final List<Throwable> EXCEPTIONS = new CopyOnWriteArrayList<>();
+
+        public FailureLog() {
+            super();
+        }
+
+        @Override
+        public synchronized void log(SessionLogEntry entry) {
+            if (entry.hasException()) {
+                EXCEPTIONS.add(entry.getException());
+            }
+            super.log(entry);
+        }
+    }
+}
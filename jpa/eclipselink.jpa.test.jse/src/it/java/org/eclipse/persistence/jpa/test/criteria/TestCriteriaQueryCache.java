@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.criteria;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
+import org.eclipse.persistence.jpa.test.framework.DDLGen;
+import org.eclipse.persistence.jpa.test.framework.Emf;
+import org.eclipse.persistence.jpa.test.framework.EmfRunner;
+import org.eclipse.persistence.jpa.test.query.model.QueryEmployee;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test the cache of the prepared queries of criteria queries with the same structure.
+ */
+@RunWith(EmfRunner.class)
+public class TestCriteriaQueryCache {
+
+    private static final int NO_OF_EMPLOYEES = 5;
+
+    @Emf(name = "criteriaQueryCacheEMF", classes = { QueryEmployee.class }, createTables = DDLGen.DROP_CREATE)
+    private EntityManagerFactory emf;
+
+    private static boolean POPULATED = false;
+
+    /**
+     * Test that a criteria query built again is created with the prepared query of the first one,
+     * and that each query is executed with its own parameter value.
+     */
+    @Test
+    public void testNamedParameterQueryCached() {
+        populate();
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<QueryEmployee> query = em.createQuery(buildQuery(em.getCriteriaBuilder(), "id"));
+            TypedQuery<QueryEmployee> otherQuery = em.createQuery(buildQuery(em.getCriteriaBuilder(), "id"));
+            DatabaseQuery databaseQuery = getSharedQuery(query);
+            Assert.assertTrue(databaseQuery.isPrepared());
+            Assert.assertSame(databaseQuery, getSharedQuery(otherQuery));
+
+            int minId = em.createQuery("SELECT MIN(e.id) FROM QueryEmployee e", Integer.class).getSingleResult();
+            query.setParameter("id", minId);
+            otherQuery.setParameter("id", minId + 2);
+            Assert.assertEquals(NO_OF_EMPLOYEES - 1, query.getResultList().size());
+            Assert.assertEquals(NO_OF_EMPLOYEES - 3, otherQuery.getResultList().size());
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Test that a criteria query with unnamed parameters is not shared, as its parameters are unique to it.
+     */
+    @Test
+    public void testUnnamedParameterQueryNotCached() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<QueryEmployee> query = em.createQuery(buildQuery(em.getCriteriaBuilder(), null));
+            TypedQuery<QueryEmployee> otherQuery = em.createQuery(buildQuery(em.getCriteriaBuilder(), null));
+            Assert.assertNotSame(getSharedQuery(query), getSharedQuery(otherQuery));
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Return the database query of the query, without cloning it as getDatabaseQuery() does.
+     */
+    private DatabaseQuery getSharedQuery(TypedQuery<?> query) {
+        return query.unwrap(EJBQueryImpl.class).getDatabaseQueryInternal();
+    }
+
+    private CriteriaQuery<QueryEmployee> buildQuery(CriteriaBuilder builder, String parameterName) {
+        CriteriaQuery<QueryEmployee> criteria = builder.createQuery(QueryEmployee.class);
+        Root<QueryEmployee> root = criteria.from(QueryEmployee.class);
+        ParameterExpression<Integer> parameter = (parameterName == null)
+                ? builder.parameter(Integer.class) : builder.parameter(Integer.class, parameterName);
+        criteria.where(builder.greaterThan(root.<Integer>get("id"), parameter));
+        return criteria;
+    }
+
+    private void populate() {
+        if (POPULATED) {
+            return;
+        }
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int index = 0; index < NO_OF_EMPLOYEES; index++) {
+                em.persist(new QueryEmployee());
+            }
+            em.getTransaction().commit();
+            POPULATED = true;
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+}
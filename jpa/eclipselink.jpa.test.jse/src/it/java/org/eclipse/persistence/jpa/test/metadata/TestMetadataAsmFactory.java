@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.metadata;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.jpa.metadata.MetadataLogger;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataAsmFactory;
+import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataClass;
+import org.eclipse.persistence.jpa.test.jpql.model.JPQLEntity;
+import org.eclipse.persistence.jpa.test.jpql.model.SubClass;
+import org.eclipse.persistence.jpa.test.query.model.QueryEmployee;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the class metadata read by the {@link MetadataAsmFactory}.
+ */
+public class TestMetadataAsmFactory {
+
+    /**
+     * Test that a class read lazily, then read again when its members are needed, keeps its interfaces once.
+     */
+    @Test
+    public void testLazyClassReadAgain() {
+        MetadataAsmFactory factory = new MetadataAsmFactory(new MetadataLogger(null), getClass().getClassLoader());
+        MetadataClass metadataClass = factory.getMetadataClass(Implementor.class.getName(), true);
+        Assert.assertTrue(metadataClass.isLazy());
+        Assert.assertEquals(Arrays.asList(Serializable.class.getName(), Cloneable.class.getName()), metadataClass.getInterfaces());
+
+        MetadataClass readAgain = factory.getMetadataClass(Implementor.class.getName(), false);
+        Assert.assertSame(metadataClass, readAgain);
+        Assert.assertFalse(readAgain.isLazy());
+        Assert.assertEquals(Arrays.asList(Serializable.class.getName(), Cloneable.class.getName()), readAgain.getInterfaces());
+        Assert.assertNotNull(readAgain.getField("name"));
+    }
+
+    /**
+     * Test that the classes read on several threads have the same metadata as the classes read on first use,
+     * and that the lazily read classes are read again when their members are needed.
+     */
+    @Test
+    public void testLoadMetadataClasses() {
+        Map<String, Boolean> classNames = new LinkedHashMap<>();
+        classNames.put(QueryEmployee.class.getName(), false);
+        classNames.put(JPQLEntity.class.getName(), false);
+        classNames.put(SubClass.class.getName(), true);
+        classNames.put(Implementor.class.getName(), true);
+        CountingAsmFactory parallelFactory = new CountingAsmFactory();
+        parallelFactory.loadMetadataClasses(classNames, 4);
+        MetadataAsmFactory factory = new MetadataAsmFactory(new MetadataLogger(null), getClass().getClassLoader());
+
+        Map<String, MetadataClass> loadedClasses = new LinkedHashMap<>();
+        for (Map.Entry<String, Boolean> entry : classNames.entrySet()) {
+            loadedClasses.put(entry.getKey(), parallelFactory.getMetadataClass(entry.getKey(), entry.getValue()));
+        }
+        // No class is read again on first use.
+        Assert.assertEquals(0, parallelFactory.builds);
+        for (Map.Entry<String, Boolean> entry : classNames.entrySet()) {
+            assertSameMetadata(factory.getMetadataClass(entry.getKey(), entry.getValue()), loadedClasses.get(entry.getKey()));
+        }
+        // The lazily read classes are read again, as when they were first read on first use.
+        assertSameMetadata(factory.getMetadataClass(Implementor.class.getName(), false),
+                parallelFactory.getMetadataClass(Implementor.class.getName(), false));
+    }
+
+    private void assertSameMetadata(MetadataClass expected, MetadataClass actual) {
+        Assert.assertEquals(expected.getName(), actual.getName());
+        Assert.assertEquals(expected.isLazy(), actual.isLazy());
+        Assert.assertEquals(expected.getSuperclassName(), actual.getSuperclassName());
+        Assert.assertEquals(expected.getModifiers(), actual.getModifiers());
+        Assert.assertEquals(expected.getInterfaces(), actual.getInterfaces());
+        Assert.assertEquals(expected.getAnnotations().keySet(), actual.getAnnotations().keySet());
+        Assert.assertEquals(expected.getFields().keySet(), actual.getFields().keySet());
+        Assert.assertEquals(expected.getMethods().keySet(), actual.getMethods().keySet());
+    }
+
+    /**
+     * Count the classes read on first use.
+     */
+    private class CountingAsmFactory extends MetadataAsmFactory {
+        private int builds;
+
+        CountingAsmFactory() {
+            super(new MetadataLogger(null), TestMetadataAsmFactory.class.getClassLoader());
+        }
+
+        @Override
+        protected void buildClassMetadata(MetadataClass metadataClass, String className, boolean isLazy) {
+            builds++;
+            super.buildClassMetadata(metadataClass, className, isLazy);
+        }
+    }
+
+    /**
+     * A class with interfaces.
+     */
+    public static class Implementor implements Serializable, Cloneable {
+        private static final long serialVersionUID = 1L;
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+}
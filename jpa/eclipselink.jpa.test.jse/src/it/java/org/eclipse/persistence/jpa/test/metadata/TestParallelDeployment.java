@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.metadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.jpa.test.jpql.model.JPQLEmbeddedValue;
+import org.eclipse.persistence.jpa.test.jpql.model.JPQLEntity;
+import org.eclipse.persistence.jpa.test.jpql.model.OtherSubClass;
+import org.eclipse.persistence.jpa.test.jpql.model.SubClass;
+import org.eclipse.persistence.jpa.test.jpql.model.SuperClass;
+import org.eclipse.persistence.jpa.test.query.model.QueryEmployee;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.Project;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the persistence unit classes read in parallel, with the
+ * {@link PersistenceUnitProperties#DEPLOY_PARALLELISM} property, are deployed to the same project
+ * as when they are read sequentially.
+ */
+public class TestParallelDeployment {
+
+    private static final String PU_NAME = "parallelDeploymentPU";
+
+    private static final Class<?>[] UNLISTED_CLASSES = { JPQLEntity.class, JPQLEmbeddedValue.class,
+            SuperClass.class, SubClass.class, OtherSubClass.class };
+
+    private Path root;
+
+    @Before
+    public void setup() throws IOException {
+        root = Files.createTempDirectory("paralleldeployment");
+        Files.createDirectories(root.resolve("META-INF"));
+        // The listed class is read eagerly, the classes in the root are read lazily as unlisted classes.
+        Files.write(root.resolve("META-INF/persistence.xml"), ("<persistence xmlns=\"https://jakarta.ee/xml/ns/persistence\" version=\"3.0\">"
+                + "<persistence-unit name=\"" + PU_NAME + "\">"
+                + "<class>" + QueryEmployee.class.getName() + "</class>"
+                + "<exclude-unlisted-classes>false</exclude-unlisted-classes>"
+                + "</persistence-unit></persistence>").getBytes(StandardCharsets.UTF_8));
+        for (Class<?> unlistedClass : UNLISTED_CLASSES) {
+            String resource = unlistedClass.getName().replace('.', '/') + ".class";
+            Path classFile = root.resolve(resource);
+            Files.createDirectories(classFile.getParent());
+            try (InputStream stream = getClass().getClassLoader().getResourceAsStream(resource)) {
+                Files.copy(stream, classFile);
+            }
+        }
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Test that the project deployed with the classes read on several threads is the same as the project
+     * deployed with the classes read sequentially, and that it is the same when deployed again.
+     */
+    @Test
+    public void testParallelDeploymentSameProject() throws Exception {
+        List<String> sequentialProject = deploy(1);
+        Assert.assertTrue(sequentialProject.contains(QueryEmployee.class.getName()));
+        for (Class<?> unlistedClass : UNLISTED_CLASSES) {
+            if (unlistedClass != JPQLEmbeddedValue.class) {
+                Assert.assertTrue(unlistedClass.getName(), sequentialProject.contains(unlistedClass.getName()));
+            }
+        }
+        Assert.assertEquals(sequentialProject, deploy(4));
+        Assert.assertEquals(sequentialProject, deploy(4));
+    }
+
+    /**
+     * Deploy the persistence unit without database connection, with the number of threads reading
+     * its classes, and return the description of its project.
+     */
+    private List<String> deploy(int parallelism) throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.DEPLOY_PARALLELISM, String.valueOf(parallelism));
+        properties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        properties.put(PersistenceUnitProperties.WEAVING, "false");
+        properties.put(PersistenceUnitProperties.LOGGING_LEVEL, "WARNING");
+        properties.put(PersistenceUnitProperties.CLASSLOADER, new URLClassLoader(new URL[] {root.toUri().toURL()}, getClass().getClassLoader()));
+        EntityManagerFactory factory = new PersistenceProvider().createEntityManagerFactory(PU_NAME, properties);
+        Assert.assertNotNull(factory);
+        try {
+            return describe(JpaHelper.getServerSession(factory).getProject());
+        } finally {
+            factory.close();
+        }
+    }
+
+    /**
+     * Return the descriptors of the project with their tables, primary keys, inheritance and mappings,
+     * in the order of the class names.
+     */
+    private List<String> describe(Project project) {
+        List<String> description = new ArrayList<>();
+        List<ClassDescriptor> descriptors = new ArrayList<>(project.getOrderedDescriptors());
+        descriptors.sort((descriptor, other) -> descriptor.getJavaClassName().compareTo(other.getJavaClassName()));
+        for (ClassDescriptor descriptor : descriptors) {
+            description.add(descriptor.getJavaClassName());
+            description.add("alias " + descriptor.getAlias());
+            description.add("tables " + descriptor.getTableNames());
+            description.add("primary key " + descriptor.getPrimaryKeyFieldNames());
+            if (descriptor.hasInheritance()) {
+                description.add("inheritance " + descriptor.getInheritancePolicy().getClassIndicatorFieldName()
+                        + " " + descriptor.getInheritancePolicy().getParentClassName());
+            }
+            List<DatabaseMapping> mappings = new ArrayList<>(descriptor.getMappings());
+            mappings.sort((mapping, other) -> mapping.getAttributeName().compareTo(other.getAttributeName()));
+            for (DatabaseMapping mapping : mappings) {
+                ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                List<String> fields = new ArrayList<>();
+                if (mapping.getFields() != null) {
+                    for (DatabaseField field : mapping.getFields()) {
+                        fields.add(field.getQualifiedName());
+                    }
+                }
+                description.add(mapping.getAttributeName() + " " + mapping.getClass().getSimpleName()
+                        + " " + ((referenceDescriptor == null) ? null : referenceDescriptor.getJavaClassName()) + " " + fields);
+            }
+        }
+        return description;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.metadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor;
+import org.eclipse.persistence.internal.jpa.deployment.SEPersistenceUnitInfo;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.jpa.metadata.FileBasedProjectCache;
+import org.eclipse.persistence.jpa.test.query.model.QueryEmployee;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.tools.metadata.jpa.ProjectCacheGenerator;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the validation of the cached project with the checksum of the persistence unit's metadata sources,
+ * and the project cached at build time by the {@link ProjectCacheGenerator}.
+ */
+public class TestProjectCacheChecksum {
+
+    private static final String MISMATCH = "project_cache_checksum_mismatch";
+
+    private Path directory;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("projectcache");
+        MismatchLog.ENTRIES.clear();
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Test that the checksum only changes when a class or xml file of the persistence unit changes.
+     */
+    @Test
+    public void testBuildChecksum() throws IOException {
+        Path root = Files.createDirectories(directory.resolve("root"));
+        Files.write(root.resolve("Entity.class"), new byte[] {1, 2, 3});
+        Files.write(root.resolve("readme.txt"), "readme".getBytes(StandardCharsets.UTF_8));
+        SEPersistenceUnitInfo info = new SEPersistenceUnitInfo();
+        info.setPersistenceUnitName("checksum");
+        info.setPersistenceUnitRootUrl(root.toUri().toURL());
+        info.setExcludeUnlistedClasses(false);
+        info.setClassLoader(getClass().getClassLoader());
+        Map<String, Object> properties = new HashMap<>();
+
+        String checksum = PersistenceUnitProcessor.buildChecksum(info, properties);
+        Assert.assertEquals(checksum, PersistenceUnitProcessor.buildChecksum(info, properties));
+
+        // Other files are not metadata sources.
+        Files.write(root.resolve("readme.txt"), "changed".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(checksum, PersistenceUnitProcessor.buildChecksum(info, properties));
+
+        Files.write(root.resolve("Entity.class"), new byte[] {1, 2, 4});
+        String changedChecksum = PersistenceUnitProcessor.buildChecksum(info, properties);
+        Assert.assertNotEquals(checksum, changedChecksum);
+
+        Files.write(root.resolve("orm.xml"), "<entity-mappings/>".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNotEquals(changedChecksum, PersistenceUnitProcessor.buildChecksum(info, properties));
+
+        // The listed classes are sources, whether they are in the root or not.
+        String rootChecksum = PersistenceUnitProcessor.buildChecksum(info, properties);
+        info.getManagedClassNames().add(QueryEmployee.class.getName());
+        Assert.assertNotEquals(rootChecksum, PersistenceUnitProcessor.buildChecksum(info, properties));
+    }
+
+    /**
+     * Test that a project stored with a checksum is only retrieved with the same checksum,
+     * or without validation.
+     */
+    @Test
+    public void testFileBasedProjectCacheChecksum() {
+        FileBasedProjectCache cache = new FileBasedProjectCache();
+        Map<String, Object> properties = buildProperties(directory.resolve("project.cache"));
+        SessionLog log = new MismatchLog();
+        Project project = new Project();
+        project.setName("cached");
+        cache.storeProject(project, properties, log, "checksum");
+
+        Assert.assertEquals("cached", cache.retrieveProject(properties, getClass().getClassLoader(), log, "checksum").getName());
+        Assert.assertEquals("cached", cache.retrieveProject(properties, getClass().getClassLoader(), log).getName());
+        Assert.assertTrue(MismatchLog.ENTRIES.isEmpty());
+
+        Assert.assertNull(cache.retrieveProject(properties, getClass().getClassLoader(), log, "other"));
+        Assert.assertEquals(1, MismatchLog.ENTRIES.size());
+        Assert.assertEquals(SessionLog.WARNING, MismatchLog.ENTRIES.get(0).getLevel());
+    }
+
+    /**
+     * Test that a project stored without checksum, as by previous versions, is still retrieved without validation,
+     * but not with a checksum, as its metadata sources are unknown.
+     */
+    @Test
+    public void testFileBasedProjectCacheWithoutChecksum() {
+        FileBasedProjectCache cache = new FileBasedProjectCache();
+        Map<String, Object> properties = buildProperties(directory.resolve("project.cache"));
+        SessionLog log = new MismatchLog();
+        Project project = new Project();
+        project.setName("cached");
+        cache.storeProject(project, properties, log);
+
+        Assert.assertEquals("cached", cache.retrieveProject(properties, getClass().getClassLoader(), log).getName());
+        Assert.assertTrue(MismatchLog.ENTRIES.isEmpty());
+        Assert.assertNull(cache.retrieveProject(properties, getClass().getClassLoader(), log, "checksum"));
+        Assert.assertEquals(1, MismatchLog.ENTRIES.size());
+    }
+
+    /**
+     * Test that the project cached by the generator is used by the persistence unit,
+     * until one of its metadata sources changes.
+     */
+    @Test
+    public void testProjectCacheGenerator() throws Exception {
+        Path root = Files.createDirectories(directory.resolve("root"));
+        Files.createDirectories(root.resolve("META-INF"));
+        Files.write(root.resolve("META-INF/persistence.xml"), ("<persistence xmlns=\"https://jakarta.ee/xml/ns/persistence\" version=\"3.0\">"
+                + "<persistence-unit name=\"projectCacheGeneratorPU\">"
+                + "<class>" + QueryEmployee.class.getName() + "</class>"
+                + "</persistence-unit></persistence>").getBytes(StandardCharsets.UTF_8));
+        Path file = directory.resolve("project.cache");
+        ProjectCacheGenerator.main(new String[] {"-classpath", root.toString(), "projectCacheGeneratorPU", file.toString()});
+        Assert.assertTrue(Files.exists(file));
+
+        // The unchanged persistence unit uses the cached project, it is not cached again.
+        byte[] cachedProject = Files.readAllBytes(file);
+        deploy(root, file);
+        Assert.assertTrue(MismatchLog.ENTRIES.isEmpty());
+        Assert.assertArrayEquals(cachedProject, Files.readAllBytes(file));
+
+        // The changed persistence unit ignores the cached project, and caches its project.
+        Files.write(root.resolve("META-INF/orm.xml"), "<entity-mappings xmlns=\"https://jakarta.ee/xml/ns/persistence/orm\" version=\"3.0\"/>".getBytes(StandardCharsets.UTF_8));
+        deploy(root, file);
+        Assert.assertEquals(1, MismatchLog.ENTRIES.size());
+        MismatchLog.ENTRIES.clear();
+        deploy(root, file);
+        Assert.assertTrue(MismatchLog.ENTRIES.isEmpty());
+    }
+
+    private void deploy(Path root, Path file) throws Exception {
+        Map<String, Object> properties = buildProperties(file);
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_CHECKSUM, "true");
+        properties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        properties.put(PersistenceUnitProperties.LOGGING_LOGGER, MismatchLog.class.getName());
+        properties.put(PersistenceUnitProperties.CLASSLOADER, new java.net.URLClassLoader(new java.net.URL[] {root.toUri().toURL()}, getClass().getClassLoader()));
+        EntityManagerFactory factory = new PersistenceProvider().createEntityManagerFactory("projectCacheGeneratorPU", properties);
+        Assert.assertNotNull(factory);
+        factory.close();
+    }
+
+    private Map<String, Object> buildProperties(Path file) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE, "java-serialization");
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_FILE, file.toString());
+        return properties;
+    }
+
+    /**
+     * Record the checksum mismatches logged.
+     */
+    public static class MismatchLog extends DefaultSessionLog {
+        static final List<SessionLogEntry> ENTRIES = new CopyOnWriteArrayList<>();
+
+        public MismatchLog() {
+            super();
+        }
+
+        @Override
+        public synchronized void log(SessionLogEntry entry) {
+            if (MISMATCH.equals(entry.getMessage())) {
+                ENTRIES.add(entry);
+            }
+            super.log(entry);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.query;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.helper.ConcurrentFrequencyCache;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.jpa.test.framework.DDLGen;
+import org.eclipse.persistence.jpa.test.framework.Emf;
+import org.eclipse.persistence.jpa.test.framework.EmfRunner;
+import org.eclipse.persistence.jpa.test.framework.PUPropertiesProvider;
+import org.eclipse.persistence.jpa.test.query.model.QueryEmployee;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test the preparse of the JPQL parse cache snapshot when the persistence unit is deployed.
+ */
+@RunWith(EmfRunner.class)
+public class TestJPQLParseCacheSnapshot implements PUPropertiesProvider {
+
+    private static final String JPQL = "SELECT e FROM QueryEmployee e";
+
+    @Emf(name = "parseCacheSnapshotEMF", classes = { QueryEmployee.class }, createTables = DDLGen.DROP_CREATE)
+    private EntityManagerFactory emf;
+
+    @Override
+    public Map<String, Object> getAdditionalPersistenceProperties(String puName) {
+        Map<String, Object> properties = new HashMap<>();
+        try {
+            Path snapshot = Files.createTempFile("jpql", ".snapshot");
+            snapshot.toFile().deleteOnExit();
+            ConcurrentFrequencyCache cache = new ConcurrentFrequencyCache();
+            cache.put(JPQL, JPQL);
+            cache.writeSnapshot(snapshot);
+            properties.put(PersistenceUnitProperties.JPQL_PARSE_CACHE_SNAPSHOT, snapshot.toString());
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        return properties;
+    }
+
+    /**
+     * Test that the JPQL strings of the snapshot are parsed without being counted as misses,
+     * and that their first query hits the parse cache.
+     */
+    @Test
+    public void testPreparseNotCounted() throws Exception {
+        EntityManager em = emf.createEntityManager();
+        try {
+            ConcurrentFrequencyCache cache = (ConcurrentFrequencyCache) JpaHelper.getServerSession(emf).getProject().getJPQLParseCache();
+            for (int index = 0; index < 1000 && !cache.getCache().containsKey(JPQL); index++) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(cache.getCache().containsKey(JPQL));
+            Assert.assertEquals(0, cache.getHits());
+            Assert.assertEquals(0, cache.getMisses());
+
+            em.createQuery(JPQL).getResultList();
+            Assert.assertEquals(1, cache.getHits());
+            Assert.assertEquals(0, cache.getMisses());
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+}
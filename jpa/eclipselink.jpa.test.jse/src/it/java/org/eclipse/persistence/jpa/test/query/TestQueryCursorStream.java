@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.jpa.JpaQuery;
+import org.eclipse.persistence.jpa.test.framework.DDLGen;
+import org.eclipse.persistence.jpa.test.framework.Emf;
+import org.eclipse.persistence.jpa.test.framework.EmfRunner;
+import org.eclipse.persistence.jpa.test.query.model.QueryEmployee;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.queries.ScrollableCursorPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test the QueryHints.CURSOR_STREAM hint with Query.getResultStream().
+ */
+@RunWith(EmfRunner.class)
+public class TestQueryCursorStream {
+
+    private static final int NO_OF_EMPLOYEES = 10;
+
+    @Emf(name = "cursorStreamEMF", classes = { QueryEmployee.class }, createTables = DDLGen.DROP_CREATE)
+    private EntityManagerFactory emf;
+
+    private static boolean POPULATED = false;
+
+    /**
+     * Test that the stream of a query with the hint reads all the objects through a forward only cursor.
+     */
+    @Test
+    public void testCursorStream() {
+        populate();
+        EntityManager em = emf.createEntityManager();
+        try {
+            Query query = em.createQuery("SELECT e FROM QueryEmployee e ORDER BY e.id");
+            query.setHint(QueryHints.CURSOR_STREAM, HintValues.TRUE);
+            ScrollableCursorPolicy policy = getCursorPolicy(query);
+            Assert.assertEquals(ScrollableCursorPolicy.TYPE_FORWARD_ONLY, policy.getResultSetType());
+            Assert.assertEquals(ScrollableCursorPolicy.CONCUR_READ_ONLY, policy.getResultSetConcurrency());
+            List<Integer> ids;
+            try (Stream<QueryEmployee> stream = query.getResultStream()) {
+                ids = stream.map(QueryEmployee::getId).collect(Collectors.toList());
+            }
+            Assert.assertEquals(NO_OF_EMPLOYEES, ids.size());
+            for (int index = 1; index < ids.size(); index++) {
+                Assert.assertTrue(ids.get(index - 1) < ids.get(index));
+            }
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Test that a partially consumed stream can be closed, and the entity manager used again.
+     */
+    @Test
+    public void testCursorStreamClosed() {
+        populate();
+        EntityManager em = emf.createEntityManager();
+        try {
+            Query query = em.createQuery("SELECT e FROM QueryEmployee e");
+            query.setHint(QueryHints.CURSOR_STREAM, HintValues.TRUE);
+            try (Stream<QueryEmployee> stream = query.getResultStream()) {
+                Assert.assertEquals(3, stream.limit(3).count());
+            }
+            Assert.assertEquals(NO_OF_EMPLOYEES, em.createQuery("SELECT e FROM QueryEmployee e").getResultList().size());
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Test that the false hint does not remove the scrollable cursor set by the SCROLLABLE_CURSOR hint.
+     */
+    @Test
+    public void testCursorStreamFalse() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            Query query = em.createQuery("SELECT e FROM QueryEmployee e");
+            query.setHint(QueryHints.SCROLLABLE_CURSOR, HintValues.TRUE);
+            query.setHint(QueryHints.CURSOR_STREAM, HintValues.FALSE);
+            Assert.assertNotNull(getCursorPolicy(query));
+        } finally {
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+
+    private ScrollableCursorPolicy getCursorPolicy(Query query) {
+        ReadAllQuery readAllQuery = (ReadAllQuery) query.unwrap(JpaQuery.class).getDatabaseQuery();
+        Assert.assertTrue(readAllQuery.getContainerPolicy().isScrollableCursorPolicy());
+        return (ScrollableCursorPolicy) readAllQuery.getContainerPolicy();
+    }
+
+    private void populate() {
+        if (POPULATED) {
+            return;
+        }
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int index = 0; index < NO_OF_EMPLOYEES; index++) {
+                em.persist(new QueryEmployee());
+            }
+            em.getTransaction().commit();
+            POPULATED = true;
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            if (em.isOpen()) {
+                em.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.weave;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.internal.jpa.weaving.ClassDetails;
+import org.eclipse.persistence.internal.jpa.weaving.StaticWeaveManifest;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test the weave hashes of the {@link StaticWeaveManifest}.
+ */
+public class TestStaticWeaveManifest {
+
+    private static final String SUPER_ENTRY = "model/Super.class";
+    private static final String SUB_ENTRY = "model/Sub.class";
+    private static final String OTHER_ENTRY = "model/Other.class";
+
+    /**
+     * Test that a super class is woven again when its subclass changes if it is a mapped superclass,
+     * as its class details are built from its subclass, and that the subclass is woven again when its super class changes.
+     */
+    @Test
+    public void testMappedSuperclassDependsOnSubclass() {
+        StaticWeaveManifest manifest = buildManifest("sub", true);
+        StaticWeaveManifest changedSubclass = buildManifest("changed", true);
+        Assert.assertFalse(changedSubclass.isUnchanged(SUPER_ENTRY, manifest));
+        Assert.assertFalse(changedSubclass.isUnchanged(SUB_ENTRY, manifest));
+        Assert.assertTrue(changedSubclass.isUnchanged(OTHER_ENTRY, manifest));
+        Assert.assertTrue(buildManifest("sub", true).isUnchanged(SUPER_ENTRY, manifest));
+
+        StaticWeaveManifest entityManifest = buildManifest("sub", false);
+        Assert.assertTrue(buildManifest("changed", false).isUnchanged(SUPER_ENTRY, entityManifest));
+
+        StaticWeaveManifest changedSuperclass = buildManifest("sub", false);
+        changedSuperclass.addEntry(SUPER_ENTRY, "changed".getBytes(StandardCharsets.UTF_8));
+        Assert.assertFalse(changedSuperclass.isUnchanged(SUB_ENTRY, entityManifest));
+    }
+
+    /**
+     * Test that a class is woven again when the change tracking of its super class changes.
+     */
+    @Test
+    public void testChangeTrackingWeaveInput() {
+        StaticWeaveManifest manifest = buildManifest("sub", false);
+        StaticWeaveManifest changedManifest = new StaticWeaveManifest("checksum");
+        addEntries(changedManifest, "sub");
+        Map<String, ClassDetails> classDetailsMap = buildClassDetails(false);
+        classDetailsMap.get("model/Super").setShouldWeaveChangeTracking(false);
+        changedManifest.buildDependencies(classDetailsMap);
+        Assert.assertFalse(changedManifest.isUnchanged(SUPER_ENTRY, manifest));
+        Assert.assertFalse(changedManifest.isUnchanged(SUB_ENTRY, manifest));
+        Assert.assertTrue(changedManifest.isUnchanged(OTHER_ENTRY, manifest));
+    }
+
+    /**
+     * Test that the weave hashes written are read back.
+     */
+    @Test
+    public void testWriteRead() throws IOException {
+        StaticWeaveManifest manifest = buildManifest("sub", true);
+        File file = File.createTempFile("weave", ".manifest");
+        try {
+            manifest.write(file);
+            StaticWeaveManifest readManifest = StaticWeaveManifest.read(file);
+            Assert.assertTrue(manifest.isUpToDate(readManifest));
+            for (String entryName : new String[] {SUPER_ENTRY, SUB_ENTRY, OTHER_ENTRY}) {
+                Assert.assertEquals(manifest.getWeaveHash(entryName), readManifest.getWeaveHash(entryName));
+                Assert.assertTrue(buildManifest("sub", true).isUnchanged(entryName, readManifest));
+            }
+            Assert.assertNull(readManifest.getWeaveHash("META-INF/persistence.xml"));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    private StaticWeaveManifest buildManifest(String subclassContent, boolean isMappedSuperclass) {
+        StaticWeaveManifest manifest = new StaticWeaveManifest("checksum");
+        addEntries(manifest, subclassContent);
+        manifest.buildDependencies(buildClassDetails(isMappedSuperclass));
+        return manifest;
+    }
+
+    private void addEntries(StaticWeaveManifest manifest, String subclassContent) {
+        manifest.addEntry(SUPER_ENTRY, "super".getBytes(StandardCharsets.UTF_8));
+        manifest.addEntry(SUB_ENTRY, subclassContent.getBytes(StandardCharsets.UTF_8));
+        manifest.addEntry(OTHER_ENTRY, "other".getBytes(StandardCharsets.UTF_8));
+        manifest.addEntry("META-INF/persistence.xml", "persistence".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, ClassDetails> buildClassDetails(boolean isMappedSuperclass) {
+        ClassDetails superDetails = buildClassDetails("model/Super", "java/lang/Object");
+        superDetails.setIsMappedSuperClass(isMappedSuperclass);
+        ClassDetails subDetails = buildClassDetails("model/Sub", "model/Super");
+        subDetails.setSuperClassDetails(superDetails);
+        Map<String, ClassDetails> classDetailsMap = new HashMap<>();
+        classDetailsMap.put(superDetails.getClassName(), superDetails);
+        classDetailsMap.put(subDetails.getClassName(), subDetails);
+        classDetailsMap.put("model/Other", buildClassDetails("model/Other", "java/lang/Object"));
+        return classDetailsMap;
+    }
+
+    private ClassDetails buildClassDetails(String className, String superClassName) {
+        ClassDetails classDetails = new ClassDetails();
+        classDetails.setClassName(className);
+        classDetails.setSuperClassName(superClassName);
+        classDetails.setShouldWeaveChangeTracking(true);
+        classDetails.setAttributesMap(new HashMap<>());
+        return classDetails;
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.weave;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.eclipse.persistence.internal.libraries.asm.ClassReader;
+import org.eclipse.persistence.tools.weaving.jpa.StaticWeaveProcessor;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test the parallel and incremental weaving of the {@link StaticWeaveProcessor}.
+ * The classes are compiled by the test, as the classes of the test classpath are already woven.
+ */
+public class TestStaticWeaveProcessor {
+
+    private static final String PACKAGE = "org.eclipse.persistence.jpa.test.weave.incremental";
+
+    private static final String CHANGE_TRACKER = "org/eclipse/persistence/descriptors/changetracking/ChangeTracker";
+
+    private Path directory;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("staticweave");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    /**
+     * Test that the classes woven on several threads are the same as the classes woven sequentially.
+     */
+    @Test
+    public void testParallelWeaving() throws Exception {
+        Path source = buildSource("source");
+        Path sequentialTarget = directory.resolve("sequential");
+        weave(source, sequentialTarget, 1, null);
+        Map<String, byte[]> sequentialEntries = readEntries(sequentialTarget);
+        Assert.assertTrue(sequentialEntries.containsKey(buildEntryName("Item")));
+
+        for (int index = 0; index < 5; index++) {
+            Path parallelTarget = directory.resolve("parallel" + index);
+            weave(source, parallelTarget, 4, null);
+            assertSameEntries(sequentialEntries, readEntries(parallelTarget));
+        }
+
+        // The super class implements ChangeTracker, so the change tracking of its subclass is woven in the subclass,
+        // as when the super class is woven first when the classes are loaded.
+        Assert.assertTrue(readInterfaces(sequentialEntries.get(buildEntryName("TrackedChild"))).contains(CHANGE_TRACKER));
+
+        Path sequentialJar = directory.resolve("sequential.jar");
+        Path parallelJar = directory.resolve("parallel.jar");
+        weave(source, sequentialJar, 1, null);
+        weave(source, parallelJar, 4, null);
+        Assert.assertEquals(readJarEntryNames(sequentialJar), readJarEntryNames(parallelJar));
+        assertSameEntries(readJarEntries(sequentialJar), readJarEntries(parallelJar));
+    }
+
+    /**
+     * Test that the manifest records each source entry, and that nothing is written when the source is unchanged.
+     */
+    @Test
+    public void testManifest() throws Exception {
+        Path source = buildSource("source");
+        Path target = directory.resolve("target");
+        File manifest = directory.resolve("weave.manifest").toFile();
+        weave(source, target, 2, manifest);
+
+        List<String> lines = Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8);
+        List<String> entryNames = lines.subList(1, lines.size()).stream()
+                .map(line -> line.split(" ", 3)[2]).collect(Collectors.toList());
+        Assert.assertEquals(new ArrayList<>(readEntries(source).keySet()), entryNames);
+        for (String line : lines.subList(1, lines.size())) {
+            String[] values = line.split(" ", 3);
+            // Only the class entries have a weave hash.
+            Assert.assertEquals(line, values[2].endsWith(".class"), !"-".equals(values[1]));
+        }
+
+        Path itemFile = target.resolve(buildEntryName("Item"));
+        long lastModified = Files.getLastModifiedTime(itemFile).toMillis();
+        Files.delete(target.resolve(buildEntryName("Owner")));
+        Thread.sleep(10);
+        weave(source, target, 2, manifest);
+        Assert.assertEquals(lines, Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8));
+        Assert.assertEquals(lastModified, Files.getLastModifiedTime(itemFile).toMillis());
+        // The up to date target is not written at all.
+        Assert.assertFalse(Files.exists(target.resolve(buildEntryName("Owner"))));
+    }
+
+    /**
+     * Test that a class changed since the previous weaving, and the classes depending on it,
+     * are woven as when all the classes are woven again, for directory and jar targets.
+     */
+    @Test
+    public void testIncrementalWeaving() throws Exception {
+        // A super class that is not an entity is woven from the class details built from its entity subclass.
+        assertIncrementalWeaving("NamedItem", NAMED_ITEM_PROPERTY_ACCESS);
+        // A subclass reads the change tracking of its super class, which implements ChangeTracker.
+        assertIncrementalWeaving("TrackedChild", TRACKED_CHILD.replace("private String detail;", "private String detail;\n    private int level;"));
+        assertIncrementalWeaving("Tracked", TRACKED.replace("private String name;", "private String name;\n    private int version;"));
+        // An attribute reference class.
+        assertIncrementalWeaving("Owner", OWNER.replace("private String name;", "private String name;\n    private int rank;"));
+    }
+
+    private void assertIncrementalWeaving(String className, String changedSource) throws Exception {
+        for (String target : Arrays.asList("incremental" + className, "incremental" + className + ".jar")) {
+            Path source = buildSource("source" + target);
+            Path incrementalTarget = directory.resolve(target);
+            File manifest = directory.resolve(target + ".manifest").toFile();
+            weave(source, incrementalTarget, 2, manifest);
+
+            writeSource(source, className, changedSource);
+            compile(source);
+            weave(source, incrementalTarget, 2, manifest);
+
+            Path fullTarget = directory.resolve("full" + target);
+            weave(source, fullTarget, 1, null);
+            if (target.endsWith(".jar")) {
+                Assert.assertEquals(readJarEntryNames(fullTarget), readJarEntryNames(incrementalTarget));
+                assertSameEntries(readJarEntries(fullTarget), readJarEntries(incrementalTarget));
+            } else {
+                assertSameEntries(readEntries(fullTarget), readEntries(incrementalTarget));
+            }
+        }
+    }
+
+    /**
+     * Test that the entries removed from the source are removed from a directory target.
+     */
+    @Test
+    public void testIncrementalWeavingRemovedEntry() throws Exception {
+        Path source = buildSource("source");
+        Path target = directory.resolve("target");
+        File manifest = directory.resolve("weave.manifest").toFile();
+        weave(source, target, 2, manifest);
+        Assert.assertTrue(Files.exists(target.resolve(buildEntryName("Unrelated"))));
+
+        Files.delete(source.resolve(buildEntryName("Unrelated")));
+        weave(source, target, 2, manifest);
+        Assert.assertFalse(Files.exists(target.resolve(buildEntryName("Unrelated"))));
+        Assert.assertEquals(readEntries(source).keySet(), readEntries(target).keySet());
+    }
+
+    private void weave(Path source, Path target, int parallelism, File manifest) throws Exception {
+        StaticWeaveProcessor processor = new StaticWeaveProcessor(source.toFile(), target.toFile());
+        processor.setClassLoader(getClass().getClassLoader());
+        processor.setParallelism(parallelism);
+        processor.setManifest(manifest);
+        processor.performWeaving();
+    }
+
+    /**
+     * Compile the classes of the persistence unit to the source directory.
+     */
+    private Path buildSource(String name) throws IOException {
+        Path source = Files.createDirectories(directory.resolve(name));
+        Files.createDirectories(source.resolve("META-INF"));
+        Files.write(source.resolve("META-INF/persistence.xml"), ("<persistence xmlns=\"https://jakarta.ee/xml/ns/persistence\" version=\"3.0\">"
+                + "<persistence-unit name=\"staticWeavePU\">"
+                + "<exclude-unlisted-classes>false</exclude-unlisted-classes>"
+                + "</persistence-unit></persistence>").getBytes(StandardCharsets.UTF_8));
+        writeSource(source, "Base", BASE);
+        writeSource(source, "Item", ITEM);
+        writeSource(source, "Owner", OWNER);
+        writeSource(source, "Tracked", TRACKED);
+        writeSource(source, "TrackedChild", TRACKED_CHILD);
+        writeSource(source, "Named", NAMED);
+        writeSource(source, "NamedItem", NAMED_ITEM);
+        writeSource(source, "Unrelated", UNRELATED);
+        compile(source);
+        return source;
+    }
+
+    private void writeSource(Path source, String className, String classSource) throws IOException {
+        Path sources = Files.createDirectories(directory.resolve(source.getFileName() + "-sources"));
+        Files.write(sources.resolve(className + ".java"), ("package " + PACKAGE + ";\n" + classSource).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compile the sources of the source directory to it, javac compiles the unchanged sources to the same classes.
+     */
+    private void compile(Path source) throws IOException {
+        List<String> arguments = new ArrayList<>(Arrays.asList("-nowarn", "-proc:none", "-d", source.toString(),
+                "-cp", System.getProperty("java.class.path")));
+        try (Stream<Path> paths = Files.list(directory.resolve(source.getFileName() + "-sources"))) {
+            paths.sorted().forEach(path -> arguments.add(path.toString()));
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assert.assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[0])));
+    }
+
+    private String buildEntryName(String className) {
+        return PACKAGE.replace('.', '/') + "/" + className + ".class";
+    }
+
+    private Map<String, byte[]> readEntries(Path root) throws IOException {
+        Map<String, byte[]> entries = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                entries.put(root.relativize(path).toString().replace(File.separatorChar, '/'), Files.readAllBytes(path));
+            }
+        }
+        return entries;
+    }
+
+    private List<String> readInterfaces(byte[] classBytes) {
+        return Arrays.asList(new ClassReader(classBytes).getInterfaces());
+    }
+
+    private List<String> readJarEntryNames(Path jar) throws IOException {
+        List<String> entryNames = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
+                entryNames.add(entries.nextElement().getName());
+            }
+        }
+        return entryNames;
+    }
+
+    private Map<String, byte[]> readJarEntries(Path jar) throws IOException {
+        Map<String, byte[]> entries = new TreeMap<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            for (Enumeration<JarEntry> jarEntries = jarFile.entries(); jarEntries.hasMoreElements();) {
+                JarEntry entry = jarEntries.nextElement();
+                if (!entry.isDirectory()) {
+                    entries.put(entry.getName(), jarFile.getInputStream(entry).readAllBytes());
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void assertSameEntries(Map<String, byte[]> expected, Map<String, byte[]> actual) {
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<String, byte[]> entry : expected.entrySet()) {
+            Assert.assertArrayEquals(entry.getKey(), entry.getValue(), actual.get(entry.getKey()));
+        }
+    }
+
+    private static final String BASE = "import jakarta.persistence.*;\n"
+            + "@MappedSuperclass\n"
+            + "public abstract class Base {\n"
+            + "    @Id private long id;\n"
+            + "    @ManyToOne(fetch = FetchType.LAZY) private Owner owner;\n"
+            + "    public long getId() { return id; }\n"
+            + "    public Owner getOwner() { return owner; }\n"
+            + "}\n";
+
+    private static final String ITEM = "import jakarta.persistence.*;\n"
+            + "@Entity\n"
+            + "public class Item extends Base {\n"
+            + "    private String description;\n"
+            + "    public String getDescription() { return description; }\n"
+            + "}\n";
+
+    private static final String OWNER = "import jakarta.persistence.*;\n"
+            + "@Entity\n"
+            + "public class Owner {\n"
+            + "    @Id private long id;\n"
+            + "    private String name;\n"
+            + "    @OneToMany(mappedBy = \"owner\") private java.util.List<Item> items;\n"
+            + "    public String getName() { return name; }\n"
+            + "}\n";
+
+    private static final String TRACKED = "import jakarta.persistence.*;\n"
+            + "import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;\n"
+            + "@Entity\n"
+            + "public class Tracked implements ChangeTracker {\n"
+            + "    @Id private long id;\n"
+            + "    private String name;\n"
+            + "    @Transient private java.beans.PropertyChangeListener listener;\n"
+            + "    public java.beans.PropertyChangeListener _persistence_getPropertyChangeListener() { return listener; }\n"
+            + "    public void _persistence_setPropertyChangeListener(java.beans.PropertyChangeListener listener) { this.listener = listener; }\n"
+            + "}\n";
+
+    private static final String TRACKED_CHILD = "import jakarta.persistence.*;\n"
+            + "@Entity\n"
+            + "public class TrackedChild extends Tracked {\n"
+            + "    private String detail;\n"
+            + "    public String getDetail() { return detail; }\n"
+            + "}\n";
+
+    private static final String NAMED = "public abstract class Named {\n"
+            + "    private String label;\n"
+            + "    public String getLabel() { return label; }\n"
+            + "}\n";
+
+    private static final String NAMED_ITEM = "import jakarta.persistence.*;\n"
+            + "@Entity\n"
+            + "public class NamedItem extends Named {\n"
+            + "    @Id private long id;\n"
+            + "}\n";
+
+    private static final String NAMED_ITEM_PROPERTY_ACCESS = "import jakarta.persistence.*;\n"
+            + "@Entity\n"
+            + "@Access(AccessType.PROPERTY)\n"
+            + "public class NamedItem extends Named {\n"
+            + "    private long id;\n"
+            + "    @Id public long getId() { return id; }\n"
+            + "    public void setId(long id) { this.id = id; }\n"
+            + "}\n";
+
+    private static final String UNRELATED = "public class Unrelated {\n"
+            + "}\n";
+}
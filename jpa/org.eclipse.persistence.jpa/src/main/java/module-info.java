@@ -31,6 +31,7 @@
     exports org.eclipse.persistence.jpa.config;
     exports org.eclipse.persistence.jpa.dynamic;
     exports org.eclipse.persistence.jpa.metadata;
+    exports org.eclipse.persistence.tools.metadata.jpa;
     exports org.eclipse.persistence.tools.weaving.jpa;
 
     //exported through JPA PUBLIC API
@@ -137,62 +137,72 @@ public static DatabaseQuery buildEJBQLDatabaseQuery(String queryName, String jpq
             databaseQuery = (DatabaseQuery) session.getProject().getJPQLParseCache().get(jpqlQuery);
         }
         if ((databaseQuery == null) || (!databaseQuery.isPrepared())) {
-            JPAQueryBuilder queryBuilder = session.getQueryBuilder();
-            databaseQuery = queryBuilder.buildQuery(jpqlQuery, session);
-
-            // If the query uses fetch joins, need to use JPA default of not
-            // filtering duplicates.
-            if (databaseQuery.isReadAllQuery()) {
-                ReadAllQuery readAllQuery = (ReadAllQuery) databaseQuery;
-                if (readAllQuery.hasJoining() && (readAllQuery.getDistinctState() == ReadAllQuery.DONT_USE_DISTINCT)) {
-                    readAllQuery.setShouldFilterDuplicates(false);
-                }
-            } else if (databaseQuery.isModifyQuery()) {
-                // By default, do not batch modify queries, as row count must be returned.
-                ((ModifyQuery)databaseQuery).setIsBatchExecutionSupported(false);
+            databaseQuery = parseEJBQLDatabaseQuery(jpqlQuery, session, lockMode, hints, classLoader, isCacheable);
+        }
+
+        return databaseQuery;
+    }
+
+    /**
+     * Parse a DatabaseQuery from an JPQL string, and put it in the JPQL parse cache if cacheable.
+     * The parse cache is not read.
+     */
+    protected static DatabaseQuery parseEJBQLDatabaseQuery(String jpqlQuery, AbstractSession session, Enum lockMode, Map<String, Object> hints, ClassLoader classLoader, boolean isCacheable) {
+        JPAQueryBuilder queryBuilder = session.getQueryBuilder();
+        DatabaseQuery databaseQuery = queryBuilder.buildQuery(jpqlQuery, session);
+
+        // If the query uses fetch joins, need to use JPA default of not
+        // filtering duplicates.
+        if (databaseQuery.isReadAllQuery()) {
+            ReadAllQuery readAllQuery = (ReadAllQuery) databaseQuery;
+            if (readAllQuery.hasJoining() && (readAllQuery.getDistinctState() == ReadAllQuery.DONT_USE_DISTINCT)) {
+                readAllQuery.setShouldFilterDuplicates(false);
             }
+        } else if (databaseQuery.isModifyQuery()) {
+            // By default, do not batch modify queries, as row count must be returned.
+            ((ModifyQuery)databaseQuery).setIsBatchExecutionSupported(false);
+        }
 
-            ((JPQLCallQueryMechanism) databaseQuery.getQueryMechanism()).getJPQLCall().setIsParsed(true);
-
-            // Apply the lock mode.
-            if (lockMode != null && !lockMode.name().equals(ObjectLevelReadQuery.NONE)) {
-                if (databaseQuery.isObjectLevelReadQuery()) {
-                    // If setting the lock mode returns true, we were unable to
-                    // set the lock mode, throw an exception.
-                    if (((ObjectLevelReadQuery) databaseQuery).setLockModeType(lockMode.name(), session)) {
-                        throw new PersistenceException(ExceptionLocalization.buildMessage("ejb30-wrong-lock_called_without_version_locking-index", null));
-                    }
-                } else {
-                    throw new IllegalArgumentException(ExceptionLocalization.buildMessage("invalid_lock_query", null));
+        ((JPQLCallQueryMechanism) databaseQuery.getQueryMechanism()).getJPQLCall().setIsParsed(true);
+
+        // Apply the lock mode.
+        if (lockMode != null && !lockMode.name().equals(ObjectLevelReadQuery.NONE)) {
+            if (databaseQuery.isObjectLevelReadQuery()) {
+                // If setting the lock mode returns true, we were unable to
+                // set the lock mode, throw an exception.
+                if (((ObjectLevelReadQuery) databaseQuery).setLockModeType(lockMode.name(), session)) {
+                    throw new PersistenceException(ExceptionLocalization.buildMessage("ejb30-wrong-lock_called_without_version_locking-index", null));
                 }
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("invalid_lock_query", null));
             }
+        }
 
-            // Apply any query hints.
-            databaseQuery = applyHints(hints, databaseQuery, classLoader, session);
-
-            // If a primary key query, switch to read-object to allow cache hit.
-            if (databaseQuery.isReadAllQuery() && !databaseQuery.isReportQuery() && ((ReadAllQuery)databaseQuery).shouldCheckCache()) {
-                ReadAllQuery readQuery = (ReadAllQuery)databaseQuery;
-                if ((readQuery.getContainerPolicy().getContainerClass() == ContainerPolicy.getDefaultContainerClass())
-                        && (!readQuery.hasHierarchicalExpressions())) {
-                    databaseQuery.checkDescriptor(session);
-                    Expression selectionCriteria = databaseQuery.getSelectionCriteria();
-                    if ((selectionCriteria != null)
-                            && (databaseQuery.getDescriptor().getObjectBuilder().isPrimaryKeyExpression(true, selectionCriteria, session)
-                            || (databaseQuery.getDescriptor().getCachePolicy().isIndexableExpression(selectionCriteria, databaseQuery.getDescriptor(), session)))) {
-                        ReadObjectQuery newQuery = new ReadObjectQuery();
-                        newQuery.copyFromQuery(databaseQuery);
-                        databaseQuery = newQuery;
-                    }
+        // Apply any query hints.
+        databaseQuery = applyHints(hints, databaseQuery, classLoader, session);
+
+        // If a primary key query, switch to read-object to allow cache hit.
+        if (databaseQuery.isReadAllQuery() && !databaseQuery.isReportQuery() && ((ReadAllQuery)databaseQuery).shouldCheckCache()) {
+            ReadAllQuery readQuery = (ReadAllQuery)databaseQuery;
+            if ((readQuery.getContainerPolicy().getContainerClass() == ContainerPolicy.getDefaultContainerClass())
+                    && (!readQuery.hasHierarchicalExpressions())) {
+                databaseQuery.checkDescriptor(session);
+                Expression selectionCriteria = databaseQuery.getSelectionCriteria();
+                if ((selectionCriteria != null)
+                        && (databaseQuery.getDescriptor().getObjectBuilder().isPrimaryKeyExpression(true, selectionCriteria, session)
+                        || (databaseQuery.getDescriptor().getCachePolicy().isIndexableExpression(selectionCriteria, databaseQuery.getDescriptor(), session)))) {
+                    ReadObjectQuery newQuery = new ReadObjectQuery();
+                    newQuery.copyFromQuery(databaseQuery);
+                    databaseQuery = newQuery;
                 }
             }
+        }
 
-            if (isCacheable) {
-                // Prepare query as hint may cause cloning (but not un-prepare
-                // as in read-only).
-                databaseQuery.checkPrepare(session, new DatabaseRecord());
-                session.getProject().getJPQLParseCache().put(jpqlQuery, databaseQuery);
-            }
+        if (isCacheable) {
+            // Prepare query as hint may cause cloning (but not un-prepare
+            // as in read-only).
+            databaseQuery.checkPrepare(session, new DatabaseRecord());
+            session.getProject().getJPQLParseCache().put(jpqlQuery, databaseQuery);
         }
 
         return databaseQuery;
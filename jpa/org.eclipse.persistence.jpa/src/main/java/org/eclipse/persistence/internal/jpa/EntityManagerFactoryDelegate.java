@@ -141,6 +141,12 @@ public class EntityManagerFactoryDelegate implements EntityManagerFactory, Persi
      */
     protected String flushClearCache = FlushClearCache.DEFAULT;
 
+    /**
+     * Default number of registered objects at which the changes are written and
+     * the objects detached, 0 if never.
+     */
+    protected int streamingSize;
+
     /** Default to determine if does-exist should be performed on persist. */
     protected boolean shouldValidateExistence;
 
@@ -447,6 +453,10 @@ protected void processProperties(Map properties) {
         if (flushClearCache != null) {
             this.flushClearCache = flushClearCache;
         }
+        String streamingSize = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.PERSISTENCE_CONTEXT_STREAMING_SIZE, properties, this.session, true);
+        if (streamingSize != null) {
+            this.streamingSize = Integer.parseInt(streamingSize);
+        }
     }
 
     /**
@@ -590,6 +600,22 @@ public void setFlushClearCache(String flushClearCache) {
         this.flushClearCache = flushClearCache;
     }
 
+    /**
+     * Return the default number of registered objects at which the changes are
+     * written and the objects detached, 0 if never.
+     */
+    public int getStreamingSize() {
+        return streamingSize;
+    }
+
+    /**
+     * Set the default number of registered objects at which the changes are
+     * written and the objects detached, 0 if never.
+     */
+    public void setStreamingSize(int streamingSize) {
+        this.streamingSize = streamingSize;
+    }
+
     /**
      * Return the default to determine if does-exist should be performed on
      * persist.
@@ -241,6 +241,12 @@ protected enum OperationType {FIND, REFRESH, LOCK};
      */
     protected String flushClearCache;
 
+    /**
+     * The number of registered objects at which the changes are written and the
+     * objects detached, 0 if never.
+     */
+    protected int streamingSize;
+
     /** Determine if does-exist should be performed on persist. */
     protected boolean shouldValidateExistence;
 
@@ -335,6 +341,14 @@ void process(String name, Object value, EntityManagerImpl em) {
                     em.extendedPersistenceContext.setFlushClearCache(em.flushClearCache);
                 }
             }});
+            put(EntityManagerProperties.PERSISTENCE_CONTEXT_STREAMING_SIZE, new PropertyProcessor() {
+            @Override
+            void process(String name, Object value, EntityManagerImpl em) {
+                em.streamingSize = Integer.parseInt(getPropertiesHandlerProperty(name, String.valueOf(value)));
+                if (em.hasActivePersistenceContext()) {
+                    em.extendedPersistenceContext.setStreamingSize(em.streamingSize);
+                }
+            }});
             put(QueryHints.CACHE_STORE_MODE, new PropertyProcessor() {
             @Override
             void process(String name, Object value, EntityManagerImpl em) {
@@ -489,6 +503,7 @@ public EntityManagerImpl(EntityManagerFactoryDelegate factory, Map properties, S
         this.referenceMode = factory.getReferenceMode();
         this.flushClearCache = factory.getFlushClearCache();
         this.shouldValidateExistence = factory.shouldValidateExistence();
+        this.streamingSize = factory.getStreamingSize();
         this.commitOrder = factory.getCommitOrder();
         this.isOpen = true;
         this.cacheStoreBypass = false;
@@ -596,7 +611,7 @@ public void persist(Object entity) {
                 throw new IllegalArgumentException(ExceptionLocalization.buildMessage("not_an_entity", new Object[] { null }));
             }
             try {
-                getActivePersistenceContext(checkForTransaction(false)).registerNewObjectForPersist(entity, new IdentityHashMap());
+                getStreamingPersistenceContext().registerNewObjectForPersist(entity, new IdentityHashMap());
             } catch (RuntimeException exception) {
                 if (exception instanceof ValidationException) {
                     throw new EntityExistsException(exception.getLocalizedMessage(), exception);
@@ -639,7 +654,7 @@ protected Object mergeInternal(Object entity) {
             throw new IllegalArgumentException(ExceptionLocalization.buildMessage("not_an_entity", new Object[] { null }));
         }
         Object merged = null;
-        UnitOfWorkImpl context = getActivePersistenceContext(checkForTransaction(false));
+        UnitOfWorkImpl context = getStreamingPersistenceContext();
         try {
             merged = context.mergeCloneWithReferences(entity, MergeManager.CASCADE_BY_MAPPING, true);
         } catch (org.eclipse.persistence.exceptions.OptimisticLockException ole) {
@@ -662,7 +677,7 @@ public void remove(Object entity) {
                 throw new IllegalArgumentException(ExceptionLocalization.buildMessage("not_an_entity", new Object[] { null }));
             }
             try {
-                getActivePersistenceContext(checkForTransaction(false)).performRemove(entity, new IdentityHashMap());
+                getStreamingPersistenceContext().performRemove(entity, new IdentityHashMap());
             } catch (RuntimeException e) {
                 throw e;
             }
@@ -1656,7 +1671,7 @@ public jakarta.persistence.Query createQuery(DatabaseQuery databaseQuery) {
     public <T> TypedQuery<T> createQuery(CriteriaQuery<T> criteriaQuery) {
         try{
             verifyOpen();
-            return new EJBQueryImpl<T>(((CriteriaQueryImpl<T>)criteriaQuery).translate(), this);
+            return new EJBQueryImpl<T>(((CriteriaQueryImpl<T>)criteriaQuery).translate(getActiveSessionIfExists()), this);
         }catch (RuntimeException e){
             setRollbackOnly();
             throw e;
@@ -2076,6 +2091,7 @@ public RepeatableWriteUnitOfWork getActivePersistenceContext(Object txn) {
             this.extendedPersistenceContext.setDiscoverUnregisteredNewObjectsWithoutPersist(this.commitWithoutPersistRules);
             this.extendedPersistenceContext.setFlushClearCache(this.flushClearCache);
             this.extendedPersistenceContext.setShouldValidateExistence(this.shouldValidateExistence);
+            this.extendedPersistenceContext.setStreamingSize(this.streamingSize);
             this.extendedPersistenceContext.setCommitOrder(this.commitOrder);
             this.extendedPersistenceContext.setShouldCascadeCloneToJoinedRelationship(true);
             this.extendedPersistenceContext.setShouldStoreByPassCache(this.cacheStoreBypass);
@@ -2095,6 +2111,24 @@ public RepeatableWriteUnitOfWork getActivePersistenceContext(Object txn) {
         return this.extendedPersistenceContext;
     }
 
+    /**
+     * Return the persistence context for a persist, merge or remove.
+     * In a transaction, first write the changes and detach the objects
+     * if the number of registered objects reached the streaming size.
+     */
+    protected RepeatableWriteUnitOfWork getStreamingPersistenceContext() {
+        Object txn = checkForTransaction(false);
+        RepeatableWriteUnitOfWork context = getActivePersistenceContext(txn);
+        if ((txn != null) && (this.streamingSize > 0)) {
+            try {
+                context.writeChangesIfStreamingSizeReached();
+            } catch (org.eclipse.persistence.exceptions.OptimisticLockException eclipselinkOLE) {
+                throw new OptimisticLockException(eclipselinkOLE);
+            }
+        }
+        return context;
+    }
+
     /**
      * Use this method to set properties into existing EntityManager that are
      * normally passed to createEntityManager method. Note that if the method
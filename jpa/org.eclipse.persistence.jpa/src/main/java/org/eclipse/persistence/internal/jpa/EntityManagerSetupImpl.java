@@ -137,6 +137,8 @@
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLDecoder;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.rmi.Naming;
 import java.rmi.RemoteException;
 import java.security.AccessController;
@@ -176,6 +178,7 @@
 import org.eclipse.persistence.config.BatchWriting;
 import org.eclipse.persistence.config.CacheCoordinationProtocol;
 import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.config.ConnectionPoolType;
 import org.eclipse.persistence.config.DescriptorCustomizer;
 import org.eclipse.persistence.config.ExclusiveConnectionMode;
 import org.eclipse.persistence.config.LoggerType;
@@ -206,11 +209,13 @@
 import org.eclipse.persistence.internal.databaseaccess.BatchWritingMechanism;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
+import org.eclipse.persistence.internal.databaseaccess.MultiRowInsertBatchWritingMechanism;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy.LockOnChange;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.helper.ConcurrentFrequencyCache;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.JPAClassLoaderHolder;
 import org.eclipse.persistence.internal.helper.JPAConversionManager;
@@ -292,11 +297,13 @@
 import org.eclipse.persistence.sessions.remote.rmi.RMIServerSessionManagerDispatcher;
 import org.eclipse.persistence.sessions.serializers.JavaSerializer;
 import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.eclipse.persistence.sessions.server.ConcurrentConnectionPool;
 import org.eclipse.persistence.sessions.server.ConnectionPolicy;
 import org.eclipse.persistence.sessions.server.ConnectionPool;
 import org.eclipse.persistence.sessions.server.ExternalConnectionPool;
 import org.eclipse.persistence.sessions.server.ReadConnectionPool;
 import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.tools.profiler.HistogramProfiler;
 import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
 import org.eclipse.persistence.tools.profiler.PerformanceProfiler;
 import org.eclipse.persistence.tools.profiler.QueryMonitor;
@@ -337,6 +344,8 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
     protected boolean isSessionLoadedFromSessionsXML=false;
     //project caching:
     protected ProjectCache projectCacheAccessor = null;
+    // the checksum of the persistence unit's metadata sources the cached project is validated with, or null
+    protected String projectCacheChecksum = null;
     protected boolean shouldBuildProject = true;
     // indicates whether weaving was used on the first run through predeploy (in STATE_INITIAL)
     protected Boolean enableWeaving = null;
@@ -350,6 +359,9 @@ public class EntityManagerSetupImpl implements MetadataRefreshListener {
 
     protected boolean requiresConnection;
 
+    /** The file to keep the JPQL strings of the JPQL parse cache across restarts, or null. */
+    protected Path jpqlParseCacheSnapshot;
+
     // 266912: Criteria API and Metamodel API (See Ch 5 of the JPA 2.0 Specification)
     /** Reference to the Metamodel for this deployment and session.
      * Please use the accessor and not the instance variable directly*/
@@ -678,7 +690,7 @@ public AbstractSession deploy(ClassLoader realClassLoader, Map additionalPropert
 
                             if (this.projectCacheAccessor != null) {
                                 //cache the project:
-                                this.projectCacheAccessor.storeProject(this.session.getProject(), deployProperties, this.session.getSessionLog());
+                                this.projectCacheAccessor.storeProject(this.session.getProject(), deployProperties, this.session.getSessionLog(), this.projectCacheChecksum);
                             }
 
                             // The project is initially created using class names rather than classes.  This call will make the conversion.
@@ -765,6 +777,8 @@ public AbstractSession deploy(ClassLoader realClassLoader, Map additionalPropert
                             try {
                                 updateTunerDeploy(deployProperties, classLoaderToUse);
                                 updateFreeMemory(deployProperties);
+                                // The cache is preloaded once the tables are generated.
+                                getDatabaseSession().setShouldPreloadCacheOnLogin(false);
                                 if (this.isSessionLoadedFromSessionsXML) {
                                     getDatabaseSession().login();
                                 } else {
@@ -814,6 +828,8 @@ public Object handleException(RuntimeException exception) {
 
                             // Generate the DDL using the correct connection.
                             writeDDL(deployProperties, getDatabaseSession(deployProperties), classLoaderToUse);
+                            preparseJPQLParseCacheSnapshot();
+                            getDatabaseSession().preloadCache();
                         }
                     }
                     // Initialize platform specific identity sequences.
@@ -1323,6 +1339,12 @@ protected void updateProfiler(Map persistenceProperties,ClassLoader loader) {
                 session.setProfiler(new PerformanceMonitor());
                 return;
             }
+            if (newProfilerClassName.equals(ProfilerType.HistogramProfiler)) {
+                HistogramProfiler profiler = new HistogramProfiler();
+                profiler.setShouldRegisterMBean(true);
+                session.setProfiler(profiler);
+                return;
+            }
 
             if (newProfilerClassName.equals(ProfilerType.DMSProfiler)) {
                 newProfilerClassName = ProfilerType.DMSProfilerClassName;
@@ -1497,11 +1519,16 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
         } else {
             session.getProject().setQueryCacheForceDeferredLocks(false);
         }
+        String skipUnchanged = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CHANGE_DETECTION_SKIP_UNCHANGED, m, session);
+        if (skipUnchanged != null) {
+            session.getProject().setShouldSkipUnchangedObjects(skipUnchanged.equalsIgnoreCase("true"));
+        }
 
         Map typeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_TYPE_, m, session);
         Map sizeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SIZE_, m, session);
         Map sharedMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SHARED_, m, session);
-        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty()) {
+        Map preloadMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_PRELOAD_, m, session);
+        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty() && preloadMap.isEmpty()) {
             return;
         }
 
@@ -1528,8 +1555,11 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                         ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
             }
 
+            // The default only enables the preload, it does not disable the preload set on an entity.
+            boolean defaultPreload = Boolean.parseBoolean((String)preloadMap.remove(PersistenceUnitProperties.DEFAULT));
+
             Iterator<ClassDescriptor> it = session.getDescriptors().values().iterator();
-            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty())) {
+            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty() || !preloadMap.isEmpty() || defaultPreload)) {
                 ClassDescriptor descriptor = it.next();
 
                 if (descriptor.isDescriptorTypeAggregate()) {
@@ -1573,6 +1603,18 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                     boolean shared = Boolean.parseBoolean(sharedString);
                     descriptor.setCacheIsolation(shared ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
                 }
+
+                name = entityName;
+                String preloadString = (String)preloadMap.remove(name);
+                if (preloadString == null) {
+                    name = className;
+                    preloadString = (String)preloadMap.remove(name);
+                }
+                if (preloadString != null) {
+                    descriptor.getCachePolicy().setShouldPreload(Boolean.parseBoolean(preloadString));
+                } else if (defaultPreload) {
+                    descriptor.getCachePolicy().setShouldPreload(true);
+                }
             }
         } catch (NumberFormatException exception) {
             this.session.handleException(ValidationException.invalidValueForProperty(value, PersistenceUnitProperties.CACHE_SIZE_, exception));
@@ -1670,6 +1712,30 @@ protected void updateConnectionSettings(ServerSession serverSession, Map propert
                     } else {
                         pool.addFailoverConnectionPool((String)entry.getValue());
                     }
+                } else if (attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_TYPE)) {
+                    String type = (String)entry.getValue();
+                    if (type.equalsIgnoreCase(ConnectionPoolType.Concurrent)) {
+                        // External and shared read pools are not exclusive pools, so are left as is.
+                        if (!(pool instanceof ConcurrentConnectionPool) && !(pool instanceof ExternalConnectionPool) && !(pool instanceof ReadConnectionPool)) {
+                            ConnectionPool concurrentPool = new ConcurrentConnectionPool(pool.getName(), pool.getLogin(), pool.getInitialNumberOfConnections(),
+                                    pool.getMinNumberOfConnections(), pool.getMaxNumberOfConnections(), serverSession);
+                            concurrentPool.setWaitTimeout(pool.getWaitTimeout());
+                            concurrentPool.setFailoverConnectionPools(pool.getFailoverConnectionPools());
+                            if (poolName.equals("read")) {
+                                serverSession.setReadConnectionPool(concurrentPool);
+                            } else if (poolName.equals("sequence")) {
+                                getDatabaseSession().getSequencingControl().setConnectionPool(concurrentPool);
+                            } else {
+                                serverSession.addConnectionPool(concurrentPool);
+                                // The default pool is also the read pool unless a read pool was configured.
+                                if (serverSession.getReadConnectionPool() == pool) {
+                                    serverSession.setReadConnectionPool(concurrentPool);
+                                }
+                            }
+                        }
+                    } else if (!type.equalsIgnoreCase(ConnectionPoolType.Synchronized)) {
+                        throw new IllegalArgumentException(type);
+                    }
                 } else if (poolName.equals("read") && attribute.equals(PersistenceUnitProperties.CONNECTION_POOL_SHARED)) {
                     boolean shared = Boolean.parseBoolean((String)entry.getValue());
                     if (shared) {
@@ -1836,7 +1902,7 @@ public synchronized ClassTransformer predeploy(PersistenceUnitInfo info, Map ext
 
                 if (projectCacheAccessor!=null) {
                     //get the project from the cache
-                    Project project = projectCacheAccessor.retrieveProject(predeployProperties, classLoaderToUse, session.getSessionLog());
+                    Project project = projectCacheAccessor.retrieveProject(predeployProperties, classLoaderToUse, session.getSessionLog(), projectCacheChecksum);
 
                     if (project!=null) {
                         try {
@@ -2033,6 +2099,9 @@ public synchronized ClassTransformer predeploy(PersistenceUnitInfo info, Map ext
                     // Set the shared cache mode to the jakarta.persistence.sharedCache.mode property value.
                     updateSharedCacheMode(predeployProperties);
 
+                    // Set the number of threads reading the persistence unit classes.
+                    updateDeployParallelism(predeployProperties);
+
                     // Process the Object/relational metadata from XML and annotations.
                     // If Java Security is enabled, surround this call with a doPrivileged block.
                     if (PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
@@ -2336,12 +2405,28 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (asynch != null) {
                     rcm.setShouldPropagateAsynchronously(asynch.equalsIgnoreCase("true"));
                 }
+                String invalidateOnly = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_INVALIDATE_ONLY, m, this.session);
+                if (invalidateOnly != null) {
+                    rcm.setShouldInvalidateOnly(invalidateOnly.equalsIgnoreCase("true"));
+                }
                 String threadPoolSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_THREAD_POOL_SIZE, m, this.session);
                 property = PersistenceUnitProperties.COORDINATION_THREAD_POOL_SIZE;
                 value = threadPoolSize;
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String batchDelay = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_DELAY, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_DELAY;
+                value = batchDelay;
+                if (batchDelay != null) {
+                    rcm.setBatchDelay(Long.parseLong(batchDelay));
+                }
+                String batchSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_BATCH_SIZE, m, this.session);
+                property = PersistenceUnitProperties.COORDINATION_BATCH_SIZE;
+                value = batchSize;
+                if (batchSize != null) {
+                    rcm.setMaxBatchSize(Integer.parseInt(batchSize));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2803,6 +2888,7 @@ protected void updateSession(Map m, ClassLoader loader) {
         // In deploy ServerPlatform could've changed which will affect the loggers.
         boolean serverPlatformChanged = updateServerPlatform(m, loader);
         updateJPQLParser(m);
+        updateJPQLParseCacheSnapshot(m);
 
         if (!session.hasBroker()) {
             updateLoggers(m, serverPlatformChanged, loader);
@@ -2883,6 +2969,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateNativeSQLSetting(m);
             updateSequencing(m);
             updateSequencingStart(m);
+            updateSequencingLowWaterMark(m);
             updateAllowNativeSQLQueriesSetting(m);
             updateSQLCastSetting(m);
             updateUppercaseSetting(m);
@@ -2922,6 +3009,7 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateConcurrencyManagerAllowInterruptedExceptionFired(m);
             updateConcurrencyManagerAllowConcurrencyExceptionToBeFiredUp(m);
             updateConcurrencyManagerAllowTakingStackTraceDuringReadLockAcquisition(m);
+            updateConcurrencyManagerUseReentrantLock(m);
             updateConcurrencyManagerUseObjectBuildingSemaphore(m);
             updateConcurrencyManagerUseWriteLockManagerSemaphore(m);
             updateConcurrencyManagerNoOfThreadsAllowedToObjectBuildInParallel(m);
@@ -3145,6 +3233,7 @@ public synchronized void undeploy() {
             if(factoryCount > 0) {
                 return;
             }
+            writeJPQLParseCacheSnapshot();
             synchronized (EntityManagerFactoryProvider.emSetupImpls) {
                 state = STATE_UNDEPLOYED;
                 removeSessionFromGlobalSessionManager();
@@ -3240,6 +3329,10 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
              } else if (batchWritingSettingString == BatchWriting.OracleJDBC) {
                  this.session.getPlatform().setUsesNativeBatchWriting(true);
                  this.session.getPlatform().setUsesJDBCBatchWriting(true);
+             } else if (batchWritingSettingString == BatchWriting.MultiRowInsert) {
+                 this.session.getPlatform().setUsesJDBCBatchWriting(true);
+                 this.session.getPlatform().setUsesNativeBatchWriting(false);
+                 this.session.getPlatform().setBatchWritingMechanism(new MultiRowInsertBatchWritingMechanism());
              } else if (batchWritingSettingString == BatchWriting.None) {
                  // Nothing required.
              } else {
@@ -3270,6 +3363,20 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        // Set rows per statement of multi-row inserts.
+        String rowsString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_ROWS_PER_STATEMENT, persistenceProperties, this.session);
+        if (rowsString != null && this.session.getPlatform().getBatchWritingMechanism() instanceof MultiRowInsertBatchWritingMechanism) {
+            try {
+                ((MultiRowInsertBatchWritingMechanism)this.session.getPlatform().getBatchWritingMechanism()).setRowsPerStatement(Integer.parseInt(rowsString));
+            } catch (NumberFormatException invalid) {
+                session.handleException(ValidationException.invalidValueForProperty(rowsString, PersistenceUnitProperties.BATCH_WRITING_ROWS_PER_STATEMENT, invalid));
+            }
+        }
+        // Execute full batches in the background.
+        String asynchronousString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_ASYNCHRONOUS, persistenceProperties, this.session);
+        if (asynchronousString != null) {
+            this.session.getPlatform().setUsesAsynchronousBatchWriting("true".equalsIgnoreCase(asynchronousString));
+        }
     }
 
     /**
@@ -3404,8 +3511,20 @@ protected void updateSequencingStart(Map m) {
         }
     }
 
+    protected void updateSequencingLowWaterMark(Map m) {
+        String lowWaterMark = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.SEQUENCING_PREALLOCATION_LOW_WATER_MARK, m, session);
+        try {
+            if (lowWaterMark != null) {
+                this.session.getPlatform().setDefaultPreallocationLowWaterMark(Integer.parseInt(lowWaterMark));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(lowWaterMark, PersistenceUnitProperties.SEQUENCING_PREALLOCATION_LOW_WATER_MARK, exception));
+        }
+    }
+
     /**
-     * Load the projectCacheAccessor for JPA project caching
+     * Load the projectCacheAccessor for JPA project caching,
+     * and build the checksum of the persistence unit if the cached project must be validated.
      */
     protected void updateProjectCache(Map m, ClassLoader loader){
         Object accessor = EntityManagerFactoryProvider.getConfigPropertyLogDebug(PersistenceUnitProperties.PROJECT_CACHE, m, session);
@@ -3426,6 +3545,19 @@ protected void updateProjectCache(Map m, ClassLoader loader){
                 }
             }
         }
+        projectCacheChecksum = null;
+        if (projectCacheAccessor != null) {
+            String checksum = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.PROJECT_CACHE_CHECKSUM, m, session);
+            if ((checksum != null) && checksum.equalsIgnoreCase("true")) {
+                try {
+                    projectCacheChecksum = PersistenceUnitProcessor.buildChecksum(persistenceUnitInfo, m);
+                } catch (RuntimeException exception) {
+                    // Without checksum the cached project cannot be validated, so the project is not cached.
+                    session.logThrowable(SessionLog.WARNING, SessionLog.JPA, exception);
+                    projectCacheAccessor = null;
+                }
+            }
+        }
     }
 
     /**
@@ -3450,6 +3582,80 @@ protected void updateJPQLParser(Map m) {
         }
     }
 
+    /**
+     * Set the JPQL parse cache snapshot file if it was specified.
+     * The method needs to be called in deploy stage.
+     */
+    protected void updateJPQLParseCacheSnapshot(Map m) {
+        String snapshot = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.JPQL_PARSE_CACHE_SNAPSHOT, m, this.session);
+        if (snapshot != null && !snapshot.isEmpty()) {
+            this.jpqlParseCacheSnapshot = Paths.get(snapshot);
+        } else {
+            this.jpqlParseCacheSnapshot = null;
+        }
+    }
+
+    /**
+     * Parse and prepare the JPQL strings of the JPQL parse cache snapshot in the background,
+     * the most frequent first, up to the size of the parse cache.
+     * JPQL strings that fail to parse, i.e. for an entity that no longer exists, are ignored.
+     * The method needs to be called after login.
+     */
+    protected void preparseJPQLParseCacheSnapshot() {
+        if (this.jpqlParseCacheSnapshot == null) {
+            return;
+        }
+        final AbstractSession session = this.session;
+        final List<String> jpqlStrings;
+        try {
+            jpqlStrings = ConcurrentFrequencyCache.readSnapshot(this.jpqlParseCacheSnapshot);
+        } catch (IOException exception) {
+            session.logThrowable(SessionLog.WARNING, SessionLog.JPA, exception);
+            return;
+        }
+        if (jpqlStrings.isEmpty()) {
+            return;
+        }
+        final int maxSize = session.getProject().getJPQLParseCacheMaxSize();
+        final ClassLoader classLoader = session.getDatasourcePlatform().getConversionManager().getLoader();
+        session.getServerPlatform().launchContainerRunnable(new Runnable() {
+            @Override
+            public void run() {
+                int count = 0;
+                for (String jpql : jpqlStrings) {
+                    if ((count++ >= maxSize) || !session.isConnected()) {
+                        return;
+                    }
+                    // The parse cache is not read with get(), so the preparse is not counted in its hits and misses.
+                    if (session.getProject().getJPQLParseCache().getCache().containsKey(jpql)) {
+                        continue;
+                    }
+                    try {
+                        EJBQueryImpl.parseEJBQLDatabaseQuery(jpql, session, null, null, classLoader, true);
+                    } catch (RuntimeException invalid) {
+                        session.logThrowable(SessionLog.FINEST, SessionLog.JPA, invalid);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Write the JPQL strings of the JPQL parse cache to the snapshot file, if configured.
+     * The method needs to be called in undeploy stage, a failure to write is logged and ignored.
+     */
+    protected void writeJPQLParseCacheSnapshot() {
+        if ((this.jpqlParseCacheSnapshot == null) || (this.session == null)
+                || !(this.session.getProject().getJPQLParseCache() instanceof ConcurrentFrequencyCache)) {
+            return;
+        }
+        try {
+            ((ConcurrentFrequencyCache)this.session.getProject().getJPQLParseCache()).writeSnapshot(this.jpqlParseCacheSnapshot);
+        } catch (IOException exception) {
+            this.session.logThrowable(SessionLog.WARNING, SessionLog.JPA, exception);
+        }
+    }
+
     /**
      * Enable or disable the capability of Native SQL function.
      * The method needs to be called in deploy stage.
@@ -3619,6 +3825,25 @@ protected void updateIdValidation(Map m) {
     }
 
 
+    /**
+     * Set the number of threads reading the persistence unit classes from the
+     * "eclipselink.deploy.parallelism" property.
+     */
+    protected void updateDeployParallelism(Map m) {
+        String parallelism = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.DEPLOY_PARALLELISM, m, session);
+        if (parallelism != null) {
+            try {
+                int threads = Integer.parseInt(parallelism.trim());
+                if (threads < 1) {
+                    throw new NumberFormatException(parallelism);
+                }
+                processor.setParallelism(threads);
+            } catch (NumberFormatException exception) {
+                session.handleException(ValidationException.invalidValueForProperty(parallelism, PersistenceUnitProperties.DEPLOY_PARALLELISM, exception));
+            }
+        }
+    }
+
     /**
      * Sets the SharedCacheMode with values from the jakarta.persistence.sharedCache.mode property. If
      * user enters an invalid caching type, valueOf will throw an illegal argument exception, e.g.
@@ -3848,6 +4073,19 @@ private void updateConcurrencyManagerAllowTakingStackTraceDuringReadLockAcquisit
         }
     }
 
+    private void updateConcurrencyManagerUseReentrantLock(Map persistenceProperties) {
+        String useReentrantLock = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_REENTRANT_LOCK, persistenceProperties, session);
+        if (useReentrantLock != null) {
+            if (useReentrantLock.equalsIgnoreCase("true")) {
+                ConcurrencyUtil.SINGLETON.setUseReentrantLock(true);
+            } else if (useReentrantLock.equalsIgnoreCase("false")) {
+                ConcurrencyUtil.SINGLETON.setUseReentrantLock(false);
+            } else {
+                this.session.handleException(ValidationException.invalidBooleanValueForProperty(useReentrantLock, PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_REENTRANT_LOCK));
+            }
+        }
+    }
+
     private void updateConcurrencyManagerUseObjectBuildingSemaphore(Map persistenceProperties) {
         String useObjectBuildingSemaphore = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING, persistenceProperties, session);
         try {
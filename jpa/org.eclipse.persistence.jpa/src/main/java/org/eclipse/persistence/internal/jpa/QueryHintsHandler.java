@@ -309,6 +309,7 @@ protected static abstract class Hint {
             addHint(new QueryCacheTypeHint());
             addHint(new QueryCacheIgnoreNullHint());
             addHint(new QueryCacheInvalidateOnChangeHint());
+            addHint(new QueryCacheTrackDependenciesHint());
             addHint(new QueryCacheRandomizedExpiryHint());
             // 325167: Make reserved # bind parameter char generic to enable native SQL pass through
             addHint(new ParameterDelimiterHint());
@@ -318,6 +319,8 @@ protected static abstract class Hint {
             addHint(new ResultSetAccess());
             addHint(new SerializedObject());
             addHint(new ReturnNameValuePairsHint());
+            addHint(new ParallelBuildHint());
+            addHint(new CursorStreamHint());
         }
 
         Hint(String name, String defaultValue) {
@@ -1335,6 +1338,33 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    /**
+     * Define the query cache track dependencies hint.
+     * Only reset the query cache if unset (as other query cache properties may be set first).
+     */
+    protected static class QueryCacheTrackDependenciesHint extends Hint {
+        QueryCacheTrackDependenciesHint() {
+            super(QueryHints.QUERY_RESULTS_CACHE_TRACK_DEPENDENCIES, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadQuery()) {
+                if (((ReadQuery)query).getQueryResultsCachePolicy() == null) {
+                    ((ReadQuery)query).cacheQueryResults();
+                }
+                ((ReadQuery)query).getQueryResultsCachePolicy().setIsDependencyTracked((Boolean) valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     /**
      * Define the query cache randomized expiry hint.
      * Only reset the query cache if unset (as other query cache properties may be set first).
@@ -1452,6 +1482,10 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.HardCacheWeakIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.CACHE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.CacheIdentityMap_Class);
+                } else if (valueToApply.equals(CacheType.CONCURRENT_CACHE.name())) {
+                    readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.ConcurrentCacheIdentityMap_Class);
+                } else if (valueToApply.equals(CacheType.FULL_PRIMITIVE_KEY.name())) {
+                    readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.PrimitiveKeyIdentityMap_Class);
                 } else if (valueToApply.equals(CacheType.NONE.name())) {
                     readQuery.getQueryResultsCachePolicy().setCacheType(ClassConstants.NoIdentityMap_Class);
                 } else {
@@ -2204,4 +2238,58 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
             return query;
         }
     }
+
+    protected static class ParallelBuildHint extends Hint {
+        ParallelBuildHint() {
+            super(QueryHints.PARALLEL_BUILD, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.TRUE, Boolean.TRUE},
+                {HintValues.FALSE, Boolean.FALSE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isReadAllQuery() && !query.isReportQuery()) {
+                ((ReadAllQuery)query).setShouldBuildObjectsInParallel((Boolean)valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
+    protected static class CursorStreamHint extends Hint {
+        CursorStreamHint() {
+            super(QueryHints.CURSOR_STREAM, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.TRUE, Boolean.TRUE},
+                {HintValues.FALSE, Boolean.FALSE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            // False leaves the container policy unchanged, as a scrollable cursor may have been set by other hints.
+            if ((Boolean) valueToApply) {
+                ScrollableCursorPolicy policy;
+                if (query.isReadAllQuery()) {
+                    if (!((ReadAllQuery) query).getContainerPolicy().isScrollableCursorPolicy()) {
+                        ((ReadAllQuery) query).useScrollableCursor();
+                    }
+                    policy = (ScrollableCursorPolicy) ((ReadAllQuery) query).getContainerPolicy();
+                } else if (query.isDataReadQuery()) {
+                    if (!((DataReadQuery) query).getContainerPolicy().isScrollableCursorPolicy()) {
+                        ((DataReadQuery) query).useScrollableCursor();
+                    }
+                    policy = (ScrollableCursorPolicy) ((DataReadQuery) query).getContainerPolicy();
+                } else {
+                    throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+                }
+                policy.setResultSetType(ScrollableCursorPolicy.TYPE_FORWARD_ONLY);
+                policy.setResultSetConcurrency(ScrollableCursorPolicy.CONCUR_READ_ONLY);
+            }
+            return query;
+        }
+    }
 }
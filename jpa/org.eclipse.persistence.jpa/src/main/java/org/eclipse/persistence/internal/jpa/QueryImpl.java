@@ -36,6 +36,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -65,6 +66,7 @@
 import org.eclipse.persistence.platform.database.oracle.plsql.PLSQLStoredProcedureCall;
 import org.eclipse.persistence.platform.database.oracle.plsql.PLSQLargument;
 import org.eclipse.persistence.queries.Call;
+import org.eclipse.persistence.queries.Cursor;
 import org.eclipse.persistence.queries.DataModifyQuery;
 import org.eclipse.persistence.queries.DataReadQuery;
 import org.eclipse.persistence.queries.DatabaseQuery;
@@ -495,6 +497,50 @@ public List getResultList() {
         }
     }
 
+    /**
+     * Execute the query and return the query results as a Stream.
+     * If the query is configured to use a cursor, such as through the "eclipselink.cursor.stream" hint,
+     * the stream is backed by the cursor and the results are built as the stream is consumed,
+     * the cursor is closed when the stream is exhausted or closed.
+     * Otherwise the stream is over the result list.
+     *
+     * @return a stream of the results
+     * @see org.eclipse.persistence.config.QueryHints#CURSOR_STREAM
+     */
+    public Stream getResultStream() {
+        // bug51411440: need to throw IllegalStateException if query
+        // executed on closed em
+        this.entityManager.verifyOpenWithSetRollbackOnly();
+        boolean isCursor;
+        try {
+            setAsSQLReadQuery();
+            propagateResultProperties();
+            DatabaseQuery query = getDatabaseQueryInternal();
+            if (query.isReadAllQuery()) {
+                isCursor = ((ReadAllQuery) query).getContainerPolicy().isCursorPolicy();
+            } else if (query.isDataReadQuery()) {
+                isCursor = ((DataReadQuery) query).getContainerPolicy().isCursorPolicy();
+            } else {
+                isCursor = false;
+            }
+            if (isCursor) {
+                return ((Cursor) executeReadQuery()).stream();
+            }
+        } catch (LockTimeoutException exception) {
+            throw exception;
+        } catch (PersistenceException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (IllegalStateException exception) {
+            setRollbackOnly();
+            throw exception;
+        } catch (RuntimeException exception) {
+            setRollbackOnly();
+            throw new PersistenceException(exception);
+        }
+        return getResultList().stream();
+    }
+
     /**
      * Execute a SELECT query that returns a single untyped result.
      *
@@ -45,6 +45,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.stream.Stream;
 
 import jakarta.persistence.FlushModeType;
 import jakarta.persistence.LockModeType;
@@ -536,6 +537,16 @@ private boolean hasPositionalParameters() {
         return true;
     }
 
+    /**
+     * Execute the query and return the query results as a Stream.
+     * Stored procedure results are not backed by a cursor, the stream is over the result list.
+     * @return a stream of the results
+     */
+    @Override
+    public Stream getResultStream() {
+        return getResultList().stream();
+    }
+
     /**
      * Execute the query and return the query results as a List.
      * @return a list of the results
@@ -38,10 +38,14 @@
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedActionException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -60,10 +64,12 @@
 import org.eclipse.persistence.exceptions.PersistenceUnitLoadingException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.exceptions.XMLParseException;
+import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.XMLHelper;
 import org.eclipse.persistence.internal.jpa.deployment.xml.parser.PersistenceContentHandler;
 import org.eclipse.persistence.internal.jpa.deployment.xml.parser.XMLException;
 import org.eclipse.persistence.internal.jpa.deployment.xml.parser.XMLExceptionHandler;
+import org.eclipse.persistence.internal.jpa.metadata.MetadataHelper;
 import org.eclipse.persistence.internal.jpa.metadata.MetadataProcessor;
 import org.eclipse.persistence.internal.jpa.metadata.MetadataProject;
 import org.eclipse.persistence.internal.jpa.metadata.accessors.objects.MetadataAnnotation;
@@ -148,6 +154,99 @@ public static Set<String> buildClassSet(PersistenceUnitInfo persistenceUnitInfo,
         return set;
     }
 
+    /**
+     * Build a checksum of the metadata sources of the persistence unit:
+     * the classes and xml files of its root and jar files, its listed classes and its mapping files.
+     * The checksum changes if any of them is added, removed or changed,
+     * so it can be used to validate a project cached from the metadata of the persistence unit.
+     * @return the SHA-256 checksum as an hexadecimal string
+     */
+    public static String buildChecksum(PersistenceUnitInfo persistenceUnitInfo, Map properties) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new RuntimeException(exception);
+        }
+        ClassLoader loader = persistenceUnitInfo.getClassLoader();
+        updateChecksum(digest, persistenceUnitInfo.getPersistenceUnitName());
+        List<URL> urls = new ArrayList<URL>(persistenceUnitInfo.getJarFileUrls());
+        if (!persistenceUnitInfo.excludeUnlistedClasses()) {
+            urls.add(persistenceUnitInfo.getPersistenceUnitRootUrl());
+        }
+        for (URL url : urls) {
+            Archive archive = null;
+            try {
+                archive = PersistenceUnitProcessor.getArchiveFactory(loader, properties).createArchive(url, properties);
+                if (archive != null) {
+                    // Sort the entries, as their order depends on the file system.
+                    List<String> entries = new ArrayList<String>();
+                    for (Iterator<String> iterator = archive.getEntries(); iterator.hasNext();) {
+                        String entry = iterator.next();
+                        if (entry.endsWith(".class") || entry.endsWith(".xml")) { // NOI18N
+                            entries.add(entry);
+                        }
+                    }
+                    Collections.sort(entries);
+                    for (String entry : entries) {
+                        updateChecksum(digest, entry);
+                        try (InputStream stream = archive.getEntry(entry)) {
+                            updateChecksum(digest, stream);
+                        }
+                    }
+                }
+            } catch (URISyntaxException e) {
+                throw new RuntimeException("url = [" + url + "]", e);  // NOI18N
+            } catch (IOException e) {
+                throw new RuntimeException("url = [" + url + "]", e);  // NOI18N
+            } finally {
+                if (archive != null) {
+                    archive.close();
+                }
+            }
+        }
+        List<String> resources = new ArrayList<String>();
+        for (String className : persistenceUnitInfo.getManagedClassNames()) {
+            resources.add(className.replace('.', '/') + ".class");
+        }
+        resources.addAll(persistenceUnitInfo.getMappingFileNames());
+        resources.add(MetadataHelper.JPA_ORM_FILE);
+        resources.add(MetadataHelper.ECLIPSELINK_ORM_FILE);
+        for (String resource : resources) {
+            updateChecksum(digest, resource);
+            try {
+                for (Enumeration<URL> resourceUrls = loader.getResources(resource); resourceUrls.hasMoreElements();) {
+                    try (InputStream stream = resourceUrls.nextElement().openStream()) {
+                        updateChecksum(digest, stream);
+                    }
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("resource = [" + resource + "]", e);  // NOI18N
+            }
+        }
+        return Helper.buildHexStringFromBytes(digest.digest());
+    }
+
+    private static void updateChecksum(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte)(bytes.length >>> 24));
+        digest.update((byte)(bytes.length >>> 16));
+        digest.update((byte)(bytes.length >>> 8));
+        digest.update((byte)bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void updateChecksum(MessageDigest digest, InputStream stream) throws IOException {
+        if (stream == null) {
+            return;
+        }
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = stream.read(buffer)) != -1) {
+            digest.update(buffer, 0, length);
+        }
+    }
+
     /**
      * Create a list of the entities that will be deployed. This list is built
      * from the information provided in the PersistenceUnitInfo argument.
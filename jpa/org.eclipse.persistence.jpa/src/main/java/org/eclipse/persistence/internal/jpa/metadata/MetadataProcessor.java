@@ -51,6 +51,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -97,6 +98,8 @@ public class MetadataProcessor {
     protected MetadataProcessor m_compositeProcessor;
     protected Set<MetadataProcessor> m_compositeMemberProcessors;
     protected MetadataSource m_metadataSource;
+    // the number of threads reading the persistence unit classes, 1 to read them sequentially
+    protected int m_parallelism = 1;
 
     /**
      * INTERNAL:
@@ -344,6 +347,19 @@ protected void initPersistenceUnitClasses() {
             unlistedClasses = PersistenceUnitProcessor.getClassNamesFromURL(persistenceUnitInfo.getPersistenceUnitRootUrl(), m_loader, m_predeployProperties);
         }
 
+        // Read the metadata of the classes in parallel first, it is independent
+        // of the other classes. The classes are still added in order below.
+        if ((m_parallelism > 1) && (m_factory instanceof MetadataAsmFactory)) {
+            Map<String, Boolean> classesToRead = new LinkedHashMap<String, Boolean>();
+            for (String className : classNames) {
+                classesToRead.putIfAbsent(className, false);
+            }
+            for (String className : unlistedClasses) {
+                classesToRead.putIfAbsent(className, true);
+            }
+            ((MetadataAsmFactory) m_factory).loadMetadataClasses(classesToRead, m_parallelism);
+        }
+
         // 5 - Go through all the class names we found and add those classes
         // that have not yet been added. Be sure to check that the accessor
         // does not already exist since adding an accessor will merge its
@@ -620,6 +636,15 @@ public void setClassLoader(ClassLoader loader) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Set the number of threads reading the metadata of the persistence unit
+     * classes, 1 (the default) to read them sequentially.
+     */
+    public void setParallelism(int parallelism) {
+        m_parallelism = parallelism;
+    }
+
     /**
      * INTERNAL:
      * Use this method to set the MetadataSource class to use for loading
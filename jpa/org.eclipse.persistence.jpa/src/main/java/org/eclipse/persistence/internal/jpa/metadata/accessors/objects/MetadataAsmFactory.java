@@ -33,6 +33,11 @@
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.jpa.metadata.MetadataDescriptor;
@@ -91,18 +96,7 @@ protected void buildClassMetadata(MetadataClass metadataClass, String className,
         ClassMetadataVisitor visitor = new ClassMetadataVisitor(metadataClass, isLazy);
         InputStream stream = null;
         try {
-            String resourceString = className.replace('.', '/') + ".class";
-            if (PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
-                final String f_resourceString = resourceString;
-                stream = AccessController.doPrivileged(new PrivilegedAction<InputStream>() {
-                    @Override
-                    public InputStream run() {
-                        return m_loader.getResourceAsStream(f_resourceString);
-                    }
-                });
-            } else {
-                stream = m_loader.getResourceAsStream(resourceString);
-            }
+            stream = getClassStream(className);
 
             ClassReader reader = new ClassReader(stream);
             Attribute[] attributes = new Attribute[0];
@@ -154,6 +148,104 @@ public InputStream run() {
         }
     }
 
+    /**
+     * Return the stream of the class byte codes, or null if the class is not found.
+     */
+    protected InputStream getClassStream(String className) {
+        String resourceString = className.replace('.', '/') + ".class";
+        if (PrivilegedAccessHelper.shouldUsePrivilegedAccess()) {
+            final String f_resourceString = resourceString;
+            return AccessController.doPrivileged(new PrivilegedAction<InputStream>() {
+                @Override
+                public InputStream run() {
+                    return m_loader.getResourceAsStream(f_resourceString);
+                }
+            });
+        } else {
+            return m_loader.getResourceAsStream(resourceString);
+        }
+    }
+
+    /**
+     * Read the class metadata of the classes on the number of threads, and add
+     * them in the order of the class names, the value of each class name being
+     * whether the class is read lazily. The class byte codes are independent,
+     * so the metadata is the same as when each class is read on first use.
+     * The classes already read, and the classes that fail to be read, are left
+     * to be read on first use, which will also log their errors.
+     */
+    public void loadMetadataClasses(Map<String, Boolean> classNames, int parallelism) {
+        final List<String> names = new ArrayList<>();
+        for (String className : classNames.keySet()) {
+            if ((className != null) && !metadataClassExists(className)) {
+                names.add(className);
+            }
+        }
+        if ((parallelism < 2) || (names.size() < 2)) {
+            return;
+        }
+        List<Callable<MetadataClass>> tasks = new ArrayList<>(names.size());
+        for (final String className : names) {
+            final boolean isLazy = classNames.get(className);
+            tasks.add(new Callable<MetadataClass>() {
+                @Override
+                public MetadataClass call() {
+                    return readClassMetadata(className, isLazy);
+                }
+            });
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<MetadataClass>> results = pool.invokeAll(tasks);
+            // Add the classes in order, so the result does not depend on the threads.
+            for (int index = 0; index < names.size(); index++) {
+                MetadataClass metadataClass = results.get(index).get();
+                if ((metadataClass != null) && !metadataClassExists(names.get(index))) {
+                    addMetadataClass(metadataClass);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            // Not expected as errors are not thrown, the remaining classes are read on first use.
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Read the class metadata for the class name using ASM, without adding it,
+     * so it can be called concurrently. Return null if the class cannot be read.
+     */
+    protected MetadataClass readClassMetadata(String className, boolean isLazy) {
+        ClassMetadataVisitor visitor = new ClassMetadataVisitor(null, isLazy, false);
+        InputStream stream = null;
+        try {
+            stream = getClassStream(className);
+            if (stream == null) {
+                return null;
+            }
+            ClassReader reader = new ClassReader(stream);
+            Attribute[] attributes = new Attribute[0];
+            reader.accept(visitor, attributes, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (Exception exception) {
+            return null;
+        } finally {
+            try {
+                if (stream != null) {
+                    stream.close();
+                }
+            } catch (IOException ignore) {
+                // Ignore.
+            }
+        }
+        MetadataClass metadataClass = visitor.classMetadata;
+        if ((metadataClass == null) || !className.equals(metadataClass.getName())) {
+            return null;
+        }
+        return metadataClass;
+    }
+
     /**
      * Return the class metadata for the class name.
      */
@@ -246,11 +338,18 @@ public class ClassMetadataVisitor extends EclipseLinkClassVisitor {
         private boolean isLazy;
         private boolean processedMemeber;
         private MetadataClass classMetadata;
+        // false if the class metadata is read concurrently, and added by the caller
+        private boolean shouldAddMetadataClass;
 
         ClassMetadataVisitor(MetadataClass metadataClass, boolean isLazy) {
+            this(metadataClass, isLazy, true);
+        }
+
+        ClassMetadataVisitor(MetadataClass metadataClass, boolean isLazy, boolean shouldAddMetadataClass) {
             super();
             this.isLazy = isLazy;
             this.classMetadata = metadataClass;
+            this.shouldAddMetadataClass = shouldAddMetadataClass;
         }
 
         @Override
@@ -258,13 +357,17 @@ public void visit(int version, int access, String name, String signature, String
             String className = toClassName(name);
             if ((this.classMetadata == null) || !this.classMetadata.getName().equals(className)) {
                 this.classMetadata = new MetadataClass(MetadataAsmFactory.this, className, isLazy);
-                addMetadataClass(this.classMetadata);
+                if (this.shouldAddMetadataClass) {
+                    addMetadataClass(this.classMetadata);
+                }
             }
             this.classMetadata.setName(className);
             this.classMetadata.setSuperclassName(toClassName(superName));
             this.classMetadata.setModifiers(access);
             this.classMetadata.setGenericType(processDescription(signature, true));
 
+            // A lazy class is read again when its members are needed, do not add its interfaces twice.
+            this.classMetadata.getInterfaces().clear();
             for (String interfaceName : interfaces) {
                 this.classMetadata.addInterface(toClassName(interfaceName));
             }
@@ -51,6 +51,7 @@
 public class CacheMetadata extends ORMetadata {
     protected Boolean m_alwaysRefresh;
     protected Boolean m_disableHits;
+    protected Boolean m_preload;
     protected String m_isolation;
     protected Boolean m_refreshOnlyIfNewer;
 
@@ -91,6 +92,7 @@ public CacheMetadata(MetadataAnnotation cache, MetadataAccessor accessor) {
         }
 
         m_isolation = cache.getAttributeString("isolation");
+        m_preload = cache.getAttributeBooleanDefaultFalse("preload");
         m_size = cache.getAttributeInteger("size");
         m_type = cache.getAttributeString("type");
         m_refreshOnlyIfNewer = cache.getAttributeBooleanDefaultFalse("refreshOnlyIfNewer");
@@ -116,6 +118,10 @@ public boolean equals(Object objectToCompare) {
                 return false;
             }
 
+            if (! valuesMatch(m_preload, cache.getPreload())) {
+                return false;
+            }
+
             if (! valuesMatch(m_refreshOnlyIfNewer, cache.getRefreshOnlyIfNewer())) {
                 return false;
             }
@@ -151,6 +157,7 @@ public int hashCode() {
         int result = m_alwaysRefresh != null ? m_alwaysRefresh.hashCode() : 0;
         result = 31 * result + (m_disableHits != null ? m_disableHits.hashCode() : 0);
         result = 31 * result + (m_isolation != null ? m_isolation.hashCode() : 0);
+        result = 31 * result + (m_preload != null ? m_preload.hashCode() : 0);
         result = 31 * result + (m_refreshOnlyIfNewer != null ? m_refreshOnlyIfNewer.hashCode() : 0);
         result = 31 * result + (m_coordinationType != null ? m_coordinationType.hashCode() : 0);
         result = 31 * result + (m_databaseChangeNotificationType != null ? m_databaseChangeNotificationType.hashCode() : 0);
@@ -213,6 +220,14 @@ public String getIsolation(){
         return m_isolation;
     }
 
+    /**
+     * INTERNAL:
+     * Used for OX mapping.
+     */
+    public Boolean getPreload() {
+        return m_preload;
+    }
+
     /**
      * INTERNAL:
      * Used for OX mapping.
@@ -254,6 +269,12 @@ public void process(MetadataDescriptor descriptor, MetadataClass javaClass) {
             classDescriptor.getCachePolicy().useHardCacheWeakIdentityMap();
         } else if (m_type.equals(CacheType.CACHE.name())) {
             classDescriptor.useCacheIdentityMap();
+        } else if (m_type.equals(CacheType.CONCURRENT_CACHE.name())) {
+            classDescriptor.useConcurrentCacheIdentityMap();
+        } else if (m_type.equals(CacheType.FULL_PRIMITIVE_KEY.name())) {
+            classDescriptor.usePrimitiveKeyIdentityMap();
+        } else if (m_type.equals(CacheType.OFF_HEAP_CACHE.name())) {
+            classDescriptor.useOffHeapCacheIdentityMap();
         } else if (m_type.equals(CacheType.NONE.name())) {
             classDescriptor.getCachePolicy().useNoIdentityMap();
         }
@@ -299,6 +320,11 @@ public void process(MetadataDescriptor descriptor, MetadataClass javaClass) {
             classDescriptor.getCachePolicy().setShouldDisableCacheHits(m_disableHits);
         }
 
+        // Process preload.
+        if (m_preload != null) {
+            classDescriptor.getCachePolicy().setShouldPreload(m_preload);
+        }
+
         // Process coordination type.
         if (m_coordinationType == null) {
             // Leave as default.
@@ -390,6 +416,14 @@ public void setIsolation(String isolation){
         m_isolation = isolation;
     }
 
+    /**
+     * INTERNAL:
+     * Used for OX mapping.
+     */
+    public void setPreload(Boolean preload) {
+        m_preload = preload;
+    }
+
     /**
      * INTERNAL:
      * Used for OX mapping.
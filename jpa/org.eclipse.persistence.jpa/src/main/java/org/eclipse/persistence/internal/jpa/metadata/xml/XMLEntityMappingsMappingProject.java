@@ -834,6 +834,13 @@ protected ClassDescriptor buildCacheDescriptor() {
         databaseChangeNotificationTypeMapping.setXPath("@databaseChangeNotification-type");
         descriptor.addMapping(databaseChangeNotificationTypeMapping);
 
+        XMLDirectMapping preloadMapping = new XMLDirectMapping();
+        preloadMapping.setAttributeName("m_preload");
+        preloadMapping.setGetMethodName("getPreload");
+        preloadMapping.setSetMethodName("setPreload");
+        preloadMapping.setXPath("@preload");
+        descriptor.addMapping(preloadMapping);
+
         return descriptor;
     }
 
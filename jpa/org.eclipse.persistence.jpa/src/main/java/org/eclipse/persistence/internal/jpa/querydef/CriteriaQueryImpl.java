@@ -25,6 +25,7 @@
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.ParameterExpression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
@@ -34,15 +35,18 @@
 import org.eclipse.persistence.expressions.ExpressionBuilder;
 import org.eclipse.persistence.internal.helper.BasicTypeHelperImpl;
 import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.internal.jpa.metamodel.MetamodelImpl;
 import org.eclipse.persistence.internal.jpa.metamodel.TypeImpl;
 import org.eclipse.persistence.internal.localization.ExceptionLocalization;
 import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.security.PrivilegedGetConstructorFor;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
 
 /**
  * <p>
@@ -774,4 +778,52 @@ public DatabaseQuery translate() {
         return query;
     }
 
+    /**
+     * Translates from the criteria query to a prepared EclipseLink Database Query.
+     * PERF: The prepared query is cached in the criteria query cache of the session's project,
+     * so a criteria query with the same structure, only differing by its parameter values,
+     * is not prepared and printed again.
+     * A query with unnamed parameters is not cached, as their names are unique to the query.
+     * The query returned may be shared, and must be cloned before being changed.
+     *
+     * @see CriteriaQueryKey
+     */
+    public DatabaseQuery translate(AbstractSession session) {
+        DatabaseQuery query = translate();
+        ConcurrentFixedCache cache = session.getProject().getCriteriaQueryCache();
+        if ((cache.getMaxSize() == 0) || hasUnnamedParameters()) {
+            return query;
+        }
+        CriteriaQueryKey key = CriteriaQueryKey.buildKey(query);
+        if (key == null) {
+            return query;
+        }
+        DatabaseQuery cachedQuery = (DatabaseQuery) cache.get(key);
+        if ((cachedQuery != null) && cachedQuery.isPrepared()) {
+            return cachedQuery;
+        }
+        // The key keeps the query unprepared, as a prepared query is no longer equal to the queries translated.
+        DatabaseQuery preparedQuery = (DatabaseQuery) query.clone();
+        try {
+            preparedQuery.checkPrepare(session, new DatabaseRecord());
+        } catch (RuntimeException exception) {
+            // Report the error on execution, as if the query was not cached.
+            return query;
+        }
+        cache.put(key, preparedQuery);
+        return preparedQuery;
+    }
+
+    /**
+     * Return if the query has parameters without name or position,
+     * they are named by their identity, so no other query has the same parameters.
+     */
+    protected boolean hasUnnamedParameters() {
+        for (ParameterExpression<?> parameter : getParameters()) {
+            if ((parameter.getName() == null) && (parameter.getPosition() == null)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
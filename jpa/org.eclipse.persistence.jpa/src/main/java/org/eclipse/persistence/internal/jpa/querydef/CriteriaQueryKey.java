@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.querydef;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadAllQuery;
+
+/**
+ * <p>
+ * <b>Purpose</b>: The key of a translated criteria query in the criteria query cache.
+ * <p>
+ * <b>Description</b>: Two keys are equal if their queries have the same structure:
+ * the same reference class, selection criteria, joins, ordering and distinct state,
+ * and the same parameter names and types.
+ * The structure is compared by the expressions' structural equality,
+ * the one used to cache the SQL of dynamic expression queries,
+ * so the values of the parameters are not part of the key, but the literal values are,
+ * as they are part of the translated query.
+ * <p>
+ * The root of a criteria query is built on an expression builder of its class, and such builders are only equal to themselves,
+ * as they may be parallel builders, so the key compares a copy of the query built on a builder without class.
+ * The other builders with a class, i.e. of other roots, are kept, so their queries are never equal.
+ * <p>
+ * The parameters are compared by their internal names, the names the values are bound to.
+ * Unnamed parameters are named by their identity, so the queries with unnamed parameters never share a key,
+ * and are not cached.
+ * <p>
+ * Only the read all queries with default properties are cacheable,
+ * other queries, i.e. report queries selecting attributes or tuples, are translated every time.
+ *
+ * @see CriteriaQueryImpl#translate(org.eclipse.persistence.internal.sessions.AbstractSession)
+ */
+public class CriteriaQueryKey {
+
+    protected DatabaseQuery query;
+    protected int hashCode;
+
+    protected CriteriaQueryKey(DatabaseQuery query) {
+        this.query = query;
+        this.hashCode = query.hashCode();
+    }
+
+    /**
+     * Return the key of the translated query, or null if the query is not cacheable.
+     */
+    public static CriteriaQueryKey buildKey(DatabaseQuery query) {
+        if ((query.getClass() != ReadAllQuery.class) || !query.isExpressionQuery() || !query.isDefaultPropertiesQuery()) {
+            return null;
+        }
+        ReadAllQuery keyQuery = buildKeyQuery((ReadAllQuery)query);
+        if (keyQuery == null) {
+            return null;
+        }
+        return new CriteriaQueryKey(keyQuery);
+    }
+
+    /**
+     * Return a copy of the query built on an expression builder without class, as the queries built by the native API,
+     * or null if the root builder is not of the class of the query.
+     */
+    protected static ReadAllQuery buildKeyQuery(ReadAllQuery query) {
+        ExpressionBuilder builder = query.getExpressionBuilder();
+        if (builder.getQueryClass() == null) {
+            return query;
+        }
+        if (builder.getQueryClass() != query.getReferenceClass()) {
+            return null;
+        }
+        // The copies of the expressions are built on the new builder instead of the root builder.
+        ExpressionBuilder keyBuilder = new ExpressionBuilder();
+        Map<Expression, Expression> copies = new IdentityHashMap<>();
+        copies.put(builder, keyBuilder);
+        ReadAllQuery keyQuery = (ReadAllQuery)query.clone();
+        keyQuery.setExpressionBuilder(keyBuilder);
+        if (query.getSelectionCriteria() != null) {
+            keyQuery.setSelectionCriteria(query.getSelectionCriteria().copiedVersionFrom(copies));
+        }
+        if (query.hasOrderByExpressions()) {
+            keyQuery.setOrderByExpressions(copyExpressions(query.getOrderByExpressions(), copies));
+        }
+        if (query.hasJoining()) {
+            keyQuery.getJoinedAttributeManager().setJoinedAttributeExpressions_(copyExpressions(query.getJoinedAttributeManager().getJoinedAttributeExpressions(), copies));
+        }
+        return keyQuery;
+    }
+
+    protected static List<Expression> copyExpressions(List<Expression> expressions, Map<Expression, Expression> copies) {
+        List<Expression> copiedExpressions = new ArrayList<>(expressions.size());
+        for (Expression expression : expressions) {
+            copiedExpressions.add(expression.copiedVersionFrom(copies));
+        }
+        return copiedExpressions;
+    }
+
+    /**
+     * Return the query compared by the key, a copy of the translated query.
+     */
+    public DatabaseQuery getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CriteriaQueryKey)) {
+            return false;
+        }
+        DatabaseQuery otherQuery = ((CriteriaQueryKey)object).query;
+        if ((this.hashCode != ((CriteriaQueryKey)object).hashCode) || !this.query.equals(otherQuery)) {
+            return false;
+        }
+        return this.query.getArguments().equals(otherQuery.getArguments())
+                && this.query.getArgumentTypes().equals(otherQuery.getArgumentTypes());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CriteriaQueryKey(" + this.query + ")";
+    }
+}
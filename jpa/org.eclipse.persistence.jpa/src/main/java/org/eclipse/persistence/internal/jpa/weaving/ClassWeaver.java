@@ -1218,6 +1218,22 @@ public void addFetchGroupMethods(ClassDetails classDetails) {
         cv_checkFetchedForSet.visitMaxs(0, 0);
     }
 
+    /**
+     * Return if the class of the interfaces implements ChangeTracker, and is not woven yet.
+     * Its change tracking is then not woven, which {@link #visit} records on its class details,
+     * as the change tracking of its subclasses depends on it.
+     */
+    public static boolean implementsChangeTracker(String[] interfaces) {
+        for (String existingInterface : interfaces) {
+            if (PERSISTENCE_WEAVED_SHORT_SIGNATURE.equals(existingInterface)) {
+                return false;
+            } else if (CT_SHORT_SIGNATURE.equals(existingInterface)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Visit the class byte-codes and modify to weave Persistence interfaces.
      * This add PersistenceWeaved, PersistenceWeavedLazy,
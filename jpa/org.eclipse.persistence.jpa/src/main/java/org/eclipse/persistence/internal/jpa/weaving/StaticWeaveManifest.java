@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jpa.weaving;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.persistence.internal.helper.Helper;
+
+/**
+ * INTERNAL:
+ * The manifest of an incremental static weaving, it records the content hash of each entry of the source,
+ * and the weave hash of each class entry, the hash of its content and of the content of the classes
+ * its weaving depends on in the {@link ClassDetails} graph: its super classes, the reference classes of its attributes,
+ * and for a mapped superclass, its subclasses, as its class details are built from the first of them.
+ * The weave hash also includes whether the class and its super classes weave change tracking.
+ * <p>
+ * An entry has to be written again if its hash changed since the previous weaving, and a class has to be woven again
+ * if its weave hash changed, so the classes depending on a changed class are woven again.
+ * Everything is woven again if the checksum of the weaving, the hash of the persistence unit's configuration, changed.
+ * <p>
+ * The manifest is a text file, whose first line is the checksum,
+ * followed by a line per entry: its hash, its weave hash or "-" and its name.
+ */
+public class StaticWeaveManifest {
+
+    protected static final String NO_HASH = "-";
+
+    /** The hash of the persistence unit's configuration, i.e. its persistence.xml and mapping files. */
+    protected String checksum;
+
+    /** The content hash of each entry name. */
+    protected Map<String, String> entryHashes = new TreeMap<>();
+
+    /** The names of the class entries the weaving of each class entry depends on. */
+    protected Map<String, Set<String>> dependencies = new HashMap<>();
+
+    /** Whether each class entry weaves change tracking, its subclasses are woven depending on it. */
+    protected Map<String, Boolean> changeTracking = new HashMap<>();
+
+    /** The weave hash of each class entry name, as read from a manifest file. */
+    protected Map<String, String> weaveHashes = new HashMap<>();
+
+    public StaticWeaveManifest(String checksum) {
+        this.checksum = checksum;
+    }
+
+    /**
+     * Read the manifest from the file, return null if the file does not exist or is not a manifest.
+     */
+    public static StaticWeaveManifest read(File file) throws IOException {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            StaticWeaveManifest manifest = new StaticWeaveManifest(line);
+            while ((line = reader.readLine()) != null) {
+                String[] values = line.split(" ", 3);
+                if (values.length != 3) {
+                    return null;
+                }
+                manifest.entryHashes.put(values[2], values[0]);
+                if (!NO_HASH.equals(values[1])) {
+                    manifest.weaveHashes.put(values[2], values[1]);
+                }
+            }
+            return manifest;
+        }
+    }
+
+    /**
+     * Write the manifest to the file.
+     */
+    public void write(File file) throws IOException {
+        File directory = file.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.exists()) {
+            directory.mkdirs();
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write(this.checksum);
+            writer.newLine();
+            for (Map.Entry<String, String> entry : this.entryHashes.entrySet()) {
+                String weaveHash = getWeaveHash(entry.getKey());
+                writer.write(entry.getValue() + " " + (weaveHash == null ? NO_HASH : weaveHash) + " " + entry.getKey());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Set the content of the entry, replacing its previous content if any.
+     */
+    public void addEntry(String entryName, byte[] bytes) {
+        putEntryHash(entryName, buildHash(bytes));
+    }
+
+    /**
+     * Set the content hash of the entry, replacing its previous hash if any.
+     */
+    public void putEntryHash(String entryName, String entryHash) {
+        this.entryHashes.put(entryName, entryHash);
+    }
+
+    /**
+     * Set the class entries the weaving of each class entry depends on from the class details
+     * of the persistence units, keyed by the class names in JVM '/' format.
+     */
+    public void buildDependencies(Map<String, ClassDetails> classDetailsMap) {
+        this.dependencies.clear();
+        this.changeTracking.clear();
+        this.weaveHashes.clear();
+        for (ClassDetails classDetails : classDetailsMap.values()) {
+            String entryName = buildEntryName(classDetails.getClassName());
+            Set<String> entryNames = getDependencies(entryName);
+            for (ClassDetails details = classDetails; details != null; details = details.getSuperClassDetails()) {
+                entryNames.add(buildEntryName(details.getClassName()));
+                if (details.getSuperClassName() != null) {
+                    entryNames.add(buildEntryName(details.getSuperClassName()));
+                }
+                for (AttributeDetails attributeDetails : details.getAttributesMap().values()) {
+                    if (attributeDetails.getReferenceClassName() != null) {
+                        entryNames.add(buildEntryName(attributeDetails.getReferenceClassName()));
+                    }
+                }
+                // The mapped superclass is woven from the class details built from one of its subclasses.
+                if ((details != classDetails) && details.isMappedSuperClass()) {
+                    getDependencies(buildEntryName(details.getClassName())).add(entryName);
+                }
+            }
+            this.changeTracking.put(entryName, classDetails.shouldWeaveChangeTracking());
+        }
+        for (Map.Entry<String, Set<String>> entry : this.dependencies.entrySet()) {
+            entry.getValue().remove(entry.getKey());
+        }
+    }
+
+    /**
+     * Return the names of the class entries the weaving of the class entry depends on, added if not there yet.
+     */
+    protected Set<String> getDependencies(String entryName) {
+        return this.dependencies.computeIfAbsent(entryName, name -> new TreeSet<>());
+    }
+
+    /**
+     * Return the weave hash of the class entry: the hash of its content and of the content of its dependencies,
+     * or null if the entry is not a class entry of the manifest.
+     */
+    public String getWeaveHash(String entryName) {
+        String weaveHash = this.weaveHashes.get(entryName);
+        if (weaveHash != null || !entryName.endsWith(".class")) {
+            return weaveHash;
+        }
+        String entryHash = this.entryHashes.get(entryName);
+        if (entryHash == null) {
+            return null;
+        }
+        Set<String> entryNames = this.dependencies.get(entryName);
+        Boolean entryChangeTracking = this.changeTracking.get(entryName);
+        if ((entryNames == null || entryNames.isEmpty()) && entryChangeTracking == null) {
+            return entryHash;
+        }
+        StringBuilder hashes = new StringBuilder(entryHash);
+        if (entryChangeTracking != null) {
+            hashes.append(' ').append(entryChangeTracking);
+        }
+        if (entryNames != null) {
+            for (String dependency : entryNames) {
+                // Only the classes of the source are tracked, the others are part of the classpath.
+                String dependencyHash = this.entryHashes.get(dependency);
+                if (dependencyHash != null) {
+                    hashes.append(' ').append(dependency).append(' ').append(dependencyHash);
+                    Boolean dependencyChangeTracking = this.changeTracking.get(dependency);
+                    if (dependencyChangeTracking != null) {
+                        hashes.append(' ').append(dependencyChangeTracking);
+                    }
+                }
+            }
+        }
+        return buildHash(hashes.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Return if the source is unchanged since the previous manifest, so nothing has to be woven.
+     */
+    public boolean isUpToDate(StaticWeaveManifest previousManifest) {
+        return previousManifest != null && this.checksum.equals(previousManifest.checksum)
+                && this.entryHashes.equals(previousManifest.entryHashes);
+    }
+
+    /**
+     * Return if the entry is unchanged since the previous manifest, if it is a class entry,
+     * that its weave hash is unchanged, so its weaving would be the same as previously.
+     */
+    public boolean isUnchanged(String entryName, StaticWeaveManifest previousManifest) {
+        if (previousManifest == null || !this.checksum.equals(previousManifest.checksum)) {
+            return false;
+        }
+        String entryHash = this.entryHashes.get(entryName);
+        if (entryHash == null || !entryHash.equals(previousManifest.entryHashes.get(entryName))) {
+            return false;
+        }
+        String weaveHash = getWeaveHash(entryName);
+        return weaveHash == null || weaveHash.equals(previousManifest.getWeaveHash(entryName));
+    }
+
+    /**
+     * Return the names of the entries of the previous manifest that are no longer in the source.
+     */
+    public List<String> getRemovedEntryNames(StaticWeaveManifest previousManifest) {
+        if (previousManifest == null) {
+            return Collections.emptyList();
+        }
+        List<String> entryNames = new ArrayList<>();
+        for (String entryName : previousManifest.entryHashes.keySet()) {
+            if (!this.entryHashes.containsKey(entryName)) {
+                entryNames.add(entryName);
+            }
+        }
+        return entryNames;
+    }
+
+    /**
+     * Return the entry name of the class name, in JVM '/' or '.' format.
+     */
+    protected static String buildEntryName(String className) {
+        return Helper.toSlashedClassName(className) + ".class";
+    }
+
+    /**
+     * Return the SHA-256 hash of the bytes as a hex string.
+     */
+    public static String buildHash(byte[] bytes) {
+        try {
+            return Helper.buildHexStringFromBytes(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+}
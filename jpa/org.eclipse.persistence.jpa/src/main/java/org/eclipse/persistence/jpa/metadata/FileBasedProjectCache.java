@@ -29,7 +29,11 @@
 /**
  * <p><b>Purpose</b>: Support serializing/deserializing a project representing application metadata
  * to/from a file.
+ * <p>
+ * The project can be stored with the checksum of the persistence unit's metadata sources,
+ * so that it is only retrieved while the classes and mapping files of the persistence unit are unchanged.
  *
+ * @see PersistenceUnitProperties#PROJECT_CACHE_CHECKSUM
  */
 public class FileBasedProjectCache implements ProjectCache {
 
@@ -41,6 +45,16 @@ public FileBasedProjectCache() {
 
     @Override
     public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, SessionLog log) {
+        return retrieveProject(properties, loader, log, null);
+    }
+
+    /**
+     * Return the project serialized in the file.
+     * If a checksum is given, the project is only returned if it was stored with the same checksum,
+     * a project stored without checksum or with another checksum is ignored.
+     */
+    @Override
+    public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, SessionLog log, String checksum) {
         Project project = null;
         java.io.ObjectInputStream in = null;
         String fileName = (String)getConfigPropertyLogDebug(
@@ -51,7 +65,18 @@ public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, Se
                 java.io.File file = new java.io.File(fileName);
                 java.io.FileInputStream fis = new java.io.FileInputStream(file);
                 in = new java.io.ObjectInputStream(fis);
-                project = (Project)in.readObject();
+                Object object = in.readObject();
+                // The checksum, if stored, precedes the project.
+                String storedChecksum = null;
+                if (object instanceof String) {
+                    storedChecksum = (String)object;
+                    object = in.readObject();
+                }
+                if (checksum != null && !checksum.equals(storedChecksum)) {
+                    log.log(SessionLog.WARNING, SessionLog.JPA, "project_cache_checksum_mismatch", fileName);
+                } else {
+                    project = (Project)object;
+                }
             } catch (Exception e) {
               //need exception differentiation,logging and warnings
               //the project not being cached should be different than an exception from reading the stream
@@ -71,6 +96,14 @@ public Project retrieveProject(Map<String, ?> properties, ClassLoader loader, Se
 
     @Override
     public void storeProject(Project project, Map<String, ?> properties, SessionLog log) {
+        storeProject(project, properties, log, null);
+    }
+
+    /**
+     * Serialize the project to the file, preceded by the checksum if given.
+     */
+    @Override
+    public void storeProject(Project project, Map<String, ?> properties, SessionLog log, String checksum) {
         String fileName = (String)getConfigPropertyLogDebug(
                 PersistenceUnitProperties.PROJECT_CACHE_FILE,
                 properties, log);
@@ -83,6 +116,9 @@ public void storeProject(Project project, Map<String, ?> properties, SessionLog
                 file.createNewFile();
                 fos = new FileOutputStream(file);
                 out = new ObjectOutputStream(fos);
+                if (checksum != null) {
+                    out.writeObject(checksum);
+                }
                 out.writeObject(project);
             } catch (Exception e) {
                 //the session is still usable, just not cachable so log a warning
@@ -50,5 +50,30 @@ public interface ProjectCache {
      */
     void storeProject(Project project, Map<String, ?> properties, SessionLog log);
 
+    /**
+     * PUBLIC: This method is responsible for returning the cached metadata as represented
+     * by a Project instance, only if it was cached with the same checksum of the
+     * persistence unit's metadata sources, otherwise null is returned and the metadata is processed.
+     *
+     * By default the checksum is ignored.
+     *
+     * @see PersistenceUnitProperties#PROJECT_CACHE_CHECKSUM
+     * @since EclipseLink 4.0
+     */
+    default Project retrieveProject(Map<String, ?> properties, ClassLoader loader, SessionLog log, String checksum) {
+        return retrieveProject(properties, loader, log);
+    }
 
+    /**
+     * PUBLIC: This method is responsible for caching a project instance representing the
+     * application metadata, with the checksum of the persistence unit's metadata sources.
+     *
+     * By default the checksum is ignored.
+     *
+     * @see PersistenceUnitProperties#PROJECT_CACHE_CHECKSUM
+     * @since EclipseLink 4.0
+     */
+    default void storeProject(Project project, Map<String, ?> properties, SessionLog log, String checksum) {
+        storeProject(project, properties, log);
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.tools.metadata.jpa;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.localization.ToStringLocalization;
+import org.eclipse.persistence.jpa.PersistenceProvider;
+import org.eclipse.persistence.logging.LogLevel;
+import org.eclipse.persistence.logging.SessionLog;
+
+/**
+ * <p>
+ * <b>Description</b>: This is the command line processing class that caches the project of a persistence unit at build time,
+ * so that the metadata processing is skipped when the persistence unit is deployed.
+ * <p>
+ * The metadata of the persistence unit is processed without database connection, as when the persistence unit
+ * is only validated, and its project is serialized to the file with the checksum of the persistence unit's
+ * classes and mapping files. The file is used at runtime by the properties:
+ * <ul>
+ * <li>"<code>eclipselink.project-cache</code>"="<code>java-serialization</code>"
+ * <li>"<code>eclipselink.project-cache.java-serialization.file-location</code>"=the file
+ * <li>"<code>eclipselink.project-cache.checksum</code>"="<code>true</code>"
+ * </ul>
+ * The cached project is ignored if the checksum of the persistence unit no longer matches,
+ * so a stale file is never used. The properties that change the metadata, i.e. the weaving properties,
+ * must be the same at build time and at runtime.
+ * <p>
+ *&nbsp;<b>Usage</b>:<br>
+ *&nbsp;&nbsp;ProjectCacheGenerator [options] persistenceunit file<br>
+ *&nbsp;<b>Options</b>:<br>
+ *&nbsp;&nbsp;-classpath<br>
+ *&nbsp;&nbsp;&nbsp;&nbsp;Set the user class path, use ";" as the delimiter in Window system and ":" in Unix system.<br>
+ *&nbsp;&nbsp;-persistencexml<br>
+ *&nbsp;&nbsp;&nbsp;&nbsp;The location of the persistence.xml if it is not META-INF/persistence.xml.<br>
+ *&nbsp;&nbsp;-property<br>
+ *&nbsp;&nbsp;&nbsp;&nbsp;A persistence unit property as name=value, i.e. eclipselink.weaving=static, the option can be repeated.<br>
+ *&nbsp;&nbsp;-loglevel<br>
+ *&nbsp;&nbsp;&nbsp;&nbsp;Specify a literal value for eclipselink log level(OFF,SEVERE,WARNING,INFO,CONFIG,FINE,FINER,FINEST). The default value is OFF.<br>
+ *<b>Example</b>:<br>
+ *&nbsp;To cache the project of the persistence unit my-pu, whose classes are statically woven, to c:\my-pu.project,<br>
+ *&nbsp;ProjectCacheGenerator -classpath c:\classpath1;c:\classpath2 -property eclipselink.weaving=static my-pu c:\my-pu.project
+ *
+ * @see PersistenceUnitProperties#PROJECT_CACHE_CHECKSUM
+ */
+public class ProjectCacheGenerator {
+
+    // command line arguments
+    private String[] argv;
+
+    private String persistenceUnitName;
+
+    private String file;
+
+    private String persistenceXmlLocation;
+
+    private Map<String, Object> properties = new HashMap<>();
+
+    private String loglevel = SessionLog.OFF_LABEL;
+
+    private PrintStream vout = System.out;
+
+    private String[] classpaths;
+
+    public static void main(String[] argv) {
+        ProjectCacheGenerator generator = new ProjectCacheGenerator(argv);
+        try {
+            // Verify the command line arguments
+            generator.processCommandLine();
+            generator.start();
+        } catch (PersistenceException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new PersistenceException(exception);
+        }
+    }
+
+    public ProjectCacheGenerator(String[] argv) {
+        this.argv = argv;
+    }
+
+    /**
+     * Deploy the persistence unit without database connection to cache its project to the file.
+     * The file is replaced, so the project is always built from the metadata of the persistence unit.
+     */
+    public void start() throws Exception {
+        Map<String, Object> properties = new HashMap<>(this.properties);
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE, "java-serialization");
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_FILE, this.file);
+        properties.put(PersistenceUnitProperties.PROJECT_CACHE_CHECKSUM, "true");
+        properties.put(PersistenceUnitProperties.VALIDATION_ONLY_PROPERTY, "true");
+        properties.put(PersistenceUnitProperties.LOGGING_LEVEL, this.loglevel);
+        if (this.persistenceXmlLocation != null) {
+            properties.put(PersistenceUnitProperties.ECLIPSELINK_PERSISTENCE_XML, this.persistenceXmlLocation);
+        }
+        ClassLoader classLoader = getClassLoader();
+        if (classLoader != null) {
+            properties.put(PersistenceUnitProperties.CLASSLOADER, classLoader);
+        }
+        File projectFile = new File(this.file);
+        if (projectFile.exists() && !projectFile.delete()) {
+            throw new PersistenceException("The file " + this.file + " cannot be replaced");
+        }
+        EntityManagerFactory factory = new PersistenceProvider().createEntityManagerFactory(this.persistenceUnitName, properties);
+        if (factory == null) {
+            throw new PersistenceException("No persistence unit named " + this.persistenceUnitName);
+        }
+        factory.close();
+        if (!projectFile.exists()) {
+            // The error was logged when the project was stored.
+            throw new PersistenceException("The project of the persistence unit " + this.persistenceUnitName + " was not cached to the file " + this.file);
+        }
+    }
+
+    /*
+     * Verify command line option.
+     */
+    void processCommandLine() throws Exception {
+        if (argv.length < 2) {
+            printUsage();
+            System.exit(1);
+        }
+        for (int i = 0; i < this.argv.length; i++) {
+            if (argv[i].equalsIgnoreCase("-classpath")) {
+                // Make sure we did not run out of arguments
+                if ((i + 1) >= argv.length) {
+                    printUsage();
+                    System.exit(1);
+                }
+                classpaths = argv[i + 1].split(File.pathSeparator);
+                i++;
+                continue;
+            }
+
+            if (argv[i].equalsIgnoreCase("-persistencexml")) {
+                if ((i + 1) >= argv.length) {
+                    printUsage();
+                    System.exit(1);
+                }
+                persistenceXmlLocation = argv[i + 1];
+                i++;
+                continue;
+            }
+
+            if (argv[i].equalsIgnoreCase("-property")) {
+                if ((i + 1) >= argv.length) {
+                    printUsage();
+                    System.exit(1);
+                }
+                int index = argv[i + 1].indexOf('=');
+                if (index <= 0) {
+                    printUsage();
+                    System.exit(1);
+                }
+                properties.put(argv[i + 1].substring(0, index), argv[i + 1].substring(index + 1));
+                i++;
+                continue;
+            }
+
+            if (argv[i].equalsIgnoreCase("-loglevel")) {
+                if ((i + 1) >= argv.length) {
+                    printUsage();
+                    System.exit(1);
+                }
+                if (LogLevel.toValue(argv[i + 1].toUpperCase()) == null) {
+                    printUsage();
+                    System.exit(1);
+                }
+                loglevel = argv[i + 1].toUpperCase();
+                i++;
+                continue;
+            }
+
+            if ((persistenceUnitName != null) || ((i + 1) >= argv.length)) {
+                printUsage();
+                System.exit(1);
+            }
+            persistenceUnitName = argv[i];
+            i++;
+            file = argv[i];
+        }
+
+        // Ensure the persistence unit and the file have been specified
+        if ((persistenceUnitName == null) || (file == null)) {
+            printUsage();
+            System.exit(1);
+        }
+    }
+
+    /*
+     * print command help message
+     */
+    private void printUsage() {
+        PrintStream o = vout;
+
+        String messageString = ToStringLocalization.buildMessage("projectcache_commandline_help_message_1of14");
+        messageString += Helper.cr() + Helper.cr();
+        for (int index = 2; index <= 14; index++) {
+            messageString += ToStringLocalization.buildMessage("projectcache_commandline_help_message_" + index + "of14");
+            messageString += Helper.cr();
+            if ((index == 10) || (index == 12)) {
+                messageString += Helper.cr();
+            }
+        }
+
+        o.println(messageString);
+    }
+
+    /*
+     * Convert the specified classpath array to URL array where new classloader will build on.
+     */
+    private ClassLoader getClassLoader() throws MalformedURLException {
+        if (classpaths != null) {
+            URL[] urls = new URL[classpaths.length];
+            for (int i = 0; i < classpaths.length; i++) {
+                urls[i] = new File(classpaths[i]).toURI().toURL();
+            }
+            return new URLClassLoader(urls, Thread.currentThread().getContextClassLoader());
+        } else {
+            return null;
+        }
+    }
+}
@@ -42,13 +42,19 @@
 *&nbsp;&nbsp;&nbsp;&nbsp;The path of log file, the standard output will be the default.<br>
 *&nbsp;&nbsp;-loglevel<br>
 *&nbsp;&nbsp;&nbsp;&nbsp;Specify a literal value for eclipselink log level(OFF,SEVERE,WARNING,INFO,CONFIG,FINE,FINER,FINEST). The default value is OFF.<br>
+*&nbsp;&nbsp;-threads<br>
+*&nbsp;&nbsp;&nbsp;&nbsp;Specify the number of threads weaving the classes. The default value is 1.<br>
+*&nbsp;&nbsp;-manifest<br>
+*&nbsp;&nbsp;&nbsp;&nbsp;The path of the manifest file of the incremental weaving, only the classes changed since the previous weaving, and the classes depending on them, are woven again.<br>
 *&nbsp;&nbsp;-persistenceinfo<br>
 *&nbsp;&nbsp;&nbsp;&nbsp;The path contains META-INF/persistence.xml. This is ONLY required when the source does not include it.
 *&nbsp;The classpath must contain all the classes necessary in oder to perform weaving.<br><br>
 *&nbsp;The weaving will be performed in place if source and target point to the same location. Weaving in place is ONLY applicable for directory-based sources.<br>
 *<b>Example</b>:<br>
 *&nbsp;To weave all entities contained in c:\foo-source.jar with its persistence.xml contained within c:\foo-containing-persistence-xml.jar, and output to c:\\foo-target.jar,<br>
-*&nbsp;StaticWeave -persistenceinfo c:\foo-containing-persistencexml.jar -classpath c:\classpath1;c:\classpath2 c:\foo-source.jar c:\foo-target.jar
+*&nbsp;StaticWeave -persistenceinfo c:\foo-containing-persistencexml.jar -classpath c:\classpath1;c:\classpath2 c:\foo-source.jar c:\foo-target.jar<br>
+*&nbsp;To weave the classes of a build in place incrementally on 4 threads, i.e. from the exec-maven-plugin or a Gradle JavaExec task,<br>
+*&nbsp;StaticWeave -threads 4 -manifest target/staticweave.manifest -classpath target/dependency target/classes target/classes
 *
 **/
 
@@ -76,6 +82,10 @@ public class StaticWeave {
 
         private String[] classpaths;
 
+        private int threads = 1;
+
+        private String manifest;
+
         public static void main(String[] argv) {
 
             StaticWeave staticweaver = new StaticWeave(argv);
@@ -114,6 +124,8 @@ public void start() throws Exception {
                staticWeaverProcessor.setLog(logWriter);
             }
             staticWeaverProcessor.setLogLevel(loglevel);
+            staticWeaverProcessor.setParallelism(threads);
+            staticWeaverProcessor.setManifest(manifest);
             staticWeaverProcessor.performWeaving();
         }
 
@@ -123,7 +135,7 @@ public void start() throws Exception {
          */
         void processCommandLine() throws Exception
         {
-            if (argv.length < 2 || argv.length>12) {
+            if (argv.length < 2 || argv.length>16) {
                 printUsage();
                 System.exit(1);
             }
@@ -193,6 +205,34 @@ void processCommandLine() throws Exception
                     continue;
                 }
 
+                if (argv[i].equalsIgnoreCase("-threads")) {
+                    if ((i + 1) >= argv.length ){
+                           printUsage();
+                           System.exit(1);
+                    }
+                    try {
+                        threads=Integer.parseInt(argv[i+1]);
+                    } catch (NumberFormatException e) {
+                        threads=0;
+                    }
+                    if (threads < 1) {
+                        printUsage();
+                        System.exit(1);
+                    }
+                    i++;
+                    continue;
+                }
+
+                if (argv[i].equalsIgnoreCase("-manifest")) {
+                    if ((i + 1) >= argv.length ){
+                           printUsage();
+                           System.exit(1);
+                    }
+                    manifest=argv[i+1];
+                    i++;
+                    continue;
+                }
+
                 if(source!=null){
                     printUsage();
                     System.exit(1);
@@ -237,43 +277,51 @@ private void printUsage() {
 
             // Because we can no longer use Helper.cr() inside of message bundles, we must break
             // up the message into separate lines and use Helper.cr() here instead. (bug6470503)
-            String messageString = ToStringLocalization.buildMessage("staticweave_commandline_help_message_1of19");
+            String messageString = ToStringLocalization.buildMessage("staticweave_commandline_help_message_1of23");
             messageString += Helper.cr() + Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_2of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_2of23");
+            messageString += Helper.cr();
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_3of23");
+            messageString += Helper.cr();
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_4of23");
+            messageString += Helper.cr();
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_5of23");
+            messageString += Helper.cr();
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_6of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_3of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_7of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_4of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_8of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_5of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_9of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_6of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_10of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_7of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_11of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_8of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_12of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_9of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_13of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_10of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_14of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_11of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_15of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_12of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_16of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_13of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_17of23");
             messageString += Helper.cr() + Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_14of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_18of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_15of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_19of23");
             messageString += Helper.cr() + Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_16of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_20of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_17of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_21of23");
             messageString += Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_18of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_22of23");
             messageString += Helper.cr() + Helper.cr();
-            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_19of19");
+            messageString += ToStringLocalization.buildMessage("staticweave_commandline_help_message_23of23");
             messageString += Helper.cr() + Helper.cr();
 
             o.println(messageString);
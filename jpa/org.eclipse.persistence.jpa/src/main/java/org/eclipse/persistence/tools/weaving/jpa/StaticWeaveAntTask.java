@@ -51,6 +51,8 @@
 * Otherwise composite persistence unit member may or may not specify persistenceInfo of its composite.
 * <li>log - specify a logging file. This is optional.
 * <li>loglevel - specify a literal value of EclipseLink logging level(OFF,SEVERE,WARNING,INFO,CONFIG,FINE,FINER,FINEST) The default value is OFF(8). This is optional.
+* <li>threads - specify the number of threads weaving the classes. The default value is 1. This is optional.
+* <li>manifest - specify the manifest file of the incremental weaving, only the classes changed since the previous weaving, and the classes depending on them, are woven again. This is optional.
 * </ul>
 * <li>The weaving will be performed in place if source and target point to the same location. Weaving in place is ONLY applicable for directory-based sources.
 * </ul>
@@ -79,6 +81,8 @@ public class StaticWeaveAntTask extends Task{
     private List<Path> classPaths = new ArrayList<>();
     private int logLevel = SessionLog.OFF;
     private Writer logWriter;
+    private int threads = 1;
+    private String manifest;
 
     /**
      * Default constructor.
@@ -135,6 +139,20 @@ public void setpersistencexml(String persistenceXMLLocation) {
         this.persistencexml = persistenceXMLLocation;
     }
 
+    /**
+     * Set the number of threads weaving the classes.
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Set the manifest file of the incremental weaving.
+     */
+    public void setManifest(String manifest) {
+        this.manifest = manifest;
+    }
+
     /**
      * Add the dependent classpath in order to load classes from the specified input jar.
      */
@@ -217,6 +235,8 @@ private void start() {
                weave.setLog(logWriter);
            }
            weave.setLogLevel(this.logLevel);
+           weave.setParallelism(this.threads);
+           weave.setManifest(this.manifest);
            weave.performWeaving();
        } catch (Exception e) {
            AbstractSessionLog.getLog().logThrowable(AbstractSessionLog.SEVERE, AbstractSessionLog.WEAVER, e);
@@ -17,6 +17,7 @@
 package org.eclipse.persistence.tools.weaving.jpa;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Writer;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -35,6 +36,10 @@
 import org.eclipse.persistence.internal.jpa.deployment.ArchiveFactoryImpl;
 import org.eclipse.persistence.internal.jpa.deployment.PersistenceUnitProcessor;
 import org.eclipse.persistence.internal.jpa.deployment.SEPersistenceUnitInfo;
+import org.eclipse.persistence.internal.jpa.weaving.ClassDetails;
+import org.eclipse.persistence.internal.jpa.weaving.ClassWeaver;
+import org.eclipse.persistence.internal.jpa.weaving.PersistenceWeaver;
+import org.eclipse.persistence.internal.libraries.asm.ClassReader;
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.eclipse.persistence.exceptions.PersistenceUnitLoadingException;
 import org.eclipse.persistence.exceptions.StaticWeaveException;
@@ -93,6 +98,45 @@ public byte[] transform(String originalClassName, Class<?> originalClass, byte[]
         return newClassBytes;
     }
 
+    /**
+     * INTERNAL:
+     * Return the class details of the classes woven by the persistence units,
+     * keyed by the class names in JVM '/' format.
+     */
+    public Map<String, ClassDetails> getClassDetailsMap() {
+        Map<String, ClassDetails> classDetailsMap = new HashMap<>();
+        for (ClassTransformer transformer : classTransformers) {
+            if ((transformer instanceof PersistenceWeaver) && (((PersistenceWeaver)transformer).getClassDetailsMap() != null)) {
+                classDetailsMap.putAll(((PersistenceWeaver)transformer).getClassDetailsMap());
+            }
+        }
+        return classDetailsMap;
+    }
+
+    /**
+     * INTERNAL:
+     * Disable the change tracking weaving of the classes that already implement ChangeTracker, before any class is woven.
+     * The weaving of such a class disables it, and its subclasses are woven depending on it, so their weaving
+     * does not depend on the order the classes are woven in, or on the classes that are not woven again.
+     */
+    public void resolveChangeTracking() throws IOException {
+        for (ClassTransformer transformer : classTransformers) {
+            if (!(transformer instanceof PersistenceWeaver) || (((PersistenceWeaver)transformer).getClassDetailsMap() == null)) {
+                continue;
+            }
+            for (ClassDetails classDetails : ((PersistenceWeaver)transformer).getClassDetailsMap().values()) {
+                if (!classDetails.shouldWeaveChangeTracking()) {
+                    continue;
+                }
+                try (InputStream stream = aClassLoader.getResourceAsStream(classDetails.getClassName() + ".class")) {
+                    if ((stream != null) && ClassWeaver.implementsChangeTracker(new ClassReader(stream).getInterfaces())) {
+                        classDetails.setShouldWeaveChangeTracking(false);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * The method creates classtransformer list corresponding to each persistence unit.
      */
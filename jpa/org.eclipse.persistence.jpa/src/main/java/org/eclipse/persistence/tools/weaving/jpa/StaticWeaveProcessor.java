@@ -19,16 +19,33 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 
+import org.eclipse.persistence.Version;
 import org.eclipse.persistence.exceptions.StaticWeaveException;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.jpa.deployment.ArchiveFactoryImpl;
@@ -36,6 +53,7 @@
 import org.eclipse.persistence.internal.jpa.weaving.AbstractStaticWeaveOutputHandler;
 import org.eclipse.persistence.internal.jpa.weaving.StaticWeaveDirectoryOutputHandler;
 import org.eclipse.persistence.internal.jpa.weaving.StaticWeaveJAROutputHandler;
+import org.eclipse.persistence.internal.jpa.weaving.StaticWeaveManifest;
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
 import org.eclipse.persistence.jpa.Archive;
 import org.eclipse.persistence.logging.AbstractSessionLog;
@@ -47,6 +65,16 @@
  * StaticWeave class and the StaticWeaveAntTask.
  * <p>
  * <b>Responsibilities</b>: Process the source classes, performs weaving as necessary out outputs to the target
+ * <p>
+ * The classes are woven on the number of threads set by {@link #setParallelism(int)}, and the target is written
+ * in the order of the source entries, so it does not depend on the threads.
+ * <p>
+ * If a manifest file is set by {@link #setManifest(File)}, the weaving is incremental: the manifest records the
+ * content hash of each source entry, and the next weaving only weaves again the classes that changed since,
+ * and the classes depending on them in the {@link org.eclipse.persistence.internal.jpa.weaving.ClassDetails} graph.
+ * Nothing is done if the source is unchanged, and everything is woven again if the persistence.xml,
+ * a mapping file or the EclipseLink version changed. The classes of the classpath are not tracked,
+ * the manifest file must be deleted to weave everything again when they change.
  */
 @SuppressWarnings("deprecation")
 public class StaticWeaveProcessor {
@@ -57,6 +85,8 @@ public class StaticWeaveProcessor {
     private Writer logWriter;
     private ClassLoader classLoader;
     private int logLevel = SessionLog.OFF;
+    private int parallelism = 1;
+    private File manifestFile;
 
     private static final int NUMBER_OF_BYTES = 1024;
 
@@ -110,6 +140,34 @@ public void setLogLevel(int level){
         this.logLevel = level;
     }
 
+    /**
+     * Set the number of threads weaving the classes, the default is 1.
+     * @param parallelism the number of threads, at least 1
+     */
+    public void setParallelism(int parallelism){
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism = [" + parallelism + "]");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Set the manifest file of the incremental weaving, the default is null,
+     * so all the classes are woven.
+     * @param manifestFile the file recording the source entries woven to the target
+     */
+    public void setManifest(File manifestFile){
+        this.manifestFile = manifestFile;
+    }
+
+    /**
+     * Set the manifest file of the incremental weaving.
+     * @param manifestPath the path of the file recording the source entries woven to the target
+     */
+    public void setManifest(String manifestPath){
+        this.manifestFile = (manifestPath == null) ? null : new File(manifestPath);
+    }
+
     /**
      * Set the user classloader.
      */
@@ -229,110 +287,307 @@ private void preProcess() throws URISyntaxException,MalformedURLException{
      * The method performs weaving function
      */
     private void process() throws IOException,URISyntaxException{
-        // Instantiate output handler.
-        AbstractStaticWeaveOutputHandler swoh;
-        if (isDirectory(this.target)) {
-            swoh= new StaticWeaveDirectoryOutputHandler(this.source,this.target);
-        }else{
-            swoh= new StaticWeaveJAROutputHandler(new JarOutputStream(new FileOutputStream(new File(Helper.toURI(this.target)))));
-        }
-
         // Instantiate classloader.
         this.classLoader = (this.classLoader == null)? Thread.currentThread().getContextClassLoader():this.classLoader;
         this.classLoader = new URLClassLoader(getURLs(), this.classLoader);
 
-        // Instantiate the classtransformer, we check if the persistenceinfo URL has been specified.
-        StaticWeaveClassTransformer classTransformer=null;
-        if (persistenceInfo!=null) {
-            classTransformer = new StaticWeaveClassTransformer(persistenceInfo, persistenceXMLLocation, this.classLoader,this.logWriter,this.logLevel);
-        } else{
-            classTransformer = new StaticWeaveClassTransformer(source, persistenceXMLLocation, this.classLoader,this.logWriter,this.logLevel);
-        }
-
         // Starting process.
         Archive sourceArchive =(new ArchiveFactoryImpl()).createArchive(source, null, null);
-        if (sourceArchive != null) {
-            try {
-                Iterator<String> entries = sourceArchive.getEntries();
-                while (entries.hasNext()){
-                    String entryName = entries.next();
-                    InputStream entryInputStream = sourceArchive.getEntry(entryName);
-
-                    // Add a directory entry
-                    swoh.addDirEntry(getDirectoryFromEntryName(entryName));
-
-                    // Add a regular entry
-                    JarEntry newEntry = new JarEntry(entryName);
-
-                    // Ignore non-class files.
-                    if (!entryName.endsWith(".class") || "module-info.class".equals(entryName)) {
-                        swoh.addEntry(entryInputStream, newEntry);
-                        continue;
-                    }
+        if (sourceArchive == null) {
+            return;
+        }
+        AbstractStaticWeaveOutputHandler swoh = null;
+        File previousTargetFile = null;
+        JarFile previousTarget = null;
+        try {
+            List<String> entryNames = new ArrayList<>();
+            Iterator<String> entries = sourceArchive.getEntries();
+            while (entries.hasNext()) {
+                entryNames.add(entries.next());
+            }
 
-                    String className = PersistenceUnitProcessor.buildClassNameFromEntryString(entryName) ;
+            // In incremental mode, nothing is woven if the source is unchanged since the previous weaving.
+            File targetFile = new File(Helper.toURI(this.target));
+            StaticWeaveManifest manifest = null;
+            StaticWeaveManifest previousManifest = null;
+            if (this.manifestFile != null) {
+                manifest = buildManifest(sourceArchive, entryNames);
+                if (targetFile.exists()) {
+                    previousManifest = StaticWeaveManifest.read(this.manifestFile);
+                }
+                if (manifest.isUpToDate(previousManifest)) {
+                    AbstractSessionLog.getLog().log(SessionLog.FINE, SessionLog.WEAVER,
+                            ToStringLocalization.buildMessage("staticweave_processor_up_to_date", new Object[] {this.target}), null, false);
+                    return;
+                }
+            }
+
+            // Instantiate the classtransformer, we check if the persistenceinfo URL has been specified.
+            StaticWeaveClassTransformer classTransformer=null;
+            if (persistenceInfo!=null) {
+                classTransformer = new StaticWeaveClassTransformer(persistenceInfo, persistenceXMLLocation, this.classLoader,this.logWriter,this.logLevel);
+            } else{
+                classTransformer = new StaticWeaveClassTransformer(source, persistenceXMLLocation, this.classLoader,this.logWriter,this.logLevel);
+            }
+
+            // The classes are woven in any order, on any thread, and only some of them in incremental mode.
+            classTransformer.resolveChangeTracking();
+
+            // Only the changed classes, and the classes depending on them, are woven again in incremental mode.
+            Set<String> unchangedEntryNames = new HashSet<>();
+            List<String> classEntryNames = new ArrayList<>();
+            if (manifest != null) {
+                manifest.buildDependencies(classTransformer.getClassDetailsMap());
+            }
+            for (String entryName : entryNames) {
+                if ((manifest != null) && manifest.isUnchanged(entryName, previousManifest)) {
+                    unchangedEntryNames.add(entryName);
+                } else if (entryName.endsWith(".class") && !"module-info.class".equals(entryName)) {
+                    classEntryNames.add(entryName);
+                }
+            }
+            Map<String, byte[]> transferredClasses = weaveClasses(classEntryNames, classTransformer);
+
+            // Instantiate output handler, the previous target jar is kept to copy its unchanged entries.
+            boolean isDirectoryTarget = isDirectory(this.target);
+            if (isDirectoryTarget) {
+                swoh= new StaticWeaveDirectoryOutputHandler(this.source,this.target);
+            }else{
+                if (previousManifest != null) {
+                    previousTargetFile = new File(targetFile.getPath() + ".previous");
+                    Files.move(targetFile.toPath(), previousTargetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    previousTarget = new JarFile(previousTargetFile);
+                }
+                swoh= new StaticWeaveJAROutputHandler(new JarOutputStream(new FileOutputStream(targetFile)));
+            }
 
-                    byte[] originalClassBytes=null;
-                    byte[] transferredClassBytes=null;
-                    try {
-                        Class<?> thisClass = this.classLoader.loadClass(className);
-                        // If the class is not in the classpath, we simply copy the entry
-                        // to the target(no weaving).
-                        if (thisClass == null){
-                            swoh.addEntry(entryInputStream, newEntry);
+            // The entries are written in their order, whatever the order they were woven in.
+            boolean isInPlace = this.target.toString().equals(this.source.toString());
+            for (String entryName : entryNames) {
+                // Add a directory entry
+                swoh.addDirEntry(getDirectoryFromEntryName(entryName));
+
+                // Add a regular entry
+                JarEntry newEntry = new JarEntry(entryName);
+
+                // If transferredClassBytes is null means the class dose not get woven.
+                byte[] transferredClassBytes = transferredClasses.get(entryName);
+                if (transferredClassBytes != null) {
+                    swoh.addEntry(newEntry, transferredClassBytes);
+                    if ((manifest != null) && isInPlace) {
+                        // The woven class is the source of the next weaving.
+                        manifest.addEntry(entryName, transferredClassBytes);
+                    }
+                    continue;
+                }
+
+                // Keep the unchanged entry written by the previous weaving.
+                if (unchangedEntryNames.contains(entryName)) {
+                    if (isDirectoryTarget) {
+                        if (new File(targetFile, entryName).exists()) {
                             continue;
                         }
-
-                        // Try to read the loaded class bytes, the class bytes is required for
-                        // classtransformer to perform transfer. Simply copy entry to the target(no weaving)
-                        // if the class bytes can't be read.
-                        InputStream is = this.classLoader.getResourceAsStream(entryName);
-                        if (is!=null){
-                            ByteArrayOutputStream baos = null;
-                            try{
-                                baos = new ByteArrayOutputStream();
-                                byte[] bytes = new byte[NUMBER_OF_BYTES];
-                                int bytesRead = is.read(bytes, 0, NUMBER_OF_BYTES);
-                                while (bytesRead >= 0){
-                                    baos.write(bytes, 0, bytesRead);
-                                    bytesRead = is.read(bytes, 0, NUMBER_OF_BYTES);
-                                }
-                                originalClassBytes = baos.toByteArray();
-                            } finally {
-                                baos.close();
-                                is.close();
+                    } else if (previousTarget != null) {
+                        JarEntry previousEntry = previousTarget.getJarEntry(entryName);
+                        if (previousEntry != null) {
+                            try (InputStream entryInputStream = previousTarget.getInputStream(previousEntry)) {
+                                swoh.addEntry(entryInputStream, newEntry);
                             }
-                        } else {
-                            swoh.addEntry(entryInputStream, newEntry);
                             continue;
                         }
+                    }
+                }
+                try (InputStream entryInputStream = sourceArchive.getEntry(entryName)) {
+                    swoh.addEntry(entryInputStream, newEntry);
+                }
+            }
 
-                        // If everything is OK so far, we perform the weaving. we need three parameters in order to
-                        // class to perform weaving for that class, the class name,the class object and class bytes.
-                        transferredClassBytes = classTransformer.transform(className.replace('.', '/'), thisClass, originalClassBytes);
-
-                        // If transferredClassBytes is null means the class dose not get woven.
-                        if (transferredClassBytes!=null){
-                            swoh.addEntry(newEntry, transferredClassBytes);
-                        } else {
-                            swoh.addEntry(entryInputStream, newEntry);
+            if (manifest != null) {
+                // Remove the entries removed from the source since the previous weaving.
+                if (isDirectoryTarget && !isInPlace) {
+                    for (String entryName : manifest.getRemovedEntryNames(previousManifest)) {
+                        File removedFile = new File(targetFile, entryName);
+                        if (removedFile.isFile() && !removedFile.delete()) {
+                            AbstractSessionLog.getLog().log(SessionLog.FINE, SessionLog.WEAVER,
+                                    ToStringLocalization.buildMessage("staticweave_processor_file_not_deleted", new Object[] {removedFile}), null, false);
                         }
-                    } catch (Throwable e) {
-                        AbstractSessionLog.getLog().logThrowable(AbstractSessionLog.WARNING, AbstractSessionLog.WEAVER, e);
-                        // Anything went wrong, we need log a warning message, copy the entry to the target and
-                        // process next entry.
-                        swoh.addEntry(entryInputStream, newEntry);
-                        continue;
-                    } finally {
-                        // Need close the inputstream for current entry before processing next one.
-                        entryInputStream.close();
                     }
                 }
-            } finally {
-                sourceArchive.close();
+                manifest.write(this.manifestFile);
+                AbstractSessionLog.getLog().log(SessionLog.FINE, SessionLog.WEAVER,
+                        ToStringLocalization.buildMessage("staticweave_processor_incremental", new Object[] {classEntryNames.size(), this.target}), null, false);
+            }
+        } finally {
+            sourceArchive.close();
+            if (swoh != null) {
                 swoh.closeOutputStream();
             }
+            if (previousTarget != null) {
+                previousTarget.close();
+                if (!previousTargetFile.delete()) {
+                    AbstractSessionLog.getLog().log(SessionLog.FINE, SessionLog.WEAVER,
+                            ToStringLocalization.buildMessage("staticweave_processor_file_not_deleted", new Object[] {previousTargetFile}), null, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Weave the classes of the entries on the number of threads, the classes being woven independently.
+     * Return the woven class bytes of each entry name, the classes that do not get woven are not returned.
+     */
+    private Map<String, byte[]> weaveClasses(final List<String> entryNames, final StaticWeaveClassTransformer classTransformer) throws IOException {
+        Map<String, byte[]> transferredClasses = new HashMap<>();
+        if ((this.parallelism < 2) || (entryNames.size() < 2)) {
+            for (String entryName : entryNames) {
+                byte[] transferredClassBytes = weaveClass(entryName, classTransformer);
+                if (transferredClassBytes != null) {
+                    transferredClasses.put(entryName, transferredClassBytes);
+                }
+            }
+            return transferredClasses;
+        }
+        List<Callable<byte[]>> tasks = new ArrayList<>(entryNames.size());
+        for (final String entryName : entryNames) {
+            tasks.add(new Callable<byte[]>() {
+                @Override
+                public byte[] call() {
+                    return weaveClass(entryName, classTransformer);
+                }
+            });
+        }
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            List<Future<byte[]>> results = pool.invokeAll(tasks);
+            for (int index = 0; index < entryNames.size(); index++) {
+                byte[] transferredClassBytes = results.get(index).get();
+                if (transferredClassBytes != null) {
+                    transferredClasses.put(entryNames.get(index), transferredClassBytes);
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(exception.getMessage());
+        } catch (ExecutionException exception) {
+            // Not expected as the weaving errors are logged.
+            throw StaticWeaveException.exceptionPerformWeaving(exception, this.source);
+        } finally {
+            pool.shutdown();
+        }
+        return transferredClasses;
+    }
+
+    /**
+     * INTERNAL:
+     * Weave the class of the entry, it can be called concurrently.
+     * Return the woven class bytes, or null if the class does not get woven.
+     */
+    private byte[] weaveClass(String entryName, StaticWeaveClassTransformer classTransformer) {
+        String className = PersistenceUnitProcessor.buildClassNameFromEntryString(entryName) ;
+
+        byte[] originalClassBytes=null;
+        try {
+            Class<?> thisClass = this.classLoader.loadClass(className);
+            // If the class is not in the classpath, we simply copy the entry
+            // to the target(no weaving).
+            if (thisClass == null){
+                return null;
+            }
+
+            // Try to read the loaded class bytes, the class bytes is required for
+            // classtransformer to perform transfer. Simply copy entry to the target(no weaving)
+            // if the class bytes can't be read.
+            InputStream is = this.classLoader.getResourceAsStream(entryName);
+            if (is!=null){
+                ByteArrayOutputStream baos = null;
+                try{
+                    baos = new ByteArrayOutputStream();
+                    byte[] bytes = new byte[NUMBER_OF_BYTES];
+                    int bytesRead = is.read(bytes, 0, NUMBER_OF_BYTES);
+                    while (bytesRead >= 0){
+                        baos.write(bytes, 0, bytesRead);
+                        bytesRead = is.read(bytes, 0, NUMBER_OF_BYTES);
+                    }
+                    originalClassBytes = baos.toByteArray();
+                } finally {
+                    baos.close();
+                    is.close();
+                }
+            } else {
+                return null;
+            }
+
+            // If everything is OK so far, we perform the weaving. we need three parameters in order to
+            // class to perform weaving for that class, the class name,the class object and class bytes.
+            return classTransformer.transform(className.replace('.', '/'), thisClass, originalClassBytes);
+        } catch (Throwable e) {
+            AbstractSessionLog.getLog().logThrowable(AbstractSessionLog.WARNING, AbstractSessionLog.WEAVER, e);
+            // Anything went wrong, we need log a warning message, the entry is copied to the target.
+            return null;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Build the manifest of the source entries, its checksum is the hash of the weaving configuration:
+     * the EclipseLink version, the location of the persistence.xml and the other entries than the classes
+     * of the source and of the location containing the persistence.xml.
+     */
+    private StaticWeaveManifest buildManifest(Archive sourceArchive, List<String> entryNames) throws IOException, URISyntaxException {
+        Map<String, String> entryHashes = new LinkedHashMap<>();
+        for (String entryName : entryNames) {
+            try (InputStream entryInputStream = sourceArchive.getEntry(entryName)) {
+                entryHashes.put(entryName, StaticWeaveManifest.buildHash(readBytes(entryInputStream)));
+            }
+        }
+        StringBuilder configuration = new StringBuilder(Version.getVersionString());
+        configuration.append(' ').append(this.persistenceXMLLocation);
+        for (Map.Entry<String, String> entry : entryHashes.entrySet()) {
+            if (!entry.getKey().endsWith(".class")) {
+                configuration.append(' ').append(entry.getKey()).append(' ').append(entry.getValue());
+            }
+        }
+        if (this.persistenceInfo != null) {
+            Archive persistenceInfoArchive = (new ArchiveFactoryImpl()).createArchive(this.persistenceInfo, null, null);
+            if (persistenceInfoArchive != null) {
+                try {
+                    Iterator<String> persistenceInfoEntries = persistenceInfoArchive.getEntries();
+                    while (persistenceInfoEntries.hasNext()) {
+                        String entryName = persistenceInfoEntries.next();
+                        if (!entryName.endsWith(".class")) {
+                            try (InputStream entryInputStream = persistenceInfoArchive.getEntry(entryName)) {
+                                configuration.append(' ').append(entryName).append(' ').append(StaticWeaveManifest.buildHash(readBytes(entryInputStream)));
+                            }
+                        }
+                    }
+                } finally {
+                    persistenceInfoArchive.close();
+                }
+            }
+        }
+        StaticWeaveManifest manifest = new StaticWeaveManifest(StaticWeaveManifest.buildHash(configuration.toString().getBytes(StandardCharsets.UTF_8)));
+        for (Map.Entry<String, String> entry : entryHashes.entrySet()) {
+            manifest.putEntryHash(entry.getKey(), entry.getValue());
+        }
+        return manifest;
+    }
+
+    /**
+     * Read the bytes of the entry input stream, a directory entry has none.
+     */
+    private static byte[] readBytes(InputStream entryInputStream) throws IOException {
+        if (entryInputStream == null) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] bytes = new byte[NUMBER_OF_BYTES];
+        int bytesRead = entryInputStream.read(bytes, 0, NUMBER_OF_BYTES);
+        while (bytesRead >= 0){
+            baos.write(bytes, 0, bytesRead);
+            bytesRead = entryInputStream.read(bytes, 0, NUMBER_OF_BYTES);
         }
+        return baos.toByteArray();
     }
 
     //Extract directory from entry name.
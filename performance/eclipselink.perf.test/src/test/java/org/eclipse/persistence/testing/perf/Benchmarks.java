@@ -60,6 +60,10 @@ public static void main(String[] args) throws RunnerException {
 //                .include(getInclude(JPAValidationBenchmark.class))
 //                .include(getInclude(ReferenceResolverBenchmark.class))
 //                .include(getInclude(CaseInsensitiveUnmarshalBenchmark.class))
+//                .include(getInclude(IdentityMapBenchmark.class))
+//                .include(getInclude(PrimitiveKeyIdentityMapBenchmark.class))
+//                .include(getInclude(ChangeSetSerializerBenchmark.class))
+//                .include(getInclude(DeferredChangeDetectionBenchmark.class))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
                 .warmupIterations(warmupIterations)
@@ -16,6 +16,10 @@
 
 import org.eclipse.persistence.testing.perf.jpa.tests.basic.JPAMetadataProcessingTests;
 import org.eclipse.persistence.testing.perf.jpa.tests.basic.MethodHandleComparisonTests;
+import org.eclipse.persistence.testing.perf.jpa.tests.orm.JPAReadBenchmark;
+import org.eclipse.persistence.testing.perf.jpa.tests.orm.JPAWriteBenchmark;
+import org.eclipse.persistence.testing.perf.jpa.tests.orm.JPQLBenchmark;
+import org.eclipse.persistence.testing.perf.sequencing.SequencePreallocationBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -41,6 +45,10 @@ public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(getInclude(JPAMetadataProcessingTests.class))
                 .include(getInclude(MethodHandleComparisonTests.class))
+                .include(getInclude(JPAReadBenchmark.class))
+                .include(getInclude(JPAWriteBenchmark.class))
+                .include(getInclude(JPQLBenchmark.class))
+                .include(getInclude(SequencePreallocationBenchmark.class))
                 .jvmArgsPrepend("-javaagent:" + System.getProperty("eclipselink.agent"))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.changetracking;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.descriptors.VersionLockingPolicy;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the change calculation of a flush, for a unit of work holding many objects read and a few changed,
+ * with deferred change detection comparing all the objects, and skipping the unchanged objects.
+ * No database is used, the objects are registered from the cache.
+ */
+@State(Scope.Benchmark)
+public class DeferredChangeDetectionBenchmark {
+
+    private static final int CHANGED = 10;
+
+    @Param({"false", "true"})
+    public boolean skipUnchanged;
+
+    @Param({"1000", "50000"})
+    public int objects;
+
+    private UnitOfWork uow;
+
+    public static final class Employee {
+        public Long id;
+        public String firstName;
+        public String lastName;
+        public BigDecimal salary;
+        public LocalDate hireDate;
+        public Employee manager;
+        public Long version;
+    }
+
+    @Setup
+    public void setup() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "EMPLOYEE.L_NAME");
+        descriptor.addDirectMapping("salary", "EMPLOYEE.SALARY");
+        descriptor.addDirectMapping("hireDate", "EMPLOYEE.HIRE_DATE");
+        descriptor.addDirectMapping("version", "EMPLOYEE.VERSION");
+        OneToOneMapping managerMapping = new OneToOneMapping();
+        managerMapping.setAttributeName("manager");
+        managerMapping.setReferenceClass(Employee.class);
+        managerMapping.addForeignKeyFieldName("EMPLOYEE.MANAGER_ID", "EMPLOYEE.ID");
+        managerMapping.dontUseIndirection();
+        descriptor.addMapping(managerMapping);
+        VersionLockingPolicy lockingPolicy = new VersionLockingPolicy("EMPLOYEE.VERSION");
+        lockingPolicy.storeInObject();
+        descriptor.setOptimisticLockingPolicy(lockingPolicy);
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        project.setShouldSkipUnchangedObjects(skipUnchanged);
+        DatabaseSessionImpl session = (DatabaseSessionImpl) project.createDatabaseSession();
+        session.dontLogMessages();
+        session.initializeDescriptors();
+
+        List<Employee> employees = new ArrayList<>(objects);
+        for (int index = 0; index < objects; index++) {
+            Employee employee = new Employee();
+            employee.id = (long) index;
+            employee.firstName = "First" + index;
+            employee.lastName = "Last" + index;
+            employee.salary = BigDecimal.valueOf(50000 + index, 2);
+            employee.hireDate = LocalDate.of(2000, 1, 1).plusDays(index % 5000);
+            employee.manager = (index == 0) ? null : employees.get(index / 10);
+            employee.version = 1L;
+            employees.add(employee);
+            session.getIdentityMapAccessor().putInIdentityMap(employee);
+        }
+        // The persistence context of the objects read, a few of them changed.
+        uow = session.acquireUnitOfWork();
+        for (int index = 0; index < objects; index++) {
+            Employee employee = (Employee) uow.registerObject(employees.get(index));
+            if ((index % (objects / CHANGED)) == 0) {
+                employee.lastName = employee.lastName + " changed";
+            }
+        }
+    }
+
+    @Benchmark
+    public Object testCalculateChanges() {
+        return uow.getCurrentChanges();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.coordination;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.DatabaseSession;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
+import org.eclipse.persistence.sessions.coordination.ServiceId;
+import org.eclipse.persistence.sessions.serializers.CompactSerializer;
+import org.eclipse.persistence.sessions.serializers.JavaSerializer;
+import org.eclipse.persistence.sessions.serializers.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the serialization of the change sets sent by cache coordination with Java serialization
+ * and the CompactSerializer, with and without deflating the messages.
+ * The XML and JSON serializers are not compared, as the commands and change sets have no JAXB mappings.
+ */
+@State(Scope.Benchmark)
+public class ChangeSetSerializerBenchmark {
+
+    @Param({"Java", "Compact", "CompactDeflate"})
+    public String serializerType;
+
+    @Param({"1", "100"})
+    public int changeSets;
+
+    private DatabaseSession session;
+
+    private Serializer serializer;
+
+    private MergeChangeSetCommand command;
+
+    private Object message;
+
+    public static final class Employee {
+        public Long id;
+        public String firstName;
+        public String lastName;
+        public BigDecimal salary;
+        public LocalDate hireDate;
+        public Integer version;
+    }
+
+    @Setup
+    public void setup() {
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Employee.class);
+        descriptor.addTableName("EMPLOYEE");
+        descriptor.addPrimaryKeyFieldName("EMPLOYEE.ID");
+        descriptor.addDirectMapping("id", "EMPLOYEE.ID");
+        descriptor.addDirectMapping("firstName", "EMPLOYEE.F_NAME");
+        descriptor.addDirectMapping("lastName", "EMPLOYEE.L_NAME");
+        descriptor.addDirectMapping("salary", "EMPLOYEE.SALARY");
+        descriptor.addDirectMapping("hireDate", "EMPLOYEE.HIRE_DATE");
+        descriptor.addDirectMapping("version", "EMPLOYEE.VERSION");
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(descriptor);
+        session = project.createDatabaseSession();
+
+        if ("Java".equals(serializerType)) {
+            serializer = JavaSerializer.instance;
+        } else if ("Compact".equals(serializerType)) {
+            serializer = new CompactSerializer(-1);
+        } else {
+            serializer = new CompactSerializer(0);
+        }
+        serializer.initialize(UnitOfWorkChangeSet.class, null, session);
+
+        // The change sets of updates of the salary and last name of employees, as merged by cache coordination.
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = new IdentityHashMap<>();
+        for (int index = 0; index < changeSets; index++) {
+            ObjectChangeSet changeSet = new ObjectChangeSet();
+            changeSet.setClassName(Employee.class.getName());
+            changeSet.setId((long) index);
+            changeSet.setCacheSynchronizationType(ClassDescriptor.SEND_OBJECT_CHANGES);
+            changeSet.setInitialWriteLockValue(index % 10);
+            changeSet.setWriteLockValue((index % 10) + 1);
+            addChange(changeSet, "salary", BigDecimal.valueOf(50000 + index, 2));
+            addChange(changeSet, "lastName", "Smith-" + index);
+            addChange(changeSet, "version", (index % 10) + 1);
+            allChangeSets.put(changeSet, changeSet);
+        }
+        UnitOfWorkChangeSet changeSet = new UnitOfWorkChangeSet();
+        changeSet.setAllChangeSets(allChangeSets);
+        command = new MergeChangeSetCommand();
+        command.setChangeSet(changeSet);
+        command.setServiceId(new ServiceId("EclipseLinkCommandChannel", "1", "rmi://localhost:1099"));
+        message = serializer.serialize(command, session);
+    }
+
+    private void addChange(ObjectChangeSet changeSet, String attribute, Object newValue) {
+        DirectToFieldChangeRecord change = new DirectToFieldChangeRecord(changeSet);
+        change.setAttribute(attribute);
+        change.setNewValue(newValue);
+        changeSet.getChanges().add(change);
+    }
+
+    @Benchmark
+    public Object testSerialize() {
+        return serializer.serialize(command, session);
+    }
+
+    @Benchmark
+    public Object testDeserialize() {
+        return serializer.deserialize(message, session);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.identitymaps;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.identitymaps.CacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.ConcurrentCacheIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.SoftCacheWeakIdentityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the fixed size identity maps under a read mostly load, with 1 in 10 operations a put.
+ * Keys are drawn from twice the map size, so the maps keep evicting.
+ */
+@State(Scope.Benchmark)
+public class IdentityMapBenchmark {
+
+    private static final int SIZE = 1000;
+
+    @Param({"CacheIdentityMap", "SoftCacheWeakIdentityMap", "ConcurrentCacheIdentityMap"})
+    public String mapType;
+
+    private IdentityMap map;
+
+    private Integer[] keys;
+
+    @Setup
+    public void prepare() {
+        if ("CacheIdentityMap".equals(mapType)) {
+            map = new CacheIdentityMap(SIZE, null, null, false);
+        } else if ("SoftCacheWeakIdentityMap".equals(mapType)) {
+            map = new SoftCacheWeakIdentityMap(SIZE, null, null, false);
+        } else {
+            map = new ConcurrentCacheIdentityMap(SIZE, null, null, false);
+        }
+        keys = new Integer[SIZE * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+            if (i < SIZE) {
+                map.put(keys[i], keys[i], null, 0);
+            }
+        }
+    }
+
+    private void readMostly(Blackhole bh) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(keys.length)];
+        if (random.nextInt(10) == 0) {
+            bh.consume(map.put(key, key, null, 0));
+        } else {
+            bh.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void testReadMostly1Thread(Blackhole bh) {
+        readMostly(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testReadMostly8Threads(Blackhole bh) {
+        readMostly(bh);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void testReadMostly32Threads(Blackhole bh) {
+        readMostly(bh);
+    }
+}
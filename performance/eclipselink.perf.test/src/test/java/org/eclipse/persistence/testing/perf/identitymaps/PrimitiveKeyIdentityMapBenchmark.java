@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.identitymaps;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.persistence.internal.identitymaps.FullIdentityMap;
+import org.eclipse.persistence.internal.identitymaps.IdentityMap;
+import org.eclipse.persistence.internal.identitymaps.PrimitiveKeyIdentityMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the FullIdentityMap and the PrimitiveKeyIdentityMap for Long primary keys.
+ * The lookups use boxed keys, as extracted from the rows, except for the primitive lookup.
+ * The populate benchmark builds a map of the given size, run it with "-prof gc" to compare
+ * the memory allocated by each map.
+ */
+@State(Scope.Benchmark)
+public class PrimitiveKeyIdentityMapBenchmark {
+
+    @Param({"FullIdentityMap", "PrimitiveKeyIdentityMap"})
+    public String mapType;
+
+    @Param({"100000"})
+    public int size;
+
+    private IdentityMap map;
+
+    private Long[] keys;
+
+    private Object[] objects;
+
+    @Setup
+    public void prepare() {
+        keys = new Long[size];
+        objects = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (long) i;
+            objects[i] = new Object();
+        }
+        map = populate();
+    }
+
+    private IdentityMap newMap() {
+        if ("FullIdentityMap".equals(mapType)) {
+            return new FullIdentityMap(size, null, null, false);
+        }
+        return new PrimitiveKeyIdentityMap(size, null, null, false);
+    }
+
+    private IdentityMap populate() {
+        IdentityMap newMap = newMap();
+        for (int i = 0; i < size; i++) {
+            newMap.put(keys[i], objects[i], null, 0);
+        }
+        return newMap;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object testGetHit1Thread() {
+        return map.get(keys[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object testGetHit8Threads() {
+        return map.get(keys[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object testGetMiss1Thread() {
+        return map.get(Long.valueOf(-1 - ThreadLocalRandom.current().nextInt(100)));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void testGetPrimitive1Thread(Blackhole bh) {
+        long key = ThreadLocalRandom.current().nextInt(size);
+        if (map instanceof PrimitiveKeyIdentityMap) {
+            bh.consume(((PrimitiveKeyIdentityMap) map).getCacheKey(key));
+        } else {
+            bh.consume(map.getCacheKey(key, false));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public IdentityMap testPopulate() {
+        return populate();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.orm;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryImpl;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.Address;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.Employee;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.Gender;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Common setup of the ORM benchmarks, creates the Employee model tables and populates them.
+ * The database is the one started for the performance tests by the build.
+ * Projects are not populated, as the count queries of the Populate example fail for the
+ * abstract table per class Project on Derby.
+ */
+@State(Scope.Benchmark)
+public abstract class EmployeeBenchmarkBase {
+
+    /** Number of employees populated, every tenth one manages the next nine. */
+    protected static final int EMPLOYEES = 100;
+
+    protected EntityManagerFactory emf;
+    protected ServerSession session;
+    protected Long[] employeeIds;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.DROP_AND_CREATE);
+        properties.put(PersistenceUnitProperties.DDL_GENERATION_MODE, PersistenceUnitProperties.DDL_DATABASE_GENERATION);
+        properties.put(PersistenceUnitProperties.LOGGING_LEVEL, "WARNING");
+        emf = Persistence.createEntityManagerFactory("jpa-performance", properties);
+        session = ((EntityManagerFactoryImpl) emf).getServerSession();
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            Employee manager = null;
+            for (int index = 0; index < EMPLOYEES; index++) {
+                Employee employee = buildEmployee(index);
+                if (index % 10 == 0) {
+                    manager = employee;
+                } else {
+                    manager.addManagedEmployee(employee);
+                }
+                em.persist(employee);
+            }
+            em.getTransaction().commit();
+            List<Long> ids = em.createQuery("SELECT e.id FROM Employee e ORDER BY e.id", Long.class).getResultList();
+            employeeIds = ids.toArray(new Long[0]);
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    /**
+     * Return a new employee with an address and phone numbers.
+     */
+    protected static Employee buildEmployee(int index) {
+        Employee employee = new Employee();
+        employee.setFirstName("First" + index);
+        employee.setLastName("Last" + index);
+        employee.setGender((index % 2 == 0) ? Gender.Female : Gender.Male);
+        employee.setSalary(30000 + (index * 100));
+        Address address = new Address();
+        address.setCity((index % 2 == 0) ? "Ottawa" : "Toronto");
+        address.setCountry("Canada");
+        address.setStreet(index + " Bank St.");
+        employee.setAddress(address);
+        employee.addPhoneNumber("Work", "613", "555" + (1000 + index));
+        employee.addPhoneNumber("Cell", "613", "556" + (1000 + index));
+        employee.addResponsibility("Responsibility " + index);
+        return employee;
+    }
+
+    /**
+     * Return the id of a random populated employee.
+     */
+    protected Long randomEmployeeId() {
+        return employeeIds[ThreadLocalRandom.current().nextInt(employeeIds.length)];
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.orm;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+
+import org.eclipse.persistence.annotations.BatchFetchType;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for reading the Employee model, from the shared cache and from the database.
+ * Reads from the database exercise the SQL execution and ObjectBuilder object building.
+ */
+public class JPAReadBenchmark extends EmployeeBenchmarkBase {
+
+    private static final String READ_ALL_JOIN_FETCH = "SELECT DISTINCT e FROM Employee e JOIN FETCH e.address LEFT JOIN FETCH e.phoneNumbers";
+
+    private static final String READ_ALL = "SELECT e FROM Employee e";
+
+    private void findCacheHit(Blackhole bh) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            bh.consume(em.find(Employee.class, randomEmployeeId()));
+        } finally {
+            em.close();
+        }
+    }
+
+    private void findCacheMiss(Blackhole bh) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            bh.consume(em.find(Employee.class, randomEmployeeId(), Map.of(QueryHints.CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)));
+        } finally {
+            em.close();
+        }
+    }
+
+    private void readAllJoinFetch(Blackhole bh) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            List<Employee> employees = em.createQuery(READ_ALL_JOIN_FETCH, Employee.class)
+                    .setHint(QueryHints.CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)
+                    .getResultList();
+            for (Employee employee : employees) {
+                bh.consume(employee.getAddress().getCity());
+                bh.consume(employee.getPhoneNumbers().size());
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    private void readAllBatchFetch(Blackhole bh) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            List<Employee> employees = em.createQuery(READ_ALL, Employee.class)
+                    .setHint(QueryHints.CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS)
+                    .setHint(QueryHints.BATCH_TYPE, BatchFetchType.IN)
+                    .setHint(QueryHints.BATCH, "e.address")
+                    .setHint(QueryHints.BATCH, "e.phoneNumbers")
+                    .getResultList();
+            for (Employee employee : employees) {
+                bh.consume(employee.getAddress().getCity());
+                bh.consume(employee.getPhoneNumbers().size());
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void testFindCacheHit(Blackhole bh) {
+        findCacheHit(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testFindCacheHit8Threads(Blackhole bh) {
+        findCacheHit(bh);
+    }
+
+    @Benchmark
+    public void testFindCacheMiss(Blackhole bh) {
+        findCacheMiss(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testFindCacheMiss8Threads(Blackhole bh) {
+        findCacheMiss(bh);
+    }
+
+    @Benchmark
+    public void testReadAllJoinFetch(Blackhole bh) {
+        readAllJoinFetch(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testReadAllJoinFetch8Threads(Blackhole bh) {
+        readAllJoinFetch(bh);
+    }
+
+    @Benchmark
+    public void testReadAllBatchFetch(Blackhole bh) {
+        readAllBatchFetch(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testReadAllBatchFetch8Threads(Blackhole bh) {
+        readAllBatchFetch(bh);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.orm;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.persistence.EntityManager;
+
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for writing the Employee model, and for the unit of work change set calculation.
+ * Persisted employees are flushed and rolled back, so the database does not grow between iterations.
+ */
+public class JPAWriteBenchmark extends EmployeeBenchmarkBase {
+
+    private static final int BULK_SIZE = 50;
+
+    private void bulkPersist(Blackhole bh) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int index = 0; index < BULK_SIZE; index++) {
+                em.persist(buildEmployee(index));
+            }
+            em.flush();
+            bh.consume(em);
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void testBulkPersist(Blackhole bh) {
+        bulkPersist(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testBulkPersist8Threads(Blackhole bh) {
+        bulkPersist(bh);
+    }
+
+    /**
+     * Merge a detached employee with a changed salary and commit the update.
+     * Single threaded, as concurrent updates of the same employees fail the optimistic lock check.
+     */
+    @Benchmark
+    public void testMerge(Blackhole bh) {
+        EntityManager em = emf.createEntityManager();
+        Employee employee;
+        try {
+            employee = em.find(Employee.class, randomEmployeeId());
+        } finally {
+            em.close();
+        }
+        employee.setSalary(ThreadLocalRandom.current().nextInt(30000, 90000));
+        em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            bh.consume(em.merge(employee));
+            em.getTransaction().commit();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+
+    private void changeSetCalculation(Blackhole bh) {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            List<Employee> employees = em.createQuery("SELECT e FROM Employee e", Employee.class).getResultList();
+            for (Employee employee : employees) {
+                employee.setSalary(employee.getSalary() + 1);
+            }
+            bh.consume(em.unwrap(UnitOfWork.class).getCurrentChanges());
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void testChangeSetCalculation(Blackhole bh) {
+        changeSetCalculation(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testChangeSetCalculation8Threads(Blackhole bh) {
+        changeSetCalculation(bh);
+    }
+}
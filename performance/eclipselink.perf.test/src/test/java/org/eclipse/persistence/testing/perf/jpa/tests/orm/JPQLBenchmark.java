@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.orm;
+
+import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for JPQL parsing and SQL generation of the Employee model queries.
+ * Naming the query bypasses the JPQL parse cache, so every call parses the JPQL.
+ */
+public class JPQLBenchmark extends EmployeeBenchmarkBase {
+
+    private static final String QUERY_NAME = "JPQLBenchmark";
+
+    private static final String JPQL = "SELECT e FROM Employee e JOIN e.address a LEFT JOIN e.projects p"
+            + " WHERE e.salary > :salary AND a.city = :city AND (e.firstName LIKE :name OR p.name IN :projects)"
+            + " ORDER BY e.lastName, e.firstName";
+
+    /**
+     * Parse the JPQL into a query.
+     */
+    @Benchmark
+    public void testJPQLParse(Blackhole bh) {
+        bh.consume(EJBQueryImpl.buildEJBQLDatabaseQuery(QUERY_NAME, JPQL, session, null, null, getClass().getClassLoader()));
+    }
+
+    private void compile(Blackhole bh) {
+        DatabaseQuery query = EJBQueryImpl.buildEJBQLDatabaseQuery(QUERY_NAME, JPQL, session, null, null, getClass().getClassLoader());
+        // Preparing the query generates its SQL.
+        query.checkPrepare(session, new DatabaseRecord());
+        bh.consume(query.getSQLString());
+    }
+
+    /**
+     * Parse the JPQL and generate the SQL.
+     */
+    @Benchmark
+    public void testJPQLCompile(Blackhole bh) {
+        compile(bh);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void testJPQLCompile8Threads(Blackhole bh) {
+        compile(bh);
+    }
+
+    /**
+     * Lookup the prepared query in the JPQL parse cache.
+     */
+    @Benchmark
+    public void testJPQLParseCacheHit(Blackhole bh) {
+        bh.consume(EJBQueryImpl.buildEJBQLDatabaseQuery(JPQL, session));
+    }
+}
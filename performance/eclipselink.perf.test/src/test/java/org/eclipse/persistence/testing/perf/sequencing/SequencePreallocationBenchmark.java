@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.sequencing;
+
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.descriptors.RelationalDescriptor;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryImpl;
+import org.eclipse.persistence.internal.sequencing.Sequencing;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.sequencing.NativeSequence;
+import org.eclipse.persistence.sequencing.Sequence;
+import org.eclipse.persistence.sequencing.TableSequence;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.tools.schemaframework.SchemaManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the allocation of preallocated sequence values by the thread that needs them once all used,
+ * low-water mark 0, with their allocation in the background, for table sequencing using a sequence
+ * connection pool, and for native sequencing.
+ * The database is the one started for the performance tests by the build.
+ */
+@State(Scope.Benchmark)
+public class SequencePreallocationBenchmark {
+
+    private static final int PREALLOCATION_SIZE = 50;
+
+    @Param({"Table", "Native"})
+    public String sequenceType;
+
+    @Param({"0", "25"})
+    public int lowWaterMark;
+
+    private ServerSession session;
+
+    private Sequencing sequencing;
+
+    public static final class Item {
+        public Long id;
+    }
+
+    @Setup
+    public void setup() {
+        DatabaseLogin login;
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("jpa-performance",
+                Map.of(PersistenceUnitProperties.LOGGING_LEVEL, "WARNING"));
+        try {
+            login = (DatabaseLogin) ((EntityManagerFactoryImpl) emf).getServerSession().getDatasourceLogin().clone();
+        } finally {
+            emf.close();
+        }
+        Sequence sequence;
+        if ("Table".equals(sequenceType)) {
+            sequence = new TableSequence("BENCH_SEQ", PREALLOCATION_SIZE, "BENCH_SEQUENCE", "SEQ_NAME", "SEQ_COUNT");
+        } else {
+            sequence = new NativeSequence("BENCH_SEQ", PREALLOCATION_SIZE, false);
+        }
+        sequence.setPreallocationLowWaterMark(lowWaterMark);
+        login.addSequence(sequence);
+        RelationalDescriptor descriptor = new RelationalDescriptor();
+        descriptor.setJavaClass(Item.class);
+        descriptor.addTableName("BENCH_ITEM");
+        descriptor.addPrimaryKeyFieldName("BENCH_ITEM.ID");
+        descriptor.setSequenceNumberName(sequence.getName());
+        descriptor.setSequenceNumberFieldName("BENCH_ITEM.ID");
+        descriptor.addDirectMapping("id", "BENCH_ITEM.ID");
+        Project project = new Project(login);
+        project.addDescriptor(descriptor);
+        session = (ServerSession) project.createServerSession();
+        // Table sequencing allocates on the sequence connection pool.
+        session.getSequencingControl().setShouldUseSeparateConnection(true);
+        session.setLogLevel(SessionLog.WARNING);
+        session.login();
+        new SchemaManager(session).createSequences();
+        session.getSequencingControl().initializePreallocated();
+        sequencing = session.getSequencing();
+    }
+
+    @TearDown
+    public void tearDown() {
+        session.logout();
+    }
+
+    @Benchmark
+    public Object testNextValue() {
+        return sequencing.getNextValue(Item.class);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object testNextValue8Threads() {
+        return sequencing.getNextValue(Item.class);
+    }
+}